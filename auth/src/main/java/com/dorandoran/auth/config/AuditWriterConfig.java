@@ -0,0 +1,24 @@
+package com.dorandoran.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 감사 기록(로그인 시도/인증 이벤트) 비동기 writer 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auth.audit")
+@Getter
+@Setter
+public class AuditWriterConfig {
+
+    private int capacity = 10_000;                             // 메모리 큐 최대 기록 수 (가득 차면 보존 파일로)
+    private int batchSize = 200;                               // 한 번에 기록할 최대 건수
+    private Duration flushInterval = Duration.ofMillis(500);   // 배치가 차지 않아도 기록하는 주기
+    private int maxRetries = 3;                                // 기록 실패 시 재시도 횟수
+    private String spillDir = "./audit-spill";                 // DB 기록 불가 시 보존 파일 경로
+}
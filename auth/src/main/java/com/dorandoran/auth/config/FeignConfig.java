@@ -1,21 +1,16 @@
 package com.dorandoran.auth.config;
 
 import feign.Logger;
-import feign.RequestInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * Feign 클라이언트 설정
+ * HMAC 헤더는 컴포넌트로 등록된 {@link FeignHmacInterceptor}가 모든 Feign 요청에 적용
  */
 @Configuration
 public class FeignConfig {
 
-    @Bean
-    public RequestInterceptor feignHmacRequestInterceptor() {
-        return new FeignHmacInterceptor();
-    }
-
     @Bean
     public Logger.Level feignLoggerLevel() {
         return Logger.Level.BASIC;
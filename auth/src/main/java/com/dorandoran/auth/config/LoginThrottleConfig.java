@@ -0,0 +1,37 @@
+package com.dorandoran.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 로그인 무차별 대입 방어 설정
+ * 슬라이딩 윈도우(window를 buckets개 구간으로 나눔) 안의 실패 횟수를 이메일/IP별로 세어
+ * 일정 횟수부터는 실패할 때마다 대기 시간을 늘리고, 한도를 넘으면 윈도우가 지날 때까지 잠금
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auth.login-throttle")
+@Getter
+@Setter
+public class LoginThrottleConfig {
+
+    private boolean enabled = true;
+    private String backend = "memory";                      // memory | redis (다중 노드 공유)
+    private Duration window = Duration.ofMinutes(15);       // 슬라이딩 윈도우 길이
+    private int buckets = 15;                               // 윈도우 분할 수 (정밀도)
+    private int emailDelayAfter = 3;                        // 이메일별 실패가 이 횟수 이상이면 점진 대기 적용
+    private int emailLockoutAfter = 10;                     // 이메일별 실패가 이 횟수 이상이면 잠금
+    private int ipDelayAfter = 20;                          // IP별 실패가 이 횟수 이상이면 점진 대기 적용
+    private int ipLockoutAfter = 100;                       // IP별 실패가 이 횟수 이상이면 잠금
+    private Duration baseDelay = Duration.ofSeconds(1);     // 첫 대기 시간 (이후 실패마다 2배)
+    private Duration maxDelay = Duration.ofSeconds(60);     // 대기 시간 상한
+    private boolean trustForwardedFor = false;              // true면 Gateway가 붙인 X-Forwarded-For 마지막 값을 클라이언트 IP로 사용 (Gateway 뒤에서만 켬)
+    private String redisKeyPrefix = "auth:login-fail:";     // redis 백엔드 키 접두사
+
+    public long bucketMillis() {
+        return Math.max(1, window.toMillis() / buckets);
+    }
+}
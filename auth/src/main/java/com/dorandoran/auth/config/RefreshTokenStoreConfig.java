@@ -0,0 +1,21 @@
+package com.dorandoran.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 리프레시 토큰 저장소 설정
+ * redis: TTL로 자동 만료되는 토큰 계열 저장소, jpa: auth_schema.refresh_tokens (이전 동작)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auth.refresh-token")
+@Getter
+@Setter
+public class RefreshTokenStoreConfig {
+
+    private String store = "redis";                    // redis | jpa
+    private String tokenKeyPrefix = "auth:rt:";        // 토큰 해시 → 계열 ID
+    private String familyKeyPrefix = "auth:rt-family:"; // 계열 ID → 활성 토큰 해시
+}
@@ -0,0 +1,29 @@
+package com.dorandoran.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 토큰 블랙리스트 설정
+ * 폐기 목록(ZSET)을 Bloom 필터로 로컬에 복제해 대부분의 "폐기되지 않음" 판정을 Redis 왕복 없이 처리
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auth.blacklist")
+@Getter
+@Setter
+public class TokenBlacklistConfig {
+
+    private boolean nearCacheEnabled = true;                 // false면 매 검증마다 Redis 조회 (이전 동작)
+    private int expectedInsertions = 100_000;                // Bloom 필터 기본 용량 (실제 항목이 더 많으면 재구성 시 확장)
+    private double falsePositiveRate = 0.01;                 // Bloom 필터 오탐률 (오탐이면 Redis로 확인)
+    private int positiveCacheSize = 10_000;                  // Redis로 확인된 폐기 토큰 로컬 보관 수
+    private Duration resyncInterval = Duration.ofSeconds(60); // 폐기 목록 전체 재적재 주기 (Pub/Sub 유실 보정)
+    private String revocationChannel = "auth:revocations";   // 폐기 알림 채널 (Gateway와 공유)
+    private String revocationSetKey = "auth:revoked-tokens"; // 폐기 목록 ZSET (member=토큰 SHA-256, score=만료 시각)
+    private String revokedUsersKey = "auth:revoked-users";   // 사용자 전체 폐기 시점 ZSET (member=사용자 ID, score=폐기 시각)
+    private Duration userRevocationRetention = Duration.ofDays(7); // 전체 폐기 시점 보관 기간 (리프레시 토큰 수명 이상)
+}
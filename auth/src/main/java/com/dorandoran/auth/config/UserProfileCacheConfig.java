@@ -0,0 +1,24 @@
+package com.dorandoran.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 사용자 프로필(UserDto) 로컬 캐시 설정
+ * 토큰 검증/갱신 시 User 서비스 호출을 줄이기 위한 한도 값
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auth.user-cache")
+@Getter
+@Setter
+public class UserProfileCacheConfig {
+
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofMinutes(5);   // 항목 유지 시간 (이벤트 유실 시 최대 지연)
+    private int maxSize = 50_000;                   // 최대 항목 수 (LRU 제거)
+    private String eventChannel = "auth:user-events"; // 사용자 이벤트 인스턴스 간 전파 채널 (Redis Pub/Sub)
+}
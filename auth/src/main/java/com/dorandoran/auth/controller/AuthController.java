@@ -4,6 +4,7 @@ import com.dorandoran.auth.dto.LoginRequest;
 import com.dorandoran.auth.dto.LoginResponse;
 import com.dorandoran.auth.dto.RefreshTokenRequest;
 import com.dorandoran.auth.service.AuthService;
+import com.dorandoran.auth.service.throttle.LoginThrottledException;
 import com.dorandoran.common.response.ApiResponse;
 import com.dorandoran.common.exception.DoranDoranException;
 import com.dorandoran.common.exception.ErrorCode;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -38,7 +40,8 @@ public class AuthController {
     @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인하여 JWT 토큰을 발급받습니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "로그인 성공"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 인증 정보")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 인증 정보"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "로그인 실패 누적으로 일시 차단")
     })
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(@RequestBody LoginRequest request) {
@@ -47,6 +50,10 @@ public class AuthController {
         try {
             LoginResponse response = authService.login(request);
             return ResponseEntity.ok(ApiResponse.success(response, "로그인에 성공했습니다."));
+        } catch (LoginThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds()))
+                    .body(ApiResponse.error(e.getMessage(), ErrorCode.AUTH_TOO_MANY_ATTEMPTS.getCode()));
         } catch (DoranDoranException e) {
             log.error("로그인 실패: {}", e.getMessage());
             return ResponseEntity.badRequest()
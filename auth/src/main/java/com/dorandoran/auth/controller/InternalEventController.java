@@ -0,0 +1,45 @@
+package com.dorandoran.auth.controller;
+
+import com.dorandoran.auth.listener.UserEventInbox;
+import com.dorandoran.common.exception.ErrorCode;
+import com.dorandoran.common.response.ApiResponse;
+import com.dorandoran.shared.event.UserEventEnvelope;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 서비스 간 내부 이벤트 수신 컨트롤러 (Gateway 라우팅 대상 아님, HMAC 인증 필요)
+ */
+@RestController
+@RequestMapping("/internal/events")
+@RequiredArgsConstructor
+@Slf4j
+@Hidden
+public class InternalEventController {
+
+    private final UserEventInbox userEventInbox;
+
+    /**
+     * User 서비스 outbox 이벤트 배치 수신
+     * 2xx가 아니면 릴레이가 같은 배치를 다시 보냄
+     */
+    @PostMapping("/user")
+    public ResponseEntity<ApiResponse<Integer>> receiveUserEvents(@RequestBody List<UserEventEnvelope> envelopes) {
+        try {
+            int applied = userEventInbox.receive(envelopes);
+            return ResponseEntity.ok(ApiResponse.success(applied, "사용자 이벤트를 수신했습니다."));
+        } catch (IllegalArgumentException e) {
+            log.error("사용자 이벤트 수신 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), ErrorCode.INVALID_REQUEST.getCode()));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.dorandoran.auth.listener;
+
+import com.dorandoran.auth.config.UserProfileCacheConfig;
+import com.dorandoran.shared.event.UserEventEnvelope;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * User 서비스 outbox 릴레이가 보낸 이벤트 수신
+ *
+ * 봉투를 원래 이벤트 타입으로 복원해 로컬 ApplicationEventPublisher로 다시 발행하므로
+ * 기존 UserEventListener(캐시 무효화 등)가 그대로 처리
+ * 릴레이는 최소 1회 전달이므로 이미 처리한 id 이하는 건너뜀 (outbox id는 증가만 함)
+ *
+ * 릴레이 구독자는 로드밸런싱된 Auth URL 하나라 배치는 인스턴스 하나에만 도착함
+ * 받은 인스턴스가 Redis Pub/Sub으로 배치를 다시 알려(토큰 폐기 알림과 같은 방식) 모든 인스턴스의 캐시를 무효화
+ * (자기 알림은 id 중복으로 건너뜀, Pub/Sub 유실분은 프로필 캐시 TTL이 지나면 복구)
+ */
+@Component
+@Slf4j
+public class UserEventInbox implements SmartLifecycle, MessageListener {
+
+    private static final TypeReference<List<UserEventEnvelope>> ENVELOPE_LIST = new TypeReference<>() { };
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final UserProfileCacheConfig config;
+    private final AtomicLong lastAppliedId = new AtomicLong();
+    private final Counter receivedCounter;
+    private final Counter duplicateCounter;
+    private final Counter unknownCounter;
+    private volatile boolean running;
+
+    public UserEventInbox(ApplicationEventPublisher eventPublisher,
+                          ObjectMapper objectMapper,
+                          RedisTemplate<String, String> redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          UserProfileCacheConfig config,
+                          MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.config = config;
+        this.receivedCounter = Counter.builder("auth.user.events.received")
+            .tag("result", "applied")
+            .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("auth.user.events.received")
+            .tag("result", "duplicate")
+            .register(meterRegistry);
+        this.unknownCounter = Counter.builder("auth.user.events.received")
+            .tag("result", "unknown")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 릴레이 배치 수신 - 로컬에 반영한 뒤 다른 인스턴스에 전파
+     * 전파에 실패하면 예외를 던져 릴레이가 배치를 재전송 (로컬은 id 중복으로 건너뛰고 다시 전파)
+     *
+     * @return 새로 처리한 이벤트 수
+     */
+    public int receive(List<UserEventEnvelope> envelopes) {
+        int applied = apply(envelopes);
+        broadcast(envelopes);
+        return applied;
+    }
+
+    /**
+     * 다른 인스턴스가 전파한 배치 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            apply(objectMapper.readValue(body, ENVELOPE_LIST));
+        } catch (Exception e) {
+            log.warn("사용자 이벤트 전파 반영 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void broadcast(List<UserEventEnvelope> envelopes) {
+        if (envelopes.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(config.getEventChannel(), objectMapper.writeValueAsString(envelopes));
+        } catch (Exception e) {
+            throw new IllegalStateException("사용자 이벤트 전파 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배치 반영 (id 순서대로 처리, 역직렬화 실패 시 예외를 던져 릴레이가 배치를 재전송)
+     */
+    synchronized int apply(List<UserEventEnvelope> envelopes) {
+        int applied = 0;
+        for (UserEventEnvelope envelope : envelopes) {
+            if (envelope.id() <= lastAppliedId.get()) {
+                duplicateCounter.increment();
+                continue;
+            }
+            Class<?> eventClass = UserEventEnvelope.eventClass(envelope.type());
+            if (eventClass == null) {
+                // 알 수 없는 타입은 건너뜀 (재전송해도 처리할 수 없으므로)
+                log.warn("알 수 없는 사용자 이벤트 타입: id={}, type={}", envelope.id(), envelope.type());
+                unknownCounter.increment();
+                lastAppliedId.set(envelope.id());
+                continue;
+            }
+
+            Object event;
+            try {
+                event = objectMapper.readValue(envelope.payload(), eventClass);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("사용자 이벤트 역직렬화 실패: id=" + envelope.id(), e);
+            }
+            eventPublisher.publishEvent(event);
+            lastAppliedId.set(envelope.id());
+            receivedCounter.increment();
+            applied++;
+        }
+        log.debug("사용자 이벤트 배치 수신: size={}, applied={}, lastId={}", envelopes.size(), applied, lastAppliedId.get());
+        return applied;
+    }
+
+    @Override
+    public void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(config.getEventChannel()));
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        listenerContainer.removeMessageListener(this);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -1,8 +1,10 @@
 package com.dorandoran.auth.listener;
 
 import com.dorandoran.auth.service.UserIntegrationService;
+import com.dorandoran.auth.service.profile.UserProfileCache;
 import com.dorandoran.shared.dto.UserDto;
 import com.dorandoran.shared.event.UserCreatedEvent;
+import com.dorandoran.shared.event.UserDeletedEvent;
 import com.dorandoran.shared.event.UserStatusChangedEvent;
 import com.dorandoran.shared.event.UserUpdatedEvent;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Component;
 public class UserEventListener {
     
     private final UserIntegrationService userIntegrationService;
+    private final UserProfileCache userProfileCache;
     
     /**
      * 사용자 생성 이벤트 처리
@@ -54,11 +57,11 @@ public class UserEventListener {
         
         try {
             // Auth 서비스에서 수행할 작업들
-            // 1. 사용자 정보 동기화
-            syncUserInfo(event.userId(), event.email(), event.name());
-            
-            // 2. 캐시 무효화
+            // 1. 캐시 무효화 (동기화 조회가 이전 값을 읽지 않도록 먼저)
             invalidateUserCache(event.userId());
+
+            // 2. 사용자 정보 동기화
+            syncUserInfo(event.userId(), event.email(), event.name());
             
             log.info("사용자 업데이트 이벤트 처리 완료: userId={}", event.userId());
             
@@ -76,6 +79,9 @@ public class UserEventListener {
                 event.userId(), event.oldStatus(), event.newStatus());
         
         try {
+            // 상태가 바뀐 이전 프로필을 더 이상 쓰지 않도록 캐시 무효화
+            invalidateUserCache(event.userId());
+
             // Auth 서비스에서 수행할 작업들
             // 1. 상태에 따른 인증 정책 적용
             applyAuthPolicyForStatus(event.userId(), event.newStatus());
@@ -95,6 +101,21 @@ public class UserEventListener {
         }
     }
     
+    /**
+     * 사용자 삭제 이벤트 처리
+     */
+    @EventListener
+    public void handleUserDeleted(UserDeletedEvent event) {
+        log.info("사용자 삭제 이벤트 수신: userId={}, email={}", event.getUserId(), event.getEmail());
+
+        try {
+            invalidateUserCache(java.util.UUID.fromString(event.getUserId()));
+            log.info("사용자 삭제 이벤트 처리 완료: userId={}", event.getUserId());
+        } catch (Exception e) {
+            log.error("사용자 삭제 이벤트 처리 실패: userId={}, error={}", event.getUserId(), e.getMessage(), e);
+        }
+    }
+    
     // ===== 실제 구현 메서드들 =====
     
     private void initializeAuthForUser(java.util.UUID userId) {
@@ -213,7 +234,7 @@ public class UserEventListener {
         log.debug("사용자 캐시 무효화: userId={}", userId);
         
         try {
-            // 사용자 관련 캐시 무효화 로직
+            userProfileCache.invalidate(userId.toString());
             log.info("사용자 캐시 무효화 완료: userId={}", userId);
         } catch (Exception e) {
             log.error("사용자 캐시 무효화 실패: userId={}, error={}", userId, e.getMessage());
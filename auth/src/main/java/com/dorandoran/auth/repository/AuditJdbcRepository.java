@@ -0,0 +1,53 @@
+package com.dorandoran.auth.repository;
+
+import com.dorandoran.auth.service.audit.AuditRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 감사 테이블 JDBC 배치 기록
+ * IDENTITY 키 엔티티는 Hibernate 배치 INSERT가 되지 않으므로 JdbcTemplate으로 일괄 삽입
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditJdbcRepository {
+
+    private static final String INSERT_LOGIN_ATTEMPT = """
+        INSERT INTO auth_schema.login_attempts (user_id, email, succeeded, created_at)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_AUTH_EVENT = """
+        INSERT INTO auth_schema.auth_events (user_id, event_type, created_at)
+        VALUES (?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertLoginAttempts(List<AuditRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_LOGIN_ATTEMPT, records, records.size(), (ps, r) -> {
+            ps.setObject(1, r.userId());
+            ps.setString(2, r.email());
+            ps.setBoolean(3, r.succeeded());
+            ps.setTimestamp(4, Timestamp.valueOf(r.createdAt()));
+        });
+    }
+
+    public void insertAuthEvents(List<AuditRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_AUTH_EVENT, records, records.size(), (ps, r) -> {
+            ps.setObject(1, r.userId());
+            ps.setString(2, r.eventType());
+            ps.setTimestamp(3, Timestamp.valueOf(r.createdAt()));
+        });
+    }
+}
@@ -1,14 +1,14 @@
 package com.dorandoran.auth.service;
 
 // same package class, no import needed
-import com.dorandoran.auth.entity.LoginAttempt;
-import com.dorandoran.auth.entity.AuthEvent;
-import com.dorandoran.auth.entity.RefreshToken;
 import com.dorandoran.auth.entity.PasswordResetToken;
-import com.dorandoran.auth.repository.LoginAttemptRepository;
-import com.dorandoran.auth.repository.AuthEventRepository;
 import com.dorandoran.auth.dto.LoginRequest;
 import com.dorandoran.auth.dto.LoginResponse;
+import com.dorandoran.auth.service.audit.AuditRecord;
+import com.dorandoran.auth.service.audit.AuditWriter;
+import com.dorandoran.auth.service.profile.UserProfileCache;
+import com.dorandoran.auth.service.refresh.RefreshTokenStore;
+import com.dorandoran.auth.service.throttle.LoginThrottleService;
 import com.dorandoran.common.exception.DoranDoranException;
 import com.dorandoran.common.exception.ErrorCode;
 import com.dorandoran.shared.dto.UserDto;
@@ -19,7 +19,6 @@ import java.util.UUID;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Propagation;
 
 import java.time.Duration;
 import java.util.Date;
@@ -36,10 +35,11 @@ public class AuthService {
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
     private final UserIntegrationService userIntegrationService;
+    private final UserProfileCache userProfileCache;
     private final TokenBlacklistService tokenBlacklistService;
-    private final RefreshTokenService refreshTokenService;
-    private final LoginAttemptRepository loginAttemptRepository;
-    private final AuthEventRepository authEventRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuditWriter auditWriter;
+    private final LoginThrottleService loginThrottleService;
     private final PasswordResetService passwordResetService;
     
     /**
@@ -48,6 +48,9 @@ public class AuthService {
     @Transactional
     public LoginResponse login(LoginRequest request) {
         log.info("사용자 로그인 요청: email={}", request.getEmail());
+
+        // 무차별 대입 차단 확인 (User 서비스 조회/BCrypt 검증 전에)
+        loginThrottleService.check(request.getEmail());
         
         try {
             // User 서비스에서 사용자 정보 조회 (Auth 서비스용 - passwordHash 포함)
@@ -59,11 +62,13 @@ public class AuthService {
             log.info("비밀번호 일치 여부: {}", passwordMatches);
             
             if (!passwordMatches) {
-                // 실패 시도 기록
+                // 실패 시도 기록 (차단 카운터는 아래 catch에서 일괄 반영)
                 recordLoginAttempt(null, request.getEmail(), false);
                 throw new DoranDoranException(ErrorCode.INVALID_PASSWORD);
             }
             
+            loginThrottleService.recordSuccess(request.getEmail());
+
             // JWT 토큰 생성 (User 서비스 데이터 기반)
             String accessToken = jwtService.generateAccessToken(user.id().toString(), user.email(), user.name());
             String refreshToken = jwtService.generateRefreshToken(user.id().toString(), user.email(), user.name());
@@ -89,7 +94,7 @@ public class AuthService {
             // 성공 시도 기록
             recordLoginAttemptWithUser(userEntity, user.email(), true);
 
-            // 리프레시 토큰 저장(해시)
+            // 리프레시 토큰 저장(해시, 새 토큰 계열) + 세션 등록
             saveRefreshTokenWithUser(userEntity, refreshToken);
 
             // 이벤트 로깅
@@ -115,6 +120,9 @@ public class AuthService {
                 user.createdAt(),
                 user.updatedAt()
             );
+
+            // 이후 토큰 검증/갱신이 User 서비스를 다시 호출하지 않도록 캐시 채움
+            userProfileCache.put(userDto);
             
             return LoginResponse.builder()
                     .accessToken(accessToken)
@@ -125,19 +133,28 @@ public class AuthService {
                     .build();
                     
         } catch (DoranDoranException e) {
+            // 자격 증명 거절(비밀번호 불일치, 없는 이메일)만 이메일/IP 윈도우에 반영 (계정 열거·스프레이 차단)
+            if (isCredentialRejection(e)) {
+                loginThrottleService.recordFailure(request.getEmail());
+            }
             log.error("로그인 실패: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
+            // User 서비스 장애 등은 사용자가 틀린 것이 아니므로 세지 않음 (장애 중 정상 사용자 잠금 방지)
             log.error("로그인 중 예상치 못한 오류 발생", e);
             throw new DoranDoranException(ErrorCode.INTERNAL_SERVER_ERROR, "로그인 중 오류가 발생했습니다.");
         }
     }
 
+    private static boolean isCredentialRejection(DoranDoranException e) {
+        return e.getErrorCode() == ErrorCode.INVALID_PASSWORD || e.getErrorCode() == ErrorCode.USER_NOT_FOUND;
+    }
+
     /**
      * 이메일로 사용자 조회(비밀번호 재설정 등 내부 사용)
      */
     public UserDto findUserByEmail(String email) {
-        return userIntegrationService.getUserByEmail(email);
+        return userProfileCache.getByEmail(email);
     }
 
     /**
@@ -159,14 +176,13 @@ public class AuthService {
         log.debug("토큰 검증: token={}", token);
         
         try {
-            if (!jwtService.isTokenValid(token)) {
-                throw new DoranDoranException(ErrorCode.AUTH_TOKEN_INVALID);
-            }
-            
-            String userId = jwtService.extractUserId(token);
+            // 서명/만료/블랙리스트를 한 번의 파싱으로 확인
+            JwtPrincipal principal = jwtService.validate(token)
+                    .orElseThrow(() -> new DoranDoranException(ErrorCode.AUTH_TOKEN_INVALID));
+            String userId = principal.userId();
             
-            // User 서비스에서 사용자 정보 조회 (단일 소스)
-            UserDto user = userIntegrationService.getUserById(userId);
+            // 사용자 정보 조회 (로컬 캐시 우선, 미스일 때만 User 서비스 호출)
+            UserDto user = userProfileCache.getById(userId);
             
             return user;
             
@@ -186,62 +202,44 @@ public class AuthService {
         log.info("토큰 갱신 요청");
         
         try {
-            if (!jwtService.isTokenValid(refreshToken)) {
-                throw new DoranDoranException(ErrorCode.AUTH_TOKEN_EXPIRED);
+            JwtPrincipal principal = jwtService.validate(refreshToken)
+                    .orElseThrow(() -> new DoranDoranException(ErrorCode.AUTH_TOKEN_EXPIRED));
+            if (!principal.refresh()) {
+                // 액세스 토큰으로는 갱신 불가
+                throw new DoranDoranException(ErrorCode.AUTH_TOKEN_INVALID);
             }
+            String userId = principal.userId();
             
-            String userId = jwtService.extractUserId(refreshToken);
-            
-            // User 서비스에서 사용자 정보 조회 (단일 소스)
-            UserDto user = userIntegrationService.getUserById(userId);
+            // 사용자 정보 조회 (로컬 캐시 우선, 미스일 때만 User 서비스 호출)
+            UserDto user = userProfileCache.getById(userId);
             
-            // 리프레시 토큰 로테이션: 기존 토큰 해시 확인 후 revoke/신규 발급
-            String oldHash = tokenBlacklistService.hashToken(refreshToken);
-            java.util.Optional<RefreshToken> existing = refreshTokenService.findByHash(oldHash);
-
             // 새 토큰 생성
             String newAccessToken = jwtService.generateAccessToken(user.id().toString(), user.email(), user.name());
             String newRefreshToken = jwtService.generateRefreshToken(user.id().toString(), user.email(), user.name());
+            JwtPrincipal next = jwtService.parse(newRefreshToken);
 
-            java.util.Date newRefreshExp = jwtService.extractExpiration(newRefreshToken);
+            // 리프레시 토큰 로테이션: 토큰 계열의 활성 토큰을 원자적으로 교체
+            UUID userUuid = UUID.fromString(user.id());
+            String oldHash = tokenBlacklistService.hashToken(refreshToken);
             String newHash = tokenBlacklistService.hashToken(newRefreshToken);
-
-            if (existing.isPresent()) {
-                refreshTokenService.rotate(existing.get(), newHash,
-                        java.time.LocalDateTime.ofInstant(newRefreshExp.toInstant(), java.time.ZoneId.systemDefault()));
-            } else {
-                // UserDto를 User 엔티티로 변환
-                com.dorandoran.auth.entity.User userEntity = com.dorandoran.auth.entity.User.builder()
-                        .id(UUID.fromString(user.id()))
-                        .email(user.email())
-                        .firstName(user.firstName())
-                        .lastName(user.lastName())
-                        .name(user.name())
-                        .passwordHash(user.passwordHash())
-                        .picture(user.picture())
-                        .info(user.info())
-                        .lastConnTime(user.lastConnTime())
-                        .status(com.dorandoran.auth.entity.User.UserStatus.valueOf(user.status().name()))
-                        .role(com.dorandoran.auth.entity.User.RoleName.valueOf(user.role().name()))
-                        .coachCheck(user.coachCheck())
-                        .createdAt(user.createdAt())
-                        .updatedAt(user.updatedAt())
-                        .build();
-                
-                // 과거 미추적 토큰인 경우, 현재 토큰을 기록하고 새 토큰 발급 기록 추가
-                java.util.Date currentExp = jwtService.extractExpiration(refreshToken);
-                if (currentExp != null) {
-                    refreshTokenService.issue(userEntity.getId(), oldHash,
-                            java.time.LocalDateTime.ofInstant(currentExp.toInstant(), java.time.ZoneId.systemDefault()),
-                            null, null, null);
-                }
-                refreshTokenService.issue(userEntity.getId(), newHash,
-                        java.time.LocalDateTime.ofInstant(newRefreshExp.toInstant(), java.time.ZoneId.systemDefault()),
-                        null, null, null);
+            RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(userUuid, oldHash, newHash,
+                    next.expiration().toInstant());
+            if (rotation == RefreshTokenStore.Rotation.UNKNOWN) {
+                // 저장소 도입 이전에 발급된 토큰: 교체된 토큰으로 기록하고 새 계열 시작 (같은 토큰 재제출 시 재사용 판정)
+                rotation = refreshTokenStore.adopt(userUuid, oldHash, principal.expiration().toInstant(),
+                        newHash, next.expiration().toInstant());
+            }
+            if (rotation == RefreshTokenStore.Rotation.REUSED) {
+                // 이미 교체된 토큰이 다시 제출됨 → 탈취로 보고 계열 전체 폐기(저장소에서 처리)
+                log.warn("리프레시 토큰 재사용 탐지, 토큰 계열 폐기: userId={}", user.id());
+                recordAuthEvent(userUuid, "TOKEN_REUSE");
+                throw new DoranDoranException(ErrorCode.AUTH_TOKEN_INVALID);
             }
 
+            registerSession(next, principal.tokenId());
+
             // 이벤트 로깅
-            recordAuthEvent(UUID.fromString(user.id()), "TOKEN_ROTATE");
+            recordAuthEvent(userUuid, "TOKEN_ROTATE");
             
             log.info("토큰 갱신 성공: userId={}", user.id());
             
@@ -302,165 +300,60 @@ public class AuthService {
      * 로그인 시도 기록 (User ID 직접 사용)
      */
     private void recordLoginAttemptWithUser(com.dorandoran.auth.entity.User user, String email, boolean succeeded) {
-        try {
-            loginAttemptRepository.save(LoginAttempt.builder()
-                    .userId(user.getId())
-                    .email(email)
-                    .succeeded(succeeded)
-                    .createdAt(java.time.LocalDateTime.now())
-                    .build());
-        } catch (Exception e) {
-            log.warn("로그인 시도 기록 실패: {}", e.getMessage());
-        }
+        recordLoginAttempt(user.getId(), email, succeeded);
     }
 
     /**
-     * 로그인 시도 기록
+     * 로그인 시도 기록 (비동기 writer로 전달, 요청 스레드는 DB I/O를 기다리지 않음)
      */
-    @Transactional(propagation = Propagation.REQUIRED)
     private void recordLoginAttempt(java.util.UUID userId, String email, boolean succeeded) {
         try {
-            // User 객체를 조회하여 연관관계 설정
-            com.dorandoran.auth.entity.User user = null;
-            if (userId != null) {
-                try {
-                    // UserIntegrationService에서 UserDto를 받아서 User 엔티티로 변환
-                    com.dorandoran.shared.dto.UserDto userDto = userIntegrationService.getUserById(userId.toString());
-                    user = com.dorandoran.auth.entity.User.builder()
-                            .id(UUID.fromString(userDto.id()))
-                            .email(userDto.email())
-                            .firstName(userDto.firstName())
-                            .lastName(userDto.lastName())
-                            .name(userDto.name())
-                            .passwordHash(userDto.passwordHash())
-                            .picture(userDto.picture())
-                            .info(userDto.info())
-                            .lastConnTime(userDto.lastConnTime())
-                            .status(com.dorandoran.auth.entity.User.UserStatus.valueOf(userDto.status().name()))
-                            .role(com.dorandoran.auth.entity.User.RoleName.valueOf(userDto.role().name()))
-                            .coachCheck(userDto.coachCheck())
-                            .createdAt(userDto.createdAt())
-                            .updatedAt(userDto.updatedAt())
-                            .build();
-                } catch (Exception e) {
-                    log.warn("사용자 조회 실패: {}", e.getMessage());
-                }
-            }
-            
-            loginAttemptRepository.save(LoginAttempt.builder()
-                    .userId(userId)
-                    .email(email)
-                    .succeeded(succeeded)
-                    .createdAt(java.time.LocalDateTime.now())
-                    .build());
+            auditWriter.submit(AuditRecord.loginAttempt(userId, email, succeeded));
         } catch (Exception e) {
             log.warn("로그인 시도 기록 실패: {}", e.getMessage());
         }
     }
     
     /**
-     * 리프레시 토큰 저장 (User ID 직접 사용)
+     * 리프레시 토큰 저장 (User ID 직접 사용) 및 세션 등록
      */
     private void saveRefreshTokenWithUser(com.dorandoran.auth.entity.User user, String refreshToken) {
+        JwtPrincipal principal;
         try {
-            refreshTokenService.issue(user.getId(), refreshToken, java.time.LocalDateTime.now().plusDays(30), 
-                    "web", "web-browser", "127.0.0.1");
+            principal = jwtService.parse(refreshToken);
+            refreshTokenStore.issue(user.getId(), tokenBlacklistService.hashToken(refreshToken),
+                    principal.expiration().toInstant());
         } catch (Exception e) {
             log.warn("리프레시 토큰 저장 실패: {}", e.getMessage());
+            return;
         }
+        registerSession(principal, null);
     }
 
     /**
-     * 리프레시 토큰 저장
+     * 세션 레지스트리 등록 (실패해도 로그인/갱신은 계속)
      */
-    @Transactional(propagation = Propagation.REQUIRED)
-    private void saveRefreshToken(java.util.UUID userId, String refreshToken) {
+    private void registerSession(JwtPrincipal refreshPrincipal, String replacedTokenId) {
         try {
-            // UserIntegrationService에서 UserDto를 받아서 User 엔티티로 변환
-            com.dorandoran.shared.dto.UserDto userDto = userIntegrationService.getUserById(userId.toString());
-            com.dorandoran.auth.entity.User user = com.dorandoran.auth.entity.User.builder()
-                    .id(UUID.fromString(userDto.id()))
-                    .email(userDto.email())
-                    .firstName(userDto.firstName())
-                    .lastName(userDto.lastName())
-                    .name(userDto.name())
-                    .passwordHash(userDto.passwordHash())
-                    .picture(userDto.picture())
-                    .info(userDto.info())
-                    .lastConnTime(userDto.lastConnTime())
-                    .status(com.dorandoran.auth.entity.User.UserStatus.valueOf(userDto.status().name()))
-                    .role(com.dorandoran.auth.entity.User.RoleName.valueOf(userDto.role().name()))
-                    .coachCheck(userDto.coachCheck())
-                    .createdAt(userDto.createdAt())
-                    .updatedAt(userDto.updatedAt())
-                    .build();
-            
-            String refreshHash = tokenBlacklistService.hashToken(refreshToken);
-            java.util.Date refreshExp = jwtService.extractExpiration(refreshToken);
-            if (refreshExp != null) {
-                refreshTokenService.issue(user.getId(), refreshHash,
-                        java.time.LocalDateTime.ofInstant(refreshExp.toInstant(), java.time.ZoneId.systemDefault()),
-                        null, null, null);
-            }
+            tokenBlacklistService.registerSession(refreshPrincipal, replacedTokenId);
         } catch (Exception e) {
-            log.warn("리프레시 토큰 저장 실패: {}", e.getMessage());
+            log.warn("세션 등록 실패: {}", e.getMessage());
         }
     }
-    
+
     /**
      * 인증 이벤트 기록 (User ID 직접 사용)
      */
     private void recordAuthEventWithUser(com.dorandoran.auth.entity.User user, String eventType) {
-        try {
-            authEventRepository.save(AuthEvent.builder()
-                    .userId(user.getId())
-                    .eventType(eventType)
-                    .createdAt(java.time.LocalDateTime.now())
-                    .build());
-        } catch (Exception e) {
-            log.warn("인증 이벤트 기록 실패: {}", e.getMessage());
-        }
+        recordAuthEvent(user.getId(), eventType);
     }
 
     /**
-     * 인증 이벤트 기록
+     * 인증 이벤트 기록 (비동기 writer로 전달, 요청 스레드는 DB I/O를 기다리지 않음)
      */
-    @Transactional(propagation = Propagation.REQUIRED)
     private void recordAuthEvent(java.util.UUID userId, String eventType) {
         try {
-            // User 객체를 조회하여 연관관계 설정
-            com.dorandoran.auth.entity.User user = null;
-            if (userId != null) {
-                try {
-                    // UserIntegrationService에서 UserDto를 받아서 User 엔티티로 변환
-                    com.dorandoran.shared.dto.UserDto userDto = userIntegrationService.getUserById(userId.toString());
-                    user = com.dorandoran.auth.entity.User.builder()
-                            .id(UUID.fromString(userDto.id()))
-                            .email(userDto.email())
-                            .firstName(userDto.firstName())
-                            .lastName(userDto.lastName())
-                            .name(userDto.name())
-                            .passwordHash(userDto.passwordHash())
-                            .picture(userDto.picture())
-                            .info(userDto.info())
-                            .lastConnTime(userDto.lastConnTime())
-                            .status(com.dorandoran.auth.entity.User.UserStatus.valueOf(userDto.status().name()))
-                            .role(com.dorandoran.auth.entity.User.RoleName.valueOf(userDto.role().name()))
-                            .coachCheck(userDto.coachCheck())
-                            .createdAt(userDto.createdAt())
-                            .updatedAt(userDto.updatedAt())
-                            .build();
-                } catch (Exception e) {
-                    log.warn("사용자 조회 실패: {}", e.getMessage());
-                }
-            }
-            
-            authEventRepository.save(AuthEvent.builder()
-                    .userId(user.getId())
-                    .eventType(eventType)
-                    .metadata(null)
-                    .createdAt(java.time.LocalDateTime.now())
-                    .build());
+            auditWriter.submit(AuditRecord.authEvent(userId, eventType));
         } catch (Exception e) {
             log.warn("인증 이벤트 기록 실패: {}", e.getMessage());
         }
@@ -0,0 +1,26 @@
+package com.dorandoran.auth.service;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임 (한 번 파싱한 결과를 불변 객체로 보관)
+ * tokenId(jti)는 이전에 발급된 토큰에는 없을 수 있음
+ */
+public record JwtPrincipal(
+    String userId,
+    String tokenId,
+    String email,
+    String name,
+    boolean refresh,
+    long issuedAtMillis,
+    long expiresAtMillis
+) {
+
+    public Date expiration() {
+        return new Date(expiresAtMillis);
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAtMillis <= now;
+    }
+}
@@ -1,47 +1,65 @@
 package com.dorandoran.auth.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * JWT 토큰 서비스
+ *
+ * 서명 키와 파서는 생성 시 한 번만 만들고, 파싱한 클레임은 토큰 SHA-256을 키로 만료 시각까지 캐시
+ * (같은 토큰의 서명 검증/JSON 파싱을 반복하지 않음, 블랙리스트는 캐시와 별개로 매번 확인)
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class JwtService {
-    
+
+    /** 밀리초 단위 발급 시각 (표준 iat는 초 단위라 전체 폐기 직후 같은 초에 발급된 토큰을 구분할 수 없음) */
+    static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
     private final TokenBlacklistService tokenBlacklistService;
-    
-    @Value("${application.security.jwt.secret-key:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}")
-    private String secretKey;
-    
-    @Value("${application.security.jwt.access-token-expiration:3600000}") // 1시간
-    private long jwtExpiration;
-    
-    @Value("${application.security.jwt.refresh-token-expiration:604800000}") // 7일
-    private long refreshExpiration;
-    
+    private final SecretKey signInKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final long refreshExpiration;
+    private final int claimsCacheSize;
+    private final Map<String, JwtPrincipal> claimsCache = new ConcurrentHashMap<>();
+
+    public JwtService(
+            TokenBlacklistService tokenBlacklistService,
+            @Value("${application.security.jwt.secret-key:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}") String secretKey,
+            @Value("${application.security.jwt.access-token-expiration:3600000}") long jwtExpiration, // 1시간
+            @Value("${application.security.jwt.refresh-token-expiration:604800000}") long refreshExpiration, // 7일
+            @Value("${application.security.jwt.claims-cache-size:10000}") int claimsCacheSize) {
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signInKey).build();
+        this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
+        this.claimsCacheSize = claimsCacheSize;
+    }
+
     /**
      * 액세스 토큰 생성
      */
     public String generateAccessToken(String userId, String email, String name) {
         return generateToken(new HashMap<>(), userId, email, name, jwtExpiration);
     }
-    
+
     /**
      * 리프레시 토큰 생성
      */
@@ -50,106 +68,148 @@ public class JwtService {
         claims.put("type", "refresh");
         return generateToken(claims, userId, email, name, refreshExpiration);
     }
-    
+
     /**
      * 토큰 생성
      */
     private String generateToken(Map<String, Object> extraClaims, String userId, String email, String name, long expiration) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                .setClaims(extraClaims)
-                .setSubject(userId)
+                .claims(extraClaims)
+                .id(UUID.randomUUID().toString())
+                .subject(userId)
                 .claim("email", email)
                 .claim("name", name)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .issuedAt(new Date(now))
+                .claim(ISSUED_AT_MILLIS_CLAIM, now)
+                .expiration(new Date(now + expiration))
+                .signWith(signInKey, Jwts.SIG.HS256)
                 .compact();
     }
-    
+
+    /**
+     * 토큰 검증 (서명/만료 + 블랙리스트 + 사용자 전체 폐기 시점)
+     * 유효하면 파싱된 클레임을, 아니면 빈 값을 반환
+     */
+    public Optional<JwtPrincipal> validate(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            JwtPrincipal principal = parse(token);
+
+            // 블랙리스트 확인 (Redis + DB 해시)
+            if (tokenBlacklistService.isBlacklisted(token)) {
+                log.debug("토큰이 블랙리스트에 있습니다");
+                return Optional.empty();
+            }
+            if (tokenBlacklistService.isRevokedForUser(principal.userId(), principal.issuedAtMillis())) {
+                log.debug("사용자 전체 로그아웃 이전에 발급된 토큰입니다");
+                return Optional.empty();
+            }
+            return Optional.of(principal);
+        } catch (Exception e) {
+            log.debug("토큰 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 토큰 파싱 (서명/만료 검증 포함, 캐시 우선)
+     *
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 만료, 형식 오류인 경우
+     */
+    public JwtPrincipal parse(String token) {
+        long now = System.currentTimeMillis();
+        String tokenHash = TokenBlacklistService.sha256Hex(token);
+        JwtPrincipal cached = claimsCache.get(tokenHash);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            // 만료된 항목은 버리고 파서에서 만료 예외를 던지게 함
+            claimsCache.remove(tokenHash, cached);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getSubject(),
+                claims.getId(),
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                "refresh".equals(claims.get("type", String.class)),
+                issuedAtMillis(claims),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE);
+
+        // 리프레시 토큰은 갱신 시 한 번만 쓰이므로 캐시하지 않음
+        if (!principal.refresh()) {
+            store(tokenHash, principal, now);
+        }
+        return principal;
+    }
+
+    /**
+     * 발급 시각 (iat_ms 우선, 이전에 발급된 토큰은 초 단위 iat를 내림한 값)
+     */
+    private static long issuedAtMillis(Claims claims) {
+        if (claims.get(ISSUED_AT_MILLIS_CLAIM) instanceof Number millis) {
+            return millis.longValue();
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      */
     public String extractUserId(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parse(token).userId();
     }
-    
+
     /**
      * 토큰에서 이메일 추출
      */
     public String extractEmail(String token) {
-        return extractClaim(token, claims -> claims.get("email", String.class));
+        return parse(token).email();
     }
-    
+
     /**
      * 토큰에서 이름 추출
      */
     public String extractName(String token) {
-        return extractClaim(token, claims -> claims.get("name", String.class));
+        return parse(token).name();
     }
-    
+
     /**
      * 토큰에서 클레임 추출
      */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public <T> T extractClaim(String token, Function<JwtPrincipal, T> claimsResolver) {
+        return claimsResolver.apply(parse(token));
     }
-    
+
     /**
      * 토큰에서 만료 시간 추출
      */
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return parse(token).expiration();
     }
-    
+
     /**
      * 토큰 유효성 검사
      */
     public boolean isTokenValid(String token) {
-        try {
-            // 1. 토큰 만료 여부 확인
-            if (isTokenExpired(token)) {
-                log.debug("토큰이 만료되었습니다");
-                return false;
-            }
-            
-            // 2. 블랙리스트 확인 (Redis + DB 해시)
-            if (tokenBlacklistService.isBlacklisted(token)) {
-                log.debug("토큰이 블랙리스트에 있습니다");
-                return false;
-            }
-            
-            return true;
-        } catch (Exception e) {
-            log.error("토큰 검증 실패: {}", e.getMessage());
-            return false;
-        }
-    }
-    
-    /**
-     * 토큰 만료 여부 확인
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-    
-    
-    /**
-     * 모든 클레임 추출
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return validate(token).isPresent();
     }
-    
+
     /**
-     * 서명 키 생성
+     * 캐시 상한에 도달하면 만료 항목부터 정리하고, 그래도 가득 차 있으면 비움
      */
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private void store(String tokenHash, JwtPrincipal principal, long now) {
+        if (claimsCache.size() >= claimsCacheSize) {
+            claimsCache.values().removeIf(entry -> entry.isExpired(now));
+            if (claimsCache.size() >= claimsCacheSize) {
+                claimsCache.clear();
+            }
+        }
+        claimsCache.put(tokenHash, principal);
     }
 }
@@ -38,6 +38,10 @@ public class RefreshTokenService {
         refreshTokenRepository.save(token);
     }
 
+    public int revokeAllForUser(UUID userId) {
+        return refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
     public RefreshToken rotate(RefreshToken current, String newTokenHash, LocalDateTime newExpiresAt) {
         current.setRevoked(true);
         refreshTokenRepository.save(current);
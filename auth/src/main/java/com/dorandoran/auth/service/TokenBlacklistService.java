@@ -1,15 +1,39 @@
 package com.dorandoran.auth.service;
 
+import com.dorandoran.auth.config.TokenBlacklistConfig;
+import com.dorandoran.auth.service.blacklist.RevocationNearCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.HexFormat;
 import java.util.UUID;
 
 /**
  * 토큰 블랙리스트 서비스
+ *
+ * 블랙리스트 키는 토큰 SHA-256 다이제스트
+ * 검증 시에는 로컬 근사 캐시(Bloom 필터 + 양성 캐시)를 먼저 보고, Bloom 필터 양성일 때만 Redis로 확인
+ *
+ * 세션 레지스트리: user:sessions:{userId} ZSET (member=토큰 jti, score=만료 시각)
+ * 사용자 전체 폐기는 토큰별 블랙리스트 대신 폐기 시각 하나만 기록 (이 시각 이전 발급 토큰은 무효)
+ *
+ * Redis 장애 시 정책: 로컬 캐시 준비 여부와 관계없이 확인할 수 없는 토큰은 통과 (양성 캐시에 있는 토큰만 거절)
+ * Bloom 필터 양성은 오탐일 수 있어, 장애 중 이를 폐기로 보면 정상 사용자 일부만 임의로 거절되기 때문
+ *
+ * 이전 버전은 String.hashCode() 값을 키로 썼음 (blacklist:token:{hashCode})
+ * 해시 값으로는 원래 토큰을 알 수 없어 새 키로 옮길 수 없으므로, 배포 전에 폐기된 토큰은 더 이상 거절되지 않음
+ * 이전 키는 TTL(토큰 남은 수명)이 지나면 사라지고, 반드시 막아야 하는 사용자는 배포 후 전체 폐기로 처리
  */
 @Service
 @RequiredArgsConstructor
@@ -17,9 +41,20 @@ import java.util.UUID;
 public class TokenBlacklistService {
     
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistConfig config;
+    private final RevocationNearCache nearCache;
+    private final MeterRegistry meterRegistry;
     
     private static final String BLACKLIST_PREFIX = "blacklist:token:";
-    private static final String USER_TOKENS_PREFIX = "user:tokens:";
+    private static final String USER_SESSIONS_PREFIX = "user:sessions:";
+    private static final String LEGACY_USER_TOKENS_PREFIX = "user:tokens:";
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    });
     
     /**
      * 토큰을 블랙리스트에 추가
@@ -31,6 +66,7 @@ public class TokenBlacklistService {
             
             // 블랙리스트에 토큰 추가
             redisTemplate.opsForValue().set(blacklistKey, reason, expiration);
+            publishRevocation(tokenHash, expiration);
             
             log.info("토큰 블랙리스트 추가: tokenHash={}, reason={}, expiration={}", 
                     tokenHash, reason, expiration);
@@ -39,68 +75,182 @@ public class TokenBlacklistService {
         }
     }
     
+    /**
+     * 토큰 폐기 전파 (Gateway, 다른 Auth 인스턴스)
+     * 전체 목록(ZSET)에 추가한 뒤 알림을 발행하고, 만료된 항목은 함께 정리
+     */
+    private void publishRevocation(String digest, Duration expiration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + expiration.toMillis();
+        nearCache.markRevoked(digest, expiresAt);
+        redisTemplate.opsForZSet().add(config.getRevocationSetKey(), digest, expiresAt);
+        redisTemplate.opsForZSet().removeRangeByScore(config.getRevocationSetKey(), 0, now);
+        redisTemplate.convertAndSend(config.getRevocationChannel(), digest + ":" + expiresAt);
+    }
+
+    static String sha256Hex(String token) {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+    
     /**
      * 토큰이 블랙리스트에 있는지 확인
      */
     public boolean isBlacklisted(String token) {
+        String tokenHash = hashToken(token);
+        if (!config.isNearCacheEnabled() || !nearCache.isReady()) {
+            return isBlacklistedInRedis(tokenHash);
+        }
+        switch (nearCache.lookup(tokenHash)) {
+            case CLEAR:
+                countLookup("bloom", true);
+                return false;
+            case REVOKED:
+                countLookup("positive_cache", true);
+                return true;
+            default:
+                return confirmRevoked(tokenHash);
+        }
+    }
+
+    /**
+     * 로컬 캐시를 쓸 수 없을 때의 조회 (Redis 장애 시 통과, confirmRevoked와 같은 정책)
+     */
+    private boolean isBlacklistedInRedis(String tokenHash) {
         try {
-            String tokenHash = hashToken(token);
-            String blacklistKey = BLACKLIST_PREFIX + tokenHash;
-            
-            return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey));
+            countLookup("redis", false);
+            return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + tokenHash));
         } catch (Exception e) {
             log.error("토큰 블랙리스트 확인 실패: error={}", e.getMessage(), e);
             return false;
         }
     }
+
+    /**
+     * Bloom 필터 양성 확인 (ZSCORE 한 번으로 폐기 여부와 만료 시각을 함께 조회)
+     * Redis 장애 시에는 캐시 미준비 시와 같이 통과 (확실한 폐기는 이미 양성 캐시에서 거절됨)
+     */
+    private boolean confirmRevoked(String tokenHash) {
+        try {
+            countLookup("redis", false);
+            Double expiresAt = redisTemplate.opsForZSet().score(config.getRevocationSetKey(), tokenHash);
+            if (expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+                return false;
+            }
+            nearCache.markRevoked(tokenHash, expiresAt.longValue());
+            return true;
+        } catch (Exception e) {
+            log.warn("토큰 블랙리스트 확인 실패, 통과 처리: error={}", e.getMessage());
+            countLookup("fallback", true);
+            return false;
+        }
+    }
+
+    private void countLookup(String source, boolean redisAvoided) {
+        Counter.builder("auth.blacklist.lookups")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+        if (redisAvoided) {
+            Counter.builder("auth.blacklist.redis.avoided")
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
     
     /**
-     * 사용자의 모든 토큰을 블랙리스트에 추가
+     * 사용자의 모든 토큰 무효화
+     * 폐기 시각 기록, 세션 레지스트리 삭제, 폐기 알림 발행을 한 번의 파이프라인으로 처리 (토큰 수와 무관하게 왕복 1회)
      */
     public void blacklistUserTokens(UUID userId, String reason) {
+        long now = System.currentTimeMillis();
+        String member = userId.toString();
+        long retainFrom = now - config.getUserRevocationRetention().toMillis();
+        nearCache.markUserRevoked(member, now);
         try {
-            String userTokensKey = USER_TOKENS_PREFIX + userId;
-            
-            // 사용자의 모든 토큰 조회
-            var tokens = redisTemplate.opsForSet().members(userTokensKey);
-            if (tokens != null) {
-                for (String token : tokens) {
-                    addToBlacklist(token, reason, Duration.ofDays(7)); // 7일간 블랙리스트 유지
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForZSet().add(config.getRevokedUsersKey(), member, now);
+                    ops.opsForZSet().removeRangeByScore(config.getRevokedUsersKey(), 0, retainFrom);
+                    ops.delete(USER_SESSIONS_PREFIX + member);
+                    ops.delete(LEGACY_USER_TOKENS_PREFIX + member);
+                    ops.convertAndSend(config.getRevocationChannel(),
+                            RevocationNearCache.USER_MESSAGE_PREFIX + member + ":" + now);
+                    return null;
                 }
-                
-                // 사용자 토큰 세트 삭제
-                redisTemplate.delete(userTokensKey);
-            }
+            });
             
-            log.info("사용자 모든 토큰 블랙리스트 추가: userId={}, reason={}", userId, reason);
+            log.info("사용자 모든 토큰 무효화: userId={}, reason={}", userId, reason);
         } catch (Exception e) {
-            log.error("사용자 토큰 블랙리스트 추가 실패: userId={}, error={}", userId, e.getMessage(), e);
+            log.error("사용자 토큰 무효화 실패: userId={}, error={}", userId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 사용자 전체 폐기 이전에 발급된 토큰인지 확인
+     * 발급 시각은 밀리초(iat_ms)라 폐기 직후 발급된 토큰은 같은 초여도 유효
+     * (iat_ms가 없는 이전 토큰은 초 단위 iat를 내림하므로 폐기 전 발급분은 항상 무효)
+     */
+    public boolean isRevokedForUser(String userId, long issuedAtMillis) {
+        if (userId == null) {
+            return false;
+        }
+        if (config.isNearCacheEnabled() && nearCache.isReady()) {
+            Long revokedAt = nearCache.userRevokedAt(userId);
+            return revokedAt != null && issuedAtMillis < revokedAt;
+        }
+        try {
+            Double revokedAt = redisTemplate.opsForZSet().score(config.getRevokedUsersKey(), userId);
+            return revokedAt != null && issuedAtMillis < revokedAt;
+        } catch (Exception e) {
+            log.error("사용자 전체 폐기 확인 실패: userId={}, error={}", userId, e.getMessage());
+            return false;
         }
     }
     
     /**
-     * 사용자 토큰 등록
+     * 세션 등록 (리프레시 토큰 jti와 만료 시각만 저장, 만료된 세션은 함께 정리)
+     * 리프레시 토큰은 수명이 같으므로 키 TTL은 가장 최근 토큰의 만료 시각으로 갱신
+     *
+     * @param replacedTokenId 로테이션으로 대체된 이전 리프레시 토큰 jti (없으면 null)
      */
-    public void registerUserToken(UUID userId, String token) {
+    public void registerSession(JwtPrincipal principal, String replacedTokenId) {
+        if (principal == null || principal.tokenId() == null) {
+            return;
+        }
+        String sessionsKey = USER_SESSIONS_PREFIX + principal.userId();
+        long now = System.currentTimeMillis();
         try {
-            String userTokensKey = USER_TOKENS_PREFIX + userId;
-            redisTemplate.opsForSet().add(userTokensKey, token);
-            
-            // 토큰 만료 시간 설정 (7일)
-            redisTemplate.expire(userTokensKey, Duration.ofDays(7));
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForZSet().add(sessionsKey, principal.tokenId(), principal.expiresAtMillis());
+                    if (replacedTokenId != null) {
+                        ops.opsForZSet().remove(sessionsKey, replacedTokenId);
+                    }
+                    ops.opsForZSet().removeRangeByScore(sessionsKey, 0, now);
+                    ops.expire(sessionsKey, Duration.ofMillis(Math.max(1, principal.expiresAtMillis() - now)));
+                    return null;
+                }
+            });
             
-            log.debug("사용자 토큰 등록: userId={}", userId);
+            log.debug("세션 등록: userId={}, tokenId={}", principal.userId(), principal.tokenId());
         } catch (Exception e) {
-            log.error("사용자 토큰 등록 실패: userId={}, error={}", userId, e.getMessage(), e);
+            log.error("세션 등록 실패: userId={}, error={}", principal.userId(), e.getMessage(), e);
         }
     }
-    
+
     /**
-     * 토큰 해시 생성 (public으로 변경)
+     * 토큰 해시 생성 (SHA-256 hex)
      */
     public String hashToken(String token) {
-        // 실제 구현에서는 SHA-256 등 안전한 해시 함수 사용
-        return String.valueOf(token.hashCode());
+        return sha256Hex(token);
     }
 
     /**
@@ -1,9 +1,12 @@
 package com.dorandoran.auth.service;
 
 import com.dorandoran.auth.client.UserServiceClient;
+import com.dorandoran.common.exception.DoranDoranException;
+import com.dorandoran.common.exception.ErrorCode;
 import com.dorandoran.shared.dto.UserDto;
 import com.dorandoran.shared.dto.UserWithPasswordDto;
 import com.dorandoran.shared.dto.ResetPasswordRequest;
+import feign.FeignException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
@@ -12,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.UUID;
 
 /**
@@ -23,16 +28,30 @@ import java.util.UUID;
 public class UserIntegrationService {
     
     private final UserServiceClient userServiceClient;
+
+    // Feign 호출은 블로킹이므로 비동기 조회는 가상 스레드에서 실행 (호출 스레드는 바로 반환)
+    private final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
     
     /**
-     * 사용자 ID로 조회 (Circuit Breaker 적용)
+     * 사용자 ID로 조회 (비동기, Circuit Breaker/TimeLimiter 적용)
      */
-    @CircuitBreaker(name = "user-service", fallbackMethod = "getUserByIdFallback")
+    @CircuitBreaker(name = "user-service", fallbackMethod = "getUserByIdAsyncFallback")
     @Retry(name = "user-service")
     @TimeLimiter(name = "user-service")
     public CompletableFuture<UserDto> getUserByIdAsync(String userId) {
-        log.info("User Service 호출 - getUserById: userId={}", userId);
-        return CompletableFuture.completedFuture(userServiceClient.getUserById(userId));
+        log.info("User Service 호출 - getUserById(async): userId={}", userId);
+        return CompletableFuture.supplyAsync(() -> userServiceClient.getUserById(userId), asyncExecutor);
+    }
+
+    /**
+     * 이메일로 사용자 조회 (비동기, Circuit Breaker/TimeLimiter 적용)
+     */
+    @CircuitBreaker(name = "user-service", fallbackMethod = "getUserByEmailAsyncFallback")
+    @Retry(name = "user-service")
+    @TimeLimiter(name = "user-service")
+    public CompletableFuture<UserDto> getUserByEmailAsync(String email) {
+        log.info("User Service 호출 - getUserByEmail(async): email={}", email);
+        return CompletableFuture.supplyAsync(() -> userServiceClient.getUserByEmail(email), asyncExecutor);
     }
     
     /**
@@ -107,12 +126,28 @@ public class UserIntegrationService {
         throw new RuntimeException("User Service를 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
     }
     
+    public CompletableFuture<UserDto> getUserByIdAsyncFallback(String userId, Exception ex) {
+        log.error("User Service 호출 실패 - getUserById(async): userId={}, error={}", userId, ex.getMessage());
+        return CompletableFuture.failedFuture(
+                new RuntimeException("User Service를 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", ex));
+    }
+
+    public CompletableFuture<UserDto> getUserByEmailAsyncFallback(String email, Exception ex) {
+        log.error("User Service 호출 실패 - getUserByEmail(async): email={}, error={}", email, ex.getMessage());
+        return CompletableFuture.failedFuture(
+                new RuntimeException("User Service를 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", ex));
+    }
+    
     public UserDto getUserByEmailFallback(String email, Exception ex) {
         log.error("User Service 호출 실패 - getUserByEmail: email={}, error={}", email, ex.getMessage());
         throw new RuntimeException("User Service를 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
     }
     
     public UserWithPasswordDto getUserByEmailForAuthFallback(String email, Exception ex) {
+        if (ex instanceof FeignException.NotFound) {
+            // 없는 이메일은 장애가 아니라 자격 증명 거절 (로그인 실패 횟수에 반영)
+            throw new DoranDoranException(ErrorCode.USER_NOT_FOUND);
+        }
         log.error("User Service 호출 실패 - getUserByEmailForAuth: email={}, error={}", email, ex.getMessage());
         throw new RuntimeException("User Service를 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
     }
@@ -0,0 +1,30 @@
+package com.dorandoran.auth.service.audit;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 감사 기록 (불변)
+ * LOGIN_ATTEMPT는 auth_schema.login_attempts, AUTH_EVENT는 auth_schema.auth_events 한 행에 대응
+ */
+public record AuditRecord(
+    Kind kind,
+    UUID userId,
+    String email,
+    boolean succeeded,
+    String eventType,
+    LocalDateTime createdAt
+) {
+    public enum Kind {
+        LOGIN_ATTEMPT,
+        AUTH_EVENT
+    }
+
+    public static AuditRecord loginAttempt(UUID userId, String email, boolean succeeded) {
+        return new AuditRecord(Kind.LOGIN_ATTEMPT, userId, email, succeeded, null, LocalDateTime.now());
+    }
+
+    public static AuditRecord authEvent(UUID userId, String eventType) {
+        return new AuditRecord(Kind.AUTH_EVENT, userId, null, false, eventType, LocalDateTime.now());
+    }
+}
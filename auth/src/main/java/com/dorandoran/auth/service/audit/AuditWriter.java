@@ -0,0 +1,58 @@
+package com.dorandoran.auth.service.audit;
+
+import com.dorandoran.auth.config.AuditWriterConfig;
+import com.dorandoran.auth.repository.AuditJdbcRepository;
+import com.dorandoran.common.writer.WriteBehindWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 기록 write-behind writer
+ *
+ * 로그인/갱신/로그아웃 요청 스레드는 기록을 메모리 큐에 넣기만 하고,
+ * 전용 writer 스레드가 건수(batchSize) 또는 시간(flushInterval) 기준으로 JDBC 배치 INSERT
+ * (큐/보존 파일/종료 처리는 {@link WriteBehindWriter})
+ */
+@Component
+public class AuditWriter extends WriteBehindWriter<AuditRecord> {
+
+    private final AuditJdbcRepository auditJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AuditWriter(AuditWriterConfig config,
+                       AuditJdbcRepository auditJdbcRepository,
+                       PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry) {
+        super("audit", "auth.audit", "records", AuditRecord.class,
+            new Settings(config.getCapacity(), config.getBatchSize(), config.getFlushInterval(), Duration.ZERO,
+                config.getMaxRetries(), config.getSpillDir()),
+            objectMapper, meterRegistry);
+        this.auditJdbcRepository = auditJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 로그인 시도/인증 이벤트를 테이블별로 나눠 한 트랜잭션으로 일괄 INSERT
+     */
+    @Override
+    protected int write(List<AuditRecord> batch) {
+        List<AuditRecord> attempts = new ArrayList<>();
+        List<AuditRecord> events = new ArrayList<>();
+        for (AuditRecord record : batch) {
+            (record.kind() == AuditRecord.Kind.LOGIN_ATTEMPT ? attempts : events).add(record);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            auditJdbcRepository.insertLoginAttempts(attempts);
+            auditJdbcRepository.insertAuthEvents(events);
+        });
+        return batch.size();
+    }
+}
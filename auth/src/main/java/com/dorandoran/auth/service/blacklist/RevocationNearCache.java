@@ -0,0 +1,210 @@
+package com.dorandoran.auth.service.blacklist;
+
+import com.dorandoran.auth.config.TokenBlacklistConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 폐기 목록 로컬 근사 캐시
+ *
+ * - Bloom 필터: 폐기 목록(ZSET) 전체를 주기적으로 다시 적재해 재구성 (만료 항목 정리 겸)
+ * - 양성 캐시: Pub/Sub 알림과 Redis 확인 결과로 채우는 작은 폐기 토큰 맵
+ * - 사용자 전체 폐기 시점: 사용자별 "이 시각 이전 발급 토큰은 무효" (전체 목록을 그대로 복제)
+ *
+ * 한 번도 적재에 성공하지 못했으면 준비되지 않은 상태로 보고 호출 측이 Redis를 직접 조회
+ * (Redis 장애 시 통과 정책은 준비 여부와 관계없이 같음, TokenBlacklistService 참고)
+ */
+@Component
+@Slf4j
+public class RevocationNearCache implements SmartLifecycle, MessageListener {
+
+    public enum Lookup {
+        /** Bloom 필터에 없음 - 폐기되지 않은 토큰 */
+        CLEAR,
+        /** 양성 캐시에 있음 - 폐기된 토큰 */
+        REVOKED,
+        /** Bloom 필터 양성 - 오탐일 수 있어 확인 필요 */
+        UNKNOWN
+    }
+
+    /** 사용자 전체 폐기 알림 접두사 */
+    public static final String USER_MESSAGE_PREFIX = "user:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TokenBlacklistConfig config;
+    private final Map<String, Long> positiveCache = new ConcurrentHashMap<>();
+    private final Map<String, Long> userRevokedAt = new ConcurrentHashMap<>();
+
+    private volatile DigestBloomFilter filter;
+    private volatile boolean ready;
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public RevocationNearCache(RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               TokenBlacklistConfig config,
+                               MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.config = config;
+        this.filter = new DigestBloomFilter(config.getExpectedInsertions(), config.getFalsePositiveRate());
+        Gauge.builder("auth.blacklist.positive.cache.size", positiveCache, Map::size).register(meterRegistry);
+        Gauge.builder("auth.blacklist.revoked.users.size", userRevokedAt, Map::size).register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Lookup lookup(String digest) {
+        Long expiresAt = positiveCache.get(digest);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                return Lookup.REVOKED;
+            }
+            positiveCache.remove(digest, expiresAt);
+        }
+        return filter.mightContain(digest) ? Lookup.UNKNOWN : Lookup.CLEAR;
+    }
+
+    /**
+     * 사용자 전체 폐기 시각 (없으면 null)
+     */
+    public Long userRevokedAt(String userId) {
+        return userRevokedAt.get(userId);
+    }
+
+    public void markUserRevoked(String userId, long revokedAt) {
+        userRevokedAt.merge(userId, revokedAt, Math::max);
+    }
+
+    /**
+     * 폐기 반영 (이 인스턴스의 폐기, Pub/Sub 알림, Redis 확인 결과)
+     */
+    public void markRevoked(String digest, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        filter.put(digest);
+        if (positiveCache.size() >= config.getPositiveCacheSize()) {
+            long now = System.currentTimeMillis();
+            positiveCache.values().removeIf(expiry -> expiry <= now);
+            if (positiveCache.size() >= config.getPositiveCacheSize()) {
+                positiveCache.clear();
+            }
+        }
+        positiveCache.put(digest, expiresAt);
+    }
+
+    /**
+     * 폐기 알림 반영
+     * 형식: {SHA-256 hex}:{만료 epoch millis} 또는 user:{사용자 ID}:{폐기 epoch millis}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.lastIndexOf(':');
+        try {
+            long millis = Long.parseLong(body.substring(sep + 1));
+            if (body.startsWith(USER_MESSAGE_PREFIX)) {
+                markUserRevoked(body.substring(USER_MESSAGE_PREFIX.length(), sep), millis);
+            } else {
+                markRevoked(body.substring(0, sep), millis);
+            }
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 폐기 알림: {}", body);
+        }
+    }
+
+    /**
+     * 폐기 목록 전체를 읽어 Bloom 필터 재구성
+     * 재구성 중 도착한 알림은 양성 캐시에 남아 있으므로 교체 시 유실되지 않음
+     */
+    void resync() {
+        try {
+            long now = System.currentTimeMillis();
+            Set<ZSetOperations.TypedTuple<String>> live = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(config.getRevocationSetKey(), now, Double.POSITIVE_INFINITY);
+            int size = live == null ? 0 : live.size();
+            DigestBloomFilter rebuilt = new DigestBloomFilter(
+                Math.max(config.getExpectedInsertions(), size * 2), config.getFalsePositiveRate());
+            if (live != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : live) {
+                    if (tuple.getValue() != null) {
+                        rebuilt.put(tuple.getValue());
+                    }
+                }
+            }
+            positiveCache.forEach((digest, expiresAt) -> rebuilt.put(digest));
+            filter = rebuilt;
+            positiveCache.values().removeIf(expiresAt -> expiresAt <= now);
+            resyncUsers(now);
+            ready = true;
+            log.debug("토큰 폐기 목록 재적재: {}건", size);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private void resyncUsers(long now) {
+        long retainFrom = now - config.getUserRevocationRetention().toMillis();
+        Set<ZSetOperations.TypedTuple<String>> users = redisTemplate.opsForZSet()
+            .rangeByScoreWithScores(config.getRevokedUsersKey(), retainFrom, Double.POSITIVE_INFINITY);
+        if (users != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : users) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    markUserRevoked(tuple.getValue(), tuple.getScore().longValue());
+                }
+            }
+        }
+        userRevokedAt.values().removeIf(revokedAt -> revokedAt < retainFrom);
+    }
+
+    @Override
+    public void start() {
+        if (!config.isNearCacheEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(config.getRevocationChannel()));
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "blacklist-resync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = config.getResyncInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::resync, 0, intervalMs, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            listenerContainer.removeMessageListener(this);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
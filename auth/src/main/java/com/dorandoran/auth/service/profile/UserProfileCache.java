@@ -0,0 +1,220 @@
+package com.dorandoran.auth.service.profile;
+
+import com.dorandoran.auth.config.UserProfileCacheConfig;
+import com.dorandoran.auth.service.UserIntegrationService;
+import com.dorandoran.shared.dto.UserDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 프로필(UserDto) 로컬 캐시
+ * 토큰 검증/갱신 경로에서 User 서비스 지연과 장애의 영향을 받지 않도록 ID/이메일로 조회한 결과를 재사용
+ *
+ * - TTL + 최대 항목 수(LRU) 제한, 이메일은 ID 항목을 가리키는 별칭
+ * - 동일 키에 대한 동시 미스는 하나의 User 서비스 호출로 합침 (single-flight)
+ * - 사용자 변경/상태 변경/삭제 이벤트 수신 시 무효화, 무효화 이전에 시작된 조회 결과는 저장하지 않음
+ */
+@Component
+@Slf4j
+public class UserProfileCache {
+
+    private final UserProfileCacheConfig config;
+    private final UserIntegrationService userIntegrationService;
+    private final Map<String, Entry> entries;
+    private final Map<String, String> idByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<UserDto>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Counter invalidationCounter;
+
+    public UserProfileCache(UserProfileCacheConfig config, UserIntegrationService userIntegrationService,
+                            MeterRegistry meterRegistry) {
+        this.config = config;
+        this.userIntegrationService = userIntegrationService;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > config.getMaxSize()) {
+                    idByEmail.remove(normalize(eldest.getValue().user().email()), eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hitCounter = Counter.builder("auth.user.cache.requests")
+            .tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("auth.user.cache.requests")
+            .tag("result", "miss").register(meterRegistry);
+        this.coalescedCounter = Counter.builder("auth.user.cache.requests")
+            .tag("result", "coalesced").register(meterRegistry);
+        this.invalidationCounter = Counter.builder("auth.user.cache.invalidations")
+            .register(meterRegistry);
+        Gauge.builder("auth.user.cache.size", this, UserProfileCache::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * ID로 조회 (캐시 우선, 미스면 User 서비스 호출 결과를 기다림)
+     */
+    public UserDto getById(String userId) {
+        return await(getByIdAsync(userId));
+    }
+
+    /**
+     * ID로 조회 (비동기, 적중 시 완료된 Future)
+     */
+    public CompletableFuture<UserDto> getByIdAsync(String userId) {
+        if (!config.isEnabled()) {
+            return userIntegrationService.getUserByIdAsync(userId);
+        }
+        Entry cached = lookup(userId);
+        if (cached != null) {
+            hitCounter.increment();
+            return CompletableFuture.completedFuture(cached.user());
+        }
+        return load("id:" + userId, () -> userIntegrationService.getUserByIdAsync(userId));
+    }
+
+    /**
+     * 이메일로 조회 (캐시 우선)
+     */
+    public UserDto getByEmail(String email) {
+        if (!config.isEnabled()) {
+            return userIntegrationService.getUserByEmail(email);
+        }
+        String normalized = normalize(email);
+        String userId = idByEmail.get(normalized);
+        Entry cached = userId == null ? null : lookup(userId);
+        if (cached != null && normalized.equals(normalize(cached.user().email()))) {
+            hitCounter.increment();
+            return cached.user();
+        }
+        return await(load("email:" + normalized, () -> userIntegrationService.getUserByEmailAsync(email)));
+    }
+
+    /**
+     * 다른 경로(로그인 등)에서 받은 최신 정보로 캐시 채움
+     */
+    public void put(UserDto user) {
+        if (config.isEnabled()) {
+            store(user, generation.get());
+        }
+    }
+
+    /**
+     * 사용자 항목 무효화 (이메일 별칭 포함)
+     */
+    public void invalidate(String userId) {
+        generation.incrementAndGet();
+        invalidationCounter.increment();
+        Entry removed;
+        synchronized (entries) {
+            removed = entries.remove(userId);
+        }
+        if (removed != null) {
+            idByEmail.remove(normalize(removed.user().email()), userId);
+        }
+        log.debug("사용자 프로필 캐시 무효화: userId={}", userId);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CompletableFuture<UserDto> load(String flightKey, Supplier<CompletableFuture<UserDto>> loader) {
+        long startGeneration = generation.get();
+        CompletableFuture<UserDto> shared = new CompletableFuture<>();
+        CompletableFuture<UserDto> existing = inFlight.putIfAbsent(flightKey, shared);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return existing;
+        }
+        missCounter.increment();
+
+        CompletableFuture<UserDto> source;
+        try {
+            source = loader.get();
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+        source.whenComplete((user, error) -> {
+            // 저장 후 제거: 제거 직후 들어온 요청은 캐시에서 적중
+            if (user != null) {
+                store(user, startGeneration);
+            }
+            inFlight.remove(flightKey, shared);
+            if (error != null) {
+                shared.completeExceptionally(error);
+            } else {
+                shared.complete(user);
+            }
+        });
+        return shared;
+    }
+
+    private Entry lookup(String userId) {
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtNanos() - System.nanoTime() <= 0) {
+                entries.remove(userId);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void store(UserDto user, long startGeneration) {
+        if (user.id() == null) {
+            return;
+        }
+        long expiresAt = System.nanoTime() + config.getTtl().toNanos();
+        synchronized (entries) {
+            // 조회 중에 무효화가 있었으면 이전 값일 수 있으므로 버림
+            if (generation.get() != startGeneration) {
+                return;
+            }
+            entries.put(user.id(), new Entry(user, expiresAt));
+        }
+        if (user.email() != null) {
+            idByEmail.put(normalize(user.email()), user.id());
+        }
+    }
+
+    private static UserDto await(CompletableFuture<UserDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(UserDto user, long expiresAtNanos) {
+    }
+}
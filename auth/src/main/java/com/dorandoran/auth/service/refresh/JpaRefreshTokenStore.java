@@ -0,0 +1,62 @@
+package com.dorandoran.auth.service.refresh;
+
+import com.dorandoran.auth.entity.RefreshToken;
+import com.dorandoran.auth.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * DB 리프레시 토큰 저장소 (auth_schema.refresh_tokens, 이전 동작)
+ * 계열은 rotated_from_id 체인으로만 남으므로, 재사용 탐지 시 해당 사용자의 활성 토큰 전체를 폐기
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.refresh-token", name = "store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenService refreshTokenService;
+
+    @Override
+    public void issue(UUID userId, String tokenHash, Instant expiresAt) {
+        refreshTokenService.issue(userId, tokenHash, toLocal(expiresAt), null, null, null);
+    }
+
+    @Override
+    @Transactional
+    public Rotation rotate(UUID userId, String currentHash, String nextHash, Instant nextExpiresAt) {
+        Optional<RefreshToken> current = refreshTokenService.findByHash(currentHash);
+        if (current.isEmpty()) {
+            return Rotation.UNKNOWN;
+        }
+        if (current.get().isRevoked()) {
+            refreshTokenService.revokeAllForUser(current.get().getUserId());
+            return Rotation.REUSED;
+        }
+        refreshTokenService.rotate(current.get(), nextHash, toLocal(nextExpiresAt));
+        return Rotation.ROTATED;
+    }
+
+    @Override
+    @Transactional
+    public Rotation adopt(UUID userId, String legacyHash, Instant legacyExpiresAt, String nextHash, Instant nextExpiresAt) {
+        if (refreshTokenService.findByHash(legacyHash).isPresent()) {
+            // 동시 요청이 먼저 기록함 → 일반 교체/재사용 판정
+            return rotate(userId, legacyHash, nextHash, nextExpiresAt);
+        }
+        RefreshToken legacy = refreshTokenService.issue(userId, legacyHash, toLocal(legacyExpiresAt), null, null, null);
+        refreshTokenService.rotate(legacy, nextHash, toLocal(nextExpiresAt));
+        return Rotation.ROTATED;
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
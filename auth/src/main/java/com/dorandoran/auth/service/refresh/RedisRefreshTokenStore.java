@@ -0,0 +1,135 @@
+package com.dorandoran.auth.service.refresh;
+
+import com.dorandoran.auth.config.RefreshTokenStoreConfig;
+import com.dorandoran.auth.entity.RefreshToken;
+import com.dorandoran.auth.service.RefreshTokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 리프레시 토큰 저장소
+ * - {tokenPrefix}{토큰 해시} = 계열 ID (토큰 만료 시각까지 TTL, 교체 후에도 재사용 탐지용으로 유지)
+ * - {familyPrefix}{계열 ID} = 현재 활성 토큰 해시 (마지막 토큰 만료 시각까지 TTL)
+ * 만료 행 정리가 필요 없고, 교체/재사용 판정은 Lua 스크립트 한 번으로 처리
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.refresh-token", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    /**
+     * KEYS[1]=현재 토큰 키, KEYS[2]=다음 토큰 키
+     * ARGV[1]=현재 해시, ARGV[2]=다음 해시, ARGV[3]=다음 토큰 TTL(ms), ARGV[4]=계열 키 접두사
+     * 반환: 1=교체, -1=재사용(계열 삭제), 0=기록 없음
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local family = redis.call('GET', KEYS[1])
+            if not family then
+              return 0
+            end
+            local familyKey = ARGV[4] .. family
+            if redis.call('GET', familyKey) ~= ARGV[1] then
+              redis.call('DEL', familyKey)
+              return -1
+            end
+            redis.call('SET', KEYS[2], family, 'PX', ARGV[3])
+            redis.call('SET', familyKey, ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=기록 없던 토큰 키, KEYS[2]=다음 토큰 키
+     * ARGV[1]=새 계열 ID, ARGV[2]=다음 해시, ARGV[3]=기록 없던 토큰 TTL(ms), ARGV[4]=다음 토큰 TTL(ms), ARGV[5]=계열 키 접두사
+     * 반환: 1=새 계열 시작(기록 없던 토큰은 교체된 토큰으로 남음), -1=동시 요청이 먼저 기록함(재사용, 계열 삭제)
+     */
+    private static final RedisScript<Long> ADOPT_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[3]) then
+              local family = redis.call('GET', KEYS[1])
+              if family then
+                redis.call('DEL', ARGV[5] .. family)
+              end
+              return -1
+            end
+            redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[4])
+            redis.call('SET', ARGV[5] .. ARGV[1], ARGV[2], 'PX', ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenService refreshTokenService;
+    private final String tokenPrefix;
+    private final String familyPrefix;
+
+    public RedisRefreshTokenStore(RedisTemplate<String, String> redisTemplate, RefreshTokenService refreshTokenService,
+                                  RefreshTokenStoreConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenPrefix = config.getTokenKeyPrefix();
+        this.familyPrefix = config.getFamilyKeyPrefix();
+    }
+
+    @Override
+    public void issue(UUID userId, String tokenHash, Instant expiresAt) {
+        long ttlMillis = ttlMillis(expiresAt);
+        if (ttlMillis <= 0) {
+            return;
+        }
+        String familyId = UUID.randomUUID().toString();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForValue().set(tokenPrefix + tokenHash, familyId, ttlMillis, TimeUnit.MILLISECONDS);
+                ops.opsForValue().set(familyPrefix + familyId, tokenHash, ttlMillis, TimeUnit.MILLISECONDS);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Rotation rotate(UUID userId, String currentHash, String nextHash, Instant nextExpiresAt) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(tokenPrefix + currentHash, tokenPrefix + nextHash),
+                currentHash, nextHash, String.valueOf(Math.max(1L, ttlMillis(nextExpiresAt))), familyPrefix);
+        if (result == null || result == 0L) {
+            return Rotation.UNKNOWN;
+        }
+        return result > 0 ? Rotation.ROTATED : Rotation.REUSED;
+    }
+
+    @Override
+    public Rotation adopt(UUID userId, String legacyHash, Instant legacyExpiresAt, String nextHash, Instant nextExpiresAt) {
+        // Redis 저장소 이전(DB 저장소)에 발급된 토큰: DB에서 이미 교체/폐기된 토큰이면 재사용
+        Optional<RefreshToken> legacy = refreshTokenService.findByHash(legacyHash);
+        if (legacy.isPresent() && legacy.get().isRevoked()) {
+            refreshTokenService.revokeAllForUser(legacy.get().getUserId());
+            return Rotation.REUSED;
+        }
+        Long result = redisTemplate.execute(ADOPT_SCRIPT,
+                List.of(tokenPrefix + legacyHash, tokenPrefix + nextHash),
+                UUID.randomUUID().toString(), nextHash,
+                String.valueOf(Math.max(1L, ttlMillis(legacyExpiresAt))),
+                String.valueOf(Math.max(1L, ttlMillis(nextExpiresAt))), familyPrefix);
+        if (result == null || result < 0) {
+            return Rotation.REUSED;
+        }
+        legacy.ifPresent(refreshTokenService::revoke);
+        return Rotation.ROTATED;
+    }
+
+    private static long ttlMillis(Instant expiresAt) {
+        return expiresAt.toEpochMilli() - System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,34 @@
+package com.dorandoran.auth.service.refresh;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 저장소
+ * 로그인 시 토큰 계열(family)을 새로 만들고, 갱신 때마다 계열의 활성 토큰을 다음 토큰으로 교체
+ * 이미 교체된 토큰이 다시 쓰이면(재사용) 계열 전체를 폐기
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 새 토큰 계열 시작 (로그인)
+     */
+    void issue(UUID userId, String tokenHash, Instant expiresAt);
+
+    /**
+     * 현재 토큰을 다음 토큰으로 교체 (원자적)
+     */
+    Rotation rotate(UUID userId, String currentHash, String nextHash, Instant nextExpiresAt);
+
+    /**
+     * 저장소에 기록 없는 토큰(rotate 결과 UNKNOWN)을 이미 교체된 토큰으로 남기고 다음 토큰으로 새 계열 시작
+     * 같은 토큰을 다시 제출하면 REUSED로 판정되어 계열이 폐기됨
+     */
+    Rotation adopt(UUID userId, String legacyHash, Instant legacyExpiresAt, String nextHash, Instant nextExpiresAt);
+
+    enum Rotation {
+        ROTATED,  // 교체 성공
+        REUSED,   // 이미 교체/폐기된 토큰 재사용 → 계열 폐기
+        UNKNOWN   // 저장소에 기록 없음 (저장소 도입 이전 발급 등)
+    }
+}
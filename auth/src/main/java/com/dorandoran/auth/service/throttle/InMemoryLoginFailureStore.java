@@ -0,0 +1,103 @@
+package com.dorandoran.auth.service.throttle;
+
+import com.dorandoran.auth.config.LoginThrottleConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 실패 저장소
+ * 키마다 구간 수만큼의 링 버퍼를 두고, 윈도우를 벗어난 구간은 재사용 시 초기화
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.login-throttle", name = "backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginFailureStore implements LoginFailureStore {
+
+    private static final int SWEEP_EVERY = 1024;
+
+    private final int buckets;
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+
+    public InMemoryLoginFailureStore(LoginThrottleConfig config) {
+        this.buckets = config.getBuckets();
+    }
+
+    @Override
+    public void recordFailure(String key, long bucket, long nowMillis) {
+        rings.computeIfAbsent(key, k -> new Ring(buckets)).add(bucket, nowMillis);
+        if (writes.incrementAndGet() % SWEEP_EVERY == 0) {
+            sweep(bucket);
+        }
+    }
+
+    @Override
+    public Failures read(String key, long firstBucket, int count) {
+        Ring ring = rings.get(key);
+        if (ring == null) {
+            return new Failures(new long[count], 0L);
+        }
+        return ring.read(firstBucket, count);
+    }
+
+    @Override
+    public void reset(String key) {
+        rings.remove(key);
+    }
+
+    int trackedKeys() {
+        return rings.size();
+    }
+
+    /**
+     * 윈도우 안에 실패 기록이 없는 키 제거
+     */
+    private void sweep(long currentBucket) {
+        rings.entrySet().removeIf(e -> e.getValue().lastBucket() <= currentBucket - buckets);
+    }
+
+    private static final class Ring {
+        private final long[] bucketIds;
+        private final long[] counts;
+        private long last = Long.MIN_VALUE;
+        private long lastFailureMillis;
+
+        Ring(int size) {
+            this.bucketIds = new long[size];
+            this.counts = new long[size];
+            Arrays.fill(bucketIds, Long.MIN_VALUE);
+        }
+
+        synchronized void add(long bucket, long nowMillis) {
+            int slot = slot(bucket);
+            if (bucketIds[slot] != bucket) {
+                bucketIds[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+            last = Math.max(last, bucket);
+            lastFailureMillis = Math.max(lastFailureMillis, nowMillis);
+        }
+
+        synchronized Failures read(long firstBucket, int count) {
+            long[] result = new long[count];
+            for (int i = 0; i < count; i++) {
+                int slot = slot(firstBucket + i);
+                result[i] = bucketIds[slot] == firstBucket + i ? counts[slot] : 0L;
+            }
+            return new Failures(result, lastFailureMillis);
+        }
+
+        synchronized long lastBucket() {
+            return last;
+        }
+
+        private int slot(long bucket) {
+            return (int) Math.floorMod(bucket, (long) bucketIds.length);
+        }
+    }
+}
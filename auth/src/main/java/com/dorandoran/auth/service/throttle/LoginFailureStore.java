@@ -0,0 +1,31 @@
+package com.dorandoran.auth.service.throttle;
+
+/**
+ * 로그인 실패 구간(bucket) 저장소
+ * key는 "email:..." / "ip:..." 형태, bucket은 epoch millis를 구간 길이로 나눈 번호
+ */
+public interface LoginFailureStore {
+
+    void recordFailure(String key, long bucket, long nowMillis);
+
+    /**
+     * firstBucket부터 count개 구간의 실패 횟수 (오래된 구간 먼저, 기록 없는 구간은 0)와 마지막 실패 시각
+     */
+    Failures read(String key, long firstBucket, int count);
+
+    /**
+     * 로그인 성공 시 실패 기록 삭제
+     */
+    void reset(String key);
+
+    record Failures(long[] counts, long lastFailureMillis) {
+
+        public long total() {
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.dorandoran.auth.service.throttle;
+
+import com.dorandoran.auth.config.LoginThrottleConfig;
+import com.dorandoran.auth.service.throttle.LoginFailureStore.Failures;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 무차별 대입 방어
+ *
+ * 이메일/클라이언트 IP별 실패 횟수를 슬라이딩 윈도우로 세고,
+ * User 서비스 조회와 BCrypt 검증 전에 확인해 차단 대상이면 바로 거절
+ * - delayAfter 이상: 마지막 실패 후 baseDelay * 2^(초과 횟수)(최대 maxDelay)가 지나야 재시도 가능
+ * - lockoutAfter 이상: 윈도우 안의 실패가 한도 아래로 내려갈 때까지 잠금
+ * 저장소 오류 시에는 로그인을 막지 않음 (fail-open)
+ */
+@Service
+@Slf4j
+public class LoginThrottleService {
+
+    private static final String EMAIL = "email";
+    private static final String IP = "ip";
+
+    private final LoginThrottleConfig config;
+    private final LoginFailureStore store;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Counter backendErrorCounter;
+
+    @Autowired
+    public LoginThrottleService(LoginThrottleConfig config, LoginFailureStore store, MeterRegistry meterRegistry) {
+        this(config, store, meterRegistry, Clock.systemUTC());
+    }
+
+    LoginThrottleService(LoginThrottleConfig config, LoginFailureStore store, MeterRegistry meterRegistry, Clock clock) {
+        this.config = config;
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.backendErrorCounter = Counter.builder("auth.login.throttle.backend.errors")
+            .description("실패 저장소 읽기/쓰기 실패 횟수 (로그인은 허용)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 허용 여부 확인 - 차단 대상이면 남은 대기 시간과 함께 LoginThrottledException
+     */
+    public void check(String email) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        String emailKey = emailKey(email);
+        if (emailKey != null) {
+            check(EMAIL, emailKey, config.getEmailDelayAfter(), config.getEmailLockoutAfter());
+        }
+        String ip = currentClientIp();
+        if (ip != null) {
+            check(IP, IP + ":" + ip, config.getIpDelayAfter(), config.getIpLockoutAfter());
+        }
+    }
+
+    /**
+     * 로그인 실패 기록 (이메일, 클라이언트 IP 각각)
+     */
+    public void recordFailure(String email) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        long now = clock.millis();
+        long bucket = now / config.bucketMillis();
+        String emailKey = emailKey(email);
+        String ip = currentClientIp();
+        try {
+            if (emailKey != null) {
+                store.recordFailure(emailKey, bucket, now);
+            }
+            if (ip != null) {
+                store.recordFailure(IP + ":" + ip, bucket, now);
+            }
+        } catch (Exception e) {
+            backendErrorCounter.increment();
+            log.debug("로그인 실패 기록 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로그인 성공 시 해당 이메일의 실패 기록 삭제
+     * (IP 기록은 유지: 공격자가 자기 계정 로그인으로 IP 카운터를 초기화하지 못하게)
+     */
+    public void recordSuccess(String email) {
+        String emailKey = emailKey(email);
+        if (!config.isEnabled() || emailKey == null) {
+            return;
+        }
+        try {
+            store.reset(emailKey);
+        } catch (Exception e) {
+            backendErrorCounter.increment();
+            log.debug("로그인 실패 기록 삭제 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void check(String scope, String key, int delayAfter, int lockoutAfter) {
+        long now = clock.millis();
+        long bucketMillis = config.bucketMillis();
+        int count = config.getBuckets();
+        long firstBucket = now / bucketMillis - count + 1;
+
+        Failures failures;
+        try {
+            failures = store.read(key, firstBucket, count);
+        } catch (Exception e) {
+            backendErrorCounter.increment();
+            log.warn("로그인 실패 기록 조회 실패 - 요청 허용: scope={}, error={}", scope, e.getMessage());
+            return;
+        }
+
+        long total = failures.total();
+        if (lockoutAfter > 0 && total >= lockoutAfter) {
+            // 오래된 구간부터 윈도우를 벗어날 때 한도 아래로 내려가는 시점
+            Duration retryAfter = config.getWindow();
+            long[] counts = failures.counts();
+            for (int i = 0; i < count; i++) {
+                total -= counts[i];
+                if (total < lockoutAfter) {
+                    retryAfter = Duration.ofMillis((firstBucket + i + count) * bucketMillis - now);
+                    break;
+                }
+            }
+            throttle(scope, "lockout", retryAfter);
+        }
+        if (delayAfter > 0 && total >= delayAfter) {
+            long delayMillis = delayMillis(total - delayAfter);
+            long waitMillis = failures.lastFailureMillis() + delayMillis - now;
+            if (waitMillis > 0) {
+                throttle(scope, "delay", Duration.ofMillis(waitMillis));
+            }
+        }
+    }
+
+    /**
+     * baseDelay * 2^exceeded (maxDelay 상한)
+     */
+    long delayMillis(long exceeded) {
+        long base = config.getBaseDelay().toMillis();
+        long max = config.getMaxDelay().toMillis();
+        if (base <= 0) {
+            return 0L;
+        }
+        if (exceeded >= Long.numberOfLeadingZeros(base) - 1) {
+            return max;
+        }
+        return Math.min(max, base << exceeded);
+    }
+
+    private void throttle(String scope, String reason, Duration retryAfter) {
+        Counter.builder("auth.login.throttled")
+            .tag("scope", scope)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+        log.info("로그인 시도 차단: scope={}, reason={}, retryAfter={}s", scope, reason, retryAfter.toSeconds());
+        throw new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+    }
+
+    private static String emailKey(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return EMAIL + ":" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 현재 요청의 클라이언트 IP (요청 컨텍스트 밖이면 null)
+     * Gateway 뒤에서는 Gateway가 X-Forwarded-For 끝에 붙인 값이 실제 접속 IP
+     */
+    private String currentClientIp() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (config.isTrustForwardedFor()) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                String[] hops = forwarded.split(",");
+                return hops[hops.length - 1].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,27 @@
+package com.dorandoran.auth.service.throttle;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 로그인 실패 누적으로 인한 일시 차단
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public long retryAfterSeconds() {
+        long millis = retryAfter.toMillis();
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
@@ -0,0 +1,76 @@
+package com.dorandoran.auth.service.throttle;
+
+import com.dorandoran.auth.config.LoginThrottleConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 공유 실패 저장소 (다중 노드)
+ * 키마다 해시 하나(auth:login-fail:{key})에 구간 번호 필드로 HINCRBY, 마지막 실패 시각은 "last" 필드
+ * 마지막 실패 후 윈도우가 지나면 해시 전체가 만료
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.login-throttle", name = "backend", havingValue = "redis")
+public class RedisLoginFailureStore implements LoginFailureStore {
+
+    private static final String LAST = "last";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    public RedisLoginFailureStore(RedisTemplate<String, String> redisTemplate, LoginThrottleConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = config.getRedisKeyPrefix();
+        // 윈도우 + 한 구간: 윈도우 경계에 걸친 구간까지 보존
+        this.ttl = config.getWindow().plusMillis(config.bucketMillis());
+    }
+
+    @Override
+    public void recordFailure(String key, long bucket, long nowMillis) {
+        String redisKey = keyPrefix + key;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().increment(redisKey, String.valueOf(bucket), 1);
+                ops.opsForHash().put(redisKey, LAST, String.valueOf(nowMillis));
+                ops.expire(redisKey, ttl);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Failures read(String key, long firstBucket, int count) {
+        List<Object> fields = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            fields.add(String.valueOf(firstBucket + i));
+        }
+        fields.add(LAST);
+        List<Object> values = redisTemplate.opsForHash().multiGet(keyPrefix + key, fields);
+        long[] counts = new long[count];
+        for (int i = 0; i < count; i++) {
+            counts[i] = parse(values.get(i));
+        }
+        return new Failures(counts, parse(values.get(count)));
+    }
+
+    @Override
+    public void reset(String key) {
+        redisTemplate.delete(keyPrefix + key);
+    }
+
+    private static long parse(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
@@ -2,8 +2,10 @@ package com.dorandoran.auth.service;
 
 import com.dorandoran.auth.dto.LoginRequest;
 import com.dorandoran.auth.dto.LoginResponse;
-import com.dorandoran.auth.repository.LoginAttemptRepository;
-import com.dorandoran.auth.repository.AuthEventRepository;
+import com.dorandoran.auth.service.audit.AuditWriter;
+import com.dorandoran.auth.service.profile.UserProfileCache;
+import com.dorandoran.auth.service.refresh.RefreshTokenStore;
+import com.dorandoran.auth.service.throttle.LoginThrottleService;
 import com.dorandoran.common.exception.DoranDoranException;
 import com.dorandoran.common.exception.ErrorCode;
 import com.dorandoran.shared.dto.UserDto;
@@ -18,6 +20,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -39,17 +42,20 @@ class AuthServiceTest {
     @Mock
     private UserIntegrationService userIntegrationService;
 
+    @Mock
+    private UserProfileCache userProfileCache;
+
     @Mock
     private TokenBlacklistService tokenBlacklistService;
 
     @Mock
-    private RefreshTokenService refreshTokenService;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
-    private LoginAttemptRepository loginAttemptRepository;
+    private AuditWriter auditWriter;
 
     @Mock
-    private AuthEventRepository authEventRepository;
+    private LoginThrottleService loginThrottleService;
 
     @InjectMocks
     private AuthService authService;
@@ -169,14 +175,47 @@ class AuthServiceTest {
         verify(passwordEncoder, never()).matches(anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("로그인 실패 - 없는 이메일도 이메일/IP 실패 횟수에 반영한다")
+    void login_Failure_UnknownEmailRecordsThrottleFailure() {
+        // Given
+        when(userIntegrationService.getUserByEmailForAuth("test@example.com"))
+                .thenThrow(new DoranDoranException(ErrorCode.USER_NOT_FOUND));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(DoranDoranException.class);
+
+        verify(loginThrottleService).check("test@example.com");
+        verify(loginThrottleService).recordFailure("test@example.com");
+        verify(loginThrottleService, never()).recordSuccess(anyString());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - User 서비스 장애는 이메일/IP 실패 횟수에 반영하지 않는다")
+    void login_Failure_UserServiceOutageDoesNotRecordThrottleFailure() {
+        // Given
+        when(userIntegrationService.getUserByEmailForAuth("test@example.com"))
+                .thenThrow(new RuntimeException("User Service를 사용할 수 없습니다."));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(DoranDoranException.class)
+                .satisfies(throwable -> assertThat(((DoranDoranException) throwable).getErrorCode())
+                        .isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR));
+
+        verify(loginThrottleService).check("test@example.com");
+        verify(loginThrottleService, never()).recordFailure(anyString());
+    }
+
     @Test
     @DisplayName("토큰 검증 성공 테스트")
     void validateToken_Success() {
         // Given
         String token = "valid-token";
-        when(jwtService.isTokenValid(token)).thenReturn(true);
-        when(jwtService.extractUserId(token)).thenReturn(userDto.id().toString());
-        when(userIntegrationService.getUserById(userDto.id().toString())).thenReturn(userDto);
+        when(jwtService.validate(token)).thenReturn(Optional.of(principal(userDto.id().toString())));
+        when(userProfileCache.getById(userDto.id().toString())).thenReturn(userDto);
 
         // When
         UserDto result = authService.validateToken(token);
@@ -187,9 +226,8 @@ class AuthServiceTest {
         assertThat(result.email()).isEqualTo(userDto.email());
         assertThat(result.name()).isEqualTo(userDto.name());
 
-        verify(jwtService, times(1)).isTokenValid(token);
-        verify(jwtService, times(1)).extractUserId(token);
-        verify(userIntegrationService, times(1)).getUserById(userDto.id().toString());
+        verify(jwtService, times(1)).validate(token);
+        verify(userProfileCache, times(1)).getById(userDto.id().toString());
     }
 
     @Test
@@ -197,7 +235,7 @@ class AuthServiceTest {
     void validateToken_Failure_InvalidToken() {
         // Given
         String token = "invalid-token";
-        when(jwtService.isTokenValid(token)).thenReturn(false);
+        when(jwtService.validate(token)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.validateToken(token))
@@ -207,9 +245,8 @@ class AuthServiceTest {
                     assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.AUTH_TOKEN_INVALID);
                 });
 
-        verify(jwtService, times(1)).isTokenValid(token);
-        verify(jwtService, never()).extractUserId(anyString());
-        verify(userIntegrationService, never()).getUserById(anyString());
+        verify(jwtService, times(1)).validate(token);
+        verify(userProfileCache, never()).getById(anyString());
     }
 
     @Test
@@ -217,9 +254,8 @@ class AuthServiceTest {
     void validateToken_Failure_UserNotFound() {
         // Given
         String token = "valid-token";
-        when(jwtService.isTokenValid(token)).thenReturn(true);
-        when(jwtService.extractUserId(token)).thenReturn("non-existent-user-id");
-        when(userIntegrationService.getUserById("non-existent-user-id"))
+        when(jwtService.validate(token)).thenReturn(Optional.of(principal("non-existent-user-id")));
+        when(userProfileCache.getById("non-existent-user-id"))
                 .thenThrow(new DoranDoranException(ErrorCode.USER_NOT_FOUND));
 
         // When & Then
@@ -230,9 +266,8 @@ class AuthServiceTest {
                     assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
                 });
 
-        verify(jwtService, times(1)).isTokenValid(token);
-        verify(jwtService, times(1)).extractUserId(token);
-        verify(userIntegrationService, times(1)).getUserById("non-existent-user-id");
+        verify(jwtService, times(1)).validate(token);
+        verify(userProfileCache, times(1)).getById("non-existent-user-id");
     }
 
     @Test
@@ -240,9 +275,8 @@ class AuthServiceTest {
     void validateToken_Failure_ServerError() {
         // Given
         String token = "valid-token";
-        when(jwtService.isTokenValid(token)).thenReturn(true);
-        when(jwtService.extractUserId(token)).thenReturn(userDto.id().toString());
-        when(userIntegrationService.getUserById(userDto.id().toString()))
+        when(jwtService.validate(token)).thenReturn(Optional.of(principal(userDto.id().toString())));
+        when(userProfileCache.getById(userDto.id().toString()))
                 .thenThrow(new RuntimeException("Database connection failed"));
 
         // When & Then
@@ -253,9 +287,8 @@ class AuthServiceTest {
                     assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.AUTH_TOKEN_INVALID);
                 });
 
-        verify(jwtService, times(1)).isTokenValid(token);
-        verify(jwtService, times(1)).extractUserId(token);
-        verify(userIntegrationService, times(1)).getUserById(userDto.id().toString());
+        verify(jwtService, times(1)).validate(token);
+        verify(userProfileCache, times(1)).getById(userDto.id().toString());
     }
 
     @Test
@@ -263,16 +296,15 @@ class AuthServiceTest {
     void refreshToken_Success() {
         // Given
         String refreshToken = "valid-refresh-token";
-        when(jwtService.isTokenValid(refreshToken)).thenReturn(true);
-        when(jwtService.extractUserId(refreshToken)).thenReturn(userDto.id().toString());
-        when(userIntegrationService.getUserById(userDto.id().toString())).thenReturn(userDto);
+        when(jwtService.validate(refreshToken)).thenReturn(Optional.of(refreshPrincipal(userDto.id().toString())));
+        when(userProfileCache.getById(userDto.id().toString())).thenReturn(userDto);
         when(jwtService.generateAccessToken(anyString(), anyString(), anyString())).thenReturn("new-access-token");
         when(jwtService.generateRefreshToken(anyString(), anyString(), anyString())).thenReturn("new-refresh-token");
-        when(jwtService.extractExpiration(anyString())).thenReturn(new Date(System.currentTimeMillis() + 3600000));
-        when(tokenBlacklistService.hashToken(anyString())).thenReturn("hashed-token");
-        when(refreshTokenService.findByHash(anyString())).thenReturn(java.util.Optional.empty());
-        when(refreshTokenService.issue(any(), anyString(), any(), any(), any(), any()))
-                .thenReturn(new com.dorandoran.auth.entity.RefreshToken());
+        when(jwtService.parse("new-refresh-token")).thenReturn(refreshPrincipal(userDto.id().toString()));
+        when(tokenBlacklistService.hashToken(refreshToken)).thenReturn("old-hash");
+        when(tokenBlacklistService.hashToken("new-refresh-token")).thenReturn("new-hash");
+        when(refreshTokenStore.rotate(eq(UUID.fromString(userDto.id())), eq("old-hash"), eq("new-hash"), any()))
+                .thenReturn(RefreshTokenStore.Rotation.ROTATED);
 
         // When
         LoginResponse response = authService.refreshToken(refreshToken);
@@ -287,11 +319,107 @@ class AuthServiceTest {
         assertThat(response.getEmail()).isEqualTo("test@example.com");
         assertThat(response.getName()).isEqualTo("Test User");
 
-        verify(jwtService, times(1)).isTokenValid(refreshToken);
-        verify(jwtService, times(1)).extractUserId(refreshToken);
-        verify(userIntegrationService, times(1)).getUserById(userDto.id().toString());
+        verify(jwtService, times(1)).validate(refreshToken);
+        verify(userProfileCache, times(1)).getById(userDto.id().toString());
         verify(jwtService, times(1)).generateAccessToken(userDto.id().toString(), userDto.email(), userDto.name());
         verify(jwtService, times(1)).generateRefreshToken(userDto.id().toString(), userDto.email(), userDto.name());
+        verify(refreshTokenStore, never()).issue(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 실패 - 이미 교체된 리프레시 토큰 재사용")
+    void refreshToken_Failure_Reused() {
+        // Given
+        String refreshToken = "rotated-refresh-token";
+        when(jwtService.validate(refreshToken)).thenReturn(Optional.of(refreshPrincipal(userDto.id().toString())));
+        when(userProfileCache.getById(userDto.id().toString())).thenReturn(userDto);
+        when(jwtService.generateAccessToken(anyString(), anyString(), anyString())).thenReturn("new-access-token");
+        when(jwtService.generateRefreshToken(anyString(), anyString(), anyString())).thenReturn("new-refresh-token");
+        when(jwtService.parse("new-refresh-token")).thenReturn(refreshPrincipal(userDto.id().toString()));
+        when(tokenBlacklistService.hashToken(anyString())).thenReturn("hash");
+        when(refreshTokenStore.rotate(any(), anyString(), anyString(), any()))
+                .thenReturn(RefreshTokenStore.Rotation.REUSED);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(DoranDoranException.class)
+                .satisfies(throwable -> {
+                    DoranDoranException ex = (DoranDoranException) throwable;
+                    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.AUTH_TOKEN_INVALID);
+                });
+
+        verify(tokenBlacklistService, never()).registerSession(any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 - 저장소에 기록 없는 토큰은 교체된 토큰으로 남기고 새 계열 시작")
+    void refreshToken_UnknownTokenIsAdopted() {
+        // Given
+        String refreshToken = "legacy-refresh-token";
+        when(jwtService.validate(refreshToken)).thenReturn(Optional.of(refreshPrincipal(userDto.id().toString())));
+        when(userProfileCache.getById(userDto.id().toString())).thenReturn(userDto);
+        when(jwtService.generateAccessToken(anyString(), anyString(), anyString())).thenReturn("new-access-token");
+        when(jwtService.generateRefreshToken(anyString(), anyString(), anyString())).thenReturn("new-refresh-token");
+        when(jwtService.parse("new-refresh-token")).thenReturn(refreshPrincipal(userDto.id().toString()));
+        when(tokenBlacklistService.hashToken(refreshToken)).thenReturn("legacy-hash");
+        when(tokenBlacklistService.hashToken("new-refresh-token")).thenReturn("new-hash");
+        when(refreshTokenStore.rotate(any(), anyString(), anyString(), any()))
+                .thenReturn(RefreshTokenStore.Rotation.UNKNOWN);
+        when(refreshTokenStore.adopt(eq(UUID.fromString(userDto.id())), eq("legacy-hash"), any(), eq("new-hash"), any()))
+                .thenReturn(RefreshTokenStore.Rotation.ROTATED);
+
+        // When
+        LoginResponse response = authService.refreshToken(refreshToken);
+
+        // Then
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
+        verify(refreshTokenStore, never()).issue(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 실패 - 기록 없던 토큰의 동시 재사용")
+    void refreshToken_Failure_UnknownTokenReused() {
+        // Given
+        String refreshToken = "legacy-refresh-token";
+        when(jwtService.validate(refreshToken)).thenReturn(Optional.of(refreshPrincipal(userDto.id().toString())));
+        when(userProfileCache.getById(userDto.id().toString())).thenReturn(userDto);
+        when(jwtService.generateAccessToken(anyString(), anyString(), anyString())).thenReturn("new-access-token");
+        when(jwtService.generateRefreshToken(anyString(), anyString(), anyString())).thenReturn("new-refresh-token");
+        when(jwtService.parse("new-refresh-token")).thenReturn(refreshPrincipal(userDto.id().toString()));
+        when(tokenBlacklistService.hashToken(anyString())).thenReturn("hash");
+        when(refreshTokenStore.rotate(any(), anyString(), anyString(), any()))
+                .thenReturn(RefreshTokenStore.Rotation.UNKNOWN);
+        when(refreshTokenStore.adopt(any(), anyString(), any(), anyString(), any()))
+                .thenReturn(RefreshTokenStore.Rotation.REUSED);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(DoranDoranException.class)
+                .satisfies(throwable -> {
+                    DoranDoranException ex = (DoranDoranException) throwable;
+                    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.AUTH_TOKEN_INVALID);
+                });
+
+        verify(tokenBlacklistService, never()).registerSession(any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 실패 - 액세스 토큰 제출")
+    void refreshToken_Failure_AccessToken() {
+        // Given
+        String accessToken = "access-token";
+        when(jwtService.validate(accessToken)).thenReturn(Optional.of(principal(userDto.id().toString())));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refreshToken(accessToken))
+                .isInstanceOf(DoranDoranException.class)
+                .satisfies(throwable -> {
+                    DoranDoranException ex = (DoranDoranException) throwable;
+                    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.AUTH_TOKEN_INVALID);
+                });
+
+        verify(userProfileCache, never()).getById(anyString());
+        verify(refreshTokenStore, never()).rotate(any(), anyString(), anyString(), any());
     }
 
     @Test
@@ -299,7 +427,7 @@ class AuthServiceTest {
     void refreshToken_Failure_InvalidToken() {
         // Given
         String refreshToken = "invalid-refresh-token";
-        when(jwtService.isTokenValid(refreshToken)).thenReturn(false);
+        when(jwtService.validate(refreshToken)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.refreshToken(refreshToken))
@@ -309,9 +437,8 @@ class AuthServiceTest {
                     assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.AUTH_TOKEN_EXPIRED);
                 });
 
-        verify(jwtService, times(1)).isTokenValid(refreshToken);
-        verify(jwtService, never()).extractUserId(anyString());
-        verify(userIntegrationService, never()).getUserById(anyString());
+        verify(jwtService, times(1)).validate(refreshToken);
+        verify(userProfileCache, never()).getById(anyString());
     }
 
     @Test
@@ -319,9 +446,8 @@ class AuthServiceTest {
     void refreshToken_Failure_ServerError() {
         // Given
         String refreshToken = "valid-refresh-token";
-        when(jwtService.isTokenValid(refreshToken)).thenReturn(true);
-        when(jwtService.extractUserId(refreshToken)).thenReturn(userDto.id().toString());
-        when(userIntegrationService.getUserById(userDto.id().toString()))
+        when(jwtService.validate(refreshToken)).thenReturn(Optional.of(refreshPrincipal(userDto.id().toString())));
+        when(userProfileCache.getById(userDto.id().toString()))
                 .thenThrow(new RuntimeException("Database connection failed"));
 
         // When & Then
@@ -332,9 +458,8 @@ class AuthServiceTest {
                     assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR);
                 });
 
-        verify(jwtService, times(1)).isTokenValid(refreshToken);
-        verify(jwtService, times(1)).extractUserId(refreshToken);
-        verify(userIntegrationService, times(1)).getUserById(userDto.id().toString());
+        verify(jwtService, times(1)).validate(refreshToken);
+        verify(userProfileCache, times(1)).getById(userDto.id().toString());
     }
 
     @Test
@@ -406,4 +531,14 @@ class AuthServiceTest {
         verify(jwtService, times(1)).extractExpiration(token);
         verify(tokenBlacklistService, never()).addToBlacklist(anyString(), anyString(), any(Duration.class));
     }
-}
\ No newline at end of file
+
+    private JwtPrincipal principal(String userId) {
+        return new JwtPrincipal(userId, UUID.randomUUID().toString(), "test@example.com", "Test User", false,
+                System.currentTimeMillis(), System.currentTimeMillis() + 3600000);
+    }
+
+    private JwtPrincipal refreshPrincipal(String userId) {
+        return new JwtPrincipal(userId, UUID.randomUUID().toString(), "test@example.com", "Test User", true,
+                System.currentTimeMillis(), System.currentTimeMillis() + 3600000);
+    }
+}
@@ -4,10 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Date;
 
@@ -24,7 +22,6 @@ class JwtServiceTest {
     @Mock
     private TokenBlacklistService tokenBlacklistService;
 
-    @InjectMocks
     private JwtService jwtService;
 
     private String testUserId;
@@ -34,10 +31,11 @@ class JwtServiceTest {
     @BeforeEach
     void setUp() {
         // 테스트용 시크릿 키 설정 (실제 운영에서는 더 강력한 키 사용)
-        ReflectionTestUtils.setField(jwtService, "secretKey", 
-                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
-        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3600000L); // 1시간
-        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L); // 7일
+        jwtService = new JwtService(tokenBlacklistService,
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970",
+                3600000L, // 1시간
+                604800000L, // 7일
+                100);
 
         testUserId = "test-user-id";
         testEmail = "test@example.com";
@@ -214,13 +212,9 @@ class JwtServiceTest {
     @DisplayName("다른 시크릿 키로 생성된 토큰 검증 실패 테스트")
     void isTokenValid_Failure_DifferentSecretKey() {
         // Given - 다른 시크릿 키로 토큰 생성
-        ReflectionTestUtils.setField(jwtService, "secretKey", 
-                "DifferentSecretKey123456789012345678901234567890");
-        String token = jwtService.generateAccessToken(testUserId, testEmail, testName);
-        
-        // 원래 시크릿 키로 복원
-        ReflectionTestUtils.setField(jwtService, "secretKey", 
-                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        JwtService otherService = new JwtService(tokenBlacklistService,
+                "DifferentSecretKey123456789012345678901234567890", 3600000L, 604800000L, 100);
+        String token = otherService.generateAccessToken(testUserId, testEmail, testName);
 
         // When
         boolean isValid = jwtService.isTokenValid(token);
@@ -277,4 +271,23 @@ class JwtServiceTest {
         assertThat(jwtService.extractEmail(token1)).isEqualTo(jwtService.extractEmail(token2));
         assertThat(jwtService.extractName(token1)).isEqualTo(jwtService.extractName(token2));
     }
+
+    @Test
+    @DisplayName("한 번 파싱한 클레임은 캐시에서 재사용하고 블랙리스트는 매번 확인한다")
+    void validate_reusesParsedClaims() {
+        // Given
+        String token = jwtService.generateAccessToken(testUserId, testEmail, testName);
+        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false, true);
+
+        // When
+        JwtPrincipal first = jwtService.validate(token).orElseThrow();
+        JwtPrincipal cached = jwtService.parse(token);
+
+        // Then
+        assertThat(cached).isSameAs(first);
+        assertThat(first.userId()).isEqualTo(testUserId);
+        assertThat(first.refresh()).isFalse();
+        assertThat(jwtService.validate(token)).isEmpty();
+        verify(tokenBlacklistService, times(2)).isBlacklisted(token);
+    }
 }
@@ -0,0 +1,115 @@
+package com.dorandoran.auth.service;
+
+import com.dorandoran.auth.config.TokenBlacklistConfig;
+import com.dorandoran.auth.service.blacklist.RevocationNearCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenBlacklistService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RevocationNearCache nearCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenBlacklistService = new TokenBlacklistService(
+                redisTemplate, new TokenBlacklistConfig(), nearCache, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("블랙리스트 키는 토큰 SHA-256 다이제스트를 사용한다")
+    void hashToken_usesSha256() {
+        assertThat(tokenBlacklistService.hashToken("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("Bloom 필터에 없는 토큰은 Redis 조회 없이 통과한다")
+    void isBlacklisted_bloomNegative_skipsRedis() {
+        when(nearCache.isReady()).thenReturn(true);
+        when(nearCache.lookup(anyString())).thenReturn(RevocationNearCache.Lookup.CLEAR);
+
+        assertThat(tokenBlacklistService.isBlacklisted("token")).isFalse();
+
+        verifyNoInteractions(redisTemplate);
+        assertThat(meterRegistry.get("auth.blacklist.redis.avoided").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Bloom 필터 양성이면 Redis로 확인하고 결과를 로컬에 반영한다")
+    void isBlacklisted_bloomPositive_confirmsInRedis() {
+        String digest = tokenBlacklistService.hashToken("token");
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(nearCache.isReady()).thenReturn(true);
+        when(nearCache.lookup(digest)).thenReturn(RevocationNearCache.Lookup.UNKNOWN);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.score("auth:revoked-tokens", digest)).thenReturn((double) expiresAt);
+
+        assertThat(tokenBlacklistService.isBlacklisted("token")).isTrue();
+
+        verify(nearCache).markRevoked(digest, expiresAt);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 Bloom 필터 양성은 캐시 미준비 시와 같이 통과시킨다")
+    void isBlacklisted_redisDown_failsOpenLikeNotReady() {
+        when(nearCache.isReady()).thenReturn(true);
+        when(nearCache.lookup(anyString())).thenReturn(RevocationNearCache.Lookup.UNKNOWN);
+        when(redisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(tokenBlacklistService.isBlacklisted("token")).isFalse();
+        assertThat(meterRegistry.get("auth.blacklist.lookups").tag("source", "fallback").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 미준비 상태에서 Redis 장애면 통과시킨다")
+    void isBlacklisted_notReadyAndRedisDown_failsOpen() {
+        when(nearCache.isReady()).thenReturn(false);
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(tokenBlacklistService.isBlacklisted("token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 전체 폐기 시각 이전에 발급된 토큰만 무효로 본다")
+    void isRevokedForUser_comparesIssuedAtWithRevocationTime() {
+        long revokedAt = System.currentTimeMillis();
+        when(nearCache.isReady()).thenReturn(true);
+        when(nearCache.userRevokedAt("user-1")).thenReturn(revokedAt);
+
+        assertThat(tokenBlacklistService.isRevokedForUser("user-1", revokedAt - 1_000)).isTrue();
+        assertThat(tokenBlacklistService.isRevokedForUser("user-1", revokedAt + 1_000)).isFalse();
+        // 같은 초라도 폐기 이후(밀리초 기준)에 발급된 토큰은 유효
+        assertThat(tokenBlacklistService.isRevokedForUser("user-1", revokedAt - 1)).isTrue();
+        assertThat(tokenBlacklistService.isRevokedForUser("user-1", revokedAt)).isFalse();
+        assertThat(tokenBlacklistService.isRevokedForUser("user-1", revokedAt + 1)).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,112 @@
+package com.dorandoran.auth.service.audit;
+
+import com.dorandoran.auth.config.AuditWriterConfig;
+import com.dorandoran.auth.repository.AuditJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuditWriterTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private AuditJdbcRepository auditJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path spillDir;
+
+    private AuditWriterConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new AuditWriterConfig();
+        config.setSpillDir(spillDir.toString());
+    }
+
+    private AuditWriter writer() {
+        return new AuditWriter(config, auditJdbcRepository, transactionManager,
+            new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 기록을 테이블별로 나눠 일괄 기록한다")
+    void stop_drainsQueueIntoBatches() {
+        AuditWriter writer = writer();
+        writer.submit(AuditRecord.loginAttempt(USER_ID, "test@example.com", true));
+        writer.submit(AuditRecord.authEvent(USER_ID, "LOGIN"));
+        writer.submit(AuditRecord.loginAttempt(null, "test@example.com", false));
+
+        writer.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditRecord>> attempts = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditRecord>> events = ArgumentCaptor.forClass(List.class);
+        verify(auditJdbcRepository).insertLoginAttempts(attempts.capture());
+        verify(auditJdbcRepository).insertAuthEvents(events.capture());
+        assertThat(attempts.getValue()).extracting(AuditRecord::succeeded).containsExactly(true, false);
+        assertThat(events.getValue()).extracting(AuditRecord::eventType).containsExactly("LOGIN");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 요청 스레드를 막지 않고 보존 파일에 기록한다")
+    void submit_spillsWhenQueueIsFull() throws Exception {
+        config.setCapacity(1);
+        AuditWriter writer = writer();
+
+        writer.submit(AuditRecord.authEvent(USER_ID, "LOGIN"));
+        writer.submit(AuditRecord.authEvent(USER_ID, "LOGOUT"));
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            List<Path> spilled = files.toList();
+            assertThat(spilled).hasSize(1);
+            assertThat(Files.readString(spilled.get(0))).contains("LOGOUT").doesNotContain("\"LOGIN\"");
+        }
+        verify(auditJdbcRepository, never()).insertAuthEvents(anyList());
+    }
+
+    @Test
+    @DisplayName("종료 후 제출된 기록은 큐에 남기지 않고 바로 기록한다")
+    void submit_afterStop_writesImmediately() {
+        AuditWriter writer = writer();
+        writer.stop();
+
+        writer.submit(AuditRecord.authEvent(USER_ID, "LOGOUT"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditRecord>> events = ArgumentCaptor.forClass(List.class);
+        verify(auditJdbcRepository).insertAuthEvents(events.capture());
+        assertThat(events.getValue()).extracting(AuditRecord::eventType).containsExactly("LOGOUT");
+    }
+
+    @Test
+    @DisplayName("웹 서버 graceful shutdown보다 늦게 종료된다")
+    void phase_stopsAfterWebServer() {
+        assertThat(writer().getPhase()).isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE);
+    }
+}
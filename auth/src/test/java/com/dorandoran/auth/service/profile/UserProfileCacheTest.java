@@ -0,0 +1,98 @@
+package com.dorandoran.auth.service.profile;
+
+import com.dorandoran.auth.config.UserProfileCacheConfig;
+import com.dorandoran.auth.service.UserIntegrationService;
+import com.dorandoran.shared.dto.UserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    private static final String USER_ID = "00000000-0000-0000-0000-000000000001";
+
+    @Mock
+    private UserIntegrationService userIntegrationService;
+
+    private UserProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserProfileCache(new UserProfileCacheConfig(), userIntegrationService, new SimpleMeterRegistry());
+    }
+
+    private static UserDto user(String email) {
+        return new UserDto(USER_ID, email, "Test", "User", "Test User", null, null, null, null, null,
+                UserDto.UserStatus.ACTIVE, UserDto.RoleName.ROLE_USER, false, null, null);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 사용자는 ID와 이메일 모두 User 서비스 호출 없이 반환한다")
+    void getById_cachesByIdAndEmail() {
+        when(userIntegrationService.getUserByIdAsync(USER_ID))
+                .thenReturn(CompletableFuture.completedFuture(user("test@example.com")));
+
+        cache.getById(USER_ID);
+        UserDto byId = cache.getById(USER_ID);
+        UserDto byEmail = cache.getByEmail("Test@Example.com");
+
+        assertThat(byId.email()).isEqualTo("test@example.com");
+        assertThat(byEmail.id()).isEqualTo(USER_ID);
+        verify(userIntegrationService, times(1)).getUserByIdAsync(USER_ID);
+        verify(userIntegrationService, never()).getUserByEmailAsync("Test@Example.com");
+    }
+
+    @Test
+    @DisplayName("동시 미스는 하나의 User 서비스 호출을 함께 기다린다")
+    void getByIdAsync_coalescesConcurrentMisses() {
+        CompletableFuture<UserDto> pending = new CompletableFuture<>();
+        when(userIntegrationService.getUserByIdAsync(USER_ID)).thenReturn(pending);
+
+        CompletableFuture<UserDto> first = cache.getByIdAsync(USER_ID);
+        CompletableFuture<UserDto> second = cache.getByIdAsync(USER_ID);
+        pending.complete(user("test@example.com"));
+
+        assertThat(first.join()).isSameAs(second.join());
+        verify(userIntegrationService, times(1)).getUserByIdAsync(USER_ID);
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화가 일어나면 그 결과는 캐시에 저장하지 않는다")
+    void invalidate_duringLoad_discardsStaleResult() {
+        CompletableFuture<UserDto> pending = new CompletableFuture<>();
+        when(userIntegrationService.getUserByIdAsync(USER_ID)).thenReturn(pending);
+
+        CompletableFuture<UserDto> inFlight = cache.getByIdAsync(USER_ID);
+        cache.invalidate(USER_ID);
+        pending.complete(user("old@example.com"));
+
+        assertThat(inFlight.join().email()).isEqualTo("old@example.com");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("User 서비스 조회 실패는 원래 예외로 전달하고 캐시하지 않는다")
+    void getById_failurePropagatesOriginalException() {
+        when(userIntegrationService.getUserByIdAsync(USER_ID))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        assertThatThrownBy(() -> cache.getById(USER_ID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("down");
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,98 @@
+package com.dorandoran.auth.service.throttle;
+
+import com.dorandoran.auth.config.LoginThrottleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    private LoginThrottleConfig config;
+    private InMemoryLoginFailureStore store;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new LoginThrottleConfig();
+        config.setWindow(Duration.ofMinutes(15));
+        config.setBuckets(15);  // 1분 구간
+        config.setEmailDelayAfter(3);
+        config.setEmailLockoutAfter(5);
+        config.setBaseDelay(Duration.ofSeconds(1));
+        config.setMaxDelay(Duration.ofSeconds(60));
+        store = new InMemoryLoginFailureStore(config);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private LoginThrottleService at(Instant now) {
+        return new LoginThrottleService(config, store, meterRegistry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("실패가 delayAfter 미만이면 대기 없이 통과한다")
+    void check_underDelayThreshold() {
+        at(T0).recordFailure(EMAIL);
+        at(T0).recordFailure(EMAIL);
+
+        assertThatCode(() -> at(T0).check(EMAIL)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("delayAfter 이상이면 마지막 실패 후 대기 시간이 지나야 통과하고, 실패할수록 대기가 늘어난다")
+    void check_progressiveDelay() {
+        for (int i = 0; i < 3; i++) {
+            at(T0).recordFailure(EMAIL);
+        }
+        assertThatThrownBy(() -> at(T0.plusMillis(500)).check(EMAIL))
+            .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> at(T0.plusSeconds(1)).check(EMAIL)).doesNotThrowAnyException();
+
+        at(T0.plusSeconds(1)).recordFailure(EMAIL);
+        assertThatThrownBy(() -> at(T0.plusSeconds(2)).check(EMAIL))
+            .isInstanceOfSatisfying(LoginThrottledException.class,
+                e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(1)));
+        assertThatCode(() -> at(T0.plusSeconds(3)).check(EMAIL)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("lockoutAfter 이상이면 가장 오래된 실패 구간이 윈도우를 벗어날 때까지 잠근다")
+    void check_lockoutUntilOldestBucketExpires() {
+        for (int i = 0; i < 5; i++) {
+            at(T0).recordFailure(EMAIL);
+        }
+
+        Instant now = T0.plus(Duration.ofMinutes(5));
+        assertThatThrownBy(() -> at(now).check(EMAIL))
+            .isInstanceOfSatisfying(LoginThrottledException.class,
+                e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofMinutes(10)));
+        assertThat(meterRegistry.counter("auth.login.throttled", "scope", "email", "reason", "lockout").count())
+            .isEqualTo(1.0);
+
+        assertThatCode(() -> at(T0.plus(Duration.ofMinutes(15))).check(EMAIL)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 이메일 실패 기록이 초기화되고, 대소문자는 구분하지 않는다")
+    void recordSuccess_resetsEmailFailures() {
+        for (int i = 0; i < 5; i++) {
+            at(T0).recordFailure("Test@Example.com");
+        }
+        at(T0).recordSuccess(EMAIL);
+
+        assertThatCode(() -> at(T0).check(EMAIL)).doesNotThrowAnyException();
+        assertThat(store.trackedKeys()).isZero();
+    }
+}
@@ -0,0 +1,25 @@
+package com.dorandoran.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Period;
+
+/**
+ * 메시지 아카이빙 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "batch.message-archive")
+@Getter
+@Setter
+public class MessageArchiveConfig {
+
+    private String archiveDir = "./archives/messages"; // 세그먼트 파일 저장 경로
+    private Period retention = Period.ofMonths(6);      // 이 기간보다 오래된 메시지를 아카이빙
+    private int chunkSize = 5_000;                     // 세그먼트 1개(= 삭제 트랜잭션 1개)에 담을 최대 행 수
+    private int fetchSize = 1_000;                     // 커서 조회 시 한 번에 가져올 행 수
+    private long maxRowsPerSecond = 20_000;            // 초당 최대 아카이빙 행 수 (0이면 제한 없음)
+    private String compression = "gzip";               // 세그먼트 압축: gzip | none
+}
@@ -0,0 +1,19 @@
+package com.dorandoran.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * chat_schema.messages 월별 파티션 관리 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "batch.message-partition")
+@Getter
+@Setter
+public class MessagePartitionConfig {
+
+    private int monthsAhead = 3;                 // 이번 달 이후 미리 만들어 둘 월 파티션 수
+    private boolean dropArchivedPartitions = true; // 보관 기간이 통째로 지난 파티션은 떼어 내 아카이빙 후 삭제 (false면 행 단위 삭제)
+}
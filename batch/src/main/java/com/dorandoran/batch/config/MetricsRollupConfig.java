@@ -0,0 +1,23 @@
+package com.dorandoran.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 시간별 지표 집계(롤업) 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "batch.metrics-rollup")
+@Getter
+@Setter
+public class MetricsRollupConfig {
+
+    private Duration settleDelay = Duration.ofMinutes(5);  // 시간이 끝난 뒤 이만큼 지나야 집계 (늦게 커밋되는 행 대기)
+    private Duration initialLookback = Duration.ofDays(8); // 워터마크가 없을 때 처음 집계할 기간
+    private int hoursPerStep = 24;                         // 한 트랜잭션에서 집계할 최대 시간 수
+    private int sketchPrecision = 12;                      // 고유 사용자 HyperLogLog 정밀도 (2^p 레지스터, p=12면 오차 약 1.6%, 바꾸면 기존 시간 집계를 다시 백필해야 합칠 수 있음)
+}
@@ -0,0 +1,65 @@
+package com.dorandoran.batch.controller;
+
+import com.dorandoran.batch.repository.ArchiveCatalogJdbcRepository.RoomSegment;
+import com.dorandoran.batch.service.ArchivedRoomService;
+import com.dorandoran.batch.service.ArchivedRoomService.RehydrateResult;
+import com.dorandoran.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 아카이브된 채팅방 조회/복원 API (Gateway 라우팅 대상 아님, HMAC 인증 필요)
+ */
+@RestController
+@RequestMapping("/internal/archive/rooms")
+@RequiredArgsConstructor
+@Slf4j
+public class ArchivedRoomController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ArchivedRoomService archivedRoomService;
+
+    /**
+     * 아카이브된 채팅방 메시지 조회 (NDJSON 스트리밍, 대화 순서대로)
+     */
+    @GetMapping("/{chatroomId}/messages")
+    public ResponseEntity<StreamingResponseBody> messages(@PathVariable UUID chatroomId) {
+        List<RoomSegment> segments = archivedRoomService.findSegments(chatroomId);
+        if (segments.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        long rows = segments.stream().mapToLong(segment -> segment.range().rows()).sum();
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header("X-Archived-Rows", String.valueOf(rows))
+                .body(out -> archivedRoomService.writeRoom(segments, out));
+    }
+
+    /**
+     * 아카이브된 채팅방 메시지를 chat_schema.messages로 복원
+     * 일시 복원: 보관 기간이 지난 메시지는 다음 아카이빙 실행에서 다시 아카이빙됨 ({@link ArchivedRoomService#rehydrateRoom})
+     */
+    @PostMapping("/{chatroomId}/rehydrate")
+    public ResponseEntity<ApiResponse<RehydrateResult>> rehydrate(@PathVariable UUID chatroomId) {
+        log.info("[ArchivedRoomController] Rehydrate requested for chatroom {}", chatroomId);
+        RehydrateResult result = archivedRoomService.rehydrateRoom(chatroomId);
+        if (result.segments() == 0) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("아카이브된 메시지가 없습니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success(result, "채팅방 메시지를 복원했습니다."));
+    }
+}
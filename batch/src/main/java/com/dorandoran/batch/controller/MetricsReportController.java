@@ -0,0 +1,85 @@
+package com.dorandoran.batch.controller;
+
+import com.dorandoran.batch.service.MetricsRollupService;
+import com.dorandoran.batch.service.MetricsRollupService.MetricsReport;
+import com.dorandoran.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 시간별 집계 기반 지표 리포트/백필 API (Gateway 라우팅 대상 아님, HMAC 인증 필요)
+ */
+@RestController
+@RequestMapping("/internal/reports")
+@RequiredArgsConstructor
+@Slf4j
+public class MetricsReportController {
+
+    private final MetricsRollupService metricsRollupService;
+
+    /**
+     * 임의 구간 리포트 (to는 제외, 시간 단위로 맞춤)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<ApiResponse<MetricsReport>> range(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("from은 to보다 이전이어야 합니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success(metricsRollupService.report(from, to)));
+    }
+
+    /**
+     * 일간 리포트
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<ApiResponse<MetricsReport>> daily(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(ApiResponse.success(
+            metricsRollupService.report(date.atStartOfDay(), date.plusDays(1).atStartOfDay())));
+    }
+
+    /**
+     * 주간 리포트 (date가 속한 주의 월요일부터 7일)
+     */
+    @GetMapping("/weekly")
+    public ResponseEntity<ApiResponse<MetricsReport>> weekly(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return ResponseEntity.ok(ApiResponse.success(
+            metricsRollupService.report(monday.atStartOfDay(), monday.plusWeeks(1).atStartOfDay())));
+    }
+
+    /**
+     * 과거 구간 시간별 집계 백필 (백그라운드 실행, to는 제외)
+     */
+    @PostMapping("/rollups/backfill")
+    public ResponseEntity<ApiResponse<Void>> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("from은 to보다 이전이어야 합니다."));
+        }
+        log.info("[MetricsReportController] Backfill requested for [{}, {})", from, to);
+        if (!metricsRollupService.startBackfill(from.atStartOfDay(), to.atStartOfDay())) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("이미 백필이 진행 중입니다."));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(null, "백필을 시작했습니다."));
+    }
+}
@@ -0,0 +1,40 @@
+package com.dorandoran.batch.job;
+
+import com.dorandoran.batch.common.TimeProvider;
+import com.dorandoran.batch.service.MessagePartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessagePartitionJob {
+
+    private final MessagePartitionService messagePartitionService;
+    private final TimeProvider timeProvider;
+
+    /**
+     * 5. 메시지 월 파티션 사전 생성 (Message Partition Job)
+     * 매일 새벽 1시 + 서비스 기동 시
+     */
+    @Scheduled(cron = "0 0 1 * * *", zone = "Asia/Seoul")
+    public void ensureMessagePartitions() {
+        var now = timeProvider.nowKst();
+        log.info("[MessagePartitionJob] Start at {}", now);
+        int created = messagePartitionService.ensureFuturePartitions(timeProvider.kst());
+        log.info("[MessagePartitionJob] Finished. created={}", created);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureOnStartup() {
+        try {
+            ensureMessagePartitions();
+        } catch (Exception e) {
+            log.warn("[MessagePartitionJob] Startup partition check failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dorandoran.batch.job;
+
+import com.dorandoran.batch.common.TimeProvider;
+import com.dorandoran.batch.service.MetricsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricsRollupJob {
+
+    private final MetricsRollupService metricsRollupService;
+    private final TimeProvider timeProvider;
+
+    /**
+     * 6. 시간별 지표 집계 (Hourly Metrics Rollup)
+     * 매시 10분 (워터마크 이후 마감된 시간만 집계, 일간 리포트는 이 집계를 사용)
+     */
+    @Scheduled(cron = "0 10 * * * *", zone = "Asia/Seoul")
+    public void rollUpHourlyMetrics() {
+        var now = timeProvider.nowKst();
+        log.info("[MetricsRollupJob] Start at {}", now);
+        int hours = metricsRollupService.rollUpNewHours();
+        log.info("[MetricsRollupJob] Finished. hours={}", hours);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dorandoran.batch.repository;
+
+import com.dorandoran.batch.service.archive.ArchiveRoomRange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 아카이브 채팅방 색인 저장소 (batch_schema.archive_room_segments)
+ *
+ * 채팅방별로 어느 세그먼트의 어느 바이트 구간에 메시지가 있는지 보관
+ * 세그먼트 파일 옆 .idx.json과 같은 내용이며, 채팅방 조회 시 세그먼트를 훑지 않기 위한 용도
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveCatalogJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅방 구간 정보 (segmentPath는 아카이브 디렉터리 기준 상대 경로)
+     */
+    public record RoomSegment(String segmentPath, String compression, ArchiveRoomRange range) {
+    }
+
+    /**
+     * 세그먼트의 채팅방 구간 저장 (같은 세그먼트를 다시 기록한 경우 덮어씀)
+     */
+    public void saveSegment(String segmentPath, String compression, List<ArchiveRoomRange> ranges) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO batch_schema.archive_room_segments " +
+                "(segment_path, chatroom_id, compression, byte_offset, byte_length, row_count, min_sequence, max_sequence) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+                "ON CONFLICT (segment_path, chatroom_id) DO UPDATE SET compression = EXCLUDED.compression, " +
+                "byte_offset = EXCLUDED.byte_offset, byte_length = EXCLUDED.byte_length, row_count = EXCLUDED.row_count, " +
+                "min_sequence = EXCLUDED.min_sequence, max_sequence = EXCLUDED.max_sequence, created_at = NOW()",
+            ranges, 500, (ps, range) -> {
+                ps.setString(1, segmentPath);
+                ps.setObject(2, range.chatroomId());
+                ps.setString(3, compression);
+                ps.setLong(4, range.offset());
+                ps.setLong(5, range.length());
+                ps.setLong(6, range.rows());
+                ps.setLong(7, range.minSequence());
+                ps.setLong(8, range.maxSequence());
+            });
+    }
+
+    /**
+     * 채팅방의 아카이브 구간 (대화 순서대로)
+     */
+    public List<RoomSegment> findByChatroom(UUID chatroomId) {
+        return jdbcTemplate.query(
+            "SELECT segment_path, compression, chatroom_id, byte_offset, byte_length, row_count, min_sequence, max_sequence " +
+                "FROM batch_schema.archive_room_segments WHERE chatroom_id = ? ORDER BY min_sequence, segment_path",
+            (rs, i) -> new RoomSegment(
+                rs.getString("segment_path"),
+                rs.getString("compression"),
+                new ArchiveRoomRange(
+                    rs.getObject("chatroom_id", UUID.class),
+                    rs.getLong("byte_offset"),
+                    rs.getLong("byte_length"),
+                    rs.getLong("row_count"),
+                    rs.getLong("min_sequence"),
+                    rs.getLong("max_sequence"))),
+            chatroomId);
+    }
+
+    public int deleteByChatroom(UUID chatroomId) {
+        return jdbcTemplate.update("DELETE FROM batch_schema.archive_room_segments WHERE chatroom_id = ?", chatroomId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.dorandoran.batch.repository;
+
+import com.dorandoran.batch.service.archive.ArchiveCheckpoint;
+import com.dorandoran.batch.service.archive.ArchiveKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 아카이빙 체크포인트 저장소 (batch_schema.archive_checkpoints)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveCheckpointJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<ArchiveCheckpoint> find(String jobName) {
+        List<ArchiveCheckpoint> rows = jdbcTemplate.query(
+            "SELECT job_name, run_id, status, cutoff, source_table, last_created_at, last_id, segments_written, rows_archived " +
+                "FROM batch_schema.archive_checkpoints WHERE job_name = ?",
+            (rs, i) -> new ArchiveCheckpoint(
+                rs.getString("job_name"),
+                rs.getString("run_id"),
+                rs.getString("status"),
+                rs.getTimestamp("cutoff").toLocalDateTime(),
+                rs.getString("source_table"),
+                new ArchiveKey(rs.getTimestamp("last_created_at").toLocalDateTime(), rs.getObject("last_id", UUID.class)),
+                rs.getInt("segments_written"),
+                rs.getLong("rows_archived")),
+            jobName);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 새 실행 시작 (이전 실행 기록을 덮어씀)
+     */
+    public void start(ArchiveCheckpoint checkpoint) {
+        jdbcTemplate.update(
+            "INSERT INTO batch_schema.archive_checkpoints " +
+                "(job_name, run_id, status, cutoff, source_table, last_created_at, last_id, segments_written, rows_archived, started_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW()) " +
+                "ON CONFLICT (job_name) DO UPDATE SET run_id = EXCLUDED.run_id, status = EXCLUDED.status, " +
+                "cutoff = EXCLUDED.cutoff, source_table = EXCLUDED.source_table, " +
+                "last_created_at = EXCLUDED.last_created_at, last_id = EXCLUDED.last_id, " +
+                "segments_written = EXCLUDED.segments_written, rows_archived = EXCLUDED.rows_archived, " +
+                "started_at = NOW(), updated_at = NOW()",
+            checkpoint.jobName(), checkpoint.runId(), checkpoint.status(),
+            Timestamp.valueOf(checkpoint.cutoff()), checkpoint.sourceTable(),
+            Timestamp.valueOf(checkpoint.lastKey().createdAt()), checkpoint.lastKey().id(),
+            checkpoint.segmentsWritten(), checkpoint.rowsArchived());
+    }
+
+    /**
+     * 진행 위치/상태 갱신 (청크 삭제와 같은 트랜잭션에서 호출)
+     */
+    public void update(ArchiveCheckpoint checkpoint) {
+        jdbcTemplate.update(
+            "UPDATE batch_schema.archive_checkpoints SET status = ?, source_table = ?, last_created_at = ?, last_id = ?, " +
+                "segments_written = ?, rows_archived = ?, updated_at = NOW() WHERE job_name = ? AND run_id = ?",
+            checkpoint.status(), checkpoint.sourceTable(),
+            Timestamp.valueOf(checkpoint.lastKey().createdAt()), checkpoint.lastKey().id(),
+            checkpoint.segmentsWritten(), checkpoint.rowsArchived(),
+            checkpoint.jobName(), checkpoint.runId());
+    }
+}
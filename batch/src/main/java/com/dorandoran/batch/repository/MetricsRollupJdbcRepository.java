@@ -0,0 +1,155 @@
+package com.dorandoran.batch.repository;
+
+import com.dorandoran.batch.service.rollup.HourlyMetrics;
+import com.dorandoran.batch.service.rollup.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 시간별 지표 집계 저장소 (batch_schema.metrics_hourly, batch_schema.rollup_watermarks)
+ *
+ * 원천 테이블 집계 쿼리는 모두 [from, to) 구간을 date_trunc('hour')로 묶어 한 번에 읽음
+ */
+@Repository
+@RequiredArgsConstructor
+public class MetricsRollupJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<LocalDateTime> findWatermark(String name) {
+        List<Timestamp> rows = jdbcTemplate.queryForList(
+            "SELECT watermark FROM batch_schema.rollup_watermarks WHERE name = ?", Timestamp.class, name);
+        return rows.stream().findFirst().map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * 워터마크 저장 (뒤로 가지 않음)
+     */
+    public void saveWatermark(String name, LocalDateTime watermark) {
+        jdbcTemplate.update(
+            "INSERT INTO batch_schema.rollup_watermarks (name, watermark, updated_at) VALUES (?, ?, NOW()) " +
+                "ON CONFLICT (name) DO UPDATE SET watermark = GREATEST(batch_schema.rollup_watermarks.watermark, EXCLUDED.watermark), " +
+                "updated_at = NOW()",
+            name, Timestamp.valueOf(watermark));
+    }
+
+    /**
+     * 원천 테이블에서 [from, to) 구간의 시간별 지표를 읽어 hours에 채움 (hours에 없는 시간은 무시)
+     */
+    public void collect(LocalDateTime from, LocalDateTime to, Map<LocalDateTime, HourlyMetrics> hours) {
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(to);
+
+        jdbcTemplate.query(
+            "SELECT date_trunc('hour', created_at) AS bucket, COUNT(*) AS cnt FROM user_schema.app_user " +
+                "WHERE created_at >= ? AND created_at < ? GROUP BY 1",
+            (RowCallbackHandler) rs -> with(hours, rs, h -> h.setNewUsers(rs.getLong("cnt"))),
+            start, end);
+
+        jdbcTemplate.query(
+            "SELECT date_trunc('hour', created_at) AS bucket, COUNT(*) AS cnt, " +
+                "COALESCE(SUM(processing_time_ms), 0) AS ms_sum, COUNT(processing_time_ms) AS ms_cnt " +
+                "FROM chat_schema.messages WHERE created_at >= ? AND created_at < ? GROUP BY 1",
+            (RowCallbackHandler) rs -> with(hours, rs, h -> h.setMessages(
+                rs.getLong("cnt"), rs.getLong("ms_sum"), rs.getLong("ms_cnt"))),
+            start, end);
+
+        // 시간별로 중복 제거된 (시간, 사용자) 쌍만 읽어 스케치에 넣음
+        jdbcTemplate.query(
+            "SELECT date_trunc('hour', created_at) AS bucket, sender_id FROM chat_schema.messages " +
+                "WHERE sender_type = 'user' AND sender_id IS NOT NULL AND created_at >= ? AND created_at < ? " +
+                "GROUP BY 1, 2",
+            (RowCallbackHandler) rs -> with(hours, rs, h -> h.addActiveUser(rs.getObject("sender_id", UUID.class))),
+            start, end);
+
+        jdbcTemplate.query(
+            "SELECT date_trunc('hour', event_time) AS bucket, COALESCE(SUM(input_tokens), 0) AS input_tokens, " +
+                "COALESCE(SUM(output_tokens), 0) AS output_tokens, COALESCE(SUM(cost_in + cost_out), 0) AS cost " +
+                "FROM billing.ai_usage_events WHERE event_time >= ? AND event_time < ? GROUP BY 1",
+            (RowCallbackHandler) rs -> with(hours, rs, h -> h.setUsage(
+                rs.getLong("input_tokens"), rs.getLong("output_tokens"), rs.getBigDecimal("cost"))),
+            start, end);
+
+        jdbcTemplate.query(
+            "SELECT date_trunc('hour', last_updated) AS bucket, COUNT(*) AS cnt FROM chat_schema.intimacy_progress " +
+                "WHERE last_updated >= ? AND last_updated < ? GROUP BY 1",
+            (RowCallbackHandler) rs -> with(hours, rs, h -> h.setIntimacyUpdates(rs.getLong("cnt"))),
+            start, end);
+    }
+
+    /**
+     * 시간별 집계 저장 (같은 시간은 덮어쓰므로 다시 집계해도 결과가 같음)
+     */
+    public void upsert(Collection<HourlyMetrics> hours) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO batch_schema.metrics_hourly (bucket_start, new_users, messages, processing_ms_sum, " +
+                "processing_ms_count, input_tokens, output_tokens, cost, intimacy_updates, active_users, " +
+                "active_user_sketch, computed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " +
+                "ON CONFLICT (bucket_start) DO UPDATE SET new_users = EXCLUDED.new_users, messages = EXCLUDED.messages, " +
+                "processing_ms_sum = EXCLUDED.processing_ms_sum, processing_ms_count = EXCLUDED.processing_ms_count, " +
+                "input_tokens = EXCLUDED.input_tokens, output_tokens = EXCLUDED.output_tokens, cost = EXCLUDED.cost, " +
+                "intimacy_updates = EXCLUDED.intimacy_updates, active_users = EXCLUDED.active_users, " +
+                "active_user_sketch = EXCLUDED.active_user_sketch, computed_at = NOW()",
+            List.copyOf(hours), hours.size(), (ps, h) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(h.getBucketStart()));
+                ps.setLong(2, h.getNewUsers());
+                ps.setLong(3, h.getMessages());
+                ps.setLong(4, h.getProcessingMsSum());
+                ps.setLong(5, h.getProcessingMsCount());
+                ps.setLong(6, h.getInputTokens());
+                ps.setLong(7, h.getOutputTokens());
+                ps.setBigDecimal(8, h.getCost());
+                ps.setLong(9, h.getIntimacyUpdates());
+                ps.setLong(10, h.getActiveUsers());
+                ps.setBytes(11, h.getActiveUserSketch().toBytes());
+            });
+    }
+
+    /**
+     * [from, to) 구간의 저장된 시간별 집계 (오래된 순)
+     */
+    public List<HourlyMetrics> findRange(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            "SELECT bucket_start, new_users, messages, processing_ms_sum, processing_ms_count, input_tokens, " +
+                "output_tokens, cost, intimacy_updates, active_users, active_user_sketch " +
+                "FROM batch_schema.metrics_hourly WHERE bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start",
+            (rs, i) -> HourlyMetrics.restore(
+                rs.getTimestamp("bucket_start").toLocalDateTime(),
+                rs.getLong("new_users"),
+                rs.getLong("messages"),
+                rs.getLong("processing_ms_sum"),
+                rs.getLong("processing_ms_count"),
+                rs.getLong("input_tokens"),
+                rs.getLong("output_tokens"),
+                rs.getBigDecimal("cost"),
+                rs.getLong("intimacy_updates"),
+                rs.getLong("active_users"),
+                HyperLogLog.fromBytes(rs.getBytes("active_user_sketch"))),
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private static void with(Map<LocalDateTime, HourlyMetrics> hours, ResultSet rs, RowAction action)
+            throws SQLException {
+        HourlyMetrics hour = hours.get(rs.getTimestamp("bucket").toLocalDateTime());
+        if (hour != null) {
+            action.apply(hour);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowAction {
+        void apply(HourlyMetrics hour) throws SQLException;
+    }
+}
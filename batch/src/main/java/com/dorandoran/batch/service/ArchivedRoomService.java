@@ -0,0 +1,215 @@
+package com.dorandoran.batch.service;
+
+import com.dorandoran.batch.config.MessageArchiveConfig;
+import com.dorandoran.batch.repository.ArchiveCatalogJdbcRepository;
+import com.dorandoran.batch.repository.ArchiveCatalogJdbcRepository.RoomSegment;
+import com.dorandoran.batch.service.archive.ArchiveSegmentReader;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아카이브된 채팅방 조회/복원
+ *
+ * 채팅방 색인(archive_room_segments)으로 필요한 세그먼트 구간만 읽으므로 세그먼트 전체를 훑지 않음
+ */
+@Service
+@Slf4j
+public class ArchivedRoomService {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    // 여러 행을 한 문장으로 넣고 실제 삽입된 행만 RETURNING으로 셈
+    private static final String INSERT_PREFIX =
+        "INSERT INTO chat_schema.messages (id, chatroom_id, sender_type, sender_id, content, content_type, metadata, " +
+            "parent_message_id, sequence_number, token_count, processing_time_ms, created_at) " +
+            "SELECT v.* FROM (VALUES ";
+    private static final String INSERT_ROW =
+        "(CAST(? AS uuid), CAST(? AS uuid), CAST(? AS varchar), CAST(? AS uuid), CAST(? AS text), CAST(? AS varchar), " +
+            "CAST(? AS jsonb), CAST(? AS uuid), CAST(? AS bigint), CAST(? AS integer), CAST(? AS integer), " +
+            "CAST(? AS timestamp))";
+    private static final String INSERT_SUFFIX =
+        ") AS v (id, chatroom_id, sender_type, sender_id, content, content_type, metadata, parent_message_id, " +
+            "sequence_number, token_count, processing_time_ms, created_at) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM chat_schema.messages m " +
+            "WHERE m.chatroom_id = v.chatroom_id AND m.sequence_number = v.sequence_number) " +
+            "ON CONFLICT DO NOTHING RETURNING id";
+
+    // chat 서비스의 ChatRoomRepository.findByIdForUpdate와 같은 행 잠금 (순서 번호 채번 직렬화)
+    private static final String LOCK_ROOM_SQL = "SELECT id FROM chat_schema.chatrooms WHERE id = ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MessageArchiveConfig config;
+    private final ArchiveCatalogJdbcRepository catalogRepository;
+    private final TransactionTemplate writeTransaction;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ArchivedRoomService(JdbcTemplate jdbcTemplate,
+                               MessageArchiveConfig config,
+                               ArchiveCatalogJdbcRepository catalogRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.catalogRepository = catalogRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 채팅방 복원 결과
+     */
+    public record RehydrateResult(int segments, long archivedRows, int restored) {
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomSegment> findSegments(UUID chatroomId) {
+        return catalogRepository.findByChatroom(chatroomId);
+    }
+
+    /**
+     * 채팅방 구간들을 압축 해제하며 NDJSON 그대로 출력
+     *
+     * @return 출력한 바이트 수
+     */
+    public long writeRoom(List<RoomSegment> segments, OutputStream out) throws IOException {
+        long written = 0;
+        for (RoomSegment segment : segments) {
+            try (InputStream in = open(segment)) {
+                written += in.transferTo(out);
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    /**
+     * 아카이브된 채팅방 메시지를 chat_schema.messages로 다시 적재
+     *
+     * 이미 있는 메시지(같은 id/created_at 또는 같은 채팅방 순서 번호)는 건너뛰므로 여러 번 실행해도 안전
+     * 파티션 테이블에는 (chatroom_id, sequence_number) 유일 제약이 없으므로, chat 서비스와 같은 채팅방 행 잠금을 잡고 적재
+     * INSERT_BATCH_SIZE 단위로 커밋하므로 채팅방 잠금과 트랜잭션이 짧고, 중간에 실패하면 다시 실행해 이어서 복원
+     * 모든 구간을 적재한 뒤 채팅방 색인을 지워 조회 결과가 라이브 테이블과 중복되지 않게 함
+     *
+     * 복원은 일시적: 복원한 메시지도 created_at은 원래 값이므로 보관 기간이 지난 메시지는
+     * 다음 아카이빙 실행(매일 04:00 KST)에서 새 세그먼트로 다시 아카이빙되고 라이브 테이블에서 삭제됨
+     * (메시지는 유실되지 않고 채팅방 색인도 새로 생기므로 조회 API로 계속 읽을 수 있음)
+     */
+    public RehydrateResult rehydrateRoom(UUID chatroomId) {
+        List<RoomSegment> segments = catalogRepository.findByChatroom(chatroomId);
+        if (segments.isEmpty()) {
+            return new RehydrateResult(0, 0, 0);
+        }
+
+        long archivedRows = 0;
+        int restored = 0;
+        List<Map<String, Object>> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (RoomSegment segment : segments) {
+            archivedRows += segment.range().rows();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(segment), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    batch.add(objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {}));
+                    if (batch.size() >= INSERT_BATCH_SIZE) {
+                        restored += insertBatch(chatroomId, batch);
+                        batch.clear();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read archive segment " + segment.segmentPath(), e);
+            }
+        }
+        if (!batch.isEmpty()) {
+            restored += insertBatch(chatroomId, batch);
+        }
+        writeTransaction.executeWithoutResult(status -> catalogRepository.deleteByChatroom(chatroomId));
+
+        log.info("[ArchivedRoomService] Rehydrated chatroom {} from {} segments: archived = {}, restored = {}",
+            chatroomId, segments.size(), archivedRows, restored);
+        return new RehydrateResult(segments.size(), archivedRows, restored);
+    }
+
+    private InputStream open(RoomSegment segment) throws IOException {
+        Path path = Path.of(config.getArchiveDir()).resolve(segment.segmentPath()).normalize();
+        if (!Files.isRegularFile(path)) {
+            throw new IOException("Archive segment not found: " + path.toAbsolutePath());
+        }
+        return ArchiveSegmentReader.openRange(path, segment.range().offset(), segment.range().length(),
+            "gzip".equals(segment.compression()));
+    }
+
+    /**
+     * 묶음 1개를 채팅방 잠금 아래 한 트랜잭션으로 적재
+     *
+     * @return 실제로 삽입된 행 수
+     */
+    private int insertBatch(UUID chatroomId, List<Map<String, Object>> rows) {
+        Integer inserted = writeTransaction.execute(status -> {
+            jdbcTemplate.queryForList(LOCK_ROOM_SQL, UUID.class, chatroomId);
+            return insert(rows);
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private int insert(List<Map<String, Object>> rows) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), INSERT_ROW)) + INSERT_SUFFIX;
+        List<UUID> inserted = jdbcTemplate.query(sql, ps -> {
+            int i = 1;
+            for (Map<String, Object> row : rows) {
+                ps.setObject(i++, uuid(row.get("id")));
+                ps.setObject(i++, uuid(row.get("chatroom_id")));
+                ps.setString(i++, (String) row.get("sender_type"));
+                ps.setObject(i++, uuid(row.get("sender_id")));
+                ps.setString(i++, (String) row.get("content"));
+                ps.setString(i++, (String) row.get("content_type"));
+                ps.setString(i++, row.get("metadata") != null ? row.get("metadata").toString() : null);
+                ps.setObject(i++, uuid(row.get("parent_message_id")));
+                ps.setLong(i++, ((Number) row.get("sequence_number")).longValue());
+                ps.setObject(i++, row.get("token_count") != null ? ((Number) row.get("token_count")).intValue() : null);
+                ps.setObject(i++, row.get("processing_time_ms") != null ? ((Number) row.get("processing_time_ms")).intValue() : null);
+                ps.setTimestamp(i++, timestamp(row.get("created_at")));
+            }
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+        return inserted.size();
+    }
+
+    private static UUID uuid(Object value) {
+        return value != null ? UUID.fromString(value.toString()) : null;
+    }
+
+    /**
+     * 아카이빙 시 Jackson 기본 직렬화로 created_at이 epoch 밀리초로 기록됨
+     */
+    private static Timestamp timestamp(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number number) {
+            return new Timestamp(number.longValue());
+        }
+        return Timestamp.valueOf(LocalDateTime.parse(value.toString()));
+    }
+}
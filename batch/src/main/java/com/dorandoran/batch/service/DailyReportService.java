@@ -1,5 +1,6 @@
 package com.dorandoran.batch.service;
 
+import com.dorandoran.batch.service.MetricsRollupService.MetricsReport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,12 +19,19 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 일간 통계 리포트
+ *
+ * 시간별 집계(metrics_hourly)가 전날 끝까지 채워져 있으면 집계를 합쳐 만들고,
+ * 아직 집계되지 않았으면 원천 테이블을 직접 집계
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DailyReportService {
 
     private final JdbcTemplate jdbcTemplate;
+    private final MetricsRollupService metricsRollupService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Transactional(readOnly = true)
@@ -33,6 +41,31 @@ public class DailyReportService {
         LocalDateTime start = yesterday.atStartOfDay();
         LocalDateTime end = today.atStartOfDay();
 
+        if (metricsRollupService.isRolledUpTo(end)) {
+            return fromRollups(yesterday, metricsRollupService.report(start, end));
+        }
+        log.warn("[DailyReportService] Hourly rollups not complete up to {}, aggregating source tables", end);
+        return fromSourceTables(yesterday, start, end);
+    }
+
+    /**
+     * 구간 리포트를 기존 일간 리포트 형식으로 변환 (dau는 시간별 스케치를 합친 추정값)
+     */
+    private Map<String, Object> fromRollups(LocalDate date, MetricsReport rollup) {
+        Map<String, Object> report = new HashMap<>();
+        report.put("date", date.format(DateTimeFormatter.ISO_DATE));
+        report.put("new_users", rollup.newUsers());
+        report.put("dau", rollup.activeUsers());
+        report.put("total_messages", rollup.messages());
+        report.put("avg_processing_ms", rollup.avgProcessingMs());
+        report.put("input_tokens", rollup.inputTokens());
+        report.put("output_tokens", rollup.outputTokens());
+        report.put("cost_usd", rollup.cost().doubleValue());
+        report.put("intimacy_updates", rollup.intimacyUpdates());
+        return report;
+    }
+
+    private Map<String, Object> fromSourceTables(LocalDate yesterday, LocalDateTime start, LocalDateTime end) {
         Map<String, Object> report = new HashMap<>();
         report.put("date", yesterday.format(DateTimeFormatter.ISO_DATE));
 
@@ -68,25 +101,16 @@ public class DailyReportService {
         report.put("input_tokens", inputTokens == null ? 0L : inputTokens);
         report.put("output_tokens", outputTokens == null ? 0L : outputTokens);
 
-        // 비용 항목은 스키마 의존적이므로 선택: 존재시 합계, 없으면 0
-        try {
-            Double costUsd = jdbcTemplate.queryForObject(
-                "SELECT COALESCE(SUM(cost_usd),0) FROM billing.ai_usage_events WHERE event_time >= ? AND event_time < ?",
-                Double.class, start, end);
-            report.put("cost_usd", costUsd == null ? 0.0 : costUsd);
-        } catch (Exception e) {
-            report.put("cost_usd", 0.0);
-        }
+        // 비용 합계 (입력 + 출력 비용)
+        Double costUsd = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(cost_in + cost_out),0) FROM billing.ai_usage_events WHERE event_time >= ? AND event_time < ?",
+            Double.class, start, end);
+        report.put("cost_usd", costUsd == null ? 0.0 : costUsd);
 
         // 친밀도 레벨 변화 추이: 전날 업데이트 건수
-        Integer intimacyUpdates = 0;
-        try {
-            intimacyUpdates = jdbcTemplate.queryForObject(
-                "SELECT COUNT(*) FROM chat_schema.intimacy_progress WHERE updated_at >= ? AND updated_at < ?",
-                Integer.class, start, end);
-        } catch (Exception ignore) {
-            // 컬럼 미존재 시 0
-        }
+        Integer intimacyUpdates = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM chat_schema.intimacy_progress WHERE last_updated >= ? AND last_updated < ?",
+            Integer.class, start, end);
         report.put("intimacy_updates", intimacyUpdates == null ? 0 : intimacyUpdates);
 
         return report;
@@ -1,60 +1,303 @@
 package com.dorandoran.batch.service;
 
+import com.dorandoran.batch.config.MessageArchiveConfig;
+import com.dorandoran.batch.config.MessagePartitionConfig;
+import com.dorandoran.batch.repository.ArchiveCatalogJdbcRepository;
+import com.dorandoran.batch.repository.ArchiveCheckpointJdbcRepository;
+import com.dorandoran.batch.service.MessagePartitionService.MessagePartition;
+import com.dorandoran.batch.service.archive.ArchiveCheckpoint;
+import com.dorandoran.batch.service.archive.ArchiveKey;
+import com.dorandoran.batch.service.archive.ArchiveSegment;
+import com.dorandoran.batch.service.archive.ArchiveSegmentWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MessageArchivingService {
 
+    static final String JOB_NAME = "message-archive";
+
+    private static final String SELECT_CHUNK_SQL =
+        "SELECT id, chatroom_id, sender_type, sender_id, content, content_type, metadata::text AS metadata, " +
+            "parent_message_id, sequence_number, token_count, processing_time_ms, created_at " +
+            "FROM chat_schema.%s " +
+            "WHERE created_at < ? AND (created_at, id) > (?, ?) " +
+            "ORDER BY created_at, id LIMIT ?";
+
     private final JdbcTemplate jdbcTemplate;
+    private final MessageArchiveConfig config;
+    private final ArchiveCheckpointJdbcRepository checkpointRepository;
+    private final ArchiveCatalogJdbcRepository catalogRepository;
+    private final MessagePartitionService partitionService;
+    private final MessagePartitionConfig partitionConfig;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+
+    private final Counter rowsCounter;
+    private final Counter segmentsCounter;
+    private final Counter partitionsDroppedCounter;
+    private final Timer chunkTimer;
+
+    public MessageArchivingService(JdbcTemplate jdbcTemplate,
+                                   MessageArchiveConfig config,
+                                   ArchiveCheckpointJdbcRepository checkpointRepository,
+                                   ArchiveCatalogJdbcRepository catalogRepository,
+                                   MessagePartitionService partitionService,
+                                   MessagePartitionConfig partitionConfig,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.checkpointRepository = checkpointRepository;
+        this.catalogRepository = catalogRepository;
+        this.partitionService = partitionService;
+        this.partitionConfig = partitionConfig;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+
+        this.rowsCounter = Counter.builder("batch.message.archive.rows")
+            .description("세그먼트에 기록 후 삭제된 메시지 수")
+            .register(meterRegistry);
+        this.segmentsCounter = Counter.builder("batch.message.archive.segments")
+            .register(meterRegistry);
+        this.partitionsDroppedCounter = Counter.builder("batch.message.archive.partitions.dropped")
+            .description("아카이빙 후 통째로 삭제한 월 파티션 수")
+            .register(meterRegistry);
+        this.chunkTimer = Timer.builder("batch.message.archive.chunk")
+            .description("청크 1개 조회/기록/삭제 소요 시간")
+            .register(meterRegistry);
+    }
 
     /**
-     * 6개월 이상 지난 메시지를 NDJSON로 백업 후 삭제
+     * 보관 기간이 지난 메시지를 압축 NDJSON 세그먼트로 백업 후 삭제
+     *
+     * (created_at, id) 키셋 순서로 chunkSize씩 커서 조회하여 세그먼트 1개에 기록하고,
+     * 세그먼트가 디스크에 확정된 뒤에만 해당 행 삭제 + 채팅방 색인 저장 + 체크포인트 갱신을 짧은 트랜잭션 하나로 처리
+     * 월 파티션 전체가 cutoff 이전이면 먼저 떼어 내(이후 쓰기가 들어오지 않음) 같은 방식으로 기록한 뒤,
+     * 행 단위 삭제 없이 테이블을 통째로 삭제
+     * 중단되면 다음 실행에서 같은 cutoff/테이블/위치부터 이어서 진행 (마지막 세그먼트는 같은 이름으로 다시 기록)
      */
-    @Transactional
     public int archiveMessagesOlderThan6Months() {
-        String selectSql = "SELECT id, chatroom_id, sender_type, sender_id, content, content_type, metadata, parent_message_id, sequence_number, token_count, processing_time_ms, created_at " +
-                "FROM chat_schema.messages WHERE created_at < NOW() - INTERVAL '6 months'";
-        List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql);
-        if (rows.isEmpty()) {
-            log.info("[MessageArchivingService] No messages older than 6 months");
-            return 0;
+        ArchiveCheckpoint resumed = checkpointRepository.find(JOB_NAME)
+            .filter(ArchiveCheckpoint::isRunning)
+            .orElseGet(this::startRun);
+        if (resumed.segmentsWritten() > 0 || !MessagePartitionService.PARENT_TABLE.equals(resumed.sourceTable())) {
+            log.info("[MessageArchivingService] Resuming run {} at {} after {} segments ({} rows)",
+                resumed.runId(), resumed.sourceTable(), resumed.segmentsWritten(), resumed.rowsArchived());
         }
 
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
-        File outFile = new File("./archives/messages-6m-" + timestamp + ".ndjson");
-        outFile.getParentFile().mkdirs();
+        ArchiveRun run = new ArchiveRun(resumed, Path.of(config.getArchiveDir(), resumed.runId()));
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(outFile, StandardCharsets.UTF_8, false))) {
-            for (Map<String, Object> row : rows) {
-                String json = objectMapper.writeValueAsString(row);
-                writer.write(json);
-                writer.newLine();
+        // 1) 이전 실행에서 떼어 낸 파티션 마무리, 2) cutoff 이전 월 파티션 통째로 처리
+        if (!MessagePartitionService.PARENT_TABLE.equals(run.checkpoint.sourceTable())) {
+            archiveDetachedPartition(run);
+        }
+        if (partitionConfig.isDropArchivedPartitions()) {
+            for (MessagePartition partition : expiredPartitions(run.checkpoint.cutoff())) {
+                ArchiveCheckpoint detached = run.checkpoint.withSource(partition.name());
+                writeTransaction.executeWithoutResult(status -> {
+                    partitionService.detach(partition.name());
+                    checkpointRepository.update(detached);
+                });
+                run.checkpoint = detached;
+                archiveDetachedPartition(run);
             }
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to write archive file", e);
         }
 
-        String deleteSql = "DELETE FROM chat_schema.messages WHERE created_at < NOW() - INTERVAL '6 months'";
-        int deleted = jdbcTemplate.update(deleteSql);
-        log.info("[MessageArchivingService] Archived to {} and deleted messages = {}", outFile.getAbsolutePath(), deleted);
-        return deleted;
+        // 3) 나머지(cutoff가 걸친 파티션, default 파티션)는 행 단위로 기록 후 삭제
+        archiveTable(run, true);
+
+        ArchiveCheckpoint completed = run.checkpoint.complete();
+        checkpointRepository.update(completed);
+
+        if (completed.rowsArchived() == 0) {
+            log.info("[MessageArchivingService] No messages older than {}", config.getRetention());
+        } else {
+            log.info("[MessageArchivingService] Archived to {} segments = {}, rows = {} (this run = {})",
+                run.runDir.toAbsolutePath(), completed.segmentsWritten(), completed.rowsArchived(), run.archived);
+        }
+        return (int) run.archived;
+    }
+
+    /**
+     * 떼어 낸 파티션을 끝까지 기록한 뒤 삭제하고 messages 처음 위치로 돌아감
+     */
+    private void archiveDetachedPartition(ArchiveRun run) {
+        String partition = run.checkpoint.sourceTable();
+        archiveTable(run, false);
+
+        ArchiveCheckpoint back = run.checkpoint.withSource(MessagePartitionService.PARENT_TABLE);
+        writeTransaction.executeWithoutResult(status -> {
+            partitionService.drop(partition);
+            checkpointRepository.update(back);
+        });
+        run.checkpoint = back;
+        partitionsDroppedCounter.increment();
+    }
+
+    private void archiveTable(ArchiveRun run, boolean deleteRows) {
+        while (true) {
+            ArchiveCheckpoint current = run.checkpoint;
+            ArchiveCheckpoint next = chunkTimer.record(() -> archiveChunk(current, run.runDir, deleteRows));
+            if (next == null) {
+                return;
+            }
+            run.archived += next.rowsArchived() - current.rowsArchived();
+            run.checkpoint = next;
+            throttle(run.archived, run.startedAt);
+        }
+    }
+
+    /**
+     * 범위 전체가 cutoff 이전인 월 파티션 (오래된 순)
+     */
+    private List<MessagePartition> expiredPartitions(LocalDateTime cutoff) {
+        return partitionService.findPartitions().stream()
+            .filter(partition -> !partition.to().atStartOfDay().isAfter(cutoff))
+            .toList();
+    }
+
+    private ArchiveCheckpoint startRun() {
+        String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        LocalDateTime cutoff = LocalDateTime.now().minus(config.getRetention());
+        ArchiveCheckpoint checkpoint = new ArchiveCheckpoint(JOB_NAME, runId, ArchiveCheckpoint.RUNNING,
+            cutoff, MessagePartitionService.PARENT_TABLE, ArchiveKey.START, 0, 0);
+        checkpointRepository.start(checkpoint);
+        return checkpoint;
+    }
+
+    /**
+     * 청크 1개 아카이빙
+     *
+     * @param deleteRows false면 행을 지우지 않음 (떼어 낸 파티션은 끝난 뒤 테이블째 삭제)
+     * @return 갱신된 체크포인트, 더 이상 대상이 없으면 null
+     */
+    private ArchiveCheckpoint archiveChunk(ArchiveCheckpoint checkpoint, Path runDir, boolean deleteRows) {
+        String selectSql = SELECT_CHUNK_SQL.formatted(MessagePartitionService.checked(checkpoint.sourceTable()));
+        int sequence = checkpoint.segmentsWritten() + 1;
+        List<UUID> ids = new ArrayList<>(config.getChunkSize());
+        ArchiveSegment segment;
+
+        boolean gzip = "gzip".equalsIgnoreCase(config.getCompression());
+        try (ArchiveSegmentWriter writer = new ArchiveSegmentWriter(runDir, "messages-" + checkpoint.runId(),
+                sequence, gzip, objectMapper)) {
+            // PostgreSQL은 트랜잭션 안에서만 fetchSize 단위 커서 조회를 하므로 읽기 전용 트랜잭션으로 감쌈
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(selectSql);
+                ps.setFetchSize(config.getFetchSize());
+                ps.setTimestamp(1, Timestamp.valueOf(checkpoint.cutoff()));
+                ps.setTimestamp(2, Timestamp.valueOf(checkpoint.lastKey().createdAt()));
+                ps.setObject(3, checkpoint.lastKey().id());
+                ps.setInt(4, config.getChunkSize());
+                return ps;
+            }, rs -> {
+                Map<String, Object> row = rowMapper.mapRow(rs, ids.size());
+                UUID id = rs.getObject("id", UUID.class);
+                ArchiveKey key = new ArchiveKey(rs.getTimestamp("created_at").toLocalDateTime(), id);
+                try {
+                    writer.write(row, key, rs.getObject("chatroom_id", UUID.class), rs.getLong("sequence_number"));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                ids.add(id);
+            }));
+
+            if (ids.isEmpty()) {
+                return null;
+            }
+            segment = writer.commit();
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Failed to write archive segment " + sequence, e);
+        }
+
+        // 세그먼트가 디스크에 확정된 뒤에만 삭제
+        ArchiveCheckpoint next = checkpoint.advance(segment.lastKey(), segment.rows());
+        writeTransaction.executeWithoutResult(status -> {
+            if (deleteRows) {
+                deleteChunk(segment, ids);
+            }
+            catalogRepository.saveSegment(checkpoint.runId() + "/" + segment.fileName(),
+                gzip ? "gzip" : "none", segment.rooms());
+            checkpointRepository.update(next);
+        });
+
+        rowsCounter.increment(segment.rows());
+        segmentsCounter.increment();
+        log.debug("[MessageArchivingService] Segment {} from {} rows = {}, bytes = {}, sha256 = {}",
+            segment.fileName(), checkpoint.sourceTable(), segment.rows(), segment.bytes(), segment.sha256());
+        return next;
+    }
+
+    private void deleteChunk(ArchiveSegment segment, List<UUID> ids) {
+        int deleted = jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("DELETE FROM chat_schema.messages WHERE id = ANY(?)");
+            ps.setArray(1, con.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        });
+        if (deleted != ids.size()) {
+            log.warn("[MessageArchivingService] Segment {} archived {} rows but deleted {}",
+                segment.fileName(), ids.size(), deleted);
+        }
+    }
+
+    /**
+     * 누적 처리량이 maxRowsPerSecond를 넘지 않도록 대기
+     */
+    private void throttle(long archived, long startedAt) {
+        long maxRowsPerSecond = config.getMaxRowsPerSecond();
+        if (maxRowsPerSecond <= 0) {
+            return;
+        }
+        long expectedMillis = archived * 1000 / maxRowsPerSecond;
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        if (expectedMillis > elapsedMillis) {
+            try {
+                Thread.sleep(expectedMillis - elapsedMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Message archiving interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * 실행 1회의 진행 상태
+     */
+    private static final class ArchiveRun {
+        final Path runDir;
+        final long startedAt = System.nanoTime();
+        ArchiveCheckpoint checkpoint;
+        long archived;
+
+        ArchiveRun(ArchiveCheckpoint checkpoint, Path runDir) {
+            this.checkpoint = checkpoint;
+            this.runDir = runDir;
+        }
     }
 
     /**
@@ -0,0 +1,156 @@
+package com.dorandoran.batch.service;
+
+import com.dorandoran.batch.config.MessagePartitionConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * chat_schema.messages 월별 범위 파티션 관리
+ *
+ * 파티션 이름은 messages_YYYY_MM이고 범위는 [해당 월 1일, 다음 달 1일)
+ * 이 형식이 아닌 파티션(messages_default 등)은 관리 대상이 아님
+ */
+@Service
+@Slf4j
+public class MessagePartitionService {
+
+    public static final String PARENT_TABLE = "messages";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("messages_(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MessagePartitionConfig config;
+    private final TransactionTemplate transactionTemplate;
+
+    public MessagePartitionService(JdbcTemplate jdbcTemplate,
+                                   MessagePartitionConfig config,
+                                   PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 월 파티션 (to는 제외)
+     */
+    public record MessagePartition(String name, LocalDate from, LocalDate to) {
+    }
+
+    /**
+     * 현재 붙어 있는 월 파티션 (오래된 순)
+     */
+    @Transactional(readOnly = true)
+    public List<MessagePartition> findPartitions() {
+        List<String> names = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "JOIN pg_namespace n ON n.oid = p.relnamespace " +
+                "WHERE n.nspname = 'chat_schema' AND p.relname = ?",
+            String.class, PARENT_TABLE);
+
+        List<MessagePartition> partitions = new ArrayList<>();
+        for (String name : names) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+                partitions.add(new MessagePartition(name, month.atDay(1), month.plusMonths(1).atDay(1)));
+            }
+        }
+        partitions.sort(Comparator.comparing(MessagePartition::from));
+        return partitions;
+    }
+
+    /**
+     * 이번 달(zone 기준)부터 monthsAhead개월 뒤까지 없는 파티션 생성
+     *
+     * @return 새로 만든 파티션 수
+     */
+    public int ensureFuturePartitions(ZoneId zone) {
+        YearMonth current = YearMonth.now(zone);
+        List<String> existing = findPartitions().stream().map(MessagePartition::name).toList();
+        int created = 0;
+        for (int i = 0; i <= config.getMonthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(partitionName(month))) {
+                createPartition(month);
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 월 파티션 생성
+     *
+     * 단독 테이블로 만든 뒤 default 파티션에 들어가 있던 해당 월 행을 옮기고 붙임
+     * (default 파티션에 해당 범위 행이 있으면 PARTITION OF로 바로 만들 수 없음)
+     */
+    public void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        Integer moved = transactionTemplate.execute(status -> movePartition(name, from, to));
+        if (moved != null && moved > 0) {
+            log.warn("[MessagePartitionService] Created partition {} and moved {} rows out of messages_default", name, moved);
+        } else {
+            log.info("[MessagePartitionService] Created partition {} [{}, {})", name, from, to);
+        }
+    }
+
+    private int movePartition(String name, LocalDate from, LocalDate to) {
+        jdbcTemplate.execute("CREATE TABLE chat_schema." + name +
+            " (LIKE chat_schema." + PARENT_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update(
+            "WITH moved AS (DELETE FROM chat_schema.messages_default WHERE created_at >= ? AND created_at < ? RETURNING *) " +
+                "INSERT INTO chat_schema." + name + " SELECT * FROM moved",
+            Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+        jdbcTemplate.execute("ALTER TABLE chat_schema." + PARENT_TABLE + " ATTACH PARTITION chat_schema." + name +
+            " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        return moved;
+    }
+
+    /**
+     * 파티션을 messages에서 떼어 냄 (이후 해당 범위로 들어오는 행은 default 파티션으로 감)
+     */
+    public void detach(String partition) {
+        jdbcTemplate.execute("ALTER TABLE chat_schema." + PARENT_TABLE + " DETACH PARTITION chat_schema." + checked(partition));
+        log.info("[MessagePartitionService] Detached partition {}", partition);
+    }
+
+    public void drop(String partition) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS chat_schema." + checked(partition));
+        log.info("[MessagePartitionService] Dropped partition {}", partition);
+    }
+
+    /**
+     * SQL에 그대로 넣는 테이블 이름 검증 (messages 또는 월 파티션만 허용)
+     */
+    public static String checked(String table) {
+        if (!PARENT_TABLE.equals(table) && !PARTITION_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException("Not a messages table: " + table);
+        }
+        return table;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "messages_" + month.format(NAME_FORMAT);
+    }
+}
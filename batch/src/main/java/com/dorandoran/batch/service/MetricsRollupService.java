@@ -0,0 +1,233 @@
+package com.dorandoran.batch.service;
+
+import com.dorandoran.batch.common.TimeProvider;
+import com.dorandoran.batch.config.MessageArchiveConfig;
+import com.dorandoran.batch.config.MetricsRollupConfig;
+import com.dorandoran.batch.repository.MetricsRollupJdbcRepository;
+import com.dorandoran.batch.service.rollup.HourlyMetrics;
+import com.dorandoran.batch.service.rollup.HyperLogLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시간별 지표 집계(롤업) 유지 및 구간 리포트
+ *
+ * 워터마크(집계가 끝난 마지막 시각) 이후 마감된 시간만 원천 테이블에서 읽어 batch_schema.metrics_hourly에 저장
+ * 시간 단위로 통째로 다시 계산해 덮어쓰므로 같은 시간을 여러 번 집계해도(재실행, 백필) 결과가 같음
+ * 일/주/임의 구간 리포트는 원천 테이블을 보지 않고 시간별 집계를 합쳐 만듦
+ */
+@Service
+@Slf4j
+public class MetricsRollupService {
+
+    static final String WATERMARK_NAME = "metrics_hourly";
+
+    private final MetricsRollupJdbcRepository rollupRepository;
+    private final MetricsRollupConfig config;
+    private final MessageArchiveConfig archiveConfig;
+    private final TimeProvider timeProvider;
+    private final TransactionTemplate writeTransaction;
+    private final AtomicBoolean backfillRunning = new AtomicBoolean();
+
+    private final Counter hoursCounter;
+
+    public MetricsRollupService(MetricsRollupJdbcRepository rollupRepository,
+                                MetricsRollupConfig config,
+                                MessageArchiveConfig archiveConfig,
+                                TimeProvider timeProvider,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.rollupRepository = rollupRepository;
+        this.config = config;
+        this.archiveConfig = archiveConfig;
+        this.timeProvider = timeProvider;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+
+        this.hoursCounter = Counter.builder("batch.metrics.rollup.hours")
+            .description("원천 테이블에서 다시 집계한 시간 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 구간 리포트 (to는 제외)
+     *
+     * activeUsers는 1시간 구간이면 정확한 값, 그보다 길면 시간별 스케치를 합친 추정값
+     * complete가 false면 구간 끝까지 아직 집계되지 않아 rolledUpUntil 이후 값이 빠져 있음
+     */
+    public record MetricsReport(LocalDateTime from, LocalDateTime to, int hours, LocalDateTime rolledUpUntil,
+                                boolean complete, long newUsers, long activeUsers, long messages,
+                                double avgProcessingMs, long inputTokens, long outputTokens, BigDecimal cost,
+                                long intimacyUpdates) {
+    }
+
+    /**
+     * 워터마크 이후 마감된 시간 집계 (스케줄 작업)
+     *
+     * @return 집계한 시간 수
+     */
+    public int rollUpNewHours() {
+        LocalDateTime closedUntil = closedUntil();
+        LocalDateTime watermark = rollupRepository.findWatermark(WATERMARK_NAME)
+            .orElseGet(() -> closedUntil.truncatedTo(ChronoUnit.DAYS).minus(config.getInitialLookback()));
+
+        int rolled = 0;
+        LocalDateTime from = watermark;
+        while (from.isBefore(closedUntil)) {
+            LocalDateTime to = min(from.plusHours(Math.max(1, config.getHoursPerStep())), closedUntil);
+            LocalDateTime stepFrom = from;
+            rolled += writeTransaction.execute(status -> {
+                int hours = rollUp(stepFrom, to);
+                rollupRepository.saveWatermark(WATERMARK_NAME, to);
+                return hours;
+            });
+            from = to;
+        }
+        if (rolled > 0) {
+            log.info("[MetricsRollupService] Rolled up {} hours [{}, {})", rolled, watermark, closedUntil);
+        }
+        return rolled;
+    }
+
+    /**
+     * [from, to) 구간 다시 집계 (이력 채우기/보정용, 마감되지 않은 시간은 제외)
+     *
+     * 워터마크는 움직이지 않음 (워터마크 이후 시간은 다음 스케줄 실행에서 어차피 다시 집계됨)
+     * 메시지 보관 기간 이전 시간은 메시지가 아카이빙 후 삭제되었으므로 다시 집계하지 않음
+     * (시간 단위로 덮어쓰므로 집계하면 기존의 올바른 메시지 지표가 0으로 바뀜)
+     *
+     * @return 집계한 시간 수
+     */
+    public int backfill(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime retained = archiveCutoff();
+        if (start.isBefore(retained)) {
+            log.warn("[MetricsRollupService] Backfill start {} is before message retention, starting at {}", start, retained);
+            start = retained;
+        }
+        LocalDateTime end = min(ceilHour(to), closedUntil());
+
+        int rolled = 0;
+        LocalDateTime stepFrom = start;
+        while (stepFrom.isBefore(end)) {
+            LocalDateTime stepTo = min(stepFrom.plusHours(Math.max(1, config.getHoursPerStep())), end);
+            LocalDateTime current = stepFrom;
+            rolled += writeTransaction.execute(status -> rollUp(current, stepTo));
+            stepFrom = stepTo;
+        }
+        log.info("[MetricsRollupService] Backfilled {} hours [{}, {})", rolled, start, end);
+        return rolled;
+    }
+
+    /**
+     * 백필을 별도 스레드에서 시작 (이미 실행 중이면 false)
+     */
+    public boolean startBackfill(LocalDateTime from, LocalDateTime to) {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread.ofVirtual().name("metrics-backfill").start(() -> {
+            try {
+                backfill(from, to);
+            } catch (Exception e) {
+                log.error("[MetricsRollupService] Backfill [{}, {}) failed", from, to, e);
+            } finally {
+                backfillRunning.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 시간별 집계를 합친 구간 리포트 (from/to는 시간 단위로 맞춤)
+     */
+    public MetricsReport report(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = ceilHour(to);
+        List<HourlyMetrics> hours = rollupRepository.findRange(start, end);
+        Optional<LocalDateTime> watermark = rollupRepository.findWatermark(WATERMARK_NAME);
+
+        long newUsers = 0, messages = 0, processingMsSum = 0, processingMsCount = 0;
+        long inputTokens = 0, outputTokens = 0, intimacyUpdates = 0, activeUsersSum = 0, activeUsersMax = 0;
+        BigDecimal cost = BigDecimal.ZERO;
+        HyperLogLog activeUsers = HyperLogLog.create(config.getSketchPrecision());
+        for (HourlyMetrics hour : hours) {
+            newUsers += hour.getNewUsers();
+            messages += hour.getMessages();
+            processingMsSum += hour.getProcessingMsSum();
+            processingMsCount += hour.getProcessingMsCount();
+            inputTokens += hour.getInputTokens();
+            outputTokens += hour.getOutputTokens();
+            cost = cost.add(hour.getCost());
+            intimacyUpdates += hour.getIntimacyUpdates();
+            activeUsersSum += hour.getActiveUsers();
+            activeUsersMax = Math.max(activeUsersMax, hour.getActiveUsers());
+            activeUsers.merge(hour.getActiveUserSketch());
+        }
+        // 합집합은 가장 큰 시간 값 이상, 시간별 합 이하이므로 추정 오차를 그 범위로 자름
+        long activeUserCount = hours.size() == 1
+            ? activeUsersSum
+            : Math.max(activeUsersMax, Math.min(activeUsersSum, activeUsers.estimate()));
+
+        return new MetricsReport(start, end, hours.size(), watermark.orElse(null),
+            watermark.map(w -> !w.isBefore(end)).orElse(false),
+            newUsers, activeUserCount, messages,
+            processingMsCount == 0 ? 0.0 : (double) processingMsSum / processingMsCount,
+            inputTokens, outputTokens, cost, intimacyUpdates);
+    }
+
+    /**
+     * [from, to) 구간이 모두 집계되었는지
+     */
+    public boolean isRolledUpTo(LocalDateTime to) {
+        return rollupRepository.findWatermark(WATERMARK_NAME)
+            .map(watermark -> !watermark.isBefore(to))
+            .orElse(false);
+    }
+
+    private int rollUp(LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, HourlyMetrics> hours = new LinkedHashMap<>();
+        for (LocalDateTime hour = from; hour.isBefore(to); hour = hour.plusHours(1)) {
+            hours.put(hour, new HourlyMetrics(hour, config.getSketchPrecision()));
+        }
+        rollupRepository.collect(from, to, hours);
+        rollupRepository.upsert(hours.values());
+        hoursCounter.increment(hours.size());
+        return hours.size();
+    }
+
+    /**
+     * 이 시각 이전의 시간은 마감됨 (늦게 커밋되는 행을 위해 settleDelay만큼 늦춤)
+     */
+    private LocalDateTime closedUntil() {
+        return timeProvider.nowKst().toLocalDateTime().minus(config.getSettleDelay()).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    /**
+     * 이 시각 이후의 메시지는 아직 아카이빙되지 않음 (아카이빙 cutoff = 현재 - 보관 기간, 시간 단위로 올림)
+     */
+    private LocalDateTime archiveCutoff() {
+        return ceilHour(timeProvider.nowKst().toLocalDateTime().minus(archiveConfig.getRetention()));
+    }
+
+    private static LocalDateTime ceilHour(LocalDateTime time) {
+        LocalDateTime truncated = time.truncatedTo(ChronoUnit.HOURS);
+        return truncated.equals(time) ? time : truncated.plusHours(1);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
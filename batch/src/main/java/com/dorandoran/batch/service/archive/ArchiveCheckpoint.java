@@ -0,0 +1,42 @@
+package com.dorandoran.batch.service.archive;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아카이빙 진행 체크포인트 (세그먼트 기록 + 삭제가 끝난 위치)
+ * status가 RUNNING이면 중단된 실행으로 보고 같은 cutoff/위치에서 이어서 진행
+ * sourceTable은 현재 훑고 있는 테이블 (messages 또는 떼어 낸 월 파티션), lastKey는 그 테이블 안의 위치
+ */
+public record ArchiveCheckpoint(
+    String jobName,
+    String runId,
+    String status,
+    LocalDateTime cutoff,
+    String sourceTable,
+    ArchiveKey lastKey,
+    int segmentsWritten,
+    long rowsArchived
+) {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+
+    public boolean isRunning() {
+        return RUNNING.equals(status);
+    }
+
+    public ArchiveCheckpoint advance(ArchiveKey key, long rows) {
+        return new ArchiveCheckpoint(jobName, runId, status, cutoff, sourceTable, key, segmentsWritten + 1, rowsArchived + rows);
+    }
+
+    /**
+     * 다른 테이블을 처음부터 훑기 시작
+     */
+    public ArchiveCheckpoint withSource(String table) {
+        return new ArchiveCheckpoint(jobName, runId, status, cutoff, table, ArchiveKey.START, segmentsWritten, rowsArchived);
+    }
+
+    public ArchiveCheckpoint complete() {
+        return new ArchiveCheckpoint(jobName, runId, COMPLETED, cutoff, sourceTable, lastKey, segmentsWritten, rowsArchived);
+    }
+}
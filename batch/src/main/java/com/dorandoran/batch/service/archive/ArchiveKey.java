@@ -0,0 +1,15 @@
+package com.dorandoran.batch.service.archive;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 아카이빙 키셋 위치 (created_at, id)
+ */
+public record ArchiveKey(LocalDateTime createdAt, UUID id) {
+
+    /**
+     * 모든 메시지보다 앞선 시작 위치
+     */
+    public static final ArchiveKey START = new ArchiveKey(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0L, 0L));
+}
@@ -0,0 +1,17 @@
+package com.dorandoran.batch.service.archive;
+
+import java.util.UUID;
+
+/**
+ * 세그먼트 안에서 채팅방 1개의 메시지가 차지하는 바이트 구간
+ * gzip 세그먼트면 구간 하나가 독립된 gzip 멤버라 해당 구간만 잘라 바로 압축 해제 가능
+ */
+public record ArchiveRoomRange(
+    UUID chatroomId,
+    long offset,
+    long length,
+    long rows,
+    long minSequence,
+    long maxSequence
+) {
+}
@@ -0,0 +1,18 @@
+package com.dorandoran.batch.service.archive;
+
+import java.util.List;
+
+/**
+ * 기록이 끝난(fsync + 원자적 이름 변경) 세그먼트 정보
+ */
+public record ArchiveSegment(
+    String fileName,
+    int sequence,
+    long rows,
+    long bytes,
+    String sha256,
+    ArchiveKey firstKey,
+    ArchiveKey lastKey,
+    List<ArchiveRoomRange> rooms
+) {
+}
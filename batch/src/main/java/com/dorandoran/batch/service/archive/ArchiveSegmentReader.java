@@ -0,0 +1,65 @@
+package com.dorandoran.batch.service.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 세그먼트의 채팅방 구간 읽기
+ *
+ * 파일 전체가 아니라 색인의 바이트 구간만 메모리 매핑하고, gzip이면 읽는 대로 압축 해제
+ * (gzip 멤버 끝의 CRC32를 GZIPInputStream이 검증하므로 손상된 구간은 예외로 드러남)
+ */
+public final class ArchiveSegmentReader {
+
+    private ArchiveSegmentReader() {
+    }
+
+    public static InputStream openRange(Path segment, long offset, long length, boolean gzip) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            if (offset + length > channel.size()) {
+                throw new IOException("Range " + offset + "+" + length + " exceeds segment size " + channel.size()
+                    + ": " + segment);
+            }
+            // 매핑은 채널을 닫아도 유효
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+        InputStream raw = new ByteBufferInputStream(mapped);
+        return gzip ? new GZIPInputStream(raw, 8 * 1024) : raw;
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
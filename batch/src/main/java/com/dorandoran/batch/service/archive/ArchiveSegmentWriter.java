@@ -0,0 +1,196 @@
+package com.dorandoran.batch.service.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 세그먼트 1개 기록기 (압축 NDJSON + SHA-256 + 채팅방 색인)
+ *
+ * 청크(최대 chunkSize 행)를 채팅방별로 모아 두었다가, 채팅방마다 독립된 gzip 멤버로 이어 붙여 기록
+ * 이어 붙인 gzip 멤버는 그대로 하나의 유효한 .gz 파일이고, 채팅방 구간만 잘라 읽을 수도 있음
+ * 임시 파일에 기록 후 fsync하고 원자적으로 이름을 바꾸므로, 최종 파일이 보이면 내용이 온전히 디스크에 있음
+ * 같은 이름으로 다시 기록하면 덮어씀 (중단 후 재시도 시 같은 세그먼트 번호 재사용)
+ * 세그먼트 옆에 채팅방 → 바이트 구간 색인(.idx.json)과 행 수/키 범위/체크섬(.meta.json)을 함께 기록
+ */
+public class ArchiveSegmentWriter implements Closeable {
+
+    public static final String META_SUFFIX = ".meta.json";
+    public static final String INDEX_SUFFIX = ".idx.json";
+
+    private static final byte[] NEWLINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Path dir;
+    private final String fileName;
+    private final int sequence;
+    private final boolean gzip;
+    private final ObjectMapper objectMapper;
+    private final Path tempFile;
+    private final Map<UUID, RoomBlock> rooms = new LinkedHashMap<>();
+
+    private long rows;
+    private ArchiveKey firstKey;
+    private ArchiveKey lastKey;
+
+    public ArchiveSegmentWriter(Path dir, String baseName, int sequence, boolean gzip, ObjectMapper objectMapper)
+            throws IOException {
+        this.dir = dir;
+        this.sequence = sequence;
+        this.gzip = gzip;
+        this.objectMapper = objectMapper;
+        this.fileName = String.format("%s-%06d.ndjson%s", baseName, sequence, gzip ? ".gz" : "");
+        Files.createDirectories(dir);
+        this.tempFile = dir.resolve(fileName + ".tmp");
+    }
+
+    public void write(Map<String, Object> row, ArchiveKey key, UUID chatroomId, long sequenceNumber) throws IOException {
+        RoomBlock block = rooms.computeIfAbsent(chatroomId, id -> new RoomBlock());
+        block.buffer.write(objectMapper.writeValueAsBytes(row));
+        block.buffer.write(NEWLINE);
+        block.rows++;
+        block.minSequence = Math.min(block.minSequence, sequenceNumber);
+        block.maxSequence = Math.max(block.maxSequence, sequenceNumber);
+        if (firstKey == null) {
+            firstKey = key;
+        }
+        lastKey = key;
+        rows++;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * 채팅방 구간 기록 + fsync + 원자적 이름 변경 후 색인/메타 파일 기록
+     */
+    public ArchiveSegment commit() throws IOException {
+        MessageDigest digest = sha256();
+        List<ArchiveRoomRange> ranges = new ArrayList<>(rooms.size());
+        long position = 0;
+
+        try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile(), false)) {
+            // 체크섬은 압축된 바이트(디스크에 쓰인 그대로) 기준
+            OutputStream out = new DigestOutputStream(new BufferedOutputStream(fileOut, 64 * 1024), digest);
+            for (Map.Entry<UUID, RoomBlock> entry : rooms.entrySet()) {
+                RoomBlock block = entry.getValue();
+                byte[] bytes = gzip ? compress(block.buffer) : block.buffer.toByteArray();
+                out.write(bytes);
+                ranges.add(new ArchiveRoomRange(entry.getKey(), position, bytes.length,
+                    block.rows, block.minSequence, block.maxSequence));
+                position += bytes.length;
+            }
+            out.flush();
+            fileOut.getFD().sync();
+        }
+        rooms.clear();
+
+        Files.move(tempFile, dir.resolve(fileName), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        ArchiveSegment segment = new ArchiveSegment(fileName, sequence, rows, position,
+            HexFormat.of().formatHex(digest.digest()), firstKey, lastKey, List.copyOf(ranges));
+        writeSidecar(INDEX_SUFFIX, index(segment));
+        writeSidecar(META_SUFFIX, meta(segment));
+        return segment;
+    }
+
+    @Override
+    public void close() throws IOException {
+        rooms.clear();
+        Files.deleteIfExists(tempFile);
+    }
+
+    private Map<String, Object> index(ArchiveSegment segment) {
+        List<Map<String, Object>> entries = new ArrayList<>(segment.rooms().size());
+        for (ArchiveRoomRange range : segment.rooms()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("chatroomId", range.chatroomId().toString());
+            entry.put("offset", range.offset());
+            entry.put("length", range.length());
+            entry.put("rows", range.rows());
+            entry.put("minSequence", range.minSequence());
+            entry.put("maxSequence", range.maxSequence());
+            entries.add(entry);
+        }
+        Map<String, Object> index = new LinkedHashMap<>();
+        index.put("fileName", segment.fileName());
+        index.put("compression", compression());
+        index.put("rooms", entries);
+        return index;
+    }
+
+    private Map<String, Object> meta(ArchiveSegment segment) {
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("fileName", segment.fileName());
+        meta.put("sequence", segment.sequence());
+        meta.put("rows", segment.rows());
+        meta.put("bytes", segment.bytes());
+        meta.put("sha256", segment.sha256());
+        meta.put("compression", compression());
+        meta.put("rooms", segment.rooms().size());
+        meta.put("firstCreatedAt", String.valueOf(segment.firstKey().createdAt()));
+        meta.put("firstId", String.valueOf(segment.firstKey().id()));
+        meta.put("lastCreatedAt", String.valueOf(segment.lastKey().createdAt()));
+        meta.put("lastId", String.valueOf(segment.lastKey().id()));
+        return meta;
+    }
+
+    private void writeSidecar(String suffix, Map<String, Object> content) throws IOException {
+        Path temp = dir.resolve(fileName + suffix + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp.toFile(), false)) {
+            out.write(objectMapper.writeValueAsBytes(content));
+            out.getFD().sync();
+        }
+        Files.move(temp, dir.resolve(fileName + suffix),
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private String compression() {
+        return gzip ? "gzip" : "none";
+    }
+
+    private static byte[] compress(ByteArrayOutputStream plain) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, plain.size() / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed, 8 * 1024)) {
+            plain.writeTo(out);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 채팅방 1개의 직렬화된 행 (커밋 전까지 메모리에 보관, 청크 크기로 상한)
+     */
+    private static final class RoomBlock {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        long rows;
+        long minSequence = Long.MAX_VALUE;
+        long maxSequence = Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,85 @@
+package com.dorandoran.batch.service.rollup;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 1시간 구간 집계 (batch_schema.metrics_hourly 1행)
+ *
+ * 평균은 합계/건수로, 고유 사용자는 스케치로 보관하므로 여러 시간을 그대로 합칠 수 있음
+ */
+@Getter
+public class HourlyMetrics {
+
+    private final LocalDateTime bucketStart;
+    private long newUsers;
+    private long messages;
+    private long processingMsSum;
+    private long processingMsCount;
+    private long inputTokens;
+    private long outputTokens;
+    private BigDecimal cost = BigDecimal.ZERO;
+    private long intimacyUpdates;
+    private long activeUsers;
+    private final HyperLogLog activeUserSketch;
+
+    public HourlyMetrics(LocalDateTime bucketStart, int precision) {
+        this(bucketStart, HyperLogLog.create(precision));
+    }
+
+    private HourlyMetrics(LocalDateTime bucketStart, HyperLogLog activeUserSketch) {
+        this.bucketStart = bucketStart;
+        this.activeUserSketch = activeUserSketch;
+    }
+
+    /**
+     * 저장된 집계 복원
+     */
+    public static HourlyMetrics restore(LocalDateTime bucketStart, long newUsers, long messages,
+                                        long processingMsSum, long processingMsCount,
+                                        long inputTokens, long outputTokens, BigDecimal cost,
+                                        long intimacyUpdates, long activeUsers, HyperLogLog activeUserSketch) {
+        HourlyMetrics metrics = new HourlyMetrics(bucketStart, activeUserSketch);
+        metrics.newUsers = newUsers;
+        metrics.messages = messages;
+        metrics.processingMsSum = processingMsSum;
+        metrics.processingMsCount = processingMsCount;
+        metrics.inputTokens = inputTokens;
+        metrics.outputTokens = outputTokens;
+        metrics.cost = cost != null ? cost : BigDecimal.ZERO;
+        metrics.intimacyUpdates = intimacyUpdates;
+        metrics.activeUsers = activeUsers;
+        return metrics;
+    }
+
+    public void setNewUsers(long newUsers) {
+        this.newUsers = newUsers;
+    }
+
+    public void setMessages(long messages, long processingMsSum, long processingMsCount) {
+        this.messages = messages;
+        this.processingMsSum = processingMsSum;
+        this.processingMsCount = processingMsCount;
+    }
+
+    public void setUsage(long inputTokens, long outputTokens, BigDecimal cost) {
+        this.inputTokens = inputTokens;
+        this.outputTokens = outputTokens;
+        this.cost = cost != null ? cost : BigDecimal.ZERO;
+    }
+
+    public void setIntimacyUpdates(long intimacyUpdates) {
+        this.intimacyUpdates = intimacyUpdates;
+    }
+
+    /**
+     * 활성 사용자 추가 (같은 시간 안에서는 조회 시 이미 중복 제거되어 들어옴)
+     */
+    public void addActiveUser(UUID userId) {
+        activeUserSketch.add(userId);
+        activeUsers++;
+    }
+}
@@ -0,0 +1,136 @@
+package com.dorandoran.batch.service.rollup;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 고유 사용자 수 추정용 HyperLogLog 스케치
+ *
+ * 레지스터 2^p개에 해시 앞 p비트로 고른 레지스터마다 나머지 비트의 선행 0 개수 + 1의 최댓값을 기록
+ * 두 스케치는 레지스터별 최댓값으로 합칠 수 있어 시간별 스케치를 더해 일/주/임의 구간 추정값을 만들 수 있음
+ * 표준 오차는 약 1.04 / sqrt(2^p) (p=12이면 약 1.6%), 작은 값은 선형 카운팅으로 보정
+ */
+public final class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private final int precision;
+    private final byte[] registers;
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    public static HyperLogLog create(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("HyperLogLog precision must be between "
+                + MIN_PRECISION + " and " + MAX_PRECISION + ": " + precision);
+        }
+        return new HyperLogLog(precision, new byte[1 << precision]);
+    }
+
+    /**
+     * 직렬화 형식: [precision 1바이트][레지스터 2^precision 바이트]
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 1) {
+            throw new IllegalArgumentException("Empty HyperLogLog bytes");
+        }
+        int precision = bytes[0];
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION || bytes.length != 1 + (1 << precision)) {
+            throw new IllegalArgumentException("Malformed HyperLogLog bytes (length " + bytes.length + ")");
+        }
+        return new HyperLogLog(precision, Arrays.copyOfRange(bytes, 1, bytes.length));
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[1 + registers.length];
+        bytes[0] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, 1, registers.length);
+        return bytes;
+    }
+
+    public void add(UUID id) {
+        addHash(mix(id.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ mix(id.getLeastSignificantBits())));
+    }
+
+    void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트가 모두 0이어도 rho가 64 - p + 1을 넘지 않도록 바닥에 1을 채움
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rho = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rho > registers[index]) {
+            registers[index] = rho;
+        }
+    }
+
+    /**
+     * 다른 스케치를 합침 (합집합, 정밀도가 같아야 함)
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog of precision "
+                + other.precision + " into " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // 작은 값 구간: 선형 카운팅
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ec5aaL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,73 @@
+package com.dorandoran.batch.service;
+
+import com.dorandoran.batch.service.MetricsRollupService.MetricsReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일간 리포트의 집계/원천 테이블 선택 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DailyReportServiceTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private MetricsRollupService metricsRollupService;
+
+    @InjectMocks
+    private DailyReportService dailyReportService;
+
+    @Test
+    @DisplayName("전날 끝까지 집계되었으면 원천 테이블을 읽지 않고 시간별 집계로 만든다")
+    void usesRollupsWhenComplete() {
+        LocalDateTime end = LocalDate.now(KST).atStartOfDay();
+        LocalDateTime start = end.minusDays(1);
+        when(metricsRollupService.isRolledUpTo(end)).thenReturn(true);
+        when(metricsRollupService.report(start, end)).thenReturn(new MetricsReport(start, end, 24, end, true,
+            3, 40, 500, 120.0, 1_000, 2_000, new BigDecimal("1.25"), 7));
+
+        Map<String, Object> report = dailyReportService.generateReportForYesterday(KST);
+
+        assertEquals(3L, report.get("new_users"));
+        assertEquals(40L, report.get("dau"));
+        assertEquals(500L, report.get("total_messages"));
+        assertEquals(1.25, (Double) report.get("cost_usd"), 0.0001);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("아직 집계되지 않았으면 원천 테이블을 직접 집계한다")
+    void fallsBackToSourceTables() {
+        when(metricsRollupService.isRolledUpTo(any())).thenReturn(false);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any())).thenReturn(4);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(), any())).thenReturn(100L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Double.class), any(), any())).thenReturn(0.5);
+
+        Map<String, Object> report = dailyReportService.generateReportForYesterday(KST);
+
+        assertEquals(4, report.get("dau"));
+        assertEquals(100L, report.get("input_tokens"));
+        verify(metricsRollupService, never()).report(any(), any());
+    }
+}
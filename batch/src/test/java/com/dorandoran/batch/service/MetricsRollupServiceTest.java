@@ -0,0 +1,131 @@
+package com.dorandoran.batch.service;
+
+import com.dorandoran.batch.common.TimeProvider;
+import com.dorandoran.batch.config.MessageArchiveConfig;
+import com.dorandoran.batch.config.MetricsRollupConfig;
+import com.dorandoran.batch.repository.MetricsRollupJdbcRepository;
+import com.dorandoran.batch.service.MetricsRollupService.MetricsReport;
+import com.dorandoran.batch.service.rollup.HourlyMetrics;
+import com.dorandoran.batch.service.rollup.HyperLogLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 시간별 지표 집계 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MetricsRollupServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 1, 12, 30);
+
+    @Mock
+    private MetricsRollupJdbcRepository rollupRepository;
+
+    @Mock
+    private TimeProvider timeProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MetricsRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        MessageArchiveConfig archiveConfig = new MessageArchiveConfig();
+        service = new MetricsRollupService(rollupRepository, new MetricsRollupConfig(), archiveConfig,
+            timeProvider, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private void nowIs(LocalDateTime now) {
+        when(timeProvider.nowKst()).thenReturn(ZonedDateTime.of(now, ZoneId.of("Asia/Seoul")));
+    }
+
+    @Test
+    @DisplayName("워터마크 이후 마감된 시간만 집계하고 워터마크를 옮긴다")
+    void rollUpNewHoursAdvancesWatermark() {
+        nowIs(NOW);
+        when(rollupRepository.findWatermark(MetricsRollupService.WATERMARK_NAME))
+            .thenReturn(Optional.of(NOW.withHour(10).withMinute(0)));
+
+        int rolled = service.rollUpNewHours();
+
+        // 12:30 - settleDelay(5분) → 12시 이전 시간만 마감
+        assertEquals(2, rolled);
+        verify(rollupRepository).collect(eq(NOW.withHour(10).withMinute(0)), eq(NOW.withHour(12).withMinute(0)), anyMap());
+        verify(rollupRepository).saveWatermark(MetricsRollupService.WATERMARK_NAME, NOW.withHour(12).withMinute(0));
+    }
+
+    @Test
+    @DisplayName("백필은 메시지 보관 기간 이전 시간을 다시 집계하지 않는다")
+    void backfillStartsAtRetentionCutoff() {
+        nowIs(NOW);
+
+        int rolled = service.backfill(LocalDateTime.of(2024, 12, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0));
+
+        // 보관 기간 6개월 → 2025-01-01 12:30 이전 메시지는 아카이빙 후 삭제됨, 시간 단위로 올려 13시부터
+        assertEquals(11, rolled);
+        verify(rollupRepository).collect(eq(LocalDateTime.of(2025, 1, 1, 13, 0)), eq(LocalDateTime.of(2025, 1, 2, 0, 0)), anyMap());
+        verify(rollupRepository, never()).saveWatermark(any(), any());
+    }
+
+    @Test
+    @DisplayName("백필 구간 전체가 보관 기간 이전이면 아무것도 덮어쓰지 않는다")
+    void backfillBeforeRetentionIsNoop() {
+        nowIs(NOW);
+
+        int rolled = service.backfill(LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 7, 1, 0, 0));
+
+        assertEquals(0, rolled);
+        verify(rollupRepository, never()).upsert(any());
+    }
+
+    @Test
+    @DisplayName("구간 리포트는 시간별 집계를 합치고 워터마크로 완료 여부를 표시한다")
+    void reportMergesHours() {
+        LocalDateTime from = LocalDateTime.of(2025, 6, 30, 0, 0);
+        UUID shared = UUID.randomUUID();
+        when(rollupRepository.findRange(from, from.plusHours(2))).thenReturn(List.of(
+            hour(from, 10, 100, shared, UUID.randomUUID()),
+            hour(from.plusHours(1), 5, 50, shared)));
+        when(rollupRepository.findWatermark(MetricsRollupService.WATERMARK_NAME))
+            .thenReturn(Optional.of(from.plusHours(1)));
+
+        MetricsReport report = service.report(from, from.plusMinutes(90));
+
+        assertEquals(2, report.hours());
+        assertEquals(15, report.messages());
+        assertEquals(10.0, report.avgProcessingMs(), 0.001);
+        assertEquals(2, report.activeUsers());
+        assertEquals(new BigDecimal("0.30"), report.cost());
+        assertFalse(report.complete());
+    }
+
+    private static HourlyMetrics hour(LocalDateTime bucket, long messages, long processingMs, UUID... users) {
+        HyperLogLog sketch = HyperLogLog.create(12);
+        for (UUID user : users) {
+            sketch.add(user);
+        }
+        return HourlyMetrics.restore(bucket, 0, messages, processingMs, messages, 0, 0,
+            new BigDecimal("0.15"), 0, users.length, sketch);
+    }
+}
@@ -0,0 +1,122 @@
+package com.dorandoran.batch.service.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 아카이브 세그먼트 기록기 테스트
+ */
+class ArchiveSegmentWriterTest {
+
+    private static final UUID ROOM_A = UUID.randomUUID();
+    private static final UUID ROOM_B = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("커밋하면 압축 NDJSON 세그먼트와 체크섬이 일치하는 메타 파일이 생성된다")
+    void commitWritesSegmentAndMeta() throws Exception {
+        ArchiveKey first = new ArchiveKey(LocalDateTime.of(2025, 1, 1, 0, 0), UUID.randomUUID());
+        ArchiveKey last = new ArchiveKey(LocalDateTime.of(2025, 1, 2, 0, 0), UUID.randomUUID());
+
+        ArchiveSegment segment;
+        try (ArchiveSegmentWriter writer = new ArchiveSegmentWriter(dir, "messages-test", 1, true, objectMapper)) {
+            writer.write(Map.of("content", "안녕"), first, ROOM_A, 1);
+            writer.write(Map.of("content", "hello"), last, ROOM_B, 7);
+            segment = writer.commit();
+        }
+
+        Path file = dir.resolve("messages-test-000001.ndjson.gz");
+        assertEquals(file.getFileName().toString(), segment.fileName());
+        assertEquals(2, segment.rows());
+        assertEquals(first, segment.firstKey());
+        assertEquals(last, segment.lastKey());
+        assertEquals(Files.size(file), segment.bytes());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file))),
+            segment.sha256());
+        assertFalse(Files.exists(dir.resolve(segment.fileName() + ".tmp")));
+
+        assertEquals(List.of("{\"content\":\"안녕\"}", "{\"content\":\"hello\"}"),
+            readLines(new GZIPInputStream(Files.newInputStream(file))));
+
+        Map<?, ?> meta = objectMapper.readValue(
+            dir.resolve(segment.fileName() + ArchiveSegmentWriter.META_SUFFIX).toFile(), Map.class);
+        assertEquals(segment.sha256(), meta.get("sha256"));
+        assertEquals(last.id().toString(), meta.get("lastId"));
+    }
+
+    @Test
+    @DisplayName("색인의 채팅방 구간만 읽으면 해당 채팅방 메시지만 순서대로 나온다")
+    void roomRangeReadsOnlyThatRoom() throws Exception {
+        ArchiveSegment segment;
+        try (ArchiveSegmentWriter writer = new ArchiveSegmentWriter(dir, "messages-test", 3, true, objectMapper)) {
+            writer.write(Map.of("seq", 1), key(1), ROOM_A, 1);
+            writer.write(Map.of("seq", 1), key(2), ROOM_B, 1);
+            writer.write(Map.of("seq", 2), key(3), ROOM_A, 2);
+            segment = writer.commit();
+        }
+
+        assertEquals(2, segment.rooms().size());
+        ArchiveRoomRange roomA = segment.rooms().get(0);
+        assertEquals(ROOM_A, roomA.chatroomId());
+        assertEquals(0, roomA.offset());
+        assertEquals(2, roomA.rows());
+        assertEquals(1, roomA.minSequence());
+        assertEquals(2, roomA.maxSequence());
+        ArchiveRoomRange roomB = segment.rooms().get(1);
+        assertEquals(roomA.length(), roomB.offset());
+        assertEquals(segment.bytes(), roomB.offset() + roomB.length());
+
+        Path file = dir.resolve(segment.fileName());
+        assertEquals(List.of("{\"seq\":1}", "{\"seq\":2}"), readLines(
+            ArchiveSegmentReader.openRange(file, roomA.offset(), roomA.length(), true)));
+        assertEquals(List.of("{\"seq\":1}"), readLines(
+            ArchiveSegmentReader.openRange(file, roomB.offset(), roomB.length(), true)));
+        // 이어 붙인 gzip 멤버라 파일 전체도 그대로 읽힘
+        assertEquals(3, readLines(new GZIPInputStream(Files.newInputStream(file))).size());
+        assertTrue(Files.exists(dir.resolve(segment.fileName() + ArchiveSegmentWriter.INDEX_SUFFIX)));
+    }
+
+    @Test
+    @DisplayName("커밋하지 않고 닫으면 임시 파일을 지우고 세그먼트를 남기지 않는다")
+    void closeWithoutCommitDiscardsTempFile() throws Exception {
+        try (ArchiveSegmentWriter writer = new ArchiveSegmentWriter(dir, "messages-test", 2, false, objectMapper)) {
+            writer.write(Map.of("content", "x"), ArchiveKey.START, ROOM_A, 1);
+        }
+
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static ArchiveKey key(int minute) {
+        return new ArchiveKey(LocalDateTime.of(2025, 1, 1, 0, minute), UUID.randomUUID());
+    }
+
+    private static List<String> readLines(InputStream in) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
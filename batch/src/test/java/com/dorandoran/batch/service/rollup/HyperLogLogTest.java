@@ -0,0 +1,95 @@
+package com.dorandoran.batch.service.rollup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 고유 사용자 HyperLogLog 스케치 테스트
+ */
+class HyperLogLogTest {
+
+    private static final int PRECISION = 12;
+
+    @Test
+    @DisplayName("작은 집합은 선형 카운팅으로 거의 정확하게 추정한다")
+    void smallCardinalityIsNearlyExact() {
+        HyperLogLog sketch = HyperLogLog.create(PRECISION);
+        for (UUID id : ids(100, 1)) {
+            sketch.add(id);
+            sketch.add(id); // 중복은 세지 않음
+        }
+
+        assertEquals(100, sketch.estimate(), 2);
+    }
+
+    @Test
+    @DisplayName("큰 집합의 추정 오차가 표준 오차의 3배 이내이다")
+    void largeCardinalityWithinErrorBound() {
+        HyperLogLog sketch = HyperLogLog.create(PRECISION);
+        int n = 200_000;
+        ids(n, 2).forEach(sketch::add);
+
+        double relativeError = Math.abs(sketch.estimate() - n) / (double) n;
+        assertTrue(relativeError < 3 * 1.04 / Math.sqrt(1 << PRECISION), "relative error " + relativeError);
+    }
+
+    @Test
+    @DisplayName("시간별 스케치를 합치면 합집합 스케치와 같다")
+    void mergeEqualsUnion() {
+        List<UUID> users = ids(5_000, 3);
+        HyperLogLog union = HyperLogLog.create(PRECISION);
+        HyperLogLog morning = HyperLogLog.create(PRECISION);
+        HyperLogLog evening = HyperLogLog.create(PRECISION);
+        for (int i = 0; i < users.size(); i++) {
+            union.add(users.get(i));
+            // 절반은 두 시간에 모두 활동
+            if (i < 3_000) {
+                morning.add(users.get(i));
+            }
+            if (i >= 2_000) {
+                evening.add(users.get(i));
+            }
+        }
+
+        HyperLogLog merged = HyperLogLog.fromBytes(morning.toBytes()).merge(evening);
+        assertArrayEquals(union.toBytes(), merged.toBytes());
+        assertEquals(union.estimate(), merged.estimate());
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원하면 같은 레지스터를 가진다")
+    void bytesRoundTrip() {
+        HyperLogLog sketch = HyperLogLog.create(PRECISION);
+        ids(1_000, 4).forEach(sketch::add);
+
+        byte[] bytes = sketch.toBytes();
+        assertEquals(1 + (1 << PRECISION), bytes.length);
+        assertArrayEquals(bytes, HyperLogLog.fromBytes(bytes).toBytes());
+        assertTrue(HyperLogLog.create(PRECISION).isEmpty());
+        assertEquals(0, HyperLogLog.create(PRECISION).estimate());
+    }
+
+    @Test
+    @DisplayName("정밀도가 다른 스케치는 합칠 수 없다")
+    void mergeRejectsDifferentPrecision() {
+        assertThrows(IllegalArgumentException.class,
+            () -> HyperLogLog.create(12).merge(HyperLogLog.create(10)));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{12, 0}));
+    }
+
+    private static List<UUID> ids(int count, long seed) {
+        Random random = new Random(seed);
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dorandoran.chat.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Agent 결과 캐시 설정
+ * 짧고 반복되는 학습자 발화에 대한 IntimacyAgent 분석 결과를 재사용하기 위한 한도 값
+ */
+@Configuration
+@ConfigurationProperties(prefix = "chat.agent.intimacy-cache")
+@Getter
+@Setter
+public class AgentCacheConfig {
+
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofHours(6);   // 항목 유지 시간
+    private int maxSize = 10_000;                 // 최대 항목 수 (LRU 제거)
+    private int maxUtteranceLength = 40;          // 이보다 긴 발화는 캐시하지 않음
+}
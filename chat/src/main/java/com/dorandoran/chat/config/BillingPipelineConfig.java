@@ -0,0 +1,26 @@
+package com.dorandoran.chat.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 과금 이벤트 파이프라인 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "chat.billing.pipeline")
+@Getter
+@Setter
+public class BillingPipelineConfig {
+
+    private int capacity = 10_000;                        // 메모리 큐 최대 이벤트 수
+    private int batchSize = 500;                          // 한 번에 기록할 최대 이벤트 수
+    private Duration flushInterval = Duration.ofSeconds(1); // 배치가 차지 않아도 기록하는 주기
+    private Duration offerTimeout = Duration.ofMillis(50);  // 큐가 가득 찼을 때 대기 시간
+    private int maxRetries = 3;                           // 기록 실패 시 재시도 횟수
+    private String spillDir = "./billing-spill";          // DB 기록 불가 시 보존 파일 경로
+    private Duration monthlyFlushInterval = Duration.ofSeconds(5); // 월 집계 증분 반영 주기
+}
@@ -0,0 +1,45 @@
+package com.dorandoran.chat.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 토큰/비용 예산 설정
+ * 슬라이딩 윈도우(window를 buckets개 구간으로 나눔) 안의 사용량이 플랜 한도를 넘으면 AI 호출 전에 거절
+ */
+@Configuration
+@ConfigurationProperties(prefix = "chat.budget")
+@Getter
+@Setter
+public class TokenBudgetConfig {
+
+    private boolean enabled = true;
+    private String backend = "memory";                    // memory | redis (다중 노드 공유)
+    private Duration window = Duration.ofHours(1);        // 슬라이딩 윈도우 길이
+    private int buckets = 12;                             // 윈도우 분할 수 (정밀도)
+    private String defaultPlan = "free";                  // 역할 매핑이 없을 때 적용할 플랜
+    private Map<String, String> rolePlans = new HashMap<>(); // 사용자 역할 -> 플랜 이름
+    private Duration planCacheTtl = Duration.ofMinutes(5);   // 사용자 플랜 조회 결과 유지 시간
+    private Map<String, Plan> plans = new HashMap<>();
+
+    public long bucketMillis() {
+        return Math.max(1, window.toMillis() / buckets);
+    }
+
+    @Getter
+    @Setter
+    public static class Plan {
+        private long maxTokens;   // 윈도우 내 최대 토큰 수 (0 = 제한 없음)
+        private double maxCost;   // 윈도우 내 최대 비용(USD) (0 = 제한 없음)
+
+        public boolean isUnlimited() {
+            return maxTokens <= 0 && maxCost <= 0;
+        }
+    }
+}
@@ -2,17 +2,20 @@ package com.dorandoran.chat.controller;
 
 import com.dorandoran.chat.entity.billing.MonthlyUserCost;
 import com.dorandoran.chat.entity.User;
-import com.dorandoran.chat.repository.billing.MonthlyUserCostRepository;
 import com.dorandoran.chat.repository.UserRepository;
+import com.dorandoran.chat.service.BillingService;
+import com.dorandoran.chat.service.dto.UsageBucketResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,7 +24,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BillingController {
 
-    private final MonthlyUserCostRepository monthlyUserCostRepository;
+    private final BillingService billingService;
     private final UserRepository userRepository;
 
     @GetMapping("/users/{userId}/months/{month}")
@@ -29,13 +32,45 @@ public class BillingController {
             @PathVariable UUID userId,
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate month
     ) {
-        LocalDate firstDay = month.withDayOfMonth(1);
-        // User 객체 조회 후 Repository 메서드 호출
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found: " + userId));
-        List<MonthlyUserCost> list = monthlyUserCostRepository.findByUserAndBillingMonthBetween(user, firstDay, firstDay);
+        // DB 값 + 아직 반영되지 않은 증분
+        List<MonthlyUserCost> list = billingService.getMonthly(user, month);
         return ResponseEntity.ok(list);
     }
-}
 
+    /**
+     * 사용자 일별 사용량 (UTC 일자, from/to 포함)
+     */
+    @GetMapping("/users/{userId}/daily")
+    public ResponseEntity<List<UsageBucketResponse>> getUserDaily(
+            @PathVariable UUID userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(billingService.getUserDailyUsage(userId, from, to));
+    }
 
+    /**
+     * 사용자 시간별 사용량 (UTC, [from, to))
+     */
+    @GetMapping("/users/{userId}/hourly")
+    public ResponseEntity<List<UsageBucketResponse>> getUserHourly(
+            @PathVariable UUID userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(billingService.getUserHourlyUsage(userId, from, to));
+    }
+
+    /**
+     * 서비스 전체 일별 사용량 (UTC 일자, from/to 포함)
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<List<UsageBucketResponse>> getServiceDaily(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(billingService.getServiceDailyUsage(from, to));
+    }
+}
@@ -13,6 +13,7 @@ import com.dorandoran.chat.service.AIService;
 import com.dorandoran.chat.service.GreetingService;
 import com.dorandoran.chat.service.MultiAgentOrchestrator;
 import com.dorandoran.chat.service.ChatbotService;
+import com.dorandoran.chat.service.budget.TokenBudgetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -53,6 +54,7 @@ public class ChatController {
     private final GreetingService greetingService;
     private final MultiAgentOrchestrator multiAgentOrchestrator;
     private final ChatbotService chatbotService;
+    private final TokenBudgetService tokenBudgetService;
 
     @Operation(summary = "채팅방 생성/조회", description = "새로운 채팅방을 생성하거나 기존 채팅방을 조회합니다.")
     @ApiResponses(value = {
@@ -131,7 +133,8 @@ public class ChatController {
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "메시지 전송 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "채팅방 접근 권한 없음")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "채팅방 접근 권한 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "AI 사용량 한도 초과")
     })
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/chatrooms/{chatroomId}/messages")
@@ -156,6 +159,8 @@ public class ChatController {
         if (!chatRoomRepository.existsByUserIdAndIdAndIsDeletedFalse(senderId, chatroomId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
+        // 메시지 저장/Multi-Agent 호출 전에 사용량 예산 확인 (초과 시 429)
+        tokenBudgetService.checkBudget(senderId);
         // senderType 검증: API 호출은 사용자 발신만 허용
         String senderType = request.getSenderType();
         if (senderType == null || !senderType.equalsIgnoreCase("user")) {
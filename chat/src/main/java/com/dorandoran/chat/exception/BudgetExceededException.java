@@ -0,0 +1,27 @@
+package com.dorandoran.chat.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 사용자 토큰/비용 예산 초과
+ */
+@Getter
+public class BudgetExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public BudgetExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public long retryAfterSeconds() {
+        long millis = retryAfter.toMillis();
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
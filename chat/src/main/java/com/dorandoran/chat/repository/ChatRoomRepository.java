@@ -1,9 +1,13 @@
 package com.dorandoran.chat.repository;
 
 import com.dorandoran.chat.entity.ChatRoom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -29,4 +33,9 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, UUID> {
     
     // 사용자가 특정 채팅방에 접근 권한이 있는지 확인
     boolean existsByUserIdAndIdAndIsDeletedFalse(UUID userId, UUID chatroomId);
+
+    // 채팅방 행 잠금 조회 (메시지 순서 번호 채번 직렬화용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ChatRoom r WHERE r.id = :id")
+    Optional<ChatRoom> findByIdForUpdate(@Param("id") UUID id);
 }
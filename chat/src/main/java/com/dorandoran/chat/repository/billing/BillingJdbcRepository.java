@@ -0,0 +1,108 @@
+package com.dorandoran.chat.repository.billing;
+
+import com.dorandoran.chat.service.billing.UsageEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 과금 테이블 JDBC 배치 기록
+ * JPA 엔티티 조회 없이 이벤트를 일괄 삽입하고, 월 집계는 DB에서 원자적으로 누적
+ */
+@Repository
+@RequiredArgsConstructor
+public class BillingJdbcRepository {
+
+    private static final String INSERT_EVENT_PREFIX = """
+        INSERT INTO billing.ai_usage_events
+            (id, event_time, user_id, chatroom_id, provider, model, request_id,
+             input_tokens, output_tokens, cost_in, cost_out)
+        VALUES """;
+    private static final String INSERT_EVENT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EVENT_SUFFIX = " ON CONFLICT DO NOTHING RETURNING id";
+    // 문장당 바인드 파라미터 상한(65535) 아래로 유지
+    private static final int INSERT_CHUNK_ROWS = 1000;
+
+    private static final String UPSERT_MONTHLY = """
+        INSERT INTO billing.monthly_user_costs AS m
+            (billing_month, user_id, input_tokens, output_tokens, cost_in, cost_out, total_cost, last_aggregated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (billing_month, user_id) DO UPDATE SET
+            input_tokens = m.input_tokens + EXCLUDED.input_tokens,
+            output_tokens = m.output_tokens + EXCLUDED.output_tokens,
+            cost_in = m.cost_in + EXCLUDED.cost_in,
+            cost_out = m.cost_out + EXCLUDED.cost_out,
+            total_cost = m.total_cost + EXCLUDED.total_cost,
+            last_aggregated_at = EXCLUDED.last_aggregated_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이벤트 일괄 삽입 (다중 VALUES INSERT ... ON CONFLICT DO NOTHING RETURNING id)
+     * 이미 기록된 이벤트(id/request_id 중복)는 건너뛰며, 실제로 삽입된 이벤트 id만 반환
+     * (배치 실행 결과 코드는 드라이버에 따라 SUCCESS_NO_INFO(-2)라 삽입 여부를 알 수 없음)
+     */
+    public Set<UUID> insertEvents(List<UsageEvent> events) {
+        Set<UUID> inserted = new HashSet<>();
+        for (int from = 0; from < events.size(); from += INSERT_CHUNK_ROWS) {
+            List<UsageEvent> chunk = events.subList(from, Math.min(events.size(), from + INSERT_CHUNK_ROWS));
+            String sql = INSERT_EVENT_PREFIX
+                + String.join(", ", Collections.nCopies(chunk.size(), INSERT_EVENT_ROW))
+                + INSERT_EVENT_SUFFIX;
+            jdbcTemplate.query(sql, ps -> {
+                int i = 1;
+                for (UsageEvent e : chunk) {
+                    ps.setObject(i++, e.id());
+                    ps.setTimestamp(i++, Timestamp.valueOf(e.eventTime()));
+                    ps.setObject(i++, e.userId());
+                    ps.setObject(i++, e.chatroomId());
+                    ps.setString(i++, e.provider());
+                    ps.setString(i++, e.model());
+                    ps.setString(i++, e.requestId());
+                    ps.setInt(i++, e.inputTokens());
+                    ps.setInt(i++, e.outputTokens());
+                    ps.setDouble(i++, e.costIn());
+                    ps.setDouble(i++, e.costOut());
+                }
+            }, rs -> {
+                inserted.add(rs.getObject(1, UUID.class));
+            });
+        }
+        return inserted;
+    }
+
+    /**
+     * 월 집계 증분 반영 (사용자·월별 1행, INSERT ... ON CONFLICT DO UPDATE)
+     */
+    public void addMonthlyDeltas(List<MonthlyDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC));
+        jdbcTemplate.batchUpdate(UPSERT_MONTHLY, deltas, deltas.size(), (ps, d) -> {
+            ps.setObject(1, d.billingMonth());
+            ps.setObject(2, d.userId());
+            ps.setLong(3, d.inputTokens());
+            ps.setLong(4, d.outputTokens());
+            ps.setDouble(5, d.costIn());
+            ps.setDouble(6, d.costOut());
+            ps.setDouble(7, d.costIn() + d.costOut());
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    public record MonthlyDelta(LocalDate billingMonth, UUID userId,
+                               long inputTokens, long outputTokens, double costIn, double costOut) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.dorandoran.chat.repository.billing;
+
+import com.dorandoran.chat.service.dto.UsageBucketResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 시간/일 사용량 롤업 테이블 JDBC 접근
+ * 증분 누적(additive UPSERT)과 기간별 합계 조회를 담당
+ */
+@Repository
+@RequiredArgsConstructor
+public class BillingRollupRepository {
+
+    private static final String UPSERT_HOURLY = """
+        INSERT INTO billing.usage_hourly AS r
+            (bucket_start, user_id, model, request_count, input_tokens, output_tokens, cost_in, cost_out)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (bucket_start, user_id, model) DO UPDATE SET
+            request_count = r.request_count + EXCLUDED.request_count,
+            input_tokens = r.input_tokens + EXCLUDED.input_tokens,
+            output_tokens = r.output_tokens + EXCLUDED.output_tokens,
+            cost_in = r.cost_in + EXCLUDED.cost_in,
+            cost_out = r.cost_out + EXCLUDED.cost_out
+        """;
+
+    private static final String UPSERT_DAILY = """
+        INSERT INTO billing.usage_daily AS r
+            (bucket_date, user_id, model, request_count, input_tokens, output_tokens, cost_in, cost_out)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (bucket_date, user_id, model) DO UPDATE SET
+            request_count = r.request_count + EXCLUDED.request_count,
+            input_tokens = r.input_tokens + EXCLUDED.input_tokens,
+            output_tokens = r.output_tokens + EXCLUDED.output_tokens,
+            cost_in = r.cost_in + EXCLUDED.cost_in,
+            cost_out = r.cost_out + EXCLUDED.cost_out
+        """;
+
+    private static final String SUM_COLUMNS = """
+        SUM(request_count) AS requests, SUM(input_tokens) AS input_tokens, SUM(output_tokens) AS output_tokens,
+        SUM(cost_in) AS cost_in, SUM(cost_out) AS cost_out
+        """;
+
+    private static final RowMapper<UsageBucketResponse> BUCKET_MAPPER = (rs, rowNum) -> {
+        double costIn = rs.getDouble("cost_in");
+        double costOut = rs.getDouble("cost_out");
+        return new UsageBucketResponse(
+            rs.getTimestamp("bucket").toLocalDateTime(),
+            rs.getLong("requests"),
+            rs.getLong("input_tokens"),
+            rs.getLong("output_tokens"),
+            costIn,
+            costOut,
+            costIn + costOut
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addHourly(List<RollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_HOURLY, deltas, deltas.size(), (ps, d) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(d.bucketStart()));
+            bindDelta(ps, d);
+        });
+    }
+
+    public void addDaily(List<RollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DAILY, deltas, deltas.size(), (ps, d) -> {
+            ps.setDate(1, Date.valueOf(d.bucketStart().toLocalDate()));
+            bindDelta(ps, d);
+        });
+    }
+
+    private static void bindDelta(PreparedStatement ps, RollupDelta d) throws SQLException {
+        ps.setObject(2, d.userId());
+        ps.setString(3, d.model());
+        ps.setLong(4, d.requests());
+        ps.setLong(5, d.inputTokens());
+        ps.setLong(6, d.outputTokens());
+        ps.setDouble(7, d.costIn());
+        ps.setDouble(8, d.costOut());
+    }
+
+    /** 사용자 일별 합계 (모델 합산) */
+    public List<UsageBucketResponse> findUserDaily(UUID userId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+            "SELECT bucket_date::timestamp AS bucket, " + SUM_COLUMNS
+                + " FROM billing.usage_daily WHERE user_id = ? AND bucket_date BETWEEN ? AND ?"
+                + " GROUP BY bucket_date ORDER BY bucket_date",
+            BUCKET_MAPPER, userId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /** 서비스 전체 일별 합계 */
+    public List<UsageBucketResponse> findServiceDaily(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+            "SELECT bucket_date::timestamp AS bucket, " + SUM_COLUMNS
+                + " FROM billing.usage_daily WHERE bucket_date BETWEEN ? AND ?"
+                + " GROUP BY bucket_date ORDER BY bucket_date",
+            BUCKET_MAPPER, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /** 사용자 시간별 합계 (모델 합산, [from, to) 구간) */
+    public List<UsageBucketResponse> findUserHourly(UUID userId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            "SELECT bucket_start AS bucket, " + SUM_COLUMNS
+                + " FROM billing.usage_hourly WHERE user_id = ? AND bucket_start >= ? AND bucket_start < ?"
+                + " GROUP BY bucket_start ORDER BY bucket_start",
+            BUCKET_MAPPER, userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 롤업 증분 (bucketStart는 시 또는 일의 시작 시각, UTC)
+     */
+    public record RollupDelta(LocalDateTime bucketStart, UUID userId, String model,
+                              long requests, long inputTokens, long outputTokens,
+                              double costIn, double costOut) {
+    }
+}
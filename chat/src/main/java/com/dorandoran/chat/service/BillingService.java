@@ -1,85 +1,129 @@
 package com.dorandoran.chat.service;
 
-import com.dorandoran.chat.entity.billing.AiUsageEvent;
-import com.dorandoran.chat.entity.billing.MonthlyUserCost;
 import com.dorandoran.chat.entity.User;
-import com.dorandoran.chat.entity.ChatRoom;
-import com.dorandoran.chat.repository.billing.AiUsageEventRepository;
+import com.dorandoran.chat.entity.billing.MonthlyUserCost;
+import com.dorandoran.chat.repository.billing.BillingJdbcRepository.MonthlyDelta;
+import com.dorandoran.chat.repository.billing.BillingRollupRepository;
 import com.dorandoran.chat.repository.billing.MonthlyUserCostRepository;
-import com.dorandoran.chat.repository.UserRepository;
-import com.dorandoran.chat.repository.ChatRoomRepository;
-import jakarta.transaction.Transactional;
+import com.dorandoran.chat.service.billing.BillingEventPipeline;
+import com.dorandoran.chat.service.billing.MonthlyCostAccumulator;
+import com.dorandoran.chat.service.billing.UsageEvent;
+import com.dorandoran.chat.service.budget.TokenBudgetService;
+import com.dorandoran.chat.service.dto.UsageBucketResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class BillingService {
 
-    private final AiUsageEventRepository aiUsageEventRepository;
+    private final BillingEventPipeline billingEventPipeline;
+    private final MonthlyCostAccumulator monthlyCostAccumulator;
     private final MonthlyUserCostRepository monthlyUserCostRepository;
-    private final UserRepository userRepository;
-    private final ChatRoomRepository chatRoomRepository;
+    private final BillingRollupRepository billingRollupRepository;
+    private final TokenBudgetService tokenBudgetService;
+
+    private static final long MAX_DAILY_RANGE_DAYS = 366;
+    private static final long MAX_HOURLY_RANGE_HOURS = 24 * 7;
 
-    @Transactional
+    /**
+     * AI 사용량 기록
+     * 이벤트를 파이프라인 큐에 넣고 월 누적기/사용자 예산에 더한 뒤 즉시 반환
+     * (DB 기록과 월 집계 반영은 각각 백그라운드에서 배치로 처리)
+     */
     public void recordUsage(UUID userId, UUID chatroomId, String provider, String model,
                             String requestId, int inTokens, int outTokens, double costIn, double costOut) {
-        // User와 ChatRoom 객체 조회
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found: " + userId));
-        ChatRoom chatRoom = chatRoomRepository.findById(chatroomId)
-            .orElseThrow(() -> new RuntimeException("ChatRoom not found: " + chatroomId));
-        
-        AiUsageEvent event = AiUsageEvent.builder()
-            .id(UUID.randomUUID())
-            .eventTime(OffsetDateTime.now(ZoneOffset.UTC))
-            .user(user)
-            .chatRoom(chatRoom)
-            .provider(provider)
-            .model(model)
-            .requestId(requestId)
-            .inputTokens(inTokens)
-            .outputTokens(outTokens)
-            .costIn(costIn)
-            .costOut(costOut)
-            .build();
-        aiUsageEventRepository.save(event);
+        UsageEvent event = new UsageEvent(
+            UUID.randomUUID(),
+            LocalDateTime.now(ZoneOffset.UTC),
+            userId,
+            chatroomId,
+            provider,
+            model,
+            requestId,
+            inTokens,
+            outTokens,
+            costIn,
+            costOut
+        );
+        monthlyCostAccumulator.add(event);
+        tokenBudgetService.record(event);
+        billingEventPipeline.submit(event);
+    }
 
-        upsertMonthly(userId, event.getEventTime().toLocalDate().withDayOfMonth(1), inTokens, outTokens, costIn, costOut);
+    /**
+     * 월 비용 실시간 조회 (DB 값 + 아직 반영되지 않은 증분)
+     */
+    public List<MonthlyUserCost> getMonthly(User user, LocalDate month) {
+        LocalDate firstDay = month.withDayOfMonth(1);
+        return monthlyCostAccumulator.readWithPending(user.getId(), firstDay,
+            () -> monthlyUserCostRepository.findByUserAndBillingMonthBetween(user, firstDay, firstDay),
+            (rows, pending) -> mergePending(user, firstDay, rows, pending));
     }
 
-    @Transactional
-    public void upsertMonthly(UUID userId, LocalDate month, long inTokens, long outTokens, double costIn, double costOut) {
-        // User 객체 조회
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found: " + userId));
-        
-        MonthlyUserCost row = monthlyUserCostRepository.findByUserAndBillingMonth(user, month)
-            .orElseGet(() -> MonthlyUserCost.builder()
-                .billingMonth(month)
-                .user(user)
-                .inputTokens(0L)
-                .outputTokens(0L)
-                .costIn(0.0)
-                .costOut(0.0)
-                .totalCost(0.0)
-                .lastAggregatedAt(OffsetDateTime.now(ZoneOffset.UTC))
-                .build());
+    /**
+     * 사용자 일별 사용량 (from, to 포함, UTC 일자)
+     */
+    public List<UsageBucketResponse> getUserDailyUsage(UUID userId, LocalDate from, LocalDate to) {
+        validateRange(from.atStartOfDay(), to.atStartOfDay(), ChronoUnit.DAYS, MAX_DAILY_RANGE_DAYS);
+        return billingRollupRepository.findUserDaily(userId, from, to);
+    }
 
-        row.setInputTokens(row.getInputTokens() + inTokens);
-        row.setOutputTokens(row.getOutputTokens() + outTokens);
-        row.setCostIn(row.getCostIn() + costIn);
-        row.setCostOut(row.getCostOut() + costOut);
-        row.setTotalCost(row.getCostIn() + row.getCostOut());
-        row.setLastAggregatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+    /**
+     * 서비스 전체 일별 사용량 (from, to 포함, UTC 일자)
+     */
+    public List<UsageBucketResponse> getServiceDailyUsage(LocalDate from, LocalDate to) {
+        validateRange(from.atStartOfDay(), to.atStartOfDay(), ChronoUnit.DAYS, MAX_DAILY_RANGE_DAYS);
+        return billingRollupRepository.findServiceDaily(from, to);
+    }
 
-        monthlyUserCostRepository.save(row);
+    /**
+     * 사용자 시간별 사용량 ([from, to), UTC)
+     */
+    public List<UsageBucketResponse> getUserHourlyUsage(UUID userId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to, ChronoUnit.HOURS, MAX_HOURLY_RANGE_HOURS);
+        return billingRollupRepository.findUserHourly(userId,
+            from.truncatedTo(ChronoUnit.HOURS), to);
     }
-}
 
+    private void validateRange(LocalDateTime from, LocalDateTime to, ChronoUnit unit, long max) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작 시점이 종료 시점보다 늦습니다");
+        }
+        if (unit.between(from, to) > max) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + max + " " + unit.name().toLowerCase() + "입니다");
+        }
+    }
 
+    private List<MonthlyUserCost> mergePending(User user, LocalDate firstDay,
+                                               List<MonthlyUserCost> rows, MonthlyDelta pending) {
+        boolean hasPending = pending.inputTokens() != 0 || pending.outputTokens() != 0
+            || pending.costIn() != 0.0 || pending.costOut() != 0.0;
+        if (!hasPending) {
+            return rows;
+        }
+        MonthlyUserCost base = rows.isEmpty() ? null : rows.get(0);
+        long inTokens = (base == null ? 0L : base.getInputTokens()) + pending.inputTokens();
+        long outTokens = (base == null ? 0L : base.getOutputTokens()) + pending.outputTokens();
+        double costIn = (base == null ? 0.0 : base.getCostIn()) + pending.costIn();
+        double costOut = (base == null ? 0.0 : base.getCostOut()) + pending.costOut();
+        return List.of(MonthlyUserCost.builder()
+            .billingMonth(firstDay)
+            .user(user)
+            .inputTokens(inTokens)
+            .outputTokens(outTokens)
+            .costIn(costIn)
+            .costOut(costOut)
+            .totalCost(costIn + costOut)
+            .lastAggregatedAt(base == null ? OffsetDateTime.now(ZoneOffset.UTC) : base.getLastAggregatedAt())
+            .build());
+    }
+}
@@ -111,13 +111,14 @@ public class ChatService {
 
     /**
      * 메시지 전송: 저장 후 룸의 last_message_* 업데이트
+     * messages는 파티션 테이블이라 (chatroom_id, sequence_number) 유일 제약이 없으므로,
+     * 채팅방 행을 잠근 뒤 순서 번호를 채번해 같은 방의 동시 전송을 직렬화
      */
     @Transactional
     public Message sendMessage(UUID chatroomId, UUID senderId, String senderType, String content, String contentType) {
-        long seq = nextSequenceNumber(chatroomId);
-        // ChatRoom 객체 조회
-        ChatRoom chatRoom = chatRoomRepository.findById(chatroomId)
+        ChatRoom chatRoom = chatRoomRepository.findByIdForUpdate(chatroomId)
             .orElseThrow(() -> new RuntimeException("ChatRoom not found: " + chatroomId));
+        long seq = nextSequenceNumber(chatroomId);
         
         Message message = Message.builder()
             .id(UUID.randomUUID())
@@ -132,12 +133,10 @@ public class ChatService {
             .build();
         Message saved = messageRepository.save(message);
 
-        chatRoomRepository.findById(chatroomId).ifPresent(room -> {
-            room.setLastMessageAt(LocalDateTime.now());
-            room.setLastMessage(saved);
-            room.setUpdatedAt(LocalDateTime.now());
-            chatRoomRepository.save(room);
-        });
+        chatRoom.setLastMessageAt(LocalDateTime.now());
+        chatRoom.setLastMessage(saved);
+        chatRoom.setUpdatedAt(LocalDateTime.now());
+        chatRoomRepository.save(chatRoom);
 
         return saved;
     }
@@ -7,19 +7,22 @@ import com.dorandoran.chat.repository.IntimacyProgressRepository;
 import com.dorandoran.chat.repository.ChatRoomRepository;
 import com.dorandoran.chat.sse.SSEManager;
 import com.dorandoran.chat.service.agent.*;
+import com.dorandoran.chat.service.pipeline.AgentPipeline;
+import com.dorandoran.chat.service.pipeline.AgentPipelineEngine;
+import com.dorandoran.chat.service.pipeline.AgentStage;
+import com.dorandoran.chat.service.pipeline.StageScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Mono;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -40,6 +43,18 @@ public class MultiAgentOrchestrator {
     private final IntimacyProgressRepository intimacyProgressRepository;
     private final ChatService chatService;
     private final ChatRoomRepository chatRoomRepository;
+    private final AgentPipelineEngine pipelineEngine;
+
+    private static final String STAGE_INTIMACY = "intimacy";
+    private static final String STAGE_INTIMACY_PROGRESS = "intimacyProgress";
+    private static final String STAGE_CONVERSATION = "conversation";
+    private static final String STAGE_BOT_MESSAGE = "botMessage";
+    private static final String STAGE_VOCABULARY = "vocabulary";
+    private static final String STAGE_SUMMARY = "summary";
+
+    private static final Duration AGENT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DB_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration SUMMARY_TIMEOUT = Duration.ofSeconds(60);
     
     public void processUserMessage(UUID chatroomId, UUID userId, Message userMessage) {
         log.info("=== MultiAgentOrchestrator.processUserMessage() 호출됨 ===");
@@ -51,227 +66,212 @@ public class MultiAgentOrchestrator {
     
     
     /**
-     * 기존 Multi-Agent 처리 로직
+     * Multi-Agent 처리 로직
+     * 각 Agent를 파이프라인 Stage로 선언하고, 블로킹 작업(JPA, Summarizer)은 이벤트 루프 밖에서 실행
+     *
+     * intimacy ──▶ intimacyProgress ····┐ (순서만 보장)
+     * conversation ──▶ botMessage ──┬──▶ summary
+     *                               └──▶ vocabulary
      */
     private void processWithAgents(UUID chatroomId, UUID userId, Message userMessage, String content) {
         int userLevel = getCurrentIntimacyLevel(chatroomId);
-        
+
         log.info("Multi-Agent 처리 시작: chatroomId={}, userId={}, userLevel={}", chatroomId, userId, userLevel);
-        
-        // Phase 1: 병렬 실행 (Intimacy, Vocabulary, Conversation)
-        log.debug("=== Phase 1: Parallel execution started ===");
-        log.debug("=== IntimacyAgent 호출 시작 ===");
-        Mono<IntimacyAgentResponse> intimacyMono = intimacyAgent.analyze(chatroomId, content)
-            .doOnSubscribe(subscription -> log.debug("IntimacyAgent 스트림 구독"))
-            .doOnNext(resp -> {
-                log.debug("IntimacyAgent 완료: detectedLevel={}", resp.detectedLevel());
-                sseManager.send(chatroomId, "intimacy_analysis", Map.of(
-                    "detectedLevel", resp.detectedLevel(),
-                    "correctedSentence", resp.correctedSentence(),
-                    "feedback", resp.feedback(),
-                    "corrections", resp.corrections()
-                ));
-                updateIntimacyProgress(chatroomId, userId, resp);
-            })
-            .doOnError(ex -> log.error("IntimacyAgent 오류", ex))
-            .doOnSuccess(resp -> log.debug("IntimacyAgent 스트림 완료"))
-            .cache(); // 결과 캐싱
 
-        // 즉시 구독
-        intimacyMono.subscribe();
-        
-        // Phase 2: Translation 제거됨 - VocabularyAgent가 모든 기능을 담당
-        
-        // Phase 3: Conversation (독립적 스트림)
-        log.debug("=== ConversationAgent 호출 시작 ===");
-        log.debug("ConversationAgent 파라미터 - chatroomId={}, content='{}'", chatroomId, content);
-        conversationAgent.generateResponse(chatroomId, content)
-            .doOnSubscribe(subscription -> log.debug("ConversationAgent 스트림 구독"))
-            .doOnError(error -> log.error("ConversationAgent 스트림 오류", error))
-            .collectList()
-            .doOnSuccess(chunks -> {
-                log.debug("collectList 성공, chunks: {}", chunks);
-                String fullResponse = String.join("", chunks);
-                log.debug("fullResponse: '{}'", fullResponse);
-                
-                // JSON 응답에서 실제 content만 추출
-                String actualContent = extractContentFromJson(fullResponse);
-                log.debug("extracted content: '{}'", actualContent);
-                
-                Message botMessage = chatService.sendMessage(
-                    chatroomId, null, "bot", actualContent, "text"
-                );
-                sseManager.send(chatroomId, "conversation_complete", Map.of(
-                    "messageId", botMessage.getId(),
-                    "content", actualContent
-                ));
-                log.info("ConversationAgent 완료: messageId={}", botMessage.getId());
+        AgentPipeline pipeline = AgentPipeline.of("user-message",
+            AgentStage.<IntimacyAgentResponse>named(STAGE_INTIMACY)
+                .on(StageScheduler.BLOCKING)  // 레벨/룸 조회(JPA) 후 OpenAI 스트림 호출
+                .timeout(AGENT_TIMEOUT)
+                .onFailure(ex -> sseManager.send(chatroomId, "agent_error", ex.getMessage()))
+                .run(ctx -> intimacyAgent.analyze(chatroomId, userId, content)
+                    .doOnNext(resp -> sseManager.send(chatroomId, "intimacy_analysis", Map.of(
+                        "detectedLevel", resp.detectedLevel(),
+                        "correctedSentence", resp.correctedSentence(),
+                        "feedback", resp.feedback(),
+                        "corrections", resp.corrections()
+                    )))),
+            AgentStage.<Void>named(STAGE_INTIMACY_PROGRESS)
+                .dependsOn(STAGE_INTIMACY)
+                .on(StageScheduler.BLOCKING)
+                .timeout(DB_TIMEOUT)
+                .exec(ctx -> updateIntimacyProgress(chatroomId, userId, ctx.get(STAGE_INTIMACY))),
+            AgentStage.<String>named(STAGE_CONVERSATION)
+                .on(StageScheduler.BLOCKING)  // 프롬프트 구성(JPA) 후 OpenAI 스트림 호출
+                .timeout(AGENT_TIMEOUT)
+                .onFailure(ex -> sseManager.send(chatroomId, "conversation_error", ex.getMessage()))
+                .run(ctx -> conversationAgent.generateResponse(chatroomId, userId, content)
+                    .collectList()
+                    .map(chunks -> extractContentFromJson(String.join("", chunks)))),
+            AgentStage.<String>named(STAGE_BOT_MESSAGE)
+                .dependsOn(STAGE_CONVERSATION)
+                .on(StageScheduler.BLOCKING)
+                .timeout(DB_TIMEOUT)
+                .onFailure(ex -> sseManager.send(chatroomId, "conversation_error", ex.getMessage()))
+                .call(ctx -> {
+                    String actualContent = ctx.get(STAGE_CONVERSATION);
+                    Message botMessage = chatService.sendMessage(chatroomId, null, "bot", actualContent, "text");
+                    sseManager.send(chatroomId, "conversation_complete", Map.of(
+                        "messageId", botMessage.getId(),
+                        "content", actualContent
+                    ));
+                    log.info("ConversationAgent 완료: messageId={}", botMessage.getId());
+                    return actualContent;
+                }),
+            AgentStage.<VocabularyAgentResponse>named(STAGE_VOCABULARY)
+                .dependsOn(STAGE_BOT_MESSAGE)
+                .timeout(AGENT_TIMEOUT)
+                .run(ctx -> vocabularyAgent.extractDifficultWords(chatroomId, userId, ctx.get(STAGE_BOT_MESSAGE), userLevel)
+                    .doOnNext(resp -> sseManager.send(chatroomId, "vocabulary_extracted", Map.of(
+                        "words", resp.words().stream().map(w -> Map.of(
+                            "word", w.word(),
+                            "difficulty", w.difficulty(),
+                            "context", Map.of(
+                                "roma", w.context().roma(),
+                                "ko", w.context().ko(),
+                                "en", w.context().en()
+                            )
+                        )).toList()
+                    )))),
+            AgentStage.<Void>named(STAGE_SUMMARY)
+                .dependsOn(STAGE_BOT_MESSAGE)
+                .after(STAGE_INTIMACY_PROGRESS)  // 같은 progress 행을 갱신하므로 순서 보장
+                .on(StageScheduler.VIRTUAL)      // Summarizer는 동기 OpenAI 호출로 오래 블로킹
+                .timeout(SUMMARY_TIMEOUT)
+                .exec(ctx -> summarizeAndMergeProgress(chatroomId, userId))
+        );
 
-                // === VocabularyAgent 호출 (챗봇 응답에서 어려운 단어 추출) ===
-                log.debug("=== VocabularyAgent 호출 시작 (챗봇 응답 분석) ===");
-                log.debug("VocabularyAgent 파라미터 - botResponse='{}', userLevel={}", actualContent, userLevel);
-                vocabularyAgent.extractDifficultWords(actualContent, userLevel)
-                    .doOnSubscribe(subscription -> log.debug("VocabularyAgent 스트림 구독"))
-                    .doOnNext(resp -> {
-                        log.debug("VocabularyAgent 완료: wordsCount={}", resp.words().size());
-                        sseManager.send(chatroomId, "vocabulary_extracted", Map.of(
-                            "words", resp.words().stream().map(w -> Map.of(
-                                "word", w.word(),
-                                "difficulty", w.difficulty(),
-                                "context", Map.of(
-                                    "roma", w.context().roma(),
-                                    "ko", w.context().ko(),
-                                    "en", w.context().en()
-                                )
-                            )).toList()
-                        ));
-                    })
-                    .doOnError(ex -> log.error("VocabularyAgent 오류", ex))
-                    .doOnSuccess(resp -> log.debug("VocabularyAgent 스트림 완료"))
-                    .subscribe();
+        pipelineEngine.execute(pipeline)
+            .subscribe(
+                result -> log.info("Multi-Agent 처리 완료: chatroomId={}, complete={}, outcomes={}",
+                    chatroomId, result.isComplete(), result.outcomes().values().stream()
+                        .map(o -> o.stage() + "=" + o.status())
+                        .toList()),
+                error -> log.error("Multi-Agent 파이프라인 오류: chatroomId={}", chatroomId, error)
+            );
+    }
 
-                // === 후처리: 요약/키워드 생성 및 progress_data 병합 저장 ===
-                try {
-                    // 이전 요약(compact) 추출
-                    String previousSummaryCompact = null;
-                    IntimacyProgress progress = intimacyProgressRepository.findByChatRoomId(chatroomId).orElse(null);
-                    ObjectMapper mapper = new ObjectMapper();
-                    if (progress != null && progress.getProgressData() != null && !progress.getProgressData().isBlank()) {
-                        ObjectNode rootPrev = (ObjectNode) mapper.readTree(progress.getProgressData());
-                        if (rootPrev.has("summaryHistory") && rootPrev.get("summaryHistory").isArray() && rootPrev.get("summaryHistory").size() > 0) {
-                            JsonNode last = rootPrev.get("summaryHistory").get(rootPrev.get("summaryHistory").size() - 1);
-                            if (last.has("summary")) {
-                                previousSummaryCompact = last.get("summary").toString();
-                            }
-                        }
+    /**
+     * 요약/키워드 생성 및 progress_data 병합 저장
+     */
+    private void summarizeAndMergeProgress(UUID chatroomId, UUID userId) {
+        try {
+            // 이전 요약(compact) 추출
+            String previousSummaryCompact = null;
+            IntimacyProgress progress = intimacyProgressRepository.findByChatRoomId(chatroomId).orElse(null);
+            ObjectMapper mapper = new ObjectMapper();
+            if (progress != null && progress.getProgressData() != null && !progress.getProgressData().isBlank()) {
+                ObjectNode rootPrev = (ObjectNode) mapper.readTree(progress.getProgressData());
+                if (rootPrev.has("summaryHistory") && rootPrev.get("summaryHistory").isArray() && rootPrev.get("summaryHistory").size() > 0) {
+                    JsonNode last = rootPrev.get("summaryHistory").get(rootPrev.get("summaryHistory").size() - 1);
+                    if (last.has("summary")) {
+                        previousSummaryCompact = last.get("summary").toString();
                     }
+                }
+            }
 
-                    // Summarizer 실행 (최근 K=20)
-                    SummarizerAgent.SummaryResult sr = summarizerAgent.summarize(chatroomId, 20, previousSummaryCompact);
+            // Summarizer 실행 (최근 K=20)
+            SummarizerAgent.SummaryResult sr = summarizerAgent.summarize(chatroomId, userId, 20, previousSummaryCompact);
 
-                    // progress_data 병합
-                    ObjectNode root = (progress != null && progress.getProgressData() != null && !progress.getProgressData().isBlank())
-                        ? (ObjectNode) mapper.readTree(progress.getProgressData())
-                        : mapper.createObjectNode();
+            // progress_data 병합
+            ObjectNode root = (progress != null && progress.getProgressData() != null && !progress.getProgressData().isBlank())
+                ? (ObjectNode) mapper.readTree(progress.getProgressData())
+                : mapper.createObjectNode();
 
-                    // summaryHistory append
-                    ArrayNode sh = root.withArray("summaryHistory");
-                    ObjectNode entry = mapper.createObjectNode();
-                    entry.put("id", UUID.randomUUID().toString());
-                    entry.put("timestamp", sr.timestamp);
-                    ObjectNode range = mapper.createObjectNode();
-                    range.put("startSeq", sr.windowStartSeq);
-                    range.put("endSeq", sr.windowEndSeq);
-                    entry.set("range", range);
-                    JsonNode summaryNode = mapper.readTree(sr.summary == null || sr.summary.isBlank() ? "{}" : sr.summary);
-                    entry.set("summary", summaryNode);
-                    sh.add(entry);
+            // summaryHistory append
+            ArrayNode sh = root.withArray("summaryHistory");
+            ObjectNode entry = mapper.createObjectNode();
+            entry.put("id", UUID.randomUUID().toString());
+            entry.put("timestamp", sr.timestamp);
+            ObjectNode range = mapper.createObjectNode();
+            range.put("startSeq", sr.windowStartSeq);
+            range.put("endSeq", sr.windowEndSeq);
+            entry.set("range", range);
+            JsonNode summaryNode = mapper.readTree(sr.summary == null || sr.summary.isBlank() ? "{}" : sr.summary);
+            entry.set("summary", summaryNode);
+            sh.add(entry);
 
-                    // keywordIndex upsert
-                    ObjectNode ki = (ObjectNode) root.with("keywordIndex");
-                    ArrayNode items = ki.withArray("items");
-                    for (String kw : sr.keywords) {
-                        boolean merged = false;
-                        for (int i = 0; i < items.size(); i++) {
-                            ObjectNode it = (ObjectNode) items.get(i);
-                            if (kw.equalsIgnoreCase(it.path("keyword").asText())) {
-                                it.put("score", it.path("score").asInt(0) + 1);
-                                it.put("updatedAt", java.time.OffsetDateTime.now().toString());
-                                merged = true;
-                                break;
-                            }
-                        }
-                        if (!merged) {
-                            ObjectNode it = mapper.createObjectNode();
-                            it.put("keyword", kw);
-                            it.put("score", 1);
-                            it.put("updatedAt", java.time.OffsetDateTime.now().toString());
-                            it.set("occurrences", mapper.createArrayNode());
-                            items.add(it);
-                        }
-                    }
-                    
-                    // 상한치 적용: 키워드 50개 제한, summaryHistory 2개 제한
-                    if (items.size() > 50) {
-                        // 점수 기준으로 정렬 후 상위 50개만 유지
-                        List<ObjectNode> sortedItems = new ArrayList<>();
-                        for (int i = 0; i < items.size(); i++) {
-                            sortedItems.add((ObjectNode) items.get(i));
-                        }
-                        sortedItems.sort((a, b) -> Integer.compare(b.path("score").asInt(0), a.path("score").asInt(0)));
-                        
-                        ArrayNode newItems = mapper.createArrayNode();
-                        for (int i = 0; i < Math.min(50, sortedItems.size()); i++) {
-                            newItems.add(sortedItems.get(i));
-                        }
-                        ki.set("items", newItems);
-                    }
-                    
-                    // summaryHistory 2개 제한
-                    ArrayNode summaryHistory = root.withArray("summaryHistory");
-                    if (summaryHistory.size() > 2) {
-                        ArrayNode newSh = mapper.createArrayNode();
-                        for (int i = summaryHistory.size() - 2; i < summaryHistory.size(); i++) {
-                            newSh.add(summaryHistory.get(i));
-                        }
-                        root.set("summaryHistory", newSh);
+            // keywordIndex upsert
+            ObjectNode ki = (ObjectNode) root.with("keywordIndex");
+            ArrayNode items = ki.withArray("items");
+            for (String kw : sr.keywords) {
+                boolean merged = false;
+                for (int i = 0; i < items.size(); i++) {
+                    ObjectNode it = (ObjectNode) items.get(i);
+                    if (kw.equalsIgnoreCase(it.path("keyword").asText())) {
+                        it.put("score", it.path("score").asInt(0) + 1);
+                        it.put("updatedAt", java.time.OffsetDateTime.now().toString());
+                        merged = true;
+                        break;
                     }
+                }
+                if (!merged) {
+                    ObjectNode it = mapper.createObjectNode();
+                    it.put("keyword", kw);
+                    it.put("score", 1);
+                    it.put("updatedAt", java.time.OffsetDateTime.now().toString());
+                    it.set("occurrences", mapper.createArrayNode());
+                    items.add(it);
+                }
+            }
+            
+            // 상한치 적용: 키워드 50개 제한, summaryHistory 2개 제한
+            if (items.size() > 50) {
+                // 점수 기준으로 정렬 후 상위 50개만 유지
+                List<ObjectNode> sortedItems = new ArrayList<>();
+                for (int i = 0; i < items.size(); i++) {
+                    sortedItems.add((ObjectNode) items.get(i));
+                }
+                sortedItems.sort((a, b) -> Integer.compare(b.path("score").asInt(0), a.path("score").asInt(0)));
+                
+                ArrayNode newItems = mapper.createArrayNode();
+                for (int i = 0; i < Math.min(50, sortedItems.size()); i++) {
+                    newItems.add(sortedItems.get(i));
+                }
+                ki.set("items", newItems);
+            }
+            
+            // summaryHistory 2개 제한
+            ArrayNode summaryHistory = root.withArray("summaryHistory");
+            if (summaryHistory.size() > 2) {
+                ArrayNode newSh = mapper.createArrayNode();
+                for (int i = summaryHistory.size() - 2; i < summaryHistory.size(); i++) {
+                    newSh.add(summaryHistory.get(i));
+                }
+                root.set("summaryHistory", newSh);
+            }
 
-                    // lastContextSnapshot 갱신
-                    ObjectNode snap = (ObjectNode) root.with("lastContextSnapshot");
-                    snap.put("usedAt", java.time.OffsetDateTime.now().toString());
-                    snap.put("intimacyLevel", getCurrentIntimacyLevel(chatroomId));
-                    ObjectNode mw = mapper.createObjectNode();
-                    mw.put("startSeq", sr.windowStartSeq);
-                    mw.put("endSeq", sr.windowEndSeq);
-                    mw.put("count", (sr.windowEndSeq - sr.windowStartSeq + 1));
-                    snap.set("messagesWindow", mw);
-                    ArrayNode sid = mapper.createArrayNode();
-                    sid.add(entry.get("id").asText());
-                    snap.set("summaryIds", sid);
-                    snap.set("keywordHashes", mapper.createArrayNode());
+            // lastContextSnapshot 갱신
+            ObjectNode snap = (ObjectNode) root.with("lastContextSnapshot");
+            snap.put("usedAt", java.time.OffsetDateTime.now().toString());
+            snap.put("intimacyLevel", getCurrentIntimacyLevel(chatroomId));
+            ObjectNode mw = mapper.createObjectNode();
+            mw.put("startSeq", sr.windowStartSeq);
+            mw.put("endSeq", sr.windowEndSeq);
+            mw.put("count", (sr.windowEndSeq - sr.windowStartSeq + 1));
+            snap.set("messagesWindow", mw);
+            ArrayNode sid = mapper.createArrayNode();
+            sid.add(entry.get("id").asText());
+            snap.set("summaryIds", sid);
+            snap.set("keywordHashes", mapper.createArrayNode());
 
-                    if (progress == null) {
-                        ChatRoom chatRoom = chatService.getChatRoomById(chatroomId);
-                        progress = IntimacyProgress.builder()
-                            .id(UUID.randomUUID())
-                            .chatRoom(chatRoom)
-                            .userId(userId)
-                            .intimacyLevel(getCurrentIntimacyLevel(chatroomId))
-                            .totalCorrections(0)
-                            .build();
-                    }
-                    progress.setProgressData(mapper.writeValueAsString(root));
-                    progress.setLastUpdated(LocalDateTime.now());
-                    intimacyProgressRepository.save(progress);
-                    log.info("요약/키워드 저장 완료: chatroomId={}, summaryHistorySize={}, keywordCount={}, tokens={}", 
-                        chatroomId, summaryHistory.size(), items.size(), sr.tokens);
-                } catch (Exception ex) {
-                    log.warn("요약/키워드 후처리 실패 - 무시하고 진행합니다.", ex);
-                }
-            })
-            .doOnError(ex -> {
-                log.error("ConversationAgent 오류", ex);
-                sseManager.send(chatroomId, "conversation_error", ex.getMessage());
-            })
-            .subscribe(
-                result -> log.debug("ConversationAgent 구독 완료"),
-                error -> log.error("ConversationAgent 구독 오류", error)
-            );
-        
-        // Phase 4: IntimacyAgent 완료 대기 (VocabularyAgent는 챗봇 응답 후 별도 처리)
-        log.debug("=== Phase 4: IntimacyAgent completion waiting ===");
-        intimacyMono
-            .doOnSubscribe(subscription -> log.debug("Phase 4 스트림 구독"))
-            .doOnSuccess(intimacyResp -> {
-                log.debug("Phase 4 성공 - intimacyResp 받음: {}", intimacyResp);
-                log.info("Phase 4 완료 - IntimacyAgent 결과 처리됨");
-            })
-            .doOnError(ex -> {
-                log.error("Multi-Agent 처리 중 오류", ex);
-                sseManager.send(chatroomId, "agent_error", ex.getMessage());
-            })
-            .subscribe();
+            if (progress == null) {
+                ChatRoom chatRoom = chatService.getChatRoomById(chatroomId);
+                progress = IntimacyProgress.builder()
+                    .id(UUID.randomUUID())
+                    .chatRoom(chatRoom)
+                    .userId(userId)
+                    .intimacyLevel(getCurrentIntimacyLevel(chatroomId))
+                    .totalCorrections(0)
+                    .build();
+            }
+            progress.setProgressData(mapper.writeValueAsString(root));
+            progress.setLastUpdated(LocalDateTime.now());
+            intimacyProgressRepository.save(progress);
+            log.info("요약/키워드 저장 완료: chatroomId={}, summaryHistorySize={}, keywordCount={}, tokens={}", 
+                chatroomId, summaryHistory.size(), items.size(), sr.tokens);
+        } catch (Exception ex) {
+            log.warn("요약/키워드 후처리 실패 - 무시하고 진행합니다.", ex);
+        }
     }
     
     private int getCurrentIntimacyLevel(UUID chatroomId) {
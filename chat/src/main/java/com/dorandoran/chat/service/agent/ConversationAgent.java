@@ -2,6 +2,7 @@ package com.dorandoran.chat.service.agent;
 
 import com.dorandoran.chat.service.OpenAIClient;
 import com.dorandoran.chat.service.PromptService;
+import com.dorandoran.chat.service.billing.AgentUsageMeter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,15 +20,17 @@ import java.util.UUID;
 public class ConversationAgent {
     private final OpenAIClient openAIClient;
     private final PromptService promptService;
+    private final AgentUsageMeter agentUsageMeter;
     
-    public Flux<String> generateResponse(UUID chatroomId, String userMessage) {
+    public Flux<String> generateResponse(UUID chatroomId, UUID userId, String userMessage) {
         log.info("=== ConversationAgent.generateResponse() 호출됨 ===");
         String systemPrompt = promptService.buildSystemPrompt(chatroomId);
         log.info("ConversationAgent 시작: chatroomId={}, userMessage='{}'", chatroomId, userMessage);
         log.info("System Prompt: {}", systemPrompt);
         
         log.info("=== OpenAI API 호출 시작 ===");
-        return openAIClient.streamRawCompletion(systemPrompt, userMessage)
+        return agentUsageMeter.meter(openAIClient.streamRawCompletion(systemPrompt, userMessage),
+                userId, chatroomId, "conversation", systemPrompt, userMessage)
             .doOnError(error -> log.error("ConversationAgent 원시 응답 오류: {}", error.getMessage(), error))
             .map(raw -> {
                 try {
@@ -2,10 +2,12 @@ package com.dorandoran.chat.service.agent;
 
 import com.dorandoran.chat.entity.IntimacyProgress;
 import com.dorandoran.chat.entity.Chatbot;
+import com.dorandoran.chat.entity.ChatRoom;
 import com.dorandoran.chat.repository.IntimacyProgressRepository;
 import com.dorandoran.chat.repository.ChatRoomRepository;
 import com.dorandoran.chat.repository.ChatbotRepository;
 import com.dorandoran.chat.service.OpenAIClient;
+import com.dorandoran.chat.service.billing.AgentUsageMeter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,8 +36,10 @@ public class IntimacyAgent {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatbotRepository chatbotRepository;
     private final ObjectMapper objectMapper;
+    private final IntimacyResultCache intimacyResultCache;
+    private final AgentUsageMeter agentUsageMeter;
 
-    public Mono<IntimacyAgentResponse> analyze(UUID chatroomId, String userMessage) {
+    public Mono<IntimacyAgentResponse> analyze(UUID chatroomId, UUID userId, String userMessage) {
         log.info("=== IntimacyAgent.analyze() 호출됨 ===");
         log.info("=== IntimacyAgent 파라미터 - chatroomId={}, userMessage='{}' ===", chatroomId, userMessage);
         
@@ -40,36 +48,84 @@ public class IntimacyAgent {
             .orElse(1);
         log.info("=== IntimacyAgent 현재 레벨 조회: {} ===", currentLevel);
         
-        String concept = getConceptFromChatRoom(chatroomId);
-        String systemPrompt = buildIntimacyPrompt(chatroomId, currentLevel, concept);
+        Optional<ChatRoom> room = chatRoomRepository.findById(chatroomId);
+        String concept = getConceptFromChatRoom(room);
+        Optional<Chatbot> chatbot = getChatbot(room);
+        String basePrompt = chatbot.map(Chatbot::getIntimacySystemPrompt)
+            .orElse(getDefaultIntimacyBasePrompt());
+        String systemPrompt = buildIntimacyPrompt(basePrompt, currentLevel, concept);
         log.info("=== IntimacyAgent systemPrompt: {} ===", systemPrompt);
         
+        IntimacyResultCache.Key cacheKey = IntimacyResultCache.Key.of(
+            promptVersion(chatbot, basePrompt), concept, currentLevel, userMessage);
+        return intimacyResultCache.getOrLoad(cacheKey, () -> callProvider(chatroomId, userId, systemPrompt, userMessage));
+    }
+    
+    private Mono<IntimacyResultCache.Analysis> callProvider(UUID chatroomId, UUID userId,
+                                                            String systemPrompt, String userMessage) {
         log.info("=== IntimacyAgent OpenAI API 호출 시작 ===");
-        return openAIClient.streamRawCompletion(systemPrompt, userMessage)
+        return agentUsageMeter.meter(openAIClient.streamRawCompletion(systemPrompt, userMessage),
+                userId, chatroomId, "intimacy", systemPrompt, userMessage)
             .doOnError(error -> log.error("IntimacyAgent 스트림 오류", error))
             .collectList()
             .doOnError(error -> log.error("IntimacyAgent collectList 오류", error))
-            .map(this::parseIntimacyResponse)
-            .doOnSuccess(response -> log.info("IntimacyAgent 파싱 완료: 레벨={}", response.detectedLevel()))
+            .map(chunks -> new IntimacyResultCache.Analysis(
+                parseIntimacyResponse(chunks), countTokens(chunks, systemPrompt, userMessage)))
+            .doOnSuccess(analysis -> log.info("IntimacyAgent 파싱 완료: 레벨={}", analysis.response().detectedLevel()))
             .doOnError(error -> log.error("IntimacyAgent 파싱 오류", error));
     }
     
-    private String getConceptFromChatRoom(UUID chatroomId) {
-        return chatRoomRepository.findById(chatroomId)
-            .map(room -> {
-                if (room.getSettings() != null && room.getSettings().has("concept")) {
-                    return room.getSettings().get("concept").asText();
+    /**
+     * 프롬프트 버전: 챗봇 ID + 친밀도 프롬프트 SHA-256
+     * 관리자가 프롬프트를 수정하면 버전이 바뀌어 이전 캐시 결과가 재사용되지 않음
+     * (32비트 hashCode는 충돌 시 수정 전 분석 결과를 돌려줄 수 있어 사용하지 않음)
+     */
+    private String promptVersion(Optional<Chatbot> chatbot, String basePrompt) {
+        String botId = chatbot.map(bot -> String.valueOf(bot.getId())).orElse("default");
+        return botId + ":" + sha256Hex(basePrompt == null ? "" : basePrompt);
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+    
+    /**
+     * 호출에 사용된 토큰 수
+     * 스트림에 usage가 포함되지 않으면 문자 수 기반으로 근사 (과금 계측과 같은 비율, AgentUsageMeter 참고)
+     */
+    private long countTokens(List<String> chunks, String systemPrompt, String userMessage) {
+        long outputChars = 0;
+        for (String chunk : chunks) {
+            OpenAIClient.Usage usage = openAIClient.extractUsage(chunk);
+            if (!usage.isEmpty()) {
+                return (long) usage.inputTokens() + usage.outputTokens();
+            }
+            outputChars += chunk.length();
+        }
+        long inputChars = (systemPrompt == null ? 0 : systemPrompt.length())
+            + (userMessage == null ? 0 : userMessage.length());
+        return AgentUsageMeter.approximateInputTokens(inputChars)
+            + AgentUsageMeter.approximateOutputTokens(outputChars);
+    }
+    
+    private String getConceptFromChatRoom(Optional<ChatRoom> room) {
+        return room
+            .map(r -> {
+                if (r.getSettings() != null && r.getSettings().has("concept")) {
+                    return r.getSettings().get("concept").asText();
                 }
                 return "FRIEND";
             })
             .orElse("FRIEND");
     }
     
-    private String buildIntimacyPrompt(UUID chatroomId, int level, String concept) {
-        // 1. DB에서 Base Prompt 조회
-        String basePrompt = getBasePromptFromDB(chatroomId);
-        
-        // 2. Dynamic Directives 생성
+    private String buildIntimacyPrompt(String basePrompt, int level, String concept) {
+        // 1. Dynamic Directives 생성
         String conceptGuideline = getConceptGuideline(concept);
         String dynamicDirectives = String.format("""
             
@@ -90,18 +146,15 @@ public class IntimacyAgent {
             }
             """, level, concept, conceptGuideline);
         
-        // 3. 합성
+        // 2. 합성
         return basePrompt + dynamicDirectives;
     }
     
-    private String getBasePromptFromDB(UUID chatroomId) {
-        return chatRoomRepository.findById(chatroomId)
-            .flatMap(room -> {
-                if (room.getChatbot() == null) return Optional.empty();
-                return chatbotRepository.findById(room.getChatbot().getId());
-            })
-            .map(Chatbot::getIntimacySystemPrompt)
-            .orElse(getDefaultIntimacyBasePrompt());
+    private Optional<Chatbot> getChatbot(Optional<ChatRoom> room) {
+        return room.flatMap(r -> {
+            if (r.getChatbot() == null) return Optional.empty();
+            return chatbotRepository.findById(r.getChatbot().getId());
+        });
     }
     
     private String getDefaultIntimacyBasePrompt() {
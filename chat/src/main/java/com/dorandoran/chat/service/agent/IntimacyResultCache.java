@@ -0,0 +1,167 @@
+package com.dorandoran.chat.service.agent;
+
+import com.dorandoran.chat.config.AgentCacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * IntimacyAgent 분석 결과 캐시
+ * (프롬프트 버전, 컨셉, 목표 레벨, 정규화된 발화)가 완전히 같으면 Provider 호출 없이 이전 결과를 재사용
+ *
+ * - TTL + 최대 항목 수(LRU) 제한
+ * - 동일 키에 대한 동시 요청은 하나의 Provider 호출로 합침 (single-flight)
+ * - 적중/미스/합류 횟수와 절약된 토큰 수를 Micrometer로 노출
+ */
+@Component
+@Slf4j
+public class IntimacyResultCache {
+
+    private final AgentCacheConfig config;
+    private final Map<Key, Entry> entries;
+    private final ConcurrentHashMap<Key, Mono<Analysis>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Counter tokensSavedCounter;
+
+    public IntimacyResultCache(AgentCacheConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > config.getMaxSize();
+            }
+        };
+        this.hitCounter = Counter.builder("chat.agent.intimacy.cache.requests")
+            .tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("chat.agent.intimacy.cache.requests")
+            .tag("result", "miss").register(meterRegistry);
+        this.coalescedCounter = Counter.builder("chat.agent.intimacy.cache.requests")
+            .tag("result", "coalesced").register(meterRegistry);
+        this.tokensSavedCounter = Counter.builder("chat.agent.intimacy.cache.tokens.saved")
+            .description("캐시 적중으로 생략된 Provider 호출의 토큰 수")
+            .register(meterRegistry);
+        Gauge.builder("chat.agent.intimacy.cache.size", this, IntimacyResultCache::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과가 있으면 즉시 반환하고, 없으면 loader를 한 번만 실행해 결과를 공유
+     */
+    public Mono<IntimacyAgentResponse> getOrLoad(Key key, Supplier<Mono<Analysis>> loader) {
+        if (!config.isEnabled() || key.utterance().isEmpty()
+            || key.utterance().length() > config.getMaxUtteranceLength()) {
+            return loader.get().map(Analysis::response);
+        }
+
+        Entry cached = lookup(key);
+        if (cached != null) {
+            hitCounter.increment();
+            tokensSavedCounter.increment(cached.tokens());
+            log.debug("IntimacyAgent 캐시 적중: concept={}, level={}", key.concept(), key.level());
+            return Mono.just(cached.response());
+        }
+
+        AtomicBoolean leader = new AtomicBoolean(false);
+        Mono<Analysis> shared = inFlight.computeIfAbsent(key, k -> {
+            leader.set(true);
+            return loader.get()
+                .doOnNext(analysis -> store(k, analysis))
+                .doFinally(signal -> inFlight.remove(k))
+                .cache();
+        });
+
+        if (leader.get()) {
+            missCounter.increment();
+            return shared.map(Analysis::response);
+        }
+        coalescedCounter.increment();
+        return shared
+            .doOnNext(analysis -> tokensSavedCounter.increment(analysis.tokens()))
+            .map(Analysis::response);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private Entry lookup(Key key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtNanos() - System.nanoTime() <= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void store(Key key, Analysis analysis) {
+        // 파싱 실패/빈 응답(detectedLevel=0)은 재사용하지 않음
+        if (analysis.response() == null || analysis.response().detectedLevel() <= 0) {
+            return;
+        }
+        long expiresAt = System.nanoTime() + config.getTtl().toNanos();
+        synchronized (entries) {
+            entries.put(key, new Entry(analysis.response(), analysis.tokens(), expiresAt));
+        }
+    }
+
+    /**
+     * 발화 정규화: 유니코드 NFC, 앞뒤 공백 제거, 연속 공백 1칸으로 축소
+     * 문장부호는 교정 결과에 영향을 주므로 유지
+     */
+    static String normalize(String utterance) {
+        if (utterance == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(utterance, Normalizer.Form.NFC);
+        return nfc.strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param promptVersion 챗봇 친밀도 프롬프트 버전 (챗봇 ID + 프롬프트 해시)
+     * @param concept 대화 컨셉
+     * @param level 목표 친밀도 레벨
+     * @param utterance 정규화된 발화
+     */
+    public record Key(String promptVersion, String concept, int level, String utterance) {
+        public static Key of(String promptVersion, String concept, int level, String userMessage) {
+            return new Key(promptVersion, concept, level, normalize(userMessage));
+        }
+    }
+
+    /**
+     * Provider 호출 결과와 그 호출에 든 토큰 수
+     */
+    public record Analysis(IntimacyAgentResponse response, long tokens) {
+    }
+
+    private record Entry(IntimacyAgentResponse response, long tokens, long expiresAtNanos) {
+    }
+}
@@ -3,6 +3,7 @@ package com.dorandoran.chat.service.agent;
 import com.dorandoran.chat.entity.Message;
 import com.dorandoran.chat.service.ChatService;
 import com.dorandoran.chat.service.OpenAIClient;
+import com.dorandoran.chat.service.billing.AgentUsageMeter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -23,8 +24,9 @@ import java.util.stream.Collectors;
 public class SummarizerAgent {
     private final OpenAIClient openAIClient;
     private final ChatService chatService;
+    private final AgentUsageMeter agentUsageMeter;
 
-    public SummaryResult summarize(UUID chatroomId, int recentWindowSize, String previousSummaryCompact) {
+    public SummaryResult summarize(UUID chatroomId, UUID userId, int recentWindowSize, String previousSummaryCompact) {
         long startTime = System.currentTimeMillis();
         int inputTokens = 0;
         int outputTokens = 0;
@@ -42,7 +44,8 @@ public class SummarizerAgent {
             String user = buildUserPrompt(maskedRecent, previousSummaryCompact);
 
             StringBuilder full = new StringBuilder();
-            Flux<String> raw = openAIClient.streamRawCompletion(system, user);
+            Flux<String> raw = agentUsageMeter.meter(openAIClient.streamRawCompletion(system, user),
+                userId, chatroomId, "summarizer", system, user);
             raw.flatMap(openAIClient::extractText)
                .doOnNext(full::append)
                .blockLast();
@@ -1,6 +1,7 @@
 package com.dorandoran.chat.service.agent;
 
 import com.dorandoran.chat.service.OpenAIClient;
+import com.dorandoran.chat.service.billing.AgentUsageMeter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -22,8 +23,9 @@ import java.util.UUID;
 public class VocabularyAgent {
     private final OpenAIClient openAIClient;
     private final ObjectMapper objectMapper;
+    private final AgentUsageMeter agentUsageMeter;
 
-    public Mono<VocabularyAgentResponse> extractDifficultWords(String userMessage, int userLevel) {
+    public Mono<VocabularyAgentResponse> extractDifficultWords(UUID chatroomId, UUID userId, String userMessage, int userLevel) {
         log.info("=== VocabularyAgent.extractDifficultWords() 호출됨 ===");
         log.info("=== VocabularyAgent 파라미터 - userMessage='{}', userLevel={} ===", userMessage, userLevel);
         
@@ -31,7 +33,8 @@ public class VocabularyAgent {
         log.info("=== VocabularyAgent systemPrompt: {} ===", systemPrompt);
         
         log.info("=== VocabularyAgent OpenAI API 호출 시작 ===");
-        return openAIClient.streamRawCompletion(systemPrompt, userMessage)
+        return agentUsageMeter.meter(openAIClient.streamRawCompletion(systemPrompt, userMessage),
+                userId, chatroomId, "vocabulary", systemPrompt, userMessage)
             .doOnError(error -> log.error("VocabularyAgent 스트림 오류", error))
             .collectList()
             .doOnError(error -> log.error("VocabularyAgent collectList 오류", error))
@@ -0,0 +1,97 @@
+package com.dorandoran.chat.service.billing;
+
+import com.dorandoran.chat.config.AIConfig;
+import com.dorandoran.chat.service.BillingService;
+import com.dorandoran.chat.service.OpenAIClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Agent LLM 호출 사용량 계측
+ *
+ * Agent의 OpenAI RAW 스트림을 감싸 usage 청크(없으면 문자 수 근사치)를 모으고,
+ * 스트림이 끝나면(완료/오류/취소) 한 번 BillingService에 기록 → 과금 파이프라인과 사용자 예산에 함께 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AgentUsageMeter {
+
+    // 한국어 위주 대화 기준 토큰당 문자 수 (영어는 약 4자, 한글은 1~2자)
+    private static final int APPROX_CHARS_PER_TOKEN = 2;
+    // 스트림 청크는 본문 조각 하나를 SSE "data:" 줄과 chat.completion.chunk JSON(id, model, choices 등)으로 감싸므로
+    // 청크 문자 수는 실제 본문의 약 4배 → 나눠서 본문 문자 수로 환산
+    private static final int STREAM_FRAMING_FACTOR = 4;
+
+    private final OpenAIClient openAIClient;
+    private final BillingService billingService;
+    private final AIConfig aiConfig;
+
+    public Flux<String> meter(Flux<String> raw, UUID userId, UUID chatroomId, String agent,
+                              String systemPrompt, String userPrompt) {
+        if (userId == null) {
+            return raw;
+        }
+        return Flux.defer(() -> {
+            AtomicInteger reportedIn = new AtomicInteger();
+            AtomicInteger reportedOut = new AtomicInteger();
+            AtomicLong outputChars = new AtomicLong();
+            return raw
+                .doOnNext(chunk -> {
+                    OpenAIClient.Usage usage = openAIClient.extractUsage(chunk);
+                    if (!usage.isEmpty()) {
+                        reportedIn.addAndGet(usage.inputTokens());
+                        reportedOut.addAndGet(usage.outputTokens());
+                    } else {
+                        outputChars.addAndGet(chunk.length());
+                    }
+                })
+                .doFinally(signal -> {
+                    int in = reportedIn.get();
+                    int out = reportedOut.get();
+                    if (in == 0 && out == 0) {
+                        long inputChars = (systemPrompt == null ? 0 : systemPrompt.length())
+                            + (userPrompt == null ? 0 : userPrompt.length());
+                        in = (int) approximateInputTokens(inputChars);
+                        out = (int) approximateOutputTokens(outputChars.get());
+                    }
+                    record(userId, chatroomId, agent, in, out);
+                });
+        });
+    }
+
+    /**
+     * 프롬프트 문자 수 → 입력 토큰 근사치 (usage가 없는 스트림용)
+     */
+    public static long approximateInputTokens(long promptChars) {
+        return promptChars / APPROX_CHARS_PER_TOKEN;
+    }
+
+    /**
+     * RAW 스트림 청크 문자 수(프레이밍 포함) → 출력 토큰 근사치 (usage가 없는 스트림용)
+     */
+    public static long approximateOutputTokens(long streamChars) {
+        return streamChars / STREAM_FRAMING_FACTOR / APPROX_CHARS_PER_TOKEN;
+    }
+
+    private void record(UUID userId, UUID chatroomId, String agent, int in, int out) {
+        if (in == 0 && out == 0) {
+            return;
+        }
+        double costIn = (in / 1000.0) * aiConfig.getPricePer1kInput();
+        double costOut = (out / 1000.0) * aiConfig.getPricePer1kOutput();
+        try {
+            billingService.recordUsage(userId, chatroomId, "openai", aiConfig.getModel(), null,
+                in, out, costIn, costOut);
+        } catch (Exception e) {
+            log.warn("Agent 사용량 기록 실패: agent={}, userId={}, error={}", agent, userId, e.getMessage());
+        }
+        log.debug("Agent 사용량 기록: agent={}, userId={}, tokens_in={}, tokens_out={}", agent, userId, in, out);
+    }
+}
@@ -0,0 +1,110 @@
+package com.dorandoran.chat.service.billing;
+
+import com.dorandoran.chat.config.BillingPipelineConfig;
+import com.dorandoran.chat.repository.billing.BillingJdbcRepository;
+import com.dorandoran.chat.repository.billing.BillingRollupRepository;
+import com.dorandoran.chat.repository.billing.BillingRollupRepository.RollupDelta;
+import com.dorandoran.common.writer.WriteBehindWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 과금 이벤트 비동기 배치 파이프라인
+ *
+ * AI 스트리밍 스레드는 불변 이벤트를 메모리 큐에 넣기만 하고,
+ * 전용 writer 스레드가 배치 단위로 이벤트 JDBC 일괄 INSERT와 시간/일 롤업 누적을 한 트랜잭션으로 기록
+ * (큐/보존 파일/종료 처리는 {@link WriteBehindWriter})
+ *
+ * 이벤트 INSERT는 ON CONFLICT DO NOTHING이며 실제 삽입된 이벤트만 롤업에 반영하므로 보존 파일 재처리는 멱등
+ */
+@Component
+public class BillingEventPipeline extends WriteBehindWriter<UsageEvent> {
+
+    private final BillingJdbcRepository billingJdbcRepository;
+    private final BillingRollupRepository billingRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BillingEventPipeline(BillingPipelineConfig config,
+                                BillingJdbcRepository billingJdbcRepository,
+                                BillingRollupRepository billingRollupRepository,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        super("billing", "chat.billing.pipeline", "events", UsageEvent.class,
+            new Settings(config.getCapacity(), config.getBatchSize(), config.getFlushInterval(),
+                config.getOfferTimeout(), config.getMaxRetries(), config.getSpillDir()),
+            objectMapper, meterRegistry);
+        this.billingJdbcRepository = billingJdbcRepository;
+        this.billingRollupRepository = billingRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("chat.billing.pipeline.lag.seconds", this, BillingEventPipeline::lagSeconds)
+            .description("큐에서 가장 오래 대기 중인 이벤트의 경과 시간")
+            .register(meterRegistry);
+    }
+
+    double lagSeconds() {
+        UsageEvent oldest = oldest();
+        if (oldest == null) {
+            return 0.0;
+        }
+        return Duration.between(oldest.eventTime(), LocalDateTime.now(ZoneOffset.UTC)).toMillis() / 1000.0;
+    }
+
+    /**
+     * 이벤트 일괄 INSERT + 시간/일 롤업 증분을 한 트랜잭션으로 기록
+     * (월 집계는 {@link MonthlyCostAccumulator}가 별도로 반영)
+     *
+     * @return 실제로 삽입된 이벤트 수
+     */
+    @Override
+    protected int write(List<UsageEvent> batch) {
+        List<UsageEvent> inserted = new ArrayList<>(batch.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<UUID> insertedIds = billingJdbcRepository.insertEvents(batch);
+            for (UsageEvent event : batch) {
+                // RETURNING에 없으면 중복으로 건너뜀 → 롤업에 다시 더하지 않음 (재처리 멱등)
+                if (insertedIds.contains(event.id())) {
+                    inserted.add(event);
+                }
+            }
+            billingRollupRepository.addHourly(rollup(inserted, e -> e.eventTime().truncatedTo(ChronoUnit.HOURS)));
+            billingRollupRepository.addDaily(rollup(inserted, e -> e.eventTime().truncatedTo(ChronoUnit.DAYS)));
+        });
+        return inserted.size();
+    }
+
+    /**
+     * (버킷, 사용자, 모델) 단위로 이벤트 합산
+     */
+    static List<RollupDelta> rollup(List<UsageEvent> events, Function<UsageEvent, LocalDateTime> bucketOf) {
+        record BucketKey(LocalDateTime bucket, UUID userId, String model) { }
+        Map<BucketKey, RollupDelta> sums = new LinkedHashMap<>();
+        for (UsageEvent e : events) {
+            sums.merge(
+                new BucketKey(bucketOf.apply(e), e.userId(), e.model()),
+                new RollupDelta(bucketOf.apply(e), e.userId(), e.model(), 1,
+                    e.inputTokens(), e.outputTokens(), e.costIn(), e.costOut()),
+                (a, b) -> new RollupDelta(a.bucketStart(), a.userId(), a.model(), a.requests() + b.requests(),
+                    a.inputTokens() + b.inputTokens(), a.outputTokens() + b.outputTokens(),
+                    a.costIn() + b.costIn(), a.costOut() + b.costOut()));
+        }
+        return new ArrayList<>(sums.values());
+    }
+}
@@ -0,0 +1,255 @@
+package com.dorandoran.chat.service.billing;
+
+import com.dorandoran.chat.config.BillingPipelineConfig;
+import com.dorandoran.chat.repository.billing.BillingJdbcRepository;
+import com.dorandoran.chat.repository.billing.BillingJdbcRepository.MonthlyDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 월별 사용자 비용 누적기
+ *
+ * 사용자·월 단위 LongAdder 셀에 사용량을 더하기만 하고(행 잠금/경합 없음),
+ * 주기적으로 셀을 비우면서 그 증분을 monthly_user_costs에 additive UPSERT로 반영
+ * 비용은 NUMERIC(18,6)과 같은 정밀도의 마이크로 단위 정수로 누적해 부동소수 오차를 피함
+ *
+ * 아직 반영되지 않은 증분은 {@link #pending(UUID, LocalDate)}로 조회해 DB 값에 더하면 실시간 합계가 됨
+ */
+@Component
+@Slf4j
+public class MonthlyCostAccumulator implements SmartLifecycle {
+
+    private static final double MICROS = 1_000_000.0;
+
+    private final BillingPipelineConfig config;
+    private final BillingJdbcRepository billingJdbcRepository;
+    private final Map<MonthKey, Cell> cells = new ConcurrentHashMap<>();
+    private final Counter flushFailureCounter;
+    private final AtomicLong flushSeq = new AtomicLong();
+
+    private ScheduledExecutorService flusher;
+    private volatile boolean running;
+
+    public MonthlyCostAccumulator(BillingPipelineConfig config,
+                                  BillingJdbcRepository billingJdbcRepository,
+                                  MeterRegistry meterRegistry) {
+        this.config = config;
+        this.billingJdbcRepository = billingJdbcRepository;
+        this.flushFailureCounter = Counter.builder("chat.billing.monthly.flush.failed")
+            .register(meterRegistry);
+        Gauge.builder("chat.billing.monthly.pending.cells", cells, Map::size)
+            .register(meterRegistry);
+    }
+
+    public void add(UsageEvent event) {
+        accumulate(new MonthKey(event.billingMonth(), event.userId()),
+            event.inputTokens(), event.outputTokens(), toMicros(event.costIn()), toMicros(event.costOut()));
+    }
+
+    /**
+     * 셀에 더하기 - flush가 막 닫은(은퇴한) 셀을 잡았으면 새 셀로 다시 시도
+     */
+    private void accumulate(MonthKey key, long in, long out, long costIn, long costOut) {
+        while (!cells.computeIfAbsent(key, k -> new Cell()).tryAdd(in, out, costIn, costOut)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증분 (없으면 모두 0)
+     */
+    public MonthlyDelta pending(UUID userId, LocalDate month) {
+        LocalDate billingMonth = month.withDayOfMonth(1);
+        Cell cell = cells.get(new MonthKey(billingMonth, userId));
+        if (cell == null) {
+            return new MonthlyDelta(billingMonth, userId, 0, 0, 0.0, 0.0);
+        }
+        return new MonthlyDelta(billingMonth, userId,
+            cell.inputTokens.sum(), cell.outputTokens.sum(),
+            cell.costInMicros.sum() / MICROS, cell.costOutMicros.sum() / MICROS);
+    }
+
+    /**
+     * DB 값과 미반영 증분을 합친 실시간 값 조회
+     * flush 진행 중이거나 조회 도중 flush가 끝나면(증분이 DB로 넘어가 이중/누락 집계 가능) 다시 읽음
+     */
+    public <T> T readWithPending(UUID userId, LocalDate month, Supplier<T> dbRead,
+                                 BiFunction<T, MonthlyDelta, T> merge) {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            long seq = flushSeq.get();
+            if ((seq & 1) == 0) {
+                T fromDb = dbRead.get();
+                MonthlyDelta pending = pending(userId, month);
+                if (flushSeq.get() == seq) {
+                    return merge.apply(fromDb, pending);
+                }
+            }
+            Thread.onSpinWait();
+        }
+        // flush가 계속 겹치면 flush 완료를 기다린 뒤 읽음
+        synchronized (this) {
+            return merge.apply(dbRead.get(), pending(userId, month));
+        }
+    }
+
+    /**
+     * 누적된 증분을 DB에 반영
+     * 셀을 비운 값(sumThenReset)을 기록하므로 기록 중에 들어온 사용량은 다음 주기에 반영됨
+     * 기록 실패 시 증분을 셀에 되돌려 다음 주기에 재시도
+     */
+    public synchronized void flush() {
+        flushSeq.incrementAndGet();  // 홀수: flush 진행 중
+        try {
+            LocalDate currentMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+            List<MonthlyDelta> deltas = new ArrayList<>();
+            List<Map.Entry<MonthKey, long[]>> drained = new ArrayList<>();
+            for (Map.Entry<MonthKey, Cell> entry : cells.entrySet()) {
+                MonthKey key = entry.getKey();
+                Cell cell = entry.getValue();
+                if (key.month().isBefore(currentMonth)) {
+                    // 지난 달 셀은 닫고 진행 중인 add가 끝난 뒤 제거 (이후 add는 새 셀로 감)
+                    cell.close();
+                    cells.remove(key, cell);
+                }
+                long[] snapshot = cell.drain();
+                if (snapshot[0] == 0 && snapshot[1] == 0 && snapshot[2] == 0 && snapshot[3] == 0) {
+                    continue;
+                }
+                drained.add(Map.entry(key, snapshot));
+                deltas.add(new MonthlyDelta(key.month(), key.userId(),
+                    snapshot[0], snapshot[1], snapshot[2] / MICROS, snapshot[3] / MICROS));
+            }
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                billingJdbcRepository.addMonthlyDeltas(deltas);
+            } catch (Exception e) {
+                flushFailureCounter.increment();
+                log.warn("월 집계 증분 반영 실패 - 다음 주기에 재시도: rows={}, error={}", deltas.size(), e.getMessage());
+                for (Map.Entry<MonthKey, long[]> entry : drained) {
+                    long[] s = entry.getValue();
+                    accumulate(entry.getKey(), s[0], s[1], s[2], s[3]);
+                }
+            }
+        } finally {
+            flushSeq.incrementAndGet();  // 짝수: flush 완료
+        }
+    }
+
+    @Override
+    public void start() {
+        long intervalMs = config.getMonthlyFlushInterval().toMillis();
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "billing-monthly-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flush();
+        if (!cells.values().stream().allMatch(Cell::isEmpty)) {
+            log.error("종료 시 월 집계 증분을 반영하지 못했습니다 - ai_usage_events 기준 재집계 필요");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("월 집계 flush 오류", e);
+        }
+    }
+
+    private static long toMicros(double amount) {
+        return Math.round(amount * MICROS);
+    }
+
+    private record MonthKey(LocalDate month, UUID userId) {
+    }
+
+    private static final class Cell {
+        private final LongAdder inputTokens = new LongAdder();
+        private final LongAdder outputTokens = new LongAdder();
+        private final LongAdder costInMicros = new LongAdder();
+        private final LongAdder costOutMicros = new LongAdder();
+        // 진행 중인 add 수 - close()가 이 값이 0이 될 때까지 기다린 뒤에야 마지막 drain이 안전
+        private final LongAdder writers = new LongAdder();
+        private volatile boolean closed;
+
+        /**
+         * 닫힌 셀이면 false (호출자는 맵에서 새 셀을 받아 재시도)
+         */
+        boolean tryAdd(long in, long out, long costIn, long costOut) {
+            writers.increment();
+            try {
+                if (closed) {
+                    return false;
+                }
+                inputTokens.add(in);
+                outputTokens.add(out);
+                costInMicros.add(costIn);
+                costOutMicros.add(costOut);
+                return true;
+            } finally {
+                writers.decrement();
+            }
+        }
+
+        /**
+         * 새 add를 막고, 이미 닫히기 전에 들어온 add가 끝날 때까지 대기
+         */
+        void close() {
+            closed = true;
+            while (writers.sum() != 0) {
+                Thread.onSpinWait();
+            }
+        }
+
+        long[] drain() {
+            return new long[]{
+                inputTokens.sumThenReset(),
+                outputTokens.sumThenReset(),
+                costInMicros.sumThenReset(),
+                costOutMicros.sumThenReset()
+            };
+        }
+
+        boolean isEmpty() {
+            return inputTokens.sum() == 0 && outputTokens.sum() == 0
+                && costInMicros.sum() == 0 && costOutMicros.sum() == 0;
+        }
+    }
+}
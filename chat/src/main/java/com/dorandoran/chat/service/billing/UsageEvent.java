@@ -0,0 +1,27 @@
+package com.dorandoran.chat.service.billing;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * AI 사용량 이벤트 (불변)
+ * billing.ai_usage_events 한 행에 대응하며 eventTime은 UTC 기준
+ */
+public record UsageEvent(
+    UUID id,
+    LocalDateTime eventTime,
+    UUID userId,
+    UUID chatroomId,
+    String provider,
+    String model,
+    String requestId,
+    int inputTokens,
+    int outputTokens,
+    double costIn,
+    double costOut
+) {
+    public LocalDate billingMonth() {
+        return eventTime.toLocalDate().withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,21 @@
+package com.dorandoran.chat.service.budget;
+
+import java.util.UUID;
+
+/**
+ * 사용자별 구간(bucket) 사용량 저장소
+ * bucket은 epoch millis를 구간 길이로 나눈 번호
+ */
+public interface BudgetStore {
+
+    void add(UUID userId, long bucket, long tokens, long costMicros);
+
+    /**
+     * firstBucket부터 count개 구간의 사용량 (오래된 구간 먼저, 기록 없는 구간은 0)
+     */
+    BucketUsage[] read(UUID userId, long firstBucket, int count);
+
+    record BucketUsage(long tokens, long costMicros) {
+        static final BucketUsage EMPTY = new BucketUsage(0, 0);
+    }
+}
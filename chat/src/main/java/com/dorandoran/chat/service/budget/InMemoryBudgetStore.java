@@ -0,0 +1,101 @@
+package com.dorandoran.chat.service.budget;
+
+import com.dorandoran.chat.config.TokenBudgetConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 사용량 저장소
+ * 사용자마다 구간 수만큼의 링 버퍼를 두고, 윈도우를 벗어난 구간은 재사용 시 초기화
+ */
+@Component
+@ConditionalOnProperty(prefix = "chat.budget", name = "backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryBudgetStore implements BudgetStore {
+
+    private static final int SWEEP_EVERY = 1024;
+
+    private final int buckets;
+    private final Map<UUID, Ring> rings = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+
+    public InMemoryBudgetStore(TokenBudgetConfig config) {
+        this.buckets = config.getBuckets();
+    }
+
+    @Override
+    public void add(UUID userId, long bucket, long tokens, long costMicros) {
+        rings.computeIfAbsent(userId, k -> new Ring(buckets)).add(bucket, tokens, costMicros);
+        if (writes.incrementAndGet() % SWEEP_EVERY == 0) {
+            sweep(bucket);
+        }
+    }
+
+    @Override
+    public BucketUsage[] read(UUID userId, long firstBucket, int count) {
+        Ring ring = rings.get(userId);
+        BucketUsage[] result = new BucketUsage[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = ring == null ? BucketUsage.EMPTY : ring.get(firstBucket + i);
+        }
+        return result;
+    }
+
+    int trackedUsers() {
+        return rings.size();
+    }
+
+    /**
+     * 윈도우 안에 기록이 없는 사용자 제거
+     */
+    private void sweep(long currentBucket) {
+        rings.entrySet().removeIf(e -> e.getValue().lastBucket() <= currentBucket - buckets);
+    }
+
+    private static final class Ring {
+        private final long[] bucketIds;
+        private final long[] tokens;
+        private final long[] costMicros;
+        private long last = Long.MIN_VALUE;
+
+        Ring(int size) {
+            this.bucketIds = new long[size];
+            this.tokens = new long[size];
+            this.costMicros = new long[size];
+            Arrays.fill(bucketIds, Long.MIN_VALUE);
+        }
+
+        synchronized void add(long bucket, long t, long c) {
+            int slot = slot(bucket);
+            if (bucketIds[slot] != bucket) {
+                bucketIds[slot] = bucket;
+                tokens[slot] = 0;
+                costMicros[slot] = 0;
+            }
+            tokens[slot] += t;
+            costMicros[slot] += c;
+            last = Math.max(last, bucket);
+        }
+
+        synchronized BucketUsage get(long bucket) {
+            int slot = slot(bucket);
+            if (bucketIds[slot] != bucket) {
+                return BucketUsage.EMPTY;
+            }
+            return new BucketUsage(tokens[slot], costMicros[slot]);
+        }
+
+        synchronized long lastBucket() {
+            return last;
+        }
+
+        private int slot(long bucket) {
+            return (int) Math.floorMod(bucket, (long) bucketIds.length);
+        }
+    }
+}
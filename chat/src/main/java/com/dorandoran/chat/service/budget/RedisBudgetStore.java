@@ -0,0 +1,82 @@
+package com.dorandoran.chat.service.budget;
+
+import com.dorandoran.chat.config.TokenBudgetConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 공유 사용량 저장소 (다중 노드)
+ * 구간마다 해시 키(chat:budget:{userId}:{bucket})에 HINCRBY로 더하고, 윈도우가 지나면 만료
+ */
+@Component
+@ConditionalOnProperty(prefix = "chat.budget", name = "backend", havingValue = "redis")
+public class RedisBudgetStore implements BudgetStore {
+
+    private static final String KEY_PREFIX = "chat:budget:";
+    private static final String TOKENS = "t";
+    private static final String COST = "c";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisBudgetStore(StringRedisTemplate redisTemplate, TokenBudgetConfig config) {
+        this.redisTemplate = redisTemplate;
+        // 윈도우 + 한 구간: 윈도우 경계에 걸친 구간까지 보존
+        this.ttl = config.getWindow().plusMillis(config.bucketMillis());
+    }
+
+    @Override
+    public void add(UUID userId, long bucket, long tokens, long costMicros) {
+        String key = key(userId, bucket);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().increment(key, TOKENS, tokens);
+                ops.opsForHash().increment(key, COST, costMicros);
+                ops.expire(key, ttl);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public BucketUsage[] read(UUID userId, long firstBucket, int count) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int i = 0; i < count; i++) {
+                    ops.opsForHash().multiGet(key(userId, firstBucket + i), List.of(TOKENS, COST));
+                }
+                return null;
+            }
+        });
+        BucketUsage[] usage = new BucketUsage[count];
+        for (int i = 0; i < count; i++) {
+            List<?> values = i < results.size() ? (List<?>) results.get(i) : null;
+            usage[i] = values == null
+                ? BucketUsage.EMPTY
+                : new BucketUsage(parse(values.get(0)), parse(values.get(1)));
+        }
+        return usage;
+    }
+
+    private static String key(UUID userId, long bucket) {
+        return KEY_PREFIX + userId + ":" + bucket;
+    }
+
+    private static long parse(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
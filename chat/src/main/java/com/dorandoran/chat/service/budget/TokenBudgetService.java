@@ -0,0 +1,174 @@
+package com.dorandoran.chat.service.budget;
+
+import com.dorandoran.chat.config.TokenBudgetConfig;
+import com.dorandoran.chat.entity.User;
+import com.dorandoran.chat.exception.BudgetExceededException;
+import com.dorandoran.chat.repository.UserRepository;
+import com.dorandoran.chat.service.billing.UsageEvent;
+import com.dorandoran.chat.service.budget.BudgetStore.BucketUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰/비용 예산
+ *
+ * 과금 이벤트(실제 Provider 사용량)를 슬라이딩 윈도우 구간에 더하고,
+ * AI 호출을 시작하기 전에 윈도우 합계가 플랜 한도를 넘었는지 확인해 빠르게 거절
+ * 저장소 오류 시에는 요청을 막지 않음 (fail-open)
+ */
+@Service
+@Slf4j
+public class TokenBudgetService {
+
+    private static final double MICROS = 1_000_000.0;
+
+    private final TokenBudgetConfig config;
+    private final BudgetStore store;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<UUID, CachedPlan> planCache = new ConcurrentHashMap<>();
+    private final Counter backendErrorCounter;
+
+    @Autowired
+    public TokenBudgetService(TokenBudgetConfig config, BudgetStore store,
+                              UserRepository userRepository, MeterRegistry meterRegistry) {
+        this(config, store, userRepository, meterRegistry, Clock.systemUTC());
+    }
+
+    TokenBudgetService(TokenBudgetConfig config, BudgetStore store, UserRepository userRepository,
+                       MeterRegistry meterRegistry, Clock clock) {
+        this.config = config;
+        this.store = store;
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.backendErrorCounter = Counter.builder("chat.budget.backend.errors")
+            .description("예산 저장소 읽기/쓰기 실패 횟수 (요청은 허용)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 과금 이벤트 사용량을 현재 구간에 반영
+     */
+    public void record(UsageEvent event) {
+        if (!config.isEnabled() || event.userId() == null) {
+            return;
+        }
+        long tokens = (long) event.inputTokens() + event.outputTokens();
+        long costMicros = Math.round((event.costIn() + event.costOut()) * MICROS);
+        if (tokens == 0 && costMicros == 0) {
+            return;
+        }
+        try {
+            store.add(event.userId(), clock.millis() / config.bucketMillis(), tokens, costMicros);
+        } catch (Exception e) {
+            backendErrorCounter.increment();
+            log.debug("예산 사용량 반영 실패: userId={}, error={}", event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 예산 확인 - 한도를 넘었으면 남은 대기 시간과 함께 BudgetExceededException
+     */
+    public void checkBudget(UUID userId) {
+        if (!config.isEnabled() || userId == null) {
+            return;
+        }
+        String planName = resolvePlan(userId);
+        TokenBudgetConfig.Plan plan = config.getPlans().get(planName);
+        if (plan == null || plan.isUnlimited()) {
+            return;
+        }
+
+        long now = clock.millis();
+        long bucketMillis = config.bucketMillis();
+        int count = config.getBuckets();
+        long firstBucket = now / bucketMillis - count + 1;
+
+        BucketUsage[] usage;
+        try {
+            usage = store.read(userId, firstBucket, count);
+        } catch (Exception e) {
+            backendErrorCounter.increment();
+            log.warn("예산 조회 실패 - 요청 허용: userId={}, error={}", userId, e.getMessage());
+            return;
+        }
+
+        long tokens = 0;
+        long costMicros = 0;
+        for (BucketUsage u : usage) {
+            tokens += u.tokens();
+            costMicros += u.costMicros();
+        }
+        String reason = exceeded(plan, tokens, costMicros);
+        if (reason == null) {
+            return;
+        }
+
+        // 오래된 구간부터 윈도우를 벗어날 때 한도 아래로 내려가는 시점
+        Duration retryAfter = config.getWindow();
+        for (int i = 0; i < count; i++) {
+            tokens -= usage[i].tokens();
+            costMicros -= usage[i].costMicros();
+            if (exceeded(plan, tokens, costMicros) == null) {
+                retryAfter = Duration.ofMillis((firstBucket + i + count) * bucketMillis - now);
+                break;
+            }
+        }
+
+        Counter.builder("chat.budget.throttled")
+            .tag("plan", planName)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+        log.info("사용량 예산 초과: userId={}, plan={}, reason={}, retryAfter={}s",
+            userId, planName, reason, retryAfter.toSeconds());
+        throw new BudgetExceededException("AI 사용량 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+    }
+
+    private static String exceeded(TokenBudgetConfig.Plan plan, long tokens, long costMicros) {
+        if (plan.getMaxTokens() > 0 && tokens >= plan.getMaxTokens()) {
+            return "tokens";
+        }
+        if (plan.getMaxCost() > 0 && costMicros >= Math.round(plan.getMaxCost() * MICROS)) {
+            return "cost";
+        }
+        return null;
+    }
+
+    /**
+     * 역할 -> 플랜 매핑이 없으면 DB 조회 없이 기본 플랜
+     */
+    private String resolvePlan(UUID userId) {
+        if (config.getRolePlans().isEmpty()) {
+            return config.getDefaultPlan();
+        }
+        long now = clock.millis();
+        CachedPlan cached = planCache.get(userId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.plan();
+        }
+        String plan = userRepository.findById(userId)
+            .map(User::getRole)
+            .map(role -> config.getRolePlans().get(role.name()))
+            .orElse(config.getDefaultPlan());
+        if (planCache.size() > 100_000) {
+            planCache.clear();
+        }
+        planCache.put(userId, new CachedPlan(plan, now + config.getPlanCacheTtl().toMillis()));
+        return plan;
+    }
+
+    private record CachedPlan(String plan, long expiresAt) {
+    }
+}
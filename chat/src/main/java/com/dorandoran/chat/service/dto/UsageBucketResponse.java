@@ -0,0 +1,21 @@
+package com.dorandoran.chat.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기간 버킷(시/일)별 AI 사용량 합계
+ */
+@Getter
+@AllArgsConstructor
+public class UsageBucketResponse {
+    private LocalDateTime bucketStart;  // UTC 기준 버킷 시작 시각
+    private long requests;
+    private long inputTokens;
+    private long outputTokens;
+    private double costIn;
+    private double costOut;
+    private double totalCost;
+}
@@ -0,0 +1,66 @@
+package com.dorandoran.chat.service.pipeline;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stage 묶음 (DAG)
+ * 생성 시 선행 Stage 존재 여부와 순환 의존을 검증하고 위상 정렬 순서를 보관
+ */
+public final class AgentPipeline {
+
+    private final String name;
+    private final List<AgentStage<?>> stages;
+
+    private AgentPipeline(String name, List<AgentStage<?>> stages) {
+        this.name = name;
+        this.stages = stages;
+    }
+
+    public static AgentPipeline of(String name, AgentStage<?>... stages) {
+        Map<String, AgentStage<?>> byName = new LinkedHashMap<>();
+        for (AgentStage<?> stage : stages) {
+            if (byName.put(stage.name(), stage) != null) {
+                throw new IllegalArgumentException("중복된 Stage 이름: " + stage.name());
+            }
+        }
+        List<AgentStage<?>> ordered = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Set<String> visiting = new HashSet<>();
+        for (AgentStage<?> stage : byName.values()) {
+            visit(stage, byName, visited, visiting, ordered);
+        }
+        return new AgentPipeline(name, List.copyOf(ordered));
+    }
+
+    private static void visit(AgentStage<?> stage, Map<String, AgentStage<?>> byName,
+                              Set<String> visited, Set<String> visiting, List<AgentStage<?>> ordered) {
+        if (visited.contains(stage.name())) {
+            return;
+        }
+        if (!visiting.add(stage.name())) {
+            throw new IllegalArgumentException("순환 의존이 있습니다: " + stage.name());
+        }
+        List<String> upstream = new ArrayList<>(stage.dependsOn());
+        upstream.addAll(stage.after());
+        for (String dep : upstream) {
+            AgentStage<?> depStage = byName.get(dep);
+            if (depStage == null) {
+                throw new IllegalArgumentException(stage.name() + "의 선행 Stage가 없습니다: " + dep);
+            }
+            visit(depStage, byName, visited, visiting, ordered);
+        }
+        visiting.remove(stage.name());
+        visited.add(stage.name());
+        ordered.add(stage);
+    }
+
+    public String name() { return name; }
+
+    /** 위상 정렬된 Stage 목록 */
+    public List<AgentStage<?>> stages() { return stages; }
+}
@@ -0,0 +1,156 @@
+package com.dorandoran.chat.service.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Agent 파이프라인 실행 엔진
+ *
+ * 각 Stage는 선행 Stage가 끝나면 지정된 스케줄러에서 실행되며,
+ * 타임아웃/실패 시 fallback 값으로 대체하거나 실패로 기록하고 나머지 Stage는 계속 진행
+ * Stage별 소요 시간은 chat.agent.stage.duration 타이머(stage, outcome 태그)로 기록
+ */
+@Component
+@Slf4j
+public class AgentPipelineEngine {
+
+    private final MeterRegistry meterRegistry;
+    private final Scheduler blockingScheduler;
+    private final ExecutorService virtualExecutor;
+    private final Scheduler virtualScheduler;
+
+    public AgentPipelineEngine(MeterRegistry meterRegistry,
+                               @Value("${chat.agent.pipeline.blocking-pool-size:16}") int blockingPoolSize,
+                               @Value("${chat.agent.pipeline.blocking-queue-size:1000}") int blockingQueueSize) {
+        this.meterRegistry = meterRegistry;
+        // DB 커넥션을 쓰는 Stage용 - Hikari 풀 크기를 넘지 않도록 제한
+        this.blockingScheduler = Schedulers.newBoundedElastic(
+            blockingPoolSize, blockingQueueSize, "agent-blocking", 60, true);
+        this.virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        this.virtualScheduler = Schedulers.fromExecutorService(virtualExecutor, "agent-virtual");
+    }
+
+    public Mono<PipelineResult> execute(AgentPipeline pipeline) {
+        return Mono.defer(() -> {
+            Map<String, Mono<StageOutcome>> running = new HashMap<>();
+            for (AgentStage<?> stage : pipeline.stages()) {
+                running.put(stage.name(), runStage(pipeline.name(), stage, running).cache());
+            }
+            // 모든 Stage를 동시에 구독하고, 각 Stage는 자신의 선행 Stage 완료를 기다림
+            return Flux.merge(running.values())
+                .collectMap(StageOutcome::stage)
+                .map(outcomes -> {
+                    Map<String, StageOutcome> ordered = new LinkedHashMap<>();
+                    for (AgentStage<?> stage : pipeline.stages()) {
+                        ordered.put(stage.name(), outcomes.get(stage.name()));
+                    }
+                    return new PipelineResult(pipeline.name(), Collections.unmodifiableMap(ordered));
+                });
+        });
+    }
+
+    private <T> Mono<StageOutcome> runStage(String pipelineName, AgentStage<T> stage,
+                                            Map<String, Mono<StageOutcome>> running) {
+        List<Mono<StageOutcome>> required = stage.dependsOn().stream().map(running::get).toList();
+        List<Mono<StageOutcome>> ordering = stage.after().stream().map(running::get).toList();
+
+        return Flux.merge(ordering).then(Flux.merge(required).collectList())
+            .flatMap(deps -> {
+                Map<String, Object> values = new HashMap<>();
+                for (StageOutcome dep : deps) {
+                    if (!dep.hasValue()) {
+                        log.debug("Stage 건너뜀: pipeline={}, stage={}, 실패한 선행 Stage={}",
+                            pipelineName, stage.name(), dep.stage());
+                        return Mono.just(record(pipelineName, new StageOutcome(
+                            stage.name(), StageOutcome.Status.SKIPPED, null, null, Duration.ZERO)));
+                    }
+                    values.put(dep.stage(), dep.value());
+                }
+                return invoke(pipelineName, stage, new StageContext(values));
+            });
+    }
+
+    private <T> Mono<StageOutcome> invoke(String pipelineName, AgentStage<T> stage, StageContext context) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            Mono<T> call = Mono.defer(() -> stage.action().apply(context));
+            Scheduler scheduler = schedulerFor(stage.scheduler());
+            if (scheduler != null) {
+                call = call.subscribeOn(scheduler);
+            }
+            return call
+                .timeout(stage.timeout())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .map(value -> new StageOutcome(
+                    stage.name(), StageOutcome.Status.SUCCESS, value.orElse(null), null, since(start)))
+                .onErrorResume(ex -> Mono.just(recover(pipelineName, stage, ex, start)))
+                .map(outcome -> record(pipelineName, outcome));
+        });
+    }
+
+    private <T> StageOutcome recover(String pipelineName, AgentStage<T> stage, Throwable ex, long start) {
+        log.warn("Stage 실패: pipeline={}, stage={}, error={}", pipelineName, stage.name(), ex.toString());
+        try {
+            stage.onFailure().accept(ex);
+        } catch (Exception hookEx) {
+            log.warn("Stage 실패 처리 중 오류: stage={}", stage.name(), hookEx);
+        }
+        if (stage.fallback() != null) {
+            try {
+                T value = stage.fallback().apply(ex);
+                return new StageOutcome(stage.name(), StageOutcome.Status.FALLBACK, value, ex, since(start));
+            } catch (Exception fallbackEx) {
+                log.warn("Stage fallback 실패: stage={}", stage.name(), fallbackEx);
+            }
+        }
+        return new StageOutcome(stage.name(), StageOutcome.Status.FAILED, null, ex, since(start));
+    }
+
+    private StageOutcome record(String pipelineName, StageOutcome outcome) {
+        Timer.builder("chat.agent.stage.duration")
+            .tag("pipeline", pipelineName)
+            .tag("stage", outcome.stage())
+            .tag("outcome", outcome.status().name().toLowerCase())
+            .register(meterRegistry)
+            .record(outcome.elapsed());
+        return outcome;
+    }
+
+    private Scheduler schedulerFor(StageScheduler type) {
+        return switch (type) {
+            case EVENT_LOOP -> null;
+            case BLOCKING -> blockingScheduler;
+            case VIRTUAL -> virtualScheduler;
+        };
+    }
+
+    private static Duration since(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingScheduler.dispose();
+        virtualScheduler.dispose();
+        virtualExecutor.shutdown();
+    }
+}
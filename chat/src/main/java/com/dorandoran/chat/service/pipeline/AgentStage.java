@@ -0,0 +1,113 @@
+package com.dorandoran.chat.service.pipeline;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 파이프라인의 단일 Stage 정의
+ *
+ * - dependsOn: 결과 값이 필요한 선행 Stage (하나라도 실패하면 이 Stage는 건너뜀)
+ * - after: 순서만 보장하는 선행 Stage (성공 여부와 무관하게 종료 후 실행)
+ * - timeout / fallback / scheduler: Stage별 실행 정책
+ */
+public final class AgentStage<T> {
+
+    private final String name;
+    private final Set<String> dependsOn;
+    private final Set<String> after;
+    private final StageScheduler scheduler;
+    private final Duration timeout;
+    private final Function<StageContext, Mono<T>> action;
+    private final Function<Throwable, T> fallback;
+    private final Consumer<Throwable> onFailure;
+
+    private AgentStage(Builder<T> builder, Function<StageContext, Mono<T>> action) {
+        this.name = builder.name;
+        this.dependsOn = Set.copyOf(builder.dependsOn);
+        this.after = Set.copyOf(builder.after);
+        this.scheduler = builder.scheduler;
+        this.timeout = builder.timeout;
+        this.fallback = builder.fallback;
+        this.onFailure = builder.onFailure;
+        this.action = action;
+    }
+
+    public static <T> Builder<T> named(String name) {
+        return new Builder<>(name);
+    }
+
+    public String name() { return name; }
+    public Set<String> dependsOn() { return dependsOn; }
+    public Set<String> after() { return after; }
+    public StageScheduler scheduler() { return scheduler; }
+    public Duration timeout() { return timeout; }
+    Function<StageContext, Mono<T>> action() { return action; }
+    Function<Throwable, T> fallback() { return fallback; }
+    Consumer<Throwable> onFailure() { return onFailure; }
+
+    public static final class Builder<T> {
+        private final String name;
+        private final Set<String> dependsOn = new LinkedHashSet<>();
+        private final Set<String> after = new LinkedHashSet<>();
+        private StageScheduler scheduler = StageScheduler.EVENT_LOOP;
+        private Duration timeout = Duration.ofSeconds(30);
+        private Function<Throwable, T> fallback;
+        private Consumer<Throwable> onFailure = ex -> { };
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder<T> dependsOn(String... stages) {
+            dependsOn.addAll(List.of(stages));
+            return this;
+        }
+
+        public Builder<T> after(String... stages) {
+            after.addAll(List.of(stages));
+            return this;
+        }
+
+        public Builder<T> on(StageScheduler scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        public Builder<T> timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder<T> fallback(Function<Throwable, T> fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        public Builder<T> onFailure(Consumer<Throwable> onFailure) {
+            this.onFailure = onFailure;
+            return this;
+        }
+
+        /** 논블로킹 작업 등록 */
+        public AgentStage<T> run(Function<StageContext, Mono<T>> action) {
+            return new AgentStage<>(this, action);
+        }
+
+        /** 블로킹 작업 등록 (BLOCKING 또는 VIRTUAL 스케줄러와 함께 사용) */
+        public AgentStage<T> call(Function<StageContext, T> action) {
+            return new AgentStage<>(this, ctx -> Mono.fromCallable(() -> action.apply(ctx)));
+        }
+
+        /** 결과 값이 없는 블로킹 작업 등록 */
+        public AgentStage<T> exec(Consumer<StageContext> action) {
+            return new AgentStage<>(this, ctx -> Mono.fromRunnable(() -> action.accept(ctx)));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dorandoran.chat.service.pipeline;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 파이프라인 실행 결과
+ * 일부 Stage가 실패해도 성공한 Stage의 값은 그대로 제공 (부분 결과)
+ */
+public record PipelineResult(String pipeline, Map<String, StageOutcome> outcomes) {
+
+    public StageOutcome outcome(String stage) {
+        return outcomes.get(stage);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> value(String stage) {
+        StageOutcome outcome = outcomes.get(stage);
+        if (outcome == null || !outcome.hasValue()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((T) outcome.value());
+    }
+
+    public boolean isComplete() {
+        return outcomes.values().stream().allMatch(o -> o.status() == StageOutcome.Status.SUCCESS);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dorandoran.chat.service.pipeline;
+
+import java.util.Map;
+
+/**
+ * Stage 실행 시 전달되는 컨텍스트
+ * 선행(dependsOn) Stage의 결과 값을 이름으로 조회
+ */
+public final class StageContext {
+
+    private final Map<String, Object> values;
+
+    StageContext(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String stageName) {
+        if (!values.containsKey(stageName)) {
+            throw new IllegalArgumentException("선행 Stage가 아닙니다: " + stageName);
+        }
+        return (T) values.get(stageName);
+    }
+}
@@ -0,0 +1,28 @@
+package com.dorandoran.chat.service.pipeline;
+
+import java.time.Duration;
+
+/**
+ * Stage 실행 결과
+ *
+ * @param stage Stage 이름
+ * @param status 실행 상태
+ * @param value 결과 값 (실패/건너뜀이면 null)
+ * @param error 실패 원인 (성공이면 null)
+ * @param elapsed 소요 시간
+ */
+public record StageOutcome(String stage, Status status, Object value, Throwable error, Duration elapsed) {
+
+    public enum Status {
+        SUCCESS,
+        /** 실패했지만 fallback 값으로 대체됨 */
+        FALLBACK,
+        FAILED,
+        /** 필수 선행 Stage가 실패해 실행하지 않음 */
+        SKIPPED
+    }
+
+    public boolean hasValue() {
+        return status == Status.SUCCESS || status == Status.FALLBACK;
+    }
+}
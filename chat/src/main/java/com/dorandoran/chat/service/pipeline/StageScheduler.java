@@ -0,0 +1,13 @@
+package com.dorandoran.chat.service.pipeline;
+
+/**
+ * Stage 실행 스케줄러 종류
+ */
+public enum StageScheduler {
+    /** 호출 스레드(Reactor Netty 이벤트 루프)에서 실행 - 논블로킹 Mono 전용 */
+    EVENT_LOOP,
+    /** 크기가 제한된 블로킹 풀에서 실행 - JPA 등 커넥션 풀을 쓰는 작업 */
+    BLOCKING,
+    /** 가상 스레드에서 실행 - 커넥션 풀과 무관한 블로킹 I/O (외부 API 동기 호출 등) */
+    VIRTUAL
+}
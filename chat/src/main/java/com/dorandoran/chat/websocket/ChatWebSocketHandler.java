@@ -3,6 +3,8 @@ package com.dorandoran.chat.websocket;
 import com.dorandoran.chat.service.ChatService;
 import com.dorandoran.chat.service.AIService;
 import com.dorandoran.chat.repository.ChatRoomRepository;
+import com.dorandoran.chat.exception.BudgetExceededException;
+import com.dorandoran.chat.service.budget.TokenBudgetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -23,6 +25,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 	private final ChatService chatService;
 	private final ChatRoomRepository chatRoomRepository;
 	private final AIService aiService;
+	private final TokenBudgetService tokenBudgetService;
 
 	@Override
 	public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -80,6 +83,13 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 				return;
 			}
 			
+			try {
+				tokenBudgetService.checkBudget(userId);
+			} catch (BudgetExceededException e) {
+				session.sendMessage(new TextMessage("error|budget_exceeded|retry_after=" + e.retryAfterSeconds()));
+				return;
+			}
+			
 			var saved = chatService.sendMessage(chatroomId, senderId, senderType, content, "text");
 			aiService.streamAIResponse(saved);
 			log.debug("WebSocket 메시지 처리 완료: chatroomId={}, userId={}", chatroomId, userId);
@@ -0,0 +1,44 @@
+-- 과금 사용량 시간/일 롤업 테이블
+-- 과금 writer(BillingEventPipeline)가 이벤트 INSERT와 같은 트랜잭션에서 증분 누적
+-- 기간 조회는 이벤트 수와 무관하게 (사용자, 버킷) 인덱스 범위 스캔으로 처리
+
+CREATE TABLE IF NOT EXISTS billing.usage_hourly (
+    bucket_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,  -- UTC 기준 시 단위 시작 시각
+    user_id UUID NOT NULL,
+    model TEXT NOT NULL,
+    request_count BIGINT NOT NULL DEFAULT 0,
+    input_tokens BIGINT NOT NULL DEFAULT 0,
+    output_tokens BIGINT NOT NULL DEFAULT 0,
+    cost_in NUMERIC(18,6) NOT NULL DEFAULT 0,
+    cost_out NUMERIC(18,6) NOT NULL DEFAULT 0,
+    CONSTRAINT usage_hourly_pk PRIMARY KEY (bucket_start, user_id, model)
+);
+CREATE INDEX IF NOT EXISTS idx_usage_hourly_user_bucket ON billing.usage_hourly (user_id, bucket_start);
+
+CREATE TABLE IF NOT EXISTS billing.usage_daily (
+    bucket_date DATE NOT NULL,  -- UTC 기준 일자
+    user_id UUID NOT NULL,
+    model TEXT NOT NULL,
+    request_count BIGINT NOT NULL DEFAULT 0,
+    input_tokens BIGINT NOT NULL DEFAULT 0,
+    output_tokens BIGINT NOT NULL DEFAULT 0,
+    cost_in NUMERIC(18,6) NOT NULL DEFAULT 0,
+    cost_out NUMERIC(18,6) NOT NULL DEFAULT 0,
+    CONSTRAINT usage_daily_pk PRIMARY KEY (bucket_date, user_id, model)
+);
+CREATE INDEX IF NOT EXISTS idx_usage_daily_user_bucket ON billing.usage_daily (user_id, bucket_date);
+
+-- 기존 이벤트로 1회 백필 (이후에는 writer가 증분 유지)
+INSERT INTO billing.usage_hourly (bucket_start, user_id, model, request_count, input_tokens, output_tokens, cost_in, cost_out)
+SELECT date_trunc('hour', event_time), user_id, model, COUNT(*),
+       SUM(input_tokens), SUM(output_tokens), SUM(cost_in), SUM(cost_out)
+FROM billing.ai_usage_events
+GROUP BY 1, 2, 3
+ON CONFLICT (bucket_start, user_id, model) DO NOTHING;
+
+INSERT INTO billing.usage_daily (bucket_date, user_id, model, request_count, input_tokens, output_tokens, cost_in, cost_out)
+SELECT event_time::date, user_id, model, COUNT(*),
+       SUM(input_tokens), SUM(output_tokens), SUM(cost_in), SUM(cost_out)
+FROM billing.ai_usage_events
+GROUP BY 1, 2, 3
+ON CONFLICT (bucket_date, user_id, model) DO NOTHING;
@@ -0,0 +1,72 @@
+-- chat_schema.messages 월별 범위 파티션 전환 (기존 단일 테이블 → created_at 기준 PARTITION BY RANGE)
+--
+-- 신규 설치는 init-shared-db.sql이 처음부터 파티션 테이블로 만들므로, 이미 파티션 테이블이면 건너뜀
+--
+-- 주의
+-- - Flyway 트랜잭션 안에서 messages에 ACCESS EXCLUSIVE 잠금을 잡고 복사하므로 배포 시 chat 서비스 쓰기가 멈춤
+-- - 기존 테이블은 messages_unpartitioned로 남겨 두고, 행 수 확인 후 직접 DROP
+-- - (chatroom_id, sequence_number) 유일 제약은 파티션 테이블에 전역으로 걸 수 없어 일반 인덱스로 대체
+--   (chat 서비스의 메시지 저장과 batch 서비스의 아카이브 복원이 모두 채팅방 행을 잠근 뒤 순서 번호를 확인/기록함)
+
+DO $$
+DECLARE
+    month_start date;
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE n.nspname = 'chat_schema' AND c.relname = 'messages' AND c.relkind = 'p'
+    ) OR to_regclass('chat_schema.messages') IS NULL THEN
+        RETURN;
+    END IF;
+
+    LOCK TABLE chat_schema.messages IN ACCESS EXCLUSIVE MODE;
+
+    -- 파티션 키는 NULL일 수 없음
+    UPDATE chat_schema.messages SET created_at = COALESCE(updated_at, NOW()) WHERE created_at IS NULL;
+
+    -- 기존 테이블/제약/인덱스 이름 비우기 (인덱스 이름은 스키마 안에서 유일해야 함)
+    ALTER TABLE chat_schema.messages RENAME TO messages_unpartitioned;
+    ALTER TABLE chat_schema.messages_unpartitioned RENAME CONSTRAINT messages_pk TO messages_unpartitioned_pk;
+    ALTER TABLE chat_schema.messages_unpartitioned DROP CONSTRAINT IF EXISTS uq_messages_room_seq;
+    ALTER INDEX IF EXISTS chat_schema.idx_messages_chatroom RENAME TO idx_messages_unpartitioned_chatroom;
+    ALTER INDEX IF EXISTS chat_schema.idx_messages_sender RENAME TO idx_messages_unpartitioned_sender;
+    ALTER INDEX IF EXISTS chat_schema.idx_messages_created_at RENAME TO idx_messages_unpartitioned_created_at;
+    ALTER INDEX IF EXISTS chat_schema.idx_messages_created_id RENAME TO idx_messages_unpartitioned_created_id;
+    ALTER INDEX IF EXISTS chat_schema.idx_messages_parent RENAME TO idx_messages_unpartitioned_parent;
+    ALTER INDEX IF EXISTS chat_schema.idx_messages_room_sequence RENAME TO idx_messages_unpartitioned_room_sequence;
+    ALTER INDEX IF EXISTS chat_schema.idx_messages_room_created RENAME TO idx_messages_unpartitioned_room_created;
+
+    CREATE TABLE chat_schema.messages
+        (LIKE chat_schema.messages_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS)
+        PARTITION BY RANGE (created_at);
+    ALTER TABLE chat_schema.messages ALTER COLUMN created_at SET NOT NULL;
+    ALTER TABLE chat_schema.messages ADD CONSTRAINT messages_PK PRIMARY KEY (id, created_at);
+    COMMENT ON TABLE chat_schema.messages IS '메시지';
+
+    -- 가장 오래된 메시지의 달부터 3개월 뒤까지 월 파티션 생성
+    SELECT date_trunc('month', COALESCE(MIN(created_at), NOW()))::date INTO month_start
+    FROM chat_schema.messages_unpartitioned;
+    WHILE month_start <= (date_trunc('month', NOW()) + INTERVAL '3 months')::date LOOP
+        EXECUTE format('CREATE TABLE chat_schema.%I PARTITION OF chat_schema.messages FOR VALUES FROM (%L) TO (%L)',
+            'messages_' || to_char(month_start, 'YYYY_MM'), month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+
+    CREATE TABLE chat_schema.messages_default PARTITION OF chat_schema.messages DEFAULT;
+
+    -- 인덱스는 행 복사 후 생성 (파티션별로 한 번에 만드는 편이 빠름)
+    INSERT INTO chat_schema.messages SELECT * FROM chat_schema.messages_unpartitioned;
+
+    CREATE INDEX idx_messages_chatroom ON chat_schema.messages(chatroom_id, sequence_number);
+    CREATE INDEX idx_messages_sender ON chat_schema.messages(sender_id);
+    CREATE INDEX idx_messages_created_id ON chat_schema.messages(created_at, id);
+    CREATE INDEX idx_messages_parent ON chat_schema.messages(parent_message_id);
+    CREATE INDEX idx_messages_room_created ON chat_schema.messages(chatroom_id, created_at DESC);
+END $$;
+
+ANALYZE chat_schema.messages;
+
+-- 확인 후 정리 (수동)
+-- SELECT (SELECT COUNT(*) FROM chat_schema.messages) AS partitioned,
+--        (SELECT COUNT(*) FROM chat_schema.messages_unpartitioned) AS original;
+-- DROP TABLE chat_schema.messages_unpartitioned;
@@ -0,0 +1,88 @@
+package com.dorandoran.chat.service;
+
+import com.dorandoran.chat.repository.billing.BillingRollupRepository;
+import com.dorandoran.chat.repository.billing.MonthlyUserCostRepository;
+import com.dorandoran.chat.service.billing.BillingEventPipeline;
+import com.dorandoran.chat.service.billing.MonthlyCostAccumulator;
+import com.dorandoran.chat.service.budget.TokenBudgetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class BillingServiceTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private BillingEventPipeline billingEventPipeline;
+
+    @Mock
+    private MonthlyCostAccumulator monthlyCostAccumulator;
+
+    @Mock
+    private MonthlyUserCostRepository monthlyUserCostRepository;
+
+    @Mock
+    private BillingRollupRepository billingRollupRepository;
+
+    @Mock
+    private TokenBudgetService tokenBudgetService;
+
+    private BillingService billingService;
+
+    @BeforeEach
+    void setUp() {
+        billingService = new BillingService(billingEventPipeline, monthlyCostAccumulator,
+            monthlyUserCostRepository, billingRollupRepository, tokenBudgetService);
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 조회하지 않고 거절한다")
+    void dailyUsage_rejectsReversedRange() {
+        LocalDate from = LocalDate.of(2026, 3, 2);
+        LocalDate to = LocalDate.of(2026, 3, 1);
+
+        assertThatThrownBy(() -> billingService.getUserDailyUsage(USER_ID, from, to))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(billingRollupRepository);
+    }
+
+    @Test
+    @DisplayName("일별 조회는 366일까지 허용한다")
+    void dailyUsage_allowsUpTo366Days() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = from.plusDays(366);
+
+        billingService.getServiceDailyUsage(from, to);
+        verify(billingRollupRepository).findServiceDaily(from, to);
+
+        assertThatThrownBy(() -> billingService.getServiceDailyUsage(from, to.plusDays(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("366");
+    }
+
+    @Test
+    @DisplayName("시간별 조회는 7일까지 허용하고 시작 시각을 정시로 내린다")
+    void hourlyUsage_allowsUpToSevenDaysAndTruncatesFrom() {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 10, 30);
+        LocalDateTime to = from.plusHours(24 * 7);
+
+        billingService.getUserHourlyUsage(USER_ID, from, to);
+        verify(billingRollupRepository).findUserHourly(USER_ID, LocalDateTime.of(2026, 3, 1, 10, 0), to);
+
+        assertThatThrownBy(() -> billingService.getUserHourlyUsage(USER_ID, from, to.plusHours(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -128,7 +128,7 @@ class ChatServiceUnitTest {
             .thenAnswer(invocation -> invocation.getArgument(0));
 
         ChatRoom room = ChatRoom.builder().id(chatroomId).build();
-        when(chatRoomRepository.findById(chatroomId)).thenReturn(Optional.of(room));
+        when(chatRoomRepository.findByIdForUpdate(chatroomId)).thenReturn(Optional.of(room));
 
         Message saved = chatService.sendMessage(chatroomId, userId, "user", "hello", "text");
 
@@ -88,9 +88,9 @@ class MultiAgentOrchestratorTest {
         
         when(intimacyProgressRepository.findByChatRoomId(chatroomId))
             .thenReturn(Optional.empty());
-        when(intimacyAgent.analyze(any(), any()))
+        when(intimacyAgent.analyze(any(), any(), any()))
             .thenReturn(Mono.just(intimacyResp));
-        when(vocabularyAgent.extractDifficultWords(any(), anyInt()))
+        when(vocabularyAgent.extractDifficultWords(any(), any(), any(), anyInt()))
             .thenReturn(Mono.just(vocabResp));
         when(translationAgent.translate(any()))
             .thenReturn(Mono.just(new TranslationAgentResponse("translation", List.of())));
@@ -103,8 +103,8 @@ class MultiAgentOrchestratorTest {
         orchestrator.processUserMessage(chatroomId, userId, userMessage);
         
         // Then
-        verify(intimacyAgent).analyze(eq(chatroomId), eq("안녕하세요"));
-        verify(vocabularyAgent).extractDifficultWords(eq("안녕하세요"), eq(1));
+        verify(intimacyAgent).analyze(eq(chatroomId), eq(userId), eq("안녕하세요"));
+        verify(vocabularyAgent).extractDifficultWords(eq(chatroomId), eq(userId), eq("안녕하세요"), eq(1));
         verify(sseManager, atLeastOnce()).send(eq(chatroomId), anyString(), any());
     }
     
@@ -126,9 +126,9 @@ class MultiAgentOrchestratorTest {
         
         when(intimacyProgressRepository.findByChatRoomId(chatroomId))
             .thenReturn(Optional.of(existingProgress));
-        when(intimacyAgent.analyze(any(), any()))
+        when(intimacyAgent.analyze(any(), any(), any()))
             .thenReturn(Mono.just(intimacyResp));
-        when(vocabularyAgent.extractDifficultWords(any(), anyInt()))
+        when(vocabularyAgent.extractDifficultWords(any(), any(), any(), anyInt()))
             .thenReturn(Mono.just(new VocabularyAgentResponse("vocabulary", List.of())));
         when(translationAgent.translate(any()))
             .thenReturn(Mono.just(new TranslationAgentResponse("translation", List.of())));
@@ -153,9 +153,9 @@ class MultiAgentOrchestratorTest {
         // Given
         when(intimacyProgressRepository.findByChatRoomId(chatroomId))
             .thenReturn(Optional.empty());
-        when(intimacyAgent.analyze(any(), any()))
+        when(intimacyAgent.analyze(any(), any(), any()))
             .thenReturn(Mono.just(new IntimacyAgentResponse("intimacy", 1, "", "", List.of())));
-        when(vocabularyAgent.extractDifficultWords(any(), anyInt()))
+        when(vocabularyAgent.extractDifficultWords(any(), any(), any(), anyInt()))
             .thenReturn(Mono.just(new VocabularyAgentResponse("vocabulary", List.of())));
         when(translationAgent.translate(any()))
             .thenReturn(Mono.just(new TranslationAgentResponse("translation", List.of())));
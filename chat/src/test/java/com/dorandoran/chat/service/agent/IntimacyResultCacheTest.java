@@ -0,0 +1,122 @@
+package com.dorandoran.chat.service.agent;
+
+import com.dorandoran.chat.config.AgentCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntimacyResultCacheTest {
+
+    private AgentCacheConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private IntimacyResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config = new AgentCacheConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new IntimacyResultCache(config, meterRegistry);
+    }
+
+    private static IntimacyAgentResponse response(int level) {
+        return new IntimacyAgentResponse("intimacy", level, "안녕하세요.", new FeedbackText("좋아요", "Good"), "");
+    }
+
+    @Test
+    @DisplayName("같은 키의 두 번째 요청은 Provider를 호출하지 않고 캐시 결과를 반환한다")
+    void getOrLoad_secondCallHitsCache() {
+        AtomicInteger calls = new AtomicInteger();
+        IntimacyResultCache.Key key = IntimacyResultCache.Key.of("bot:1", "FRIEND", 1, "안녕하세요");
+
+        cache.getOrLoad(key, () -> Mono.fromSupplier(() -> {
+            calls.incrementAndGet();
+            return new IntimacyResultCache.Analysis(response(1), 120);
+        })).block();
+        IntimacyAgentResponse second = cache.getOrLoad(
+            IntimacyResultCache.Key.of("bot:1", "FRIEND", 1, "  안녕하세요 "),
+            () -> Mono.error(new IllegalStateException("호출되면 안 됨"))).block();
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(second.detectedLevel()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.agent.intimacy.cache.tokens.saved").counter().count()).isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("레벨이나 프롬프트 버전이 다르면 별도 키로 취급한다")
+    void getOrLoad_differentLevelOrVersionMisses() {
+        AtomicInteger calls = new AtomicInteger();
+        for (IntimacyResultCache.Key key : new IntimacyResultCache.Key[]{
+            IntimacyResultCache.Key.of("bot:1", "FRIEND", 1, "뭐 해?"),
+            IntimacyResultCache.Key.of("bot:1", "FRIEND", 3, "뭐 해?"),
+            IntimacyResultCache.Key.of("bot:2", "FRIEND", 1, "뭐 해?")}) {
+            cache.getOrLoad(key, () -> Mono.fromSupplier(() -> {
+                calls.incrementAndGet();
+                return new IntimacyResultCache.Analysis(response(2), 10);
+            })).block();
+        }
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("진행 중인 동일 요청에는 합류하여 Provider를 한 번만 호출한다")
+    void getOrLoad_coalescesConcurrentRequests() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<IntimacyResultCache.Analysis> sink = Sinks.one();
+        IntimacyResultCache.Key key = IntimacyResultCache.Key.of("bot:1", "FRIEND", 2, "네 알겠어요");
+
+        Mono<IntimacyAgentResponse> first = cache.getOrLoad(key, () -> {
+            calls.incrementAndGet();
+            return sink.asMono();
+        });
+        Mono<IntimacyAgentResponse> second = cache.getOrLoad(key, () -> {
+            calls.incrementAndGet();
+            return sink.asMono();
+        });
+        first.subscribe();
+        sink.tryEmitValue(new IntimacyResultCache.Analysis(response(2), 50));
+
+        assertThat(second.block(Duration.ofSeconds(1)).detectedLevel()).isEqualTo(2);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.agent.intimacy.cache.requests").tag("result", "coalesced")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("파싱 실패 결과와 만료된 항목은 재사용하지 않는다")
+    void getOrLoad_skipsFailedAndExpired() {
+        IntimacyResultCache.Key key = IntimacyResultCache.Key.of("bot:1", "FRIEND", 1, "ㅎㅇ");
+        cache.getOrLoad(key, () -> Mono.just(new IntimacyResultCache.Analysis(response(0), 10))).block();
+        assertThat(cache.size()).isZero();
+
+        config.setTtl(Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.getOrLoad(key, () -> Mono.fromSupplier(() -> {
+                calls.incrementAndGet();
+                return new IntimacyResultCache.Analysis(response(1), 10);
+            })).block();
+        }
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void getOrLoad_evictsLeastRecentlyUsed() {
+        config.setMaxSize(2);
+        for (String utterance : new String[]{"하나", "둘", "셋"}) {
+            cache.getOrLoad(IntimacyResultCache.Key.of("bot:1", "FRIEND", 1, utterance),
+                () -> Mono.just(new IntimacyResultCache.Analysis(response(1), 10))).block();
+        }
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,117 @@
+package com.dorandoran.chat.service.billing;
+
+import com.dorandoran.chat.config.BillingPipelineConfig;
+import com.dorandoran.chat.repository.billing.BillingJdbcRepository;
+import com.dorandoran.chat.repository.billing.BillingRollupRepository;
+import com.dorandoran.chat.repository.billing.BillingRollupRepository.RollupDelta;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BillingEventPipelineTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private BillingJdbcRepository billingJdbcRepository;
+
+    @Mock
+    private BillingRollupRepository billingRollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path spillDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BillingEventPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        BillingPipelineConfig config = new BillingPipelineConfig();
+        config.setSpillDir(spillDir.toString());
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new BillingEventPipeline(config, billingJdbcRepository, billingRollupRepository,
+            transactionManager, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    private static UsageEvent event(int in) {
+        return new UsageEvent(UUID.randomUUID(), LocalDateTime.now(ZoneOffset.UTC), USER_ID, null,
+            "openai", "gpt-4o-mini", null, in, 0, 0.0, 0.0);
+    }
+
+    @Test
+    @DisplayName("롤업은 (버킷, 사용자, 모델)별로 요청 수/토큰/비용을 합산한다")
+    void rollup_sumsPerBucketUserAndModel() {
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 10, 15);
+        UUID otherUser = UUID.randomUUID();
+        List<UsageEvent> events = List.of(
+            new UsageEvent(UUID.randomUUID(), at, USER_ID, null, "openai", "gpt-4o-mini", null, 10, 5, 0.1, 0.2),
+            new UsageEvent(UUID.randomUUID(), at.plusMinutes(30), USER_ID, null, "openai", "gpt-4o-mini", null,
+                20, 7, 0.3, 0.4),
+            new UsageEvent(UUID.randomUUID(), at.plusHours(1), USER_ID, null, "openai", "gpt-4o-mini", null,
+                1, 1, 0.0, 0.0),
+            new UsageEvent(UUID.randomUUID(), at, USER_ID, null, "openai", "gpt-4o", null, 3, 3, 0.0, 0.0),
+            new UsageEvent(UUID.randomUUID(), at, otherUser, null, "openai", "gpt-4o-mini", null, 4, 4, 0.0, 0.0));
+
+        List<RollupDelta> hourly = BillingEventPipeline.rollup(events, e -> e.eventTime().truncatedTo(ChronoUnit.HOURS));
+        List<RollupDelta> daily = BillingEventPipeline.rollup(events, e -> e.eventTime().truncatedTo(ChronoUnit.DAYS));
+
+        assertThat(hourly).hasSize(4);
+        RollupDelta first = hourly.get(0);
+        assertThat(first.bucketStart()).isEqualTo(LocalDateTime.of(2026, 3, 1, 10, 0));
+        assertThat(first.requests()).isEqualTo(2);
+        assertThat(first.inputTokens()).isEqualTo(30);
+        assertThat(first.outputTokens()).isEqualTo(12);
+        assertThat(first.costIn()).isCloseTo(0.4, within(1e-9));
+        assertThat(first.costOut()).isCloseTo(0.6, within(1e-9));
+
+        assertThat(daily).hasSize(3);
+        assertThat(daily.get(0).bucketStart()).isEqualTo(LocalDateTime.of(2026, 3, 1, 0, 0));
+        assertThat(daily.get(0).requests()).isEqualTo(3);
+        assertThat(daily.get(0).inputTokens()).isEqualTo(31);
+    }
+
+    @Test
+    @DisplayName("중복으로 건너뛴 이벤트는 기록 건수와 롤업에서 빠진다")
+    void stop_countsOnlyInsertedEvents() {
+        UsageEvent fresh = event(10);
+        UsageEvent duplicate = event(20);
+        when(billingJdbcRepository.insertEvents(anyList())).thenReturn(Set.of(fresh.id()));
+
+        pipeline.submit(fresh);
+        pipeline.submit(duplicate);
+        pipeline.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RollupDelta>> hourly = ArgumentCaptor.forClass(List.class);
+        verify(billingRollupRepository).addHourly(hourly.capture());
+        assertThat(hourly.getValue()).singleElement()
+            .satisfies(delta -> assertThat(delta.inputTokens()).isEqualTo(10));
+        assertThat(meterRegistry.get("chat.billing.pipeline.events.written").counter().count()).isEqualTo(1.0);
+    }
+}
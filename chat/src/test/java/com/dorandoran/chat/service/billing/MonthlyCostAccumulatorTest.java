@@ -0,0 +1,145 @@
+package com.dorandoran.chat.service.billing;
+
+import com.dorandoran.chat.config.BillingPipelineConfig;
+import com.dorandoran.chat.repository.billing.BillingJdbcRepository;
+import com.dorandoran.chat.repository.billing.BillingJdbcRepository.MonthlyDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyCostAccumulatorTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private BillingJdbcRepository billingJdbcRepository;
+
+    private MonthlyCostAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new MonthlyCostAccumulator(new BillingPipelineConfig(), billingJdbcRepository, new SimpleMeterRegistry());
+    }
+
+    private static UsageEvent event(int in, int out, double costIn, double costOut) {
+        return event(LocalDateTime.now(ZoneOffset.UTC), in, out, costIn, costOut);
+    }
+
+    private static UsageEvent event(LocalDateTime time, int in, int out, double costIn, double costOut) {
+        return new UsageEvent(UUID.randomUUID(), time, USER_ID, UUID.randomUUID(),
+            "openai", "gpt", null, in, out, costIn, costOut);
+    }
+
+    @Test
+    @DisplayName("동시에 더한 사용량이 누락 없이 미반영 증분에 합산된다")
+    void add_concurrentUpdatesAreNotLost() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            pool.submit(() -> accumulator.add(event(10, 20, 0.000250, 0.002)));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        MonthlyDelta pending = accumulator.pending(USER_ID, LocalDate.now(ZoneOffset.UTC));
+        assertThat(pending.inputTokens()).isEqualTo(10_000);
+        assertThat(pending.outputTokens()).isEqualTo(20_000);
+        assertThat(pending.costIn()).isCloseTo(0.25, within(1e-9));
+        assertThat(pending.costOut()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("flush는 사용자·월별 증분 한 행을 기록하고 누적값을 비운다")
+    @SuppressWarnings("unchecked")
+    void flush_writesAdditiveDeltaAndResets() {
+        accumulator.add(event(100, 50, 0.1, 0.2));
+        accumulator.add(event(1, 2, 0.3, 0.4));
+
+        accumulator.flush();
+
+        ArgumentCaptor<List<MonthlyDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(billingJdbcRepository).addMonthlyDeltas(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).inputTokens()).isEqualTo(101);
+        assertThat(accumulator.pending(USER_ID, LocalDate.now(ZoneOffset.UTC)).inputTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 증분을 되돌려 다음 주기에 다시 반영한다")
+    void flush_failureRestoresDeltas() {
+        accumulator.add(event(7, 3, 0.01, 0.02));
+        doThrow(new RuntimeException("DB 다운")).when(billingJdbcRepository).addMonthlyDeltas(anyList());
+
+        accumulator.flush();
+
+        MonthlyDelta pending = accumulator.pending(USER_ID, LocalDate.now(ZoneOffset.UTC));
+        assertThat(pending.inputTokens()).isEqualTo(7);
+        assertThat(pending.costOut()).isCloseTo(0.02, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("실시간 조회는 DB 값에 미반영 증분을 더한다")
+    void readWithPending_mergesDbAndPending() {
+        accumulator.add(event(5, 5, 0.0, 0.0));
+
+        long total = accumulator.readWithPending(USER_ID, LocalDate.now(ZoneOffset.UTC),
+            () -> 100L, (db, pending) -> db + pending.inputTokens());
+
+        assertThat(total).isEqualTo(105L);
+    }
+
+    @Test
+    @DisplayName("지난 달 셀을 정리하는 flush와 동시에 더한 사용량도 누락 없이 반영된다")
+    @SuppressWarnings("unchecked")
+    void flush_retiringPastMonthCellDoesNotLoseConcurrentAdds() throws Exception {
+        LocalDateTime lastMonth = LocalDateTime.now(ZoneOffset.UTC).minusMonths(1);
+        AtomicLong flushed = new AtomicLong();
+        doAnswer(inv -> {
+            ((List<MonthlyDelta>) inv.getArgument(0)).forEach(d -> flushed.addAndGet(d.inputTokens()));
+            return null;
+        }).when(billingJdbcRepository).addMonthlyDeltas(anyList());
+
+        AtomicBoolean adding = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (adding.get()) {
+                accumulator.flush();
+            }
+        });
+        flusher.start();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 20_000; i++) {
+            pool.submit(() -> accumulator.add(event(lastMonth, 1, 0, 0.0, 0.0)));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        adding.set(false);
+        flusher.join();
+        accumulator.flush();
+
+        assertThat(flushed.get()).isEqualTo(20_000);
+        assertThat(accumulator.pending(USER_ID, lastMonth.toLocalDate()).inputTokens()).isZero();
+    }
+}
@@ -0,0 +1,141 @@
+package com.dorandoran.chat.service.budget;
+
+import com.dorandoran.chat.config.AIConfig;
+import com.dorandoran.chat.config.TokenBudgetConfig;
+import com.dorandoran.chat.exception.BudgetExceededException;
+import com.dorandoran.chat.repository.UserRepository;
+import com.dorandoran.chat.repository.billing.BillingRollupRepository;
+import com.dorandoran.chat.repository.billing.MonthlyUserCostRepository;
+import com.dorandoran.chat.service.BillingService;
+import com.dorandoran.chat.service.OpenAIClient;
+import com.dorandoran.chat.service.billing.AgentUsageMeter;
+import com.dorandoran.chat.service.billing.BillingEventPipeline;
+import com.dorandoran.chat.service.billing.MonthlyCostAccumulator;
+import com.dorandoran.chat.service.billing.UsageEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBudgetServiceTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenBudgetConfig config;
+    private InMemoryBudgetStore store;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new TokenBudgetConfig();
+        config.setWindow(Duration.ofMinutes(60));
+        config.setBuckets(6);  // 10분 구간
+        TokenBudgetConfig.Plan free = new TokenBudgetConfig.Plan();
+        free.setMaxTokens(1_000);
+        config.setPlans(Map.of("free", free));
+        store = new InMemoryBudgetStore(config);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private TokenBudgetService at(Instant now) {
+        return new TokenBudgetService(config, store, userRepository, meterRegistry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static UsageEvent event(int in, int out) {
+        return new UsageEvent(UUID.randomUUID(), LocalDateTime.now(ZoneOffset.UTC), USER_ID, UUID.randomUUID(),
+            "openai", "gpt", null, in, out, 0.0, 0.0);
+    }
+
+    @Test
+    @DisplayName("윈도우 사용량이 한도 미만이면 통과한다")
+    void checkBudget_underLimit() {
+        at(T0).record(event(300, 300));
+
+        assertThatCode(() -> at(T0.plusSeconds(60)).checkBudget(USER_ID)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 가장 오래된 구간이 윈도우를 벗어날 때까지의 Retry-After와 함께 거절한다")
+    void checkBudget_overLimit_retryAfterUntilOldestBucketExpires() {
+        at(T0).record(event(400, 200));                       // 0~10분 구간
+        at(T0.plus(Duration.ofMinutes(25))).record(event(300, 200)); // 20~30분 구간
+
+        Instant now = T0.plus(Duration.ofMinutes(30));
+        assertThatThrownBy(() -> at(now).checkBudget(USER_ID))
+            .isInstanceOf(BudgetExceededException.class)
+            .satisfies(ex -> assertThat(((BudgetExceededException) ex).getRetryAfter())
+                .isEqualTo(Duration.ofMinutes(30)));  // 60분 시점에 첫 구간이 빠지면 500 토큰
+
+        assertThat(meterRegistry.get("chat.budget.throttled").tag("reason", "tokens").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("윈도우가 지나면 오래된 사용량은 합계에서 빠진다")
+    void checkBudget_slidesPastOldBuckets() {
+        at(T0).record(event(800, 400));
+
+        assertThatCode(() -> at(T0.plus(Duration.ofMinutes(61))).checkBudget(USER_ID)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("저장소 조회가 실패하면 요청을 허용한다")
+    void checkBudget_failOpenOnStoreError() {
+        BudgetStore failing = mock(BudgetStore.class);
+        doThrow(new IllegalStateException("redis down")).when(failing).read(any(), anyLong(), anyInt());
+        TokenBudgetService service = new TokenBudgetService(config, failing, userRepository, meterRegistry,
+            Clock.fixed(T0, ZoneOffset.UTC));
+
+        assertThatCode(() -> service.checkBudget(USER_ID)).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("chat.budget.backend.errors").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("REST 메시지 처리 중 Agent LLM 호출 사용량도 예산에 반영되어 한도를 넘으면 거절한다")
+    void checkBudget_tripsOnAgentUsage() {
+        TokenBudgetService budget = at(T0);
+        AIConfig aiConfig = new AIConfig();
+        BillingService billingService = new BillingService(mock(BillingEventPipeline.class),
+            mock(MonthlyCostAccumulator.class), mock(MonthlyUserCostRepository.class),
+            mock(BillingRollupRepository.class), budget);
+        AgentUsageMeter meter = new AgentUsageMeter(new OpenAIClient(aiConfig), billingService, aiConfig);
+        UUID chatroomId = UUID.randomUUID();
+        Flux<String> agentCall = Flux.just(
+            "data: {\"choices\":[{\"delta\":{\"content\":\"안녕\"}}]}",
+            "data: {\"usage\":{\"prompt_tokens\":300,\"completion_tokens\":100}}");
+
+        meter.meter(agentCall, USER_ID, chatroomId, "intimacy", "system", "안녕").blockLast();
+        meter.meter(agentCall, USER_ID, chatroomId, "conversation", "system", "안녕").blockLast();
+        assertThatCode(() -> budget.checkBudget(USER_ID)).doesNotThrowAnyException();
+
+        meter.meter(agentCall, USER_ID, chatroomId, "vocabulary", "system", "안녕").blockLast();
+        assertThatThrownBy(() -> budget.checkBudget(USER_ID))
+            .isInstanceOf(BudgetExceededException.class);
+    }
+}
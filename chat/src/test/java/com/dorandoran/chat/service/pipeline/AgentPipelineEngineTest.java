@@ -0,0 +1,112 @@
+package com.dorandoran.chat.service.pipeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AgentPipelineEngineTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AgentPipelineEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new AgentPipelineEngine(meterRegistry, 4, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("선행 Stage의 결과 값을 다음 Stage에서 사용할 수 있다")
+    void execute_passesDependencyValues() {
+        AgentPipeline pipeline = AgentPipeline.of("test",
+            AgentStage.<String>named("a").run(ctx -> Mono.just("안녕")),
+            AgentStage.<String>named("b").dependsOn("a").on(StageScheduler.BLOCKING)
+                .call(ctx -> ctx.<String>get("a") + "하세요"));
+
+        PipelineResult result = engine.execute(pipeline).block(Duration.ofSeconds(5));
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.<String>value("b")).contains("안녕하세요");
+    }
+
+    @Test
+    @DisplayName("실패한 Stage의 하위 Stage는 건너뛰고 나머지 결과는 부분 결과로 반환한다")
+    void execute_returnsPartialResults() {
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        AgentPipeline pipeline = AgentPipeline.of("test",
+            AgentStage.<String>named("broken")
+                .onFailure(failures::add)
+                .run(ctx -> Mono.error(new IllegalStateException("실패"))),
+            AgentStage.<String>named("child").dependsOn("broken").run(ctx -> Mono.just("x")),
+            AgentStage.<String>named("independent").on(StageScheduler.VIRTUAL).call(ctx -> "ok"));
+
+        PipelineResult result = engine.execute(pipeline).block(Duration.ofSeconds(5));
+
+        assertThat(result.outcome("broken").status()).isEqualTo(StageOutcome.Status.FAILED);
+        assertThat(result.outcome("child").status()).isEqualTo(StageOutcome.Status.SKIPPED);
+        assertThat(result.<String>value("independent")).contains("ok");
+        assertThat(failures).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("타임아웃이 나면 fallback 값으로 대체하고 Stage 소요 시간을 기록한다")
+    void execute_timeoutUsesFallback() {
+        AgentPipeline pipeline = AgentPipeline.of("test",
+            AgentStage.<String>named("slow")
+                .timeout(Duration.ofMillis(50))
+                .fallback(ex -> "기본값")
+                .run(ctx -> Mono.just("늦음").delayElement(Duration.ofSeconds(2))));
+
+        PipelineResult result = engine.execute(pipeline).block(Duration.ofSeconds(5));
+
+        assertThat(result.outcome("slow").status()).isEqualTo(StageOutcome.Status.FALLBACK);
+        assertThat(result.<String>value("slow")).contains("기본값");
+        assertThat(meterRegistry.get("chat.agent.stage.duration")
+            .tag("stage", "slow").tag("outcome", "fallback").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("after로 지정한 Stage는 성공 여부와 무관하게 먼저 끝난다")
+    void execute_afterOrdersWithoutRequiringSuccess() {
+        List<String> order = new CopyOnWriteArrayList<>();
+        AgentPipeline pipeline = AgentPipeline.of("test",
+            AgentStage.<Void>named("first").on(StageScheduler.BLOCKING).exec(ctx -> {
+                order.add("first");
+                throw new IllegalStateException("실패");
+            }),
+            AgentStage.<Void>named("second").after("first").on(StageScheduler.BLOCKING)
+                .exec(ctx -> order.add("second")));
+
+        PipelineResult result = engine.execute(pipeline).block(Duration.ofSeconds(5));
+
+        assertThat(order).containsExactly("first", "second");
+        assertThat(result.outcome("second").status()).isEqualTo(StageOutcome.Status.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("순환 의존이나 없는 Stage를 참조하면 파이프라인 생성에 실패한다")
+    void of_rejectsInvalidGraph() {
+        assertThatThrownBy(() -> AgentPipeline.of("test",
+            AgentStage.<String>named("a").dependsOn("b").run(ctx -> Mono.just("a")),
+            AgentStage.<String>named("b").dependsOn("a").run(ctx -> Mono.just("b"))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AgentPipeline.of("test",
+            AgentStage.<String>named("a").dependsOn("missing").run(ctx -> Mono.just("a"))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dorandoran.common.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 pinning 감시
+ *
+ * synchronized 블록 안에서 블로킹되어 캐리어 스레드를 점유한 경우(jdk.VirtualThreadPinned)를
+ * JFR 스트림으로 받아 카운터로 집계하고, 원인 위치(스택 최상단)를 경고 로그로 남김
+ */
+public class PinnedThreadMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+            .description("캐리어 스레드를 점유한 가상 스레드 블로킹 횟수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            log.info("가상 스레드 pinning 감시 시작: threshold={}", threshold);
+        } catch (Exception e) {
+            // JFR을 쓸 수 없는 런타임이어도 서비스 기동은 계속
+            log.warn("가상 스레드 pinning 감시를 시작할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        String location = "unknown";
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            location = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName())
+                .filter(name -> !name.startsWith("java.") && !name.startsWith("jdk."))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : frames.get(0).getMethod().getName());
+        }
+        log.warn("가상 스레드 pinning 감지: duration={}ms, at={}", event.getDuration().toMillis(), location);
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.dorandoran.common.config;
+
+import com.dorandoran.common.filter.ConcurrencyLimitFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 보조 설정
+ *
+ * spring.threads.virtual.enabled=true 이면 Spring Boot가 Tomcat 요청 처리, @Async 실행기,
+ * @Scheduled 스케줄러를 가상 스레드로 전환하고 Feign 호출도 요청 스레드(가상)에서 실행됨
+ * 이 설정이 추가하는 것:
+ * - DB 커넥션 풀(Hikari) 크기 기반 동시 요청 상한
+ * - JFR 기반 pinning 감시 (지표/로그로 관측만 하며 pinning을 막지는 않음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class VirtualThreadConfig {
+
+    /**
+     * 동시 요청 상한 = max-concurrent-requests (지정 시)
+     *               또는 Hikari maximum-pool-size × requests-per-connection
+     * 요청 대부분이 커넥션을 전체 수명 동안 쥐고 있지 않으므로 풀 크기의 배수로 잡음
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ObjectProvider<DataSource> dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${app.virtual-threads.requests-per-connection:4}") int requestsPerConnection,
+            @Value("${app.virtual-threads.max-wait:2s}") Duration maxWait) {
+        int limit = maxConcurrentRequests;
+        if (limit <= 0) {
+            int poolSize = dataSource.getIfAvailable() instanceof HikariDataSource hikari
+                ? hikari.getMaximumPoolSize()
+                : 10;
+            limit = poolSize * requestsPerConnection;
+        }
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limit, maxWait, meterRegistry));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        return new PinnedThreadMonitor(threshold, meterRegistry);
+    }
+}
@@ -16,6 +16,7 @@ public enum ErrorCode {
     AUTH_TOKEN_EXPIRED("A001", "인증 토큰이 만료되었습니다"),
     AUTH_TOKEN_INVALID("A002", "유효하지 않은 인증 토큰입니다"),
     AUTH_ACCESS_DENIED("A003", "접근 권한이 없습니다"),
+    AUTH_TOO_MANY_ATTEMPTS("A004", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요"),
     
     // 채팅 관련
     CHAT_ROOM_NOT_FOUND("C001", "채팅방을 찾을 수 없습니다"),
@@ -27,7 +28,8 @@ public enum ErrorCode {
     // 공통
     INTERNAL_SERVER_ERROR("E001", "내부 서버 오류가 발생했습니다"),
     INVALID_REQUEST("E002", "잘못된 요청입니다"),
-    VALIDATION_ERROR("E003", "입력값 검증에 실패했습니다");
+    VALIDATION_ERROR("E003", "입력값 검증에 실패했습니다"),
+    SERVICE_BUSY("E004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
     
     private final String code;
     private final String message;
@@ -0,0 +1,84 @@
+package com.dorandoran.common.filter;
+
+import com.dorandoran.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 요청 수 제한 필터
+ *
+ * 가상 스레드 모드에서는 Tomcat 스레드 풀(threads.max)이 동시성 상한 역할을 하지 못하므로,
+ * DB 커넥션 풀 크기에 맞춘 상한을 두어 커넥션 대기(connection-timeout) 폭주를 막음
+ * 상한 초과 시 maxWait 동안 대기 후에도 자리가 없으면 503 응답
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final Semaphore permits;
+    private final int limit;
+    private final long maxWaitNanos;
+    private final Counter rejectedCounter;
+
+    public ConcurrencyLimitFilter(int limit, Duration maxWait, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.permits = new Semaphore(limit, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejectedCounter = Counter.builder("http.server.requests.rejected")
+            .tag("reason", "concurrency_limit")
+            .register(meterRegistry);
+        Gauge.builder("http.server.requests.inflight", permits, p -> limit - p.availablePermits())
+            .register(meterRegistry);
+        log.info("동시 요청 제한 활성화: limit={}, maxWait={}", limit, maxWait);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        // 헬스체크/메트릭 수집은 포화 상태에서도 응답해야 함
+        return path.startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("동시 요청 상한 초과로 거절: path={}, limit={}", request.getRequestURI(), limit);
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(String.format(
+                "{\"success\":false,\"errorCode\":\"%s\",\"message\":\"%s\"}",
+                ErrorCode.SERVICE_BUSY.getCode(), ErrorCode.SERVICE_BUSY.getMessage()));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
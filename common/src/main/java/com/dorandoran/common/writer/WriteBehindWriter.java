@@ -0,0 +1,291 @@
+package com.dorandoran.common.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * write-behind writer 공통 구현
+ *
+ * 요청 스레드는 항목을 메모리 큐에 넣기만 하고, 전용 writer 스레드가 건수(batchSize) 또는 시간(flushInterval) 기준으로
+ * 하위 클래스의 {@link #write(List)}를 호출해 일괄 기록
+ *
+ * 유실 방지:
+ * - 큐가 가득 차거나 재시도 후에도 기록에 실패하면 보존 파일(NDJSON, {name}-*.ndjson)에 기록
+ * - 웹 서버가 완전히 멈춘 뒤에 종료되어 처리 중이던 요청의 제출까지 받고, 종료 시 큐에 남은 항목을 모두 기록(drain)
+ * - 종료 후 제출된 항목은 큐를 거치지 않고 바로 기록
+ * - 기동 시 이전 실행의 보존 파일을 재처리 (성공한 파일은 삭제)
+ */
+public abstract class WriteBehindWriter<T> implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindWriter.class);
+
+    /**
+     * 큐/배치 설정
+     *
+     * @param offerTimeout 큐가 가득 찼을 때 제출 스레드가 기다리는 시간 (0이면 바로 보존 파일로)
+     */
+    public record Settings(int capacity, int batchSize, Duration flushInterval, Duration offerTimeout,
+                           int maxRetries, String spillDir) {
+    }
+
+    private final String name;
+    private final Class<T> type;
+    private final Settings settings;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<T> queue;
+    private final AtomicLong spillSequence = new AtomicLong();
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter failedBatchCounter;
+    private final Counter spilledCounter;
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread worker;
+
+    /**
+     * @param name         writer 이름 (스레드 이름, 보존 파일 접두사, 로그에 사용)
+     * @param metricPrefix 지표 이름 접두사 (예: auth.audit)
+     * @param unit         기록 단위 지표 이름 (예: records → {metricPrefix}.records.written)
+     */
+    protected WriteBehindWriter(String name, String metricPrefix, String unit, Class<T> type, Settings settings,
+                                ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.type = type;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(settings.capacity());
+
+        this.flushTimer = Timer.builder(metricPrefix + ".flush")
+            .description("배치 기록 소요 시간")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder(metricPrefix + "." + unit + ".written")
+            .description("실제로 기록된 항목 수")
+            .register(meterRegistry);
+        this.failedBatchCounter = Counter.builder(metricPrefix + ".batches.failed")
+            .register(meterRegistry);
+        this.spilledCounter = Counter.builder(metricPrefix + "." + unit + ".spilled")
+            .description("DB 대신 보존 파일에 기록된 항목 수")
+            .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".queue.size", queue, BlockingQueue::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 배치 기록 (한 트랜잭션)
+     *
+     * @return 실제로 기록된 항목 수 (중복으로 건너뛴 항목 제외)
+     */
+    protected abstract int write(List<T> batch);
+
+    /**
+     * 항목 제출 (호출 스레드를 DB I/O로 막지 않음)
+     */
+    public void submit(T item) {
+        if (stopped) {
+            writeWithRetry(List.of(item));
+            return;
+        }
+        boolean queued = false;
+        try {
+            queued = queue.offer(item, settings.offerTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queued) {
+            log.warn("{} writer 큐 포화 - 보존 파일에 기록", name);
+            spill(List.of(item));
+            return;
+        }
+        if (stopped) {
+            // stop()의 마지막 drain 이후에 들어간 항목
+            drainRemaining();
+        }
+    }
+
+    /**
+     * 큐에서 가장 오래 대기 중인 항목
+     */
+    protected T oldest() {
+        return queue.peek();
+    }
+
+    @Override
+    public void start() {
+        replaySpillFiles();
+        stopped = false;
+        running = true;
+        worker = Thread.ofPlatform().name(name + "-writer").daemon(true).start(this::runLoop);
+        log.info("{} writer 시작: capacity={}, batchSize={}", name, settings.capacity(), settings.batchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopped = true;
+        if (worker != null) {
+            try {
+                worker.join(settings.flushInterval().toMillis() * 2 + 5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainRemaining();
+        log.info("{} writer 종료: 잔여 항목 기록 완료", name);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버 graceful shutdown과 서버 중지 뒤에 멈추도록 더 낮은 단계 (높은 단계부터 멈춤)
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    private void drainRemaining() {
+        List<T> batch = new ArrayList<>(settings.batchSize());
+        while (queue.drainTo(batch, settings.batchSize()) > 0) {
+            writeWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    private void runLoop() {
+        List<T> batch = new ArrayList<>(settings.batchSize());
+        while (running) {
+            try {
+                T first = queue.poll(settings.flushInterval().toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // flushInterval 동안 배치를 채운 뒤 기록
+                long deadline = System.nanoTime() + settings.flushInterval().toNanos();
+                while (batch.size() < settings.batchSize()) {
+                    queue.drainTo(batch, settings.batchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= settings.batchSize() || remaining <= 0 || !running) {
+                        break;
+                    }
+                    T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("{} writer 오류", name, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeWithRetry(List<T> batch) {
+        for (int attempt = 1; attempt <= settings.maxRetries(); attempt++) {
+            try {
+                record(batch);
+                return;
+            } catch (Exception e) {
+                failedBatchCounter.increment();
+                log.warn("{} 배치 기록 실패 ({}/{}): size={}, error={}",
+                    name, attempt, settings.maxRetries(), batch.size(), e.getMessage());
+                sleepQuietly(200L * attempt);
+            }
+        }
+        spill(List.copyOf(batch));
+    }
+
+    private void record(List<T> batch) {
+        int written = flushTimer.record(() -> write(batch));
+        writtenCounter.increment(written);
+    }
+
+    private synchronized void spill(List<T> items) {
+        try {
+            Path dir = Paths.get(settings.spillDir());
+            Files.createDirectories(dir);
+            Path file = dir.resolve(String.format("%s-%d-%d.ndjson",
+                name, System.currentTimeMillis(), spillSequence.incrementAndGet()));
+            StringBuilder sb = new StringBuilder();
+            for (T item : items) {
+                sb.append(objectMapper.writeValueAsString(item)).append('\n');
+            }
+            Files.writeString(file, sb.toString(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spilledCounter.increment(items.size());
+        } catch (IOException e) {
+            // 마지막 수단: 로그로라도 남겨 수동 복구 가능하게 함
+            log.error("{} 보존 실패 - 수동 복구 필요: items={}", name, items, e);
+        }
+    }
+
+    private void replaySpillFiles() {
+        Path dir = Paths.get(settings.spillDir());
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, name + "-*.ndjson")) {
+            for (Path file : files) {
+                try {
+                    List<T> items = new ArrayList<>();
+                    for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                        if (!line.isBlank()) {
+                            items.add(objectMapper.readValue(line, type));
+                        }
+                    }
+                    for (int from = 0; from < items.size(); from += settings.batchSize()) {
+                        record(items.subList(from, Math.min(items.size(), from + settings.batchSize())));
+                    }
+                    Files.delete(file);
+                    log.info("{} 보존 파일 재처리 완료: file={}, items={}", name, file.getFileName(), items.size());
+                } catch (Exception e) {
+                    log.warn("{} 보존 파일 재처리 실패 (다음 기동 시 재시도): file={}, error={}",
+                        name, file.getFileName(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("{} 보존 디렉터리 조회 실패: {}", name, e.getMessage());
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
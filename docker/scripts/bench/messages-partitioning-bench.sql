@@ -0,0 +1,111 @@
+-- chat_schema.messages 파티션 전/후 비교 벤치마크
+--
+-- 같은 데이터를 단일 테이블(bench.messages_heap)과 월 파티션 테이블(bench.messages_part)에 적재하고
+-- 일간 리포트/채팅방 조회/6개월 아카이빙 삭제 패턴을 EXPLAIN (ANALYZE, BUFFERS)와 \timing으로 비교
+-- 운영 스키마는 건드리지 않음 (bench 스키마만 사용, 마지막에 삭제)
+--
+-- 실행: psql -d dorandoran -v rows=5000000 -v rooms=20000 -f messages-partitioning-bench.sql > bench.log
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+    \set rows 5000000
+\endif
+\if :{?rooms}
+\else
+    \set rooms 20000
+\endif
+\timing on
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+-- 12개월에 고르게 분포한 메시지 생성 (채팅방별 순서 번호 포함)
+CREATE TABLE bench.source AS
+SELECT gen_random_uuid() AS id,
+       ('00000000-0000-0000-0000-' || lpad(to_hex(g % :rooms), 12, '0'))::uuid AS chatroom_id,
+       CASE WHEN g % 2 = 0 THEN 'user' ELSE 'bot' END AS sender_type,
+       ('00000000-0000-0000-0001-' || lpad(to_hex(g % (:rooms / 2)), 12, '0'))::uuid AS sender_id,
+       md5(g::text) || md5((g * 7)::text) AS content,
+       'text' AS content_type,
+       NULL::jsonb AS metadata,
+       NULL::uuid AS parent_message_id,
+       (g / :rooms + 1)::bigint AS sequence_number,
+       (g % 500)::integer AS token_count,
+       (g % 3000)::integer AS processing_time_ms,
+       date_trunc('month', NOW()) - INTERVAL '11 months'
+           + (g::double precision / :rows) * (NOW() - (date_trunc('month', NOW()) - INTERVAL '11 months')) AS created_at
+FROM generate_series(0, :rows - 1) AS g;
+
+-- 변경 전: 단일 테이블
+CREATE TABLE bench.messages_heap (LIKE bench.source);
+INSERT INTO bench.messages_heap SELECT * FROM bench.source;
+ALTER TABLE bench.messages_heap ADD PRIMARY KEY (id);
+CREATE INDEX ON bench.messages_heap (chatroom_id, sequence_number);
+CREATE INDEX ON bench.messages_heap (sender_id);
+CREATE INDEX ON bench.messages_heap (created_at);
+
+-- 변경 후: 월 파티션
+CREATE TABLE bench.messages_part (LIKE bench.source) PARTITION BY RANGE (created_at);
+DO $$
+DECLARE
+    month_start date := (date_trunc('month', NOW()) - INTERVAL '11 months')::date;
+BEGIN
+    WHILE month_start <= date_trunc('month', NOW())::date LOOP
+        EXECUTE format('CREATE TABLE bench.%I PARTITION OF bench.messages_part FOR VALUES FROM (%L) TO (%L)',
+            'messages_part_' || to_char(month_start, 'YYYY_MM'), month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+CREATE TABLE bench.messages_part_default PARTITION OF bench.messages_part DEFAULT;
+INSERT INTO bench.messages_part SELECT * FROM bench.source;
+ALTER TABLE bench.messages_part ADD PRIMARY KEY (id, created_at);
+CREATE INDEX ON bench.messages_part (chatroom_id, sequence_number);
+CREATE INDEX ON bench.messages_part (sender_id);
+CREATE INDEX ON bench.messages_part (created_at, id);
+
+VACUUM ANALYZE bench.messages_heap;
+VACUUM ANALYZE bench.messages_part;
+
+SELECT pg_size_pretty(pg_total_relation_size('bench.messages_heap')) AS heap_size;
+SELECT pg_size_pretty(SUM(pg_total_relation_size(inhrelid))) AS partitioned_size
+FROM pg_inherits WHERE inhparent = 'bench.messages_part'::regclass;
+
+SELECT quote_literal((CURRENT_DATE - 1)::text) AS day_start, quote_literal(CURRENT_DATE::text) AS day_end \gset
+
+\echo '=== DailyReportService: 어제 메시지 수 / DAU / 평균 처리 시간 ==='
+EXPLAIN (ANALYZE, BUFFERS) SELECT COUNT(*) FROM bench.messages_heap WHERE created_at >= :day_start AND created_at < :day_end;
+EXPLAIN (ANALYZE, BUFFERS) SELECT COUNT(*) FROM bench.messages_part WHERE created_at >= :day_start AND created_at < :day_end;
+EXPLAIN (ANALYZE, BUFFERS) SELECT COUNT(DISTINCT sender_id) FROM bench.messages_heap
+    WHERE sender_type = 'user' AND created_at >= :day_start AND created_at < :day_end;
+EXPLAIN (ANALYZE, BUFFERS) SELECT COUNT(DISTINCT sender_id) FROM bench.messages_part
+    WHERE sender_type = 'user' AND created_at >= :day_start AND created_at < :day_end;
+EXPLAIN (ANALYZE, BUFFERS) SELECT AVG(processing_time_ms) FROM bench.messages_heap
+    WHERE processing_time_ms IS NOT NULL AND created_at >= :day_start AND created_at < :day_end;
+EXPLAIN (ANALYZE, BUFFERS) SELECT AVG(processing_time_ms) FROM bench.messages_part
+    WHERE processing_time_ms IS NOT NULL AND created_at >= :day_start AND created_at < :day_end;
+
+\echo '=== MessageRepository: 채팅방 메시지 순서 조회 / 최신 순서 번호 (파티션 키 없음 → 모든 파티션 탐색) ==='
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM bench.messages_heap
+    WHERE chatroom_id = '00000000-0000-0000-0000-000000000007' ORDER BY sequence_number LIMIT 50;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM bench.messages_part
+    WHERE chatroom_id = '00000000-0000-0000-0000-000000000007' ORDER BY sequence_number LIMIT 50;
+EXPLAIN (ANALYZE, BUFFERS) SELECT sequence_number FROM bench.messages_heap
+    WHERE chatroom_id = '00000000-0000-0000-0000-000000000007' ORDER BY sequence_number DESC LIMIT 1;
+EXPLAIN (ANALYZE, BUFFERS) SELECT sequence_number FROM bench.messages_part
+    WHERE chatroom_id = '00000000-0000-0000-0000-000000000007' ORDER BY sequence_number DESC LIMIT 1;
+
+\echo '=== MessageArchivingService: 가장 오래된 달 제거 (행 삭제 vs 파티션 분리 + 삭제) ==='
+SELECT to_char(date_trunc('month', NOW()) - INTERVAL '11 months', 'YYYY_MM') AS oldest \gset
+BEGIN;
+DELETE FROM bench.messages_heap WHERE created_at < date_trunc('month', NOW()) - INTERVAL '10 months';
+COMMIT;
+BEGIN;
+ALTER TABLE bench.messages_part DETACH PARTITION bench.messages_part_:oldest;
+DROP TABLE bench.messages_part_:oldest;
+COMMIT;
+
+\echo '=== 삭제 이후 부풀어 있는 단일 테이블 (VACUUM 전 크기) ==='
+SELECT pg_size_pretty(pg_total_relation_size('bench.messages_heap')) AS heap_size_after_delete;
+
+DROP SCHEMA bench CASCADE;
@@ -66,6 +66,8 @@ COMMENT ON TABLE user_schema.app_user IS ''사용자 정보'';
 
 CREATE UNIQUE INDEX app_user_PK ON user_schema.app_user (id);
 CREATE UNIQUE INDEX app_user_email_idx ON user_schema.app_user (email);
+-- 신규 가입자 시간별 집계
+CREATE INDEX app_user_created_at_idx ON user_schema.app_user (created_at);
 ALTER TABLE user_schema.app_user ADD CONSTRAINT app_user_PK PRIMARY KEY USING INDEX app_user_PK;
 -- 값 제한: 사용자 상태/역할
 ALTER TABLE user_schema.app_user
@@ -345,8 +347,46 @@ ALTER TABLE user_schema.settings ADD CONSTRAINT settings_PK PRIMARY KEY USING IN
 CREATE UNIQUE INDEX uq_settings_user_key ON user_schema.settings(user_id, setting_key);
 -- Foreign Key 제약 조건 제거 (마이크로서비스 아키텍처에 맞게 수정)
 
+-- User 스키마의 이벤트 outbox 테이블 (사용자 변경과 같은 트랜잭션에서 기록, 릴레이가 구독 서비스로 전달)
+DROP TABLE IF EXISTS user_schema.event_outbox CASCADE;
 
--- Chat 스키마의 메시지 테이블 (단순화 버전)
+CREATE TABLE user_schema.event_outbox
+(
+    id    BIGSERIAL NOT NULL,
+    event_type    character varying(100) NOT NULL,
+    aggregate_id    character varying(100) NOT NULL,
+    payload    TEXT NOT NULL,
+    created_at    timestamp without time zone NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON COLUMN user_schema.event_outbox.id IS ''이벤트 순번 (구독자 오프셋 기준)'';
+COMMENT ON COLUMN user_schema.event_outbox.event_type IS ''이벤트 타입'';
+COMMENT ON COLUMN user_schema.event_outbox.aggregate_id IS ''대상 사용자 아이디'';
+COMMENT ON COLUMN user_schema.event_outbox.payload IS ''이벤트 JSON'';
+COMMENT ON COLUMN user_schema.event_outbox.created_at IS ''생성 시간'';
+COMMENT ON TABLE user_schema.event_outbox IS ''사용자 이벤트 outbox'';
+
+ALTER TABLE user_schema.event_outbox ADD CONSTRAINT event_outbox_PK PRIMARY KEY (id);
+CREATE INDEX event_outbox_created_at_idx ON user_schema.event_outbox (created_at);
+
+-- 구독자별 전달 오프셋 (릴레이가 FOR UPDATE SKIP LOCKED로 잠그고 전진)
+DROP TABLE IF EXISTS user_schema.event_outbox_offsets CASCADE;
+
+CREATE TABLE user_schema.event_outbox_offsets
+(
+    subscriber    character varying(100) NOT NULL,
+    last_event_id    BIGINT NOT NULL DEFAULT 0,
+    updated_at    timestamp without time zone NOT NULL DEFAULT NOW(),
+    CONSTRAINT event_outbox_offsets_PK PRIMARY KEY (subscriber)
+);
+
+COMMENT ON COLUMN user_schema.event_outbox_offsets.subscriber IS ''구독자 이름'';
+COMMENT ON COLUMN user_schema.event_outbox_offsets.last_event_id IS ''마지막으로 전달 완료된 이벤트 순번'';
+COMMENT ON COLUMN user_schema.event_outbox_offsets.updated_at IS ''수정 시간'';
+COMMENT ON TABLE user_schema.event_outbox_offsets IS ''outbox 구독자별 전달 오프셋'';
+
+
+-- Chat 스키마의 메시지 테이블 (단순화 버전, created_at 기준 월별 범위 파티션)
 DROP TABLE IF EXISTS chat_schema.messages CASCADE;
 
 CREATE TABLE chat_schema.messages
@@ -366,10 +406,10 @@ CREATE TABLE chat_schema.messages
     edited_at    timestamp without time zone,
     is_deleted    boolean DEFAULT false,
     deleted_at    timestamp without time zone,
-    created_at    timestamp without time zone DEFAULT NOW(),
+    created_at    timestamp without time zone NOT NULL DEFAULT NOW(),
     updated_at    timestamp without time zone DEFAULT NOW()
     -- Foreign Key 제약 조건 제거 (마이크로서비스 아키텍처에 맞게 수정)
-);
+) PARTITION BY RANGE (created_at);
 
 COMMENT ON COLUMN chat_schema.messages.id IS ''메시지 아이디'';
 COMMENT ON COLUMN chat_schema.messages.chatroom_id IS ''채팅방 아이디'';
@@ -390,20 +430,149 @@ COMMENT ON COLUMN chat_schema.messages.created_at IS ''생성 시간'';
 COMMENT ON COLUMN chat_schema.messages.updated_at IS ''수정 시간'';
 COMMENT ON TABLE chat_schema.messages IS ''메시지'';
 
-CREATE UNIQUE INDEX messages_PK ON chat_schema.messages (id);
-ALTER TABLE chat_schema.messages ADD CONSTRAINT messages_PK PRIMARY KEY USING INDEX messages_PK;
+-- 파티션 테이블의 기본 키는 파티션 키(created_at)를 포함해야 함 (id는 애플리케이션에서 UUID로 생성)
+ALTER TABLE chat_schema.messages ADD CONSTRAINT messages_PK PRIMARY KEY (id, created_at);
+
+-- 월별 파티션 (messages_YYYY_MM): 지난달 ~ 3개월 뒤까지 생성, 이후는 batch 서비스가 미리 생성
+DO $$
+DECLARE
+    month_start date := (date_trunc(''month'', NOW()) - INTERVAL ''1 month'')::date;
+BEGIN
+    WHILE month_start <= (date_trunc(''month'', NOW()) + INTERVAL ''3 months'')::date LOOP
+        EXECUTE format(''CREATE TABLE IF NOT EXISTS chat_schema.%I PARTITION OF chat_schema.messages FOR VALUES FROM (%L) TO (%L)'',
+            ''messages_'' || to_char(month_start, ''YYYY_MM''), month_start, (month_start + INTERVAL ''1 month'')::date);
+        month_start := (month_start + INTERVAL ''1 month'')::date;
+    END LOOP;
+END $$;
+
+-- 범위 밖 created_at 보호용 (복원된 오래된 메시지 등), 평소에는 비어 있어야 함
+CREATE TABLE chat_schema.messages_default PARTITION OF chat_schema.messages DEFAULT;
 
 -- Foreign Key 제약 조건 제거 (마이크로서비스 아키텍처에 맞게 수정)
 -- 채팅방의 마지막 메시지 참조 무결성: 메시지 삭제 시 포인터 NULL 처리
 
 -- 인덱스
+-- (chatroom_id, sequence_number) 유일성은 파티션 테이블에서 전역으로 걸 수 없으므로
+-- chat 서비스가 메시지 저장 시 채팅방 행을 잠가 순서 번호를 직렬화함
 CREATE INDEX idx_messages_chatroom ON chat_schema.messages(chatroom_id, sequence_number);
-ALTER TABLE chat_schema.messages ADD CONSTRAINT uq_messages_room_seq UNIQUE (chatroom_id, sequence_number);
 CREATE INDEX idx_messages_sender ON chat_schema.messages(sender_id);
-CREATE INDEX idx_messages_created_at ON chat_schema.messages(created_at);
+-- 아카이빙 키셋 조회 (created_at, id) 순서
+CREATE INDEX idx_messages_created_id ON chat_schema.messages(created_at, id);
 CREATE INDEX idx_messages_parent ON chat_schema.messages(parent_message_id);
 -- Foreign Key 제약 조건 제거 (마이크로서비스 아키텍처에 맞게 수정)
 
+-- Batch 스키마의 메시지 아카이빙 체크포인트
+DROP TABLE IF EXISTS batch_schema.archive_checkpoints CASCADE;
+
+CREATE TABLE batch_schema.archive_checkpoints
+(
+    job_name    character varying(100) NOT NULL,
+    run_id    character varying(50) NOT NULL,
+    status    character varying(20) NOT NULL,
+    cutoff    timestamp without time zone NOT NULL,
+    source_table    character varying(100) NOT NULL DEFAULT ''messages'',
+    last_created_at    timestamp without time zone NOT NULL,
+    last_id    UUID NOT NULL,
+    segments_written    integer NOT NULL DEFAULT 0,
+    rows_archived    BIGINT NOT NULL DEFAULT 0,
+    started_at    timestamp without time zone NOT NULL DEFAULT NOW(),
+    updated_at    timestamp without time zone NOT NULL DEFAULT NOW(),
+    CONSTRAINT archive_checkpoints_PK PRIMARY KEY (job_name)
+);
+
+COMMENT ON COLUMN batch_schema.archive_checkpoints.job_name IS ''작업 이름'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.run_id IS ''실행 아이디 (세그먼트 디렉터리 이름)'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.status IS ''상태 (RUNNING, COMPLETED)'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.cutoff IS ''이 시각 이전 메시지를 아카이빙'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.source_table IS ''현재 훑고 있는 테이블 (messages 또는 떼어 낸 월 파티션)'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.last_created_at IS ''마지막으로 아카이빙/삭제된 메시지 생성 시간'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.last_id IS ''마지막으로 아카이빙/삭제된 메시지 아이디'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.segments_written IS ''기록한 세그먼트 수'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.rows_archived IS ''아카이빙한 행 수'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.started_at IS ''실행 시작 시간'';
+COMMENT ON COLUMN batch_schema.archive_checkpoints.updated_at IS ''수정 시간'';
+COMMENT ON TABLE batch_schema.archive_checkpoints IS ''메시지 아카이빙 체크포인트'';
+
+-- Batch 스키마의 아카이브 채팅방 색인
+DROP TABLE IF EXISTS batch_schema.archive_room_segments CASCADE;
+
+CREATE TABLE batch_schema.archive_room_segments
+(
+    segment_path    character varying(255) NOT NULL,
+    chatroom_id    UUID NOT NULL,
+    compression    character varying(20) NOT NULL,
+    byte_offset    BIGINT NOT NULL,
+    byte_length    BIGINT NOT NULL,
+    row_count    integer NOT NULL,
+    min_sequence    BIGINT NOT NULL,
+    max_sequence    BIGINT NOT NULL,
+    created_at    timestamp without time zone NOT NULL DEFAULT NOW(),
+    CONSTRAINT archive_room_segments_PK PRIMARY KEY (segment_path, chatroom_id)
+);
+
+COMMENT ON COLUMN batch_schema.archive_room_segments.segment_path IS ''세그먼트 경로 (아카이브 디렉터리 기준 상대 경로)'';
+COMMENT ON COLUMN batch_schema.archive_room_segments.chatroom_id IS ''채팅방 아이디'';
+COMMENT ON COLUMN batch_schema.archive_room_segments.compression IS ''압축 방식 (gzip, none)'';
+COMMENT ON COLUMN batch_schema.archive_room_segments.byte_offset IS ''세그먼트 내 시작 바이트 위치'';
+COMMENT ON COLUMN batch_schema.archive_room_segments.byte_length IS ''구간 바이트 길이'';
+COMMENT ON COLUMN batch_schema.archive_room_segments.row_count IS ''구간 메시지 수'';
+COMMENT ON COLUMN batch_schema.archive_room_segments.min_sequence IS ''구간 최소 대화 순서 번호'';
+COMMENT ON COLUMN batch_schema.archive_room_segments.max_sequence IS ''구간 최대 대화 순서 번호'';
+COMMENT ON COLUMN batch_schema.archive_room_segments.created_at IS ''생성 시간'';
+COMMENT ON TABLE batch_schema.archive_room_segments IS ''아카이브 세그먼트의 채팅방별 바이트 구간 색인'';
+
+CREATE INDEX idx_archive_room_segments_room ON batch_schema.archive_room_segments(chatroom_id, min_sequence);
+
+-- Batch 스키마의 시간별 지표 집계
+DROP TABLE IF EXISTS batch_schema.metrics_hourly CASCADE;
+
+CREATE TABLE batch_schema.metrics_hourly
+(
+    bucket_start    timestamp without time zone NOT NULL,
+    new_users    BIGINT NOT NULL DEFAULT 0,
+    messages    BIGINT NOT NULL DEFAULT 0,
+    processing_ms_sum    BIGINT NOT NULL DEFAULT 0,
+    processing_ms_count    BIGINT NOT NULL DEFAULT 0,
+    input_tokens    BIGINT NOT NULL DEFAULT 0,
+    output_tokens    BIGINT NOT NULL DEFAULT 0,
+    cost    NUMERIC(18,6) NOT NULL DEFAULT 0,
+    intimacy_updates    BIGINT NOT NULL DEFAULT 0,
+    active_users    BIGINT NOT NULL DEFAULT 0,
+    active_user_sketch    BYTEA NOT NULL,
+    computed_at    timestamp without time zone NOT NULL DEFAULT NOW(),
+    CONSTRAINT metrics_hourly_PK PRIMARY KEY (bucket_start)
+);
+
+COMMENT ON COLUMN batch_schema.metrics_hourly.bucket_start IS ''집계 시간 시작 (정각)'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.new_users IS ''신규 가입자 수'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.messages IS ''메시지 수'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.processing_ms_sum IS ''응답 시간(ms) 합계'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.processing_ms_count IS ''응답 시간이 있는 메시지 수'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.input_tokens IS ''AI 입력 토큰 합계'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.output_tokens IS ''AI 출력 토큰 합계'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.cost IS ''AI 비용 합계 (입력 + 출력)'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.intimacy_updates IS ''친밀도 갱신 건수'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.active_users IS ''메시지를 보낸 고유 사용자 수 (해당 시간 정확한 값)'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.active_user_sketch IS ''고유 사용자 HyperLogLog 레지스터 (구간 합산용)'';
+COMMENT ON COLUMN batch_schema.metrics_hourly.computed_at IS ''집계 시간'';
+COMMENT ON TABLE batch_schema.metrics_hourly IS ''시간별 지표 집계'';
+
+-- Batch 스키마의 집계 워터마크
+DROP TABLE IF EXISTS batch_schema.rollup_watermarks CASCADE;
+
+CREATE TABLE batch_schema.rollup_watermarks
+(
+    name    character varying(100) NOT NULL,
+    watermark    timestamp without time zone NOT NULL,
+    updated_at    timestamp without time zone NOT NULL DEFAULT NOW(),
+    CONSTRAINT rollup_watermarks_PK PRIMARY KEY (name)
+);
+
+COMMENT ON COLUMN batch_schema.rollup_watermarks.name IS ''집계 이름'';
+COMMENT ON COLUMN batch_schema.rollup_watermarks.watermark IS ''이 시각 이전은 집계 완료'';
+COMMENT ON COLUMN batch_schema.rollup_watermarks.updated_at IS ''수정 시간'';
+COMMENT ON TABLE batch_schema.rollup_watermarks IS ''증분 집계 워터마크'';
+
 -- ===========================================================
 -- Store Schema 생성
 -- ===========================================================
@@ -476,6 +645,7 @@ CREATE TABLE chat_schema.intimacy_progress (
 
 CREATE INDEX idx_intimacy_progress_chatroom ON chat_schema.intimacy_progress(chatroom_id);
 CREATE INDEX idx_intimacy_progress_user ON chat_schema.intimacy_progress(user_id);
+CREATE INDEX idx_intimacy_progress_last_updated ON chat_schema.intimacy_progress(last_updated);
 
 COMMENT ON TABLE chat_schema.intimacy_progress IS ''채팅방별 친밀도 진척 추적'';
 COMMENT ON COLUMN chat_schema.intimacy_progress.intimacy_level IS ''현재 친밀도 레벨 (1=격식체, 2=부드러운 존댓말, 3=반말)'';
@@ -529,6 +699,35 @@ CREATE TABLE billing.monthly_user_costs (
 );
 CREATE INDEX idx_monthly_user_costs_month ON billing.monthly_user_costs(billing_month);
 
+-- 시간/일 사용량 롤업 테이블 (과금 writer가 증분 유지)
+DROP TABLE IF EXISTS billing.usage_hourly CASCADE;
+CREATE TABLE billing.usage_hourly (
+    bucket_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    user_id UUID NOT NULL,
+    model TEXT NOT NULL,
+    request_count BIGINT NOT NULL DEFAULT 0,
+    input_tokens BIGINT NOT NULL DEFAULT 0,
+    output_tokens BIGINT NOT NULL DEFAULT 0,
+    cost_in NUMERIC(18,6) NOT NULL DEFAULT 0,
+    cost_out NUMERIC(18,6) NOT NULL DEFAULT 0,
+    CONSTRAINT usage_hourly_pk PRIMARY KEY (bucket_start, user_id, model)
+);
+CREATE INDEX idx_usage_hourly_user_bucket ON billing.usage_hourly(user_id, bucket_start);
+
+DROP TABLE IF EXISTS billing.usage_daily CASCADE;
+CREATE TABLE billing.usage_daily (
+    bucket_date DATE NOT NULL,
+    user_id UUID NOT NULL,
+    model TEXT NOT NULL,
+    request_count BIGINT NOT NULL DEFAULT 0,
+    input_tokens BIGINT NOT NULL DEFAULT 0,
+    output_tokens BIGINT NOT NULL DEFAULT 0,
+    cost_in NUMERIC(18,6) NOT NULL DEFAULT 0,
+    cost_out NUMERIC(18,6) NOT NULL DEFAULT 0,
+    CONSTRAINT usage_daily_pk PRIMARY KEY (bucket_date, user_id, model)
+);
+CREATE INDEX idx_usage_daily_user_bucket ON billing.usage_daily(user_id, bucket_date);
+
 GRANT USAGE ON SCHEMA billing TO doran;
 GRANT ALL PRIVILEGES ON ALL TABLES IN SCHEMA billing TO doran;
 
@@ -0,0 +1,42 @@
+package com.dorandoran.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway JWT 로컬 검증 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "gateway.auth")
+@Getter
+@Setter
+public class GatewayAuthProperties {
+
+    private boolean enforce = false;                       // true: 토큰 없음/무효 시 401, false: 유효한 토큰만 사용자 헤더 주입
+    private Duration clockSkew = Duration.ofSeconds(5);    // 만료 검사 허용 오차
+    private int tokenCacheSize = 10_000;                   // 검증 결과 캐시 최대 항목 수
+    private Duration tokenCacheTtl = Duration.ofSeconds(30); // 검증 결과 재사용 시간 (토큰 만료보다 길어지지 않음)
+    private String revocationChannel = "auth:revocations";  // Auth가 폐기 토큰을 발행하는 Pub/Sub 채널
+    private String revocationSetKey = "auth:revoked-tokens"; // 폐기 토큰 전체 목록 (ZSET, score=만료 시각)
+    private String revokedUsersKey = "auth:revoked-users";   // 사용자 전체 폐기 시각 (ZSET, score=폐기 시각)
+    private Duration userRevocationRetention = Duration.ofDays(7); // 전체 폐기 시각 보관 기간 (Auth와 동일)
+    private Duration revocationResyncInterval = Duration.ofSeconds(60); // 재연결 공백 보정을 위한 전체 동기화 주기
+    // 인증 제외 경로 (PathPattern, 하위 경로까지 제외하려면 /** 사용)
+    private List<String> exclusions = new ArrayList<>(List.of(
+        "/actuator/**",
+        "/",
+        "/api/auth/login/**",
+        "/api/auth/refresh/**",
+        "/api/auth/password/reset/**",
+        "/api/auth/health/**",
+        "/api/users",
+        "/api/users/check-email/**",
+        "/api/users/health/**"
+    ));
+}
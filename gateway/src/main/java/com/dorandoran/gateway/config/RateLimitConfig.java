@@ -0,0 +1,70 @@
+package com.dorandoran.gateway.config;
+
+import com.dorandoran.gateway.filter.JwtAuthFilter;
+import com.dorandoran.gateway.ratelimit.HybridRateLimiter;
+import com.dorandoran.gateway.ratelimit.LocalTokenBuckets;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * 요청 속도 제한 구성
+ * RequestRateLimiter 필터의 기본 RateLimiter/KeyResolver를 등록
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @Primary
+    public HybridRateLimiter hybridRateLimiter(RedisRateLimiter redisRateLimiter,
+                                               RateLimitProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new HybridRateLimiter(redisRateLimiter, new LocalTokenBuckets(properties.getMaxLocalBuckets()),
+            properties, meterRegistry);
+    }
+
+    /**
+     * 인증된 요청은 사용자 단위, 그 외에는 클라이언트 IP 단위
+     */
+    @Bean
+    @Primary
+    public KeyResolver userOrIpKeyResolver(RateLimitProperties properties) {
+        return exchange -> {
+            String userId = exchange.getAttribute(JwtAuthFilter.USER_ID_ATTRIBUTE);
+            if (userId != null && !userId.isEmpty()) {
+                return Mono.just("user:" + userId);
+            }
+            return Mono.just("ip:" + clientIp(exchange, properties));
+        };
+    }
+
+    /**
+     * 로그인처럼 인증 전 요청은 IP 단위
+     */
+    @Bean
+    public KeyResolver ipKeyResolver(RateLimitProperties properties) {
+        return exchange -> Mono.just("ip:" + clientIp(exchange, properties));
+    }
+
+    private static String clientIp(ServerWebExchange exchange, RateLimitProperties properties) {
+        if (properties.isTrustForwardedFor()) {
+            String forwarded = exchange.getRequest().getHeaders().getFirst("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        if (remote == null) {
+            return "unknown";
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+}
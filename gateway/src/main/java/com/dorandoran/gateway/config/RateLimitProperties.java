@@ -0,0 +1,22 @@
+package com.dorandoran.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gateway 요청 속도 제한 설정
+ * 라우트별 한도(replenishRate/burstCapacity/requestedTokens)는 각 라우트의 redis-rate-limiter.* 인자로 지정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean localEnabled = true;     // 노드 로컬 토큰 버킷으로 먼저 거절 (Redis 왕복 없음)
+    private boolean redisEnabled = true;     // Redis 토큰 버킷으로 클러스터 전체 사용량 집계
+    private boolean trustForwardedFor = false; // 클라이언트 IP를 X-Forwarded-For 첫 값에서 읽을지 여부 (LB 뒤일 때만)
+    private int maxLocalBuckets = 100_000;   // 로컬 버킷 최대 수 (초과 시 가득 찬 버킷부터 정리)
+}
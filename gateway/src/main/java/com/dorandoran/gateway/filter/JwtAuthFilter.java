@@ -1,162 +1,149 @@
 package com.dorandoran.gateway.filter;
 
-import lombok.RequiredArgsConstructor;
+import com.dorandoran.gateway.config.GatewayAuthProperties;
+import com.dorandoran.gateway.security.JwtVerifier;
+import com.dorandoran.gateway.security.RevocationRegistry;
+import com.dorandoran.gateway.security.VerifiedToken;
+import com.dorandoran.shared.security.HmacAuthenticator;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
- * JWT 인증 필터 (완전 구현)
- * Auth 서비스와의 통신을 통한 토큰 검증 및 HMAC 서명 헤더 주입
+ * JWT 인증 필터
+ * 토큰 서명/만료를 Gateway에서 직접 검증하고(Auth 서비스 호출 없음), 폐기 목록은 로컬 복제본으로 확인한 뒤
+ * 사용자 헤더와 HMAC 서명 헤더를 주입
+ *
+ * gateway.auth.enforce=false 이면 토큰이 없거나 무효여도 요청을 그대로 통과시키고, 유효한 토큰만 사용자 헤더를 주입
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthFilter implements WebFilter {
 
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${gateway.auth.base-url:http://localhost:8081}")
-    private String authBaseUrl;
+    /** 검증된 사용자 ID (요청 속도 제한 키 등에서 사용) */
+    public static final String USER_ID_ATTRIBUTE = JwtAuthFilter.class.getName() + ".userId";
 
-    @Value("${gateway.auth.validate-path:/api/auth/validate}")
-    private String validatePath;
+    private static final String BEARER_PREFIX = "Bearer ";
 
-    @Value("${gateway.jwt.hmac-secret:change-me-hmac-secret}")
-    private String hmacSecret;
+    private final JwtVerifier jwtVerifier;
+    private final RevocationRegistry revocationRegistry;
+    private final GatewayAuthProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final HmacAuthenticator hmacAuthenticator;
+    private final List<PathPattern> excludedPaths;
 
-    @Value("${gateway.jwt.skew-ms:60000}")
-    private long skewMs;
+    public JwtAuthFilter(JwtVerifier jwtVerifier, RevocationRegistry revocationRegistry,
+                         GatewayAuthProperties properties, MeterRegistry meterRegistry,
+                         @Value("${gateway.jwt.hmac-secret:change-me-hmac-secret}") String hmacSecret,
+                         @Value("${gateway.jwt.skew-ms:60000}") long skewMs) {
+        this.jwtVerifier = jwtVerifier;
+        this.revocationRegistry = revocationRegistry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.hmacAuthenticator = new HmacAuthenticator(hmacSecret, skewMs);
+        this.excludedPaths = properties.getExclusions().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-        // 임시 배포 대응: JWT 필터 우회
-        // TODO: 배포 안정화 후 아래 원래 로직 복구
-        return chain.filter(exchange);
-    }
+        if (isExcludedPath(exchange.getRequest().getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
 
-    /**
-     * 인증 제외 경로 확인
-     */
-    private boolean isExcludedPath(String path) {
-        return path.startsWith("/actuator") || 
-               path.equals("/") ||
-               path.startsWith("/api/auth/login") ||
-               path.startsWith("/api/auth/refresh") ||
-               path.startsWith("/api/auth/password/reset") ||
-               path.startsWith("/api/auth/health") ||
-               path.startsWith("/api/users/register") ||
-               path.startsWith("/api/users/health");
-    }
+        String token = extractBearerToken(exchange);
+        if (token == null) {
+            return reject(exchange, chain, "missing");
+        }
 
-    /**
-     * Auth 서비스를 통한 토큰 검증
-     */
-    private Mono<Void> validateTokenWithAuthService(String token, ServerWebExchange exchange, WebFilterChain chain) {
-        WebClient client = webClientBuilder.build();
-        
-        return client.get()
-                .uri(authBaseUrl + validatePath)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .retrieve()
-                .toBodilessEntity()
-                .flatMap(response -> {
-                    // 토큰 검증 성공 시 HMAC 헤더 주입
-                    return addHmacHeadersAndContinue(token, exchange, chain);
-                })
-                .onErrorResume(err -> {
-                    log.debug("JWT 검증 실패: {}", err.getMessage());
-                    exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-                    return exchange.getResponse().setComplete();
-                });
+        VerifiedToken verified;
+        try {
+            verified = jwtVerifier.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT 검증 실패: {}", e.getMessage());
+            return reject(exchange, chain, "invalid");
+        }
+
+        if (revocationRegistry.isRevoked(verified.tokenHash())
+                || revocationRegistry.isRevokedBefore(verified.userId(), verified.issuedAtMillis())) {
+            log.debug("폐기된 토큰: userId={}", verified.userId());
+            return reject(exchange, chain, "revoked");
+        }
+
+        return chain.filter(withIdentity(exchange, verified));
     }
 
     /**
-     * HMAC 헤더 주입 및 요청 계속
+     * 인증 제외 경로 확인 (gateway.auth.exclusions)
      */
-    private Mono<Void> addHmacHeadersAndContinue(String token, ServerWebExchange exchange, WebFilterChain chain) {
-        try {
-            // JWT 페이로드에서 클레임 추출
-            String[] parts = token.split("\\.");
-            if (parts.length == 3) {
-                String payloadJson = new String(java.util.Base64.getUrlDecoder().decode(parts[1]));
-                String compact = payloadJson.replaceAll("\\s+", "");
-                
-                // 클레임 추출
-                String userId = extractJsonValue(compact, "sub");
-                String email = extractJsonValue(compact, "email");
-                String name = extractJsonValue(compact, "name");
-                
-                // HMAC 서명 생성
-                long timestamp = System.currentTimeMillis();
-                String message = (!userId.isEmpty() ? userId : "") + "|" + timestamp;
-                String hmacSignature = generateHmacSignature(hmacSecret, message);
-
-                // 헤더 주입하여 요청 계속
-                var mutated = exchange.mutate().request(
-                        builder -> builder.headers(http -> {
-                            if (!userId.isEmpty()) http.add("X-User-Id", userId);
-                            if (!email.isEmpty()) http.add("X-User-Email", email);
-                            if (!name.isEmpty()) http.add("X-User-Name", name);
-                            http.add("X-Auth-Ts", Long.toString(timestamp));
-                            http.add("X-Auth-Sign", hmacSignature);
-                        })
-                ).build();
-                
-                return chain.filter(mutated);
+    private boolean isExcludedPath(PathContainer path) {
+        for (PathPattern pattern : excludedPaths) {
+            if (pattern.matches(path)) {
+                return true;
             }
-        } catch (Exception e) {
-            log.warn("JWT 페이로드 파싱 실패", e);
         }
-        
-        // 파싱 실패해도 검증은 통과했으니 헤더 주입 없이 통과
-        return chain.filter(exchange);
+        return false;
     }
 
-    /**
-     * JSON 값 추출 (간단한 파싱)
-     */
-    private String extractJsonValue(String json, String key) {
-        String pattern = "\"" + key + "\":\"";
-        int idx = json.indexOf(pattern);
-        if (idx < 0) return "";
-        int start = idx + pattern.length();
-        int end = json.indexOf('"', start);
-        if (end < 0) return "";
-        return json.substring(start, end);
+    private static String extractBearerToken(ServerWebExchange exchange) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
     }
 
     /**
-     * HMAC 서명 생성
+     * enforce 모드에서는 401, 아니면 사용자 헤더 주입 없이 통과
      */
-    private String generateHmacSignature(String secret, String message) {
-        try {
-            javax.crypto.Mac mac = javax.crypto.Mac.getInstance("HmacSHA256");
-            javax.crypto.spec.SecretKeySpec secretKeySpec = new javax.crypto.spec.SecretKeySpec(secret.getBytes(), "HmacSHA256");
-            mac.init(secretKeySpec);
-            byte[] hmacBytes = mac.doFinal(message.getBytes());
-            return bytesToHex(hmacBytes);
-        } catch (Exception e) {
-            log.error("HMAC 서명 생성 실패", e);
-            return "invalid-signature";
+    private Mono<Void> reject(ServerWebExchange exchange, WebFilterChain chain, String reason) {
+        Counter.builder("gateway.auth.rejected")
+            .tag("reason", reason)
+            .tag("enforced", String.valueOf(properties.isEnforce()))
+            .register(meterRegistry)
+            .increment();
+        if (!properties.isEnforce()) {
+            return chain.filter(exchange);
         }
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
     }
 
     /**
-     * 바이트 배열을 헥스 문자열로 변환
+     * 검증된 사용자 헤더와 HMAC 서명 헤더 주입 (클라이언트가 보낸 같은 이름의 헤더는 덮어씀)
      */
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder result = new StringBuilder();
-        for (byte b : bytes) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
+    private ServerWebExchange withIdentity(ServerWebExchange exchange, VerifiedToken verified) {
+        HmacAuthenticator.Signature signature = hmacAuthenticator.sign(verified.userId());
+
+        ServerWebExchange mutated = exchange.mutate().request(
+                builder -> builder.headers(http -> {
+                    http.set("X-User-Id", verified.userId());
+                    if (!verified.email().isEmpty()) http.set("X-User-Email", verified.email());
+                    else http.remove("X-User-Email");
+                    if (!verified.name().isEmpty()) http.set("X-User-Name", verified.name());
+                    else http.remove("X-User-Name");
+                    http.set(HmacAuthenticator.HEADER_TIMESTAMP, Long.toString(signature.timestamp()));
+                    http.set(HmacAuthenticator.HEADER_NONCE, signature.nonce());
+                    http.set(HmacAuthenticator.HEADER_SIGNATURE, signature.value());
+                })
+        ).build();
+        mutated.getAttributes().put(USER_ID_ATTRIBUTE, verified.userId());
+        return mutated;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.dorandoran.gateway.ratelimit;
+
+import com.dorandoran.gateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로컬 토큰 버킷 + Redis 토큰 버킷 2단계 속도 제한
+ *
+ * 1. 노드 로컬 버킷에서 먼저 판정 - 거절이면 Redis 왕복 없이 즉시 429
+ * 2. 로컬 통과 시 Redis 버킷(RedisRateLimiter Lua 스크립트)으로 클러스터 전체 사용량 판정
+ *
+ * 라우트 한도는 RedisRateLimiter가 바인딩한 redis-rate-limiter.* 라우트 인자를 그대로 사용
+ * Redis 오류 시 RedisRateLimiter는 허용으로 응답하므로 로컬 버킷이 마지막 방어선이 됨
+ */
+public class HybridRateLimiter implements RateLimiter<RedisRateLimiter.Config> {
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final LocalTokenBuckets localBuckets;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public HybridRateLimiter(RedisRateLimiter redisRateLimiter, LocalTokenBuckets localBuckets,
+                             RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.localBuckets = localBuckets;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        RedisRateLimiter.Config config = redisRateLimiter.getConfig().get(routeId);
+        if (config == null) {
+            // 라우트 인자가 없으면 RedisRateLimiter 기본 동작(기본 설정 또는 설정 오류)을 따름
+            return redisRateLimiter.isAllowed(routeId, id);
+        }
+
+        if (properties.isLocalEnabled()) {
+            long waitNanos = localBuckets.tryConsume(routeId + ":" + id,
+                config.getReplenishRate(), config.getBurstCapacity(), config.getRequestedTokens());
+            if (waitNanos > 0) {
+                count(routeId, "rejected_local");
+                return Mono.just(new Response(false, rejectHeaders(config, waitNanos)));
+            }
+        }
+
+        if (!properties.isRedisEnabled()) {
+            count(routeId, "allowed");
+            return Mono.just(new Response(true, limitHeaders(config)));
+        }
+
+        return redisRateLimiter.isAllowed(routeId, id)
+            .map(response -> {
+                if (response.isAllowed()) {
+                    count(routeId, "allowed");
+                    return response;
+                }
+                count(routeId, "rejected_redis");
+                Map<String, String> headers = new HashMap<>(response.getHeaders());
+                headers.put(HttpHeaders.RETRY_AFTER, String.valueOf(secondsUntilRefill(config)));
+                return new Response(false, headers);
+            });
+    }
+
+    @Override
+    public Map<String, RedisRateLimiter.Config> getConfig() {
+        return redisRateLimiter.getConfig();
+    }
+
+    @Override
+    public Class<RedisRateLimiter.Config> getConfigClass() {
+        return RedisRateLimiter.Config.class;
+    }
+
+    @Override
+    public RedisRateLimiter.Config newConfig() {
+        return new RedisRateLimiter.Config();
+    }
+
+    private void count(String routeId, String result) {
+        Counter.builder("gateway.ratelimit.requests")
+            .tag("route", routeId)
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static Map<String, String> limitHeaders(RedisRateLimiter.Config config) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(RedisRateLimiter.REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+        headers.put(RedisRateLimiter.BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+        headers.put(RedisRateLimiter.REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens()));
+        return headers;
+    }
+
+    private static Map<String, String> rejectHeaders(RedisRateLimiter.Config config, long waitNanos) {
+        Map<String, String> headers = limitHeaders(config);
+        headers.put(RedisRateLimiter.REMAINING_HEADER, "0");
+        headers.put(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L)));
+        return headers;
+    }
+
+    private static long secondsUntilRefill(RedisRateLimiter.Config config) {
+        int rate = Math.max(1, config.getReplenishRate());
+        return Math.max(1, (config.getRequestedTokens() + rate - 1) / rate);
+    }
+}
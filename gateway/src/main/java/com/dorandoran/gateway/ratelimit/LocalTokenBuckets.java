@@ -0,0 +1,78 @@
+package com.dorandoran.gateway.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 토큰 버킷 모음
+ * 키(라우트 + 사용자/IP)마다 버킷 하나를 두고, 가득 찰 만큼 쉬었던 버킷은 새 버킷과 같으므로 주기적으로 제거
+ * 한 노드의 한도를 클러스터 한도와 같게 두므로 로컬에서 거절된 요청은 Redis에서도 거절될 요청
+ */
+public class LocalTokenBuckets {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int SWEEP_EVERY = 4096;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong operations = new AtomicLong();
+    private final int maxBuckets;
+
+    public LocalTokenBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * 토큰 소비 시도
+     *
+     * @return 허용이면 0, 거절이면 요청 토큰이 다시 찰 때까지 남은 나노초
+     */
+    public long tryConsume(String key, int replenishRate, long burstCapacity, int requestedTokens) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(burstCapacity, now));
+        long wait = bucket.tryConsume(replenishRate, burstCapacity, requestedTokens, now);
+        if (operations.incrementAndGet() % SWEEP_EVERY == 0) {
+            sweep(now);
+        }
+        return wait;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void sweep(long now) {
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        if (buckets.size() > maxBuckets) {
+            // 키가 폭증하면(IP 분산 등) 로컬 상태를 버리고 Redis 판정에 맡김
+            buckets.clear();
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefill;
+        private long fullAt;
+
+        Bucket(long capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefill = now;
+            this.fullAt = now;
+        }
+
+        synchronized long tryConsume(int rate, long capacity, int requested, long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * (double) rate / NANOS_PER_SECOND);
+            lastRefill = now;
+            if (tokens >= requested) {
+                tokens -= requested;
+                fullAt = now + (long) ((capacity - tokens) / rate * NANOS_PER_SECOND);
+                return 0;
+            }
+            return (long) Math.ceil((requested - tokens) / rate * NANOS_PER_SECOND);
+        }
+
+        synchronized boolean isFull(long now) {
+            return now - fullAt >= 0;
+        }
+    }
+}
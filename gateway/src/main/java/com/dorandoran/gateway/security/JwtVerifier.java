@@ -0,0 +1,136 @@
+package com.dorandoran.gateway.security;
+
+import com.dorandoran.gateway.config.GatewayAuthProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 로컬 검증기
+ *
+ * Auth 서비스와 같은 서명 키로 서명/만료를 직접 검증하고 클레임은 한 번만 파싱
+ * 서명 키와 파서는 시작 시 한 번 생성하며, 검증 결과는 짧은 TTL 동안 캐시해 자주 쓰이는 토큰의 재검증을 생략
+ * (캐시 TTL은 토큰 만료 시각을 넘지 않음, 폐기 여부는 캐시와 별개로 매 요청 확인)
+ */
+@Component
+public class JwtVerifier {
+
+    /** Auth 서비스가 넣는 밀리초 단위 발급 시각 클레임 (없으면 초 단위 iat 사용) */
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    });
+
+    private final JwtParser parser;
+    private final GatewayAuthProperties properties;
+    private final Map<String, CachedToken> cache = new ConcurrentHashMap<>();
+    private final Counter cacheHitCounter;
+    private final Counter verifiedCounter;
+
+    public JwtVerifier(@Value("${gateway.jwt.signing-key}") String signingKey,
+                       GatewayAuthProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.parser = Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(signingKey)))
+            .clockSkewSeconds(properties.getClockSkew().toSeconds())
+            .build();
+        this.cacheHitCounter = Counter.builder("gateway.auth.tokens")
+            .tag("result", "cache_hit").register(meterRegistry);
+        this.verifiedCounter = Counter.builder("gateway.auth.tokens")
+            .tag("result", "verified").register(meterRegistry);
+        Gauge.builder("gateway.auth.token.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 액세스 토큰 검증
+     *
+     * @throws JwtException 서명 불일치, 만료, 형식 오류, 리프레시 토큰인 경우
+     */
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        CachedToken cached = cache.get(token);
+        if (cached != null) {
+            if (cached.cachedUntil() > now) {
+                cacheHitCounter.increment();
+                return cached.token();
+            }
+            cache.remove(token, cached);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if ("refresh".equals(claims.get("type", String.class))) {
+            throw new JwtException("리프레시 토큰은 API 요청에 사용할 수 없습니다");
+        }
+        String userId = claims.getSubject();
+        if (userId == null || userId.isEmpty()) {
+            throw new JwtException("sub 클레임이 없습니다");
+        }
+        long issuedAt = claims.get(ISSUED_AT_MILLIS_CLAIM) instanceof Number millis
+            ? millis.longValue()
+            : claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        VerifiedToken verified = new VerifiedToken(
+            userId,
+            nullToEmpty(claims.get("email", String.class)),
+            nullToEmpty(claims.get("name", String.class)),
+            issuedAt,
+            expiresAt,
+            sha256Hex(token));
+        verifiedCounter.increment();
+
+        store(token, verified, now);
+        return verified;
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private void store(String token, VerifiedToken verified, long now) {
+        if (cache.size() >= properties.getTokenCacheSize()) {
+            cache.values().removeIf(entry -> entry.cachedUntil() <= now);
+            if (cache.size() >= properties.getTokenCacheSize()) {
+                cache.clear();
+            }
+        }
+        long cachedUntil = Math.min(now + properties.getTokenCacheTtl().toMillis(), verified.expiresAtMillis());
+        cache.put(token, new CachedToken(verified, cachedUntil));
+    }
+
+    /**
+     * 토큰 SHA-256 hex (Auth 서비스의 폐기 목록 키와 동일)
+     */
+    public static String sha256Hex(String token) {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private record CachedToken(VerifiedToken token, long cachedUntil) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.dorandoran.gateway.security;
+
+import com.dorandoran.gateway.config.GatewayAuthProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 로컬 복제본
+ *
+ * Auth 서비스는 토큰을 폐기할 때 ZSET(member=토큰 SHA-256, score=만료 시각)에 추가하고 Pub/Sub으로 알림
+ * 사용자 전체 로그아웃은 사용자별 폐기 시각(ZSET, member=사용자 ID)으로 기록되며 그 이전에 발급된 토큰은 무효
+ * Gateway는 알림을 받아 즉시 반영하고, 재연결 공백을 메우기 위해 주기적으로 ZSET 전체를 다시 읽음
+ * 요청 경로에서는 Redis 왕복 없이 로컬 맵만 조회
+ */
+@Component
+@Slf4j
+public class RevocationRegistry implements SmartLifecycle {
+
+    private static final String USER_MESSAGE_PREFIX = "user:";
+
+    private final ReactiveRedisOperations<String, String> redisOperations;
+    private final GatewayAuthProperties properties;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Map<String, Long> userRevokedAt = new ConcurrentHashMap<>();
+
+    private Disposable subscription;
+    private Disposable resync;
+    private volatile boolean running;
+
+    public RevocationRegistry(ReactiveStringRedisTemplate redisTemplate,
+                              GatewayAuthProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.redisOperations = redisTemplate;
+        this.properties = properties;
+        Gauge.builder("gateway.auth.revoked.size", revoked, Map::size).register(meterRegistry);
+        Gauge.builder("gateway.auth.revoked.users.size", userRevokedAt, Map::size).register(meterRegistry);
+    }
+
+    public boolean isRevoked(String tokenHash) {
+        Long expiresAt = revoked.get(tokenHash);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revoked.remove(tokenHash, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 사용자 전체 로그아웃 이전에 발급된 토큰인지 확인 (발급 시각은 밀리초 iat_ms 기준)
+     */
+    public boolean isRevokedBefore(String userId, long issuedAtMillis) {
+        Long revokedAt = userRevokedAt.get(userId);
+        return revokedAt != null && issuedAtMillis < revokedAt;
+    }
+
+    /**
+     * 폐기 알림 반영
+     * 형식: {SHA-256 hex}:{만료 epoch millis} 또는 user:{사용자 ID}:{폐기 epoch millis}
+     */
+    void apply(String message) {
+        int sep = message.lastIndexOf(':');
+        if (sep <= 0) {
+            log.warn("잘못된 토큰 폐기 알림: {}", message);
+            return;
+        }
+        try {
+            long millis = Long.parseLong(message.substring(sep + 1));
+            if (message.startsWith(USER_MESSAGE_PREFIX)) {
+                userRevokedAt.merge(message.substring(USER_MESSAGE_PREFIX.length(), sep), millis, Math::max);
+            } else {
+                revoked.put(message.substring(0, sep), millis);
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            log.warn("잘못된 토큰 폐기 알림: {}", message);
+        }
+    }
+
+    private Mono<Void> resyncAll() {
+        long now = System.currentTimeMillis();
+        Range<Double> live = Range.rightUnbounded(Range.Bound.inclusive((double) now));
+        return redisOperations.opsForZSet()
+            .rangeByScoreWithScores(properties.getRevocationSetKey(), live)
+            .doOnNext(this::put)
+            .then(Mono.fromRunnable(() -> revoked.values().removeIf(expiresAt -> expiresAt <= now)))
+            .then(resyncUsers(now))
+            .onErrorResume(e -> {
+                log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    private Mono<Void> resyncUsers(long now) {
+        long retainFrom = now - properties.getUserRevocationRetention().toMillis();
+        Range<Double> retained = Range.rightUnbounded(Range.Bound.inclusive((double) retainFrom));
+        return redisOperations.opsForZSet()
+            .rangeByScoreWithScores(properties.getRevokedUsersKey(), retained)
+            .doOnNext(tuple -> {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    userRevokedAt.merge(tuple.getValue(), tuple.getScore().longValue(), Math::max);
+                }
+            })
+            .then(Mono.fromRunnable(() -> userRevokedAt.values().removeIf(revokedAt -> revokedAt < retainFrom)));
+    }
+
+    private void put(ZSetOperations.TypedTuple<String> tuple) {
+        if (tuple.getValue() != null && tuple.getScore() != null) {
+            revoked.put(tuple.getValue(), tuple.getScore().longValue());
+        }
+    }
+
+    @Override
+    public void start() {
+        subscription = redisOperations.listenToChannel(properties.getRevocationChannel())
+            .doOnNext(message -> apply(message.getMessage()))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                .maxBackoff(Duration.ofSeconds(30))
+                .doBeforeRetry(signal -> log.warn("토큰 폐기 채널 재구독: {}", signal.failure().getMessage())))
+            .subscribe();
+        resync = Flux.interval(Duration.ZERO, properties.getRevocationResyncInterval())
+            .concatMap(tick -> resyncAll())
+            .subscribe();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (resync != null) {
+            resync.dispose();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dorandoran.gateway.security;
+
+/**
+ * 서명/만료 검증을 마친 액세스 토큰 정보
+ *
+ * @param userId 사용자 ID (sub)
+ * @param email 이메일 클레임 (없으면 빈 문자열)
+ * @param name 이름 클레임 (없으면 빈 문자열)
+ * @param issuedAtMillis 발급 시각 (epoch millis, iat_ms 우선, 없으면 초 단위 iat, 둘 다 없으면 0)
+ * @param expiresAtMillis 만료 시각 (epoch millis)
+ * @param tokenHash 토큰 SHA-256 hex (폐기 목록 조회 키)
+ */
+public record VerifiedToken(String userId, String email, String name, long issuedAtMillis,
+                            long expiresAtMillis, String tokenHash) {
+}
@@ -0,0 +1,72 @@
+package com.dorandoran.gateway.ratelimit;
+
+import com.dorandoran.gateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter.Response;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HybridRateLimiterTest {
+
+    private static final String ROUTE = "chat-service-write";
+
+    private RedisRateLimiter redisRateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+    private HybridRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        redisRateLimiter = mock(RedisRateLimiter.class);
+        Map<String, RedisRateLimiter.Config> configs = new HashMap<>();
+        configs.put(ROUTE, new RedisRateLimiter.Config().setReplenishRate(1).setBurstCapacity(3).setRequestedTokens(1));
+        when(redisRateLimiter.getConfig()).thenReturn(configs);
+        when(redisRateLimiter.isAllowed(ROUTE, "user:1")).thenReturn(Mono.just(new Response(true, Map.of())));
+
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new HybridRateLimiter(redisRateLimiter, new LocalTokenBuckets(1_000),
+            new RateLimitProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("로컬 버킷이 비면 Redis를 호출하지 않고 Retry-After와 함께 거절한다")
+    void rejectsLocallyWithoutRedisRoundTrip() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.isAllowed(ROUTE, "user:1").block().isAllowed()).isTrue();
+        }
+
+        Response rejected = limiter.isAllowed(ROUTE, "user:1").block();
+
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getHeaders()).containsEntry(HttpHeaders.RETRY_AFTER, "1");
+        verify(redisRateLimiter, times(3)).isAllowed(ROUTE, "user:1");
+        assertThat(meterRegistry.get("gateway.ratelimit.requests")
+            .tag("route", ROUTE).tag("result", "rejected_local").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("로컬에서 통과해도 Redis가 거절하면 거절한다")
+    void redisDecisionIsAuthoritative() {
+        when(redisRateLimiter.isAllowed(ROUTE, "user:2"))
+            .thenReturn(Mono.just(new Response(false, Map.of(RedisRateLimiter.REMAINING_HEADER, "0"))));
+
+        Response response = limiter.isAllowed(ROUTE, "user:2").block();
+
+        assertThat(response.isAllowed()).isFalse();
+        assertThat(response.getHeaders()).containsKey(HttpHeaders.RETRY_AFTER);
+        assertThat(meterRegistry.get("gateway.ratelimit.requests")
+            .tag("route", ROUTE).tag("result", "rejected_redis").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.dorandoran.gateway.security;
+
+import com.dorandoran.gateway.config.GatewayAuthProperties;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtVerifierTest {
+
+    private static final String SIGNING_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SIGNING_KEY));
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifier = new JwtVerifier(SIGNING_KEY, new GatewayAuthProperties(), meterRegistry);
+    }
+
+    private static String token(String type, long ttlMillis, SecretKey key) {
+        var builder = Jwts.builder()
+            .subject("11111111-1111-1111-1111-111111111111")
+            .claim("email", "user@example.com")
+            .claim("name", "도란")
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + ttlMillis));
+        if (type != null) {
+            builder.claim("type", type);
+        }
+        return builder.signWith(key).compact();
+    }
+
+    @Test
+    @DisplayName("유효한 액세스 토큰의 클레임을 한 번 파싱하고 이후에는 캐시에서 반환한다")
+    void verify_validToken_cachesResult() {
+        String token = token(null, 60_000, KEY);
+
+        VerifiedToken first = verifier.verify(token);
+        VerifiedToken second = verifier.verify(token);
+
+        assertThat(first.userId()).isEqualTo("11111111-1111-1111-1111-111111111111");
+        assertThat(first.email()).isEqualTo("user@example.com");
+        assertThat(first.tokenHash()).isEqualTo(JwtVerifier.sha256Hex(token));
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("gateway.auth.tokens").tag("result", "cache_hit").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거절한다")
+    void verify_expiredToken_rejected() {
+        assertThatThrownBy(() -> verifier.verify(token(null, -60_000, KEY)))
+            .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거절한다")
+    void verify_foreignSignature_rejected() {
+        SecretKey other = Keys.hmacShaKeyFor(new byte[32]);
+
+        assertThatThrownBy(() -> verifier.verify(token(null, 60_000, other)))
+            .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 API 요청에 사용할 수 없다")
+    void verify_refreshToken_rejected() {
+        assertThatThrownBy(() -> verifier.verify(token("refresh", 60_000, KEY)))
+            .isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,62 @@
+#!/bin/bash
+
+# Auth 토큰 갱신 API 지연 벤치마크 (/api/auth/refresh)
+#
+# 리프레시 토큰은 갱신할 때마다 교체되므로 hey로 같은 토큰을 반복할 수 없음
+# -> 응답의 새 리프레시 토큰으로 이어서 순차 호출하며 요청별 지연을 기록
+#
+# 사전 조건:
+#   - auth/user 기동, 테스트 사용자 존재 (tests/sql/test-data.sql)
+#
+# 사용법:
+#   AUTH_REFRESH_TOKEN_STORE=jpa   로 auth 기동 후 LABEL=jpa   ./bench-auth-refresh.sh
+#   AUTH_REFRESH_TOKEN_STORE=redis 로 auth 기동 후 LABEL=redis ./bench-auth-refresh.sh
+#   -> 두 결과의 p50/p99 비교
+
+AUTH_URL="${AUTH_URL:-http://localhost:8081}"
+EMAIL="${EMAIL:-test@example.com}"
+PASSWORD="${PASSWORD:-password}"
+REQUESTS="${REQUESTS:-1000}"
+LABEL="${LABEL:-$(git rev-parse --short HEAD 2>/dev/null || echo current)}"
+RESULT_DIR="$(dirname "$0")/results"
+
+mkdir -p "$RESULT_DIR"
+
+extract_refresh() {
+  sed -n 's/.*"refreshToken":"\([^"]*\)".*/\1/p'
+}
+
+REFRESH=$(curl -s -X POST "${AUTH_URL}/api/auth/login" \
+  -H "Content-Type: application/json" \
+  -d "{\"email\":\"${EMAIL}\",\"password\":\"${PASSWORD}\"}" | extract_refresh)
+
+if [ -z "$REFRESH" ]; then
+  echo "로그인 실패 - 리프레시 토큰을 받지 못했습니다"
+  exit 1
+fi
+
+OUT="${RESULT_DIR}/auth-refresh-${LABEL}.txt"
+: > "$OUT"
+echo "=== /api/auth/refresh 벤치마크 [${LABEL}] 순차 요청 ${REQUESTS}건 -> ${OUT} ==="
+
+TMP_BODY=$(mktemp)
+trap 'rm -f "$TMP_BODY"' EXIT
+
+for ((i = 0; i < REQUESTS; i++)); do
+  ELAPSED=$(curl -s -o "$TMP_BODY" -w "%{time_total}" -X POST "${AUTH_URL}/api/auth/refresh" \
+    -H "Content-Type: application/json" \
+    -d "{\"refreshToken\":\"${REFRESH}\"}")
+  REFRESH=$(extract_refresh < "$TMP_BODY")
+  if [ -z "$REFRESH" ]; then
+    echo "갱신 실패 (${i}번째 요청): $(cat "$TMP_BODY")"
+    exit 1
+  fi
+  echo "$ELAPSED" >> "$OUT"
+done
+
+sort -n "$OUT" | awk '
+  { v[NR] = $1; sum += $1 }
+  END {
+    printf "count=%d avg=%.2fms p50=%.2fms p99=%.2fms max=%.2fms\n",
+      NR, sum / NR * 1000, v[int(NR * 0.50) + 1] * 1000, v[int(NR * 0.99) + 1] * 1000, v[NR] * 1000
+  }'
@@ -0,0 +1,36 @@
+#!/bin/bash
+
+# Auth 토큰 검증 API 처리량 벤치마크 (/api/auth/validate)
+#
+# 사전 조건:
+#   - hey 설치 (https://github.com/rakyll/hey)
+#   - auth/user 기동, 테스트 사용자 존재 (tests/sql/test-data.sql)
+#
+# 사용법:
+#   EMAIL=test@example.com PASSWORD=password ./bench-auth-validate.sh
+#   -> 변경 전/후 커밋에서 각각 실행해 Requests/sec, p50/p99 비교
+#      (같은 토큰을 반복 검증하므로 변경 후에는 두 번째 요청부터 클레임 캐시 적중)
+
+AUTH_URL="${AUTH_URL:-http://localhost:8081}"
+EMAIL="${EMAIL:-test@example.com}"
+PASSWORD="${PASSWORD:-password}"
+REQUESTS="${REQUESTS:-20000}"
+CONCURRENCY="${CONCURRENCY:-50}"
+LABEL="${LABEL:-$(git rev-parse --short HEAD 2>/dev/null || echo current)}"
+RESULT_DIR="$(dirname "$0")/results"
+
+mkdir -p "$RESULT_DIR"
+
+TOKEN=$(curl -s -X POST "${AUTH_URL}/api/auth/login" \
+  -H "Content-Type: application/json" \
+  -d "{\"email\":\"${EMAIL}\",\"password\":\"${PASSWORD}\"}" | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+
+if [ -z "$TOKEN" ]; then
+  echo "로그인 실패 - 액세스 토큰을 받지 못했습니다"
+  exit 1
+fi
+
+OUT="${RESULT_DIR}/auth-validate-${LABEL}.txt"
+echo "=== /api/auth/validate 벤치마크 [${LABEL}] 요청 ${REQUESTS}건, 동시성 ${CONCURRENCY} -> ${OUT} ==="
+hey -n "$REQUESTS" -c "$CONCURRENCY" -H "Authorization: Bearer ${TOKEN}" "${AUTH_URL}/api/auth/validate" > "$OUT"
+grep -E "Requests/sec|50%|99%|\[2|\[4|\[5" "$OUT"
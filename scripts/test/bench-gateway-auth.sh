@@ -0,0 +1,48 @@
+#!/bin/bash
+
+# Gateway 요청당 오버헤드 벤치마크 (JWT 로컬 검증 + 폐기 목록 확인 + HMAC 헤더 주입)
+#
+# 사전 조건:
+#   - hey 설치 (https://github.com/rakyll/hey)
+#   - auth/chat/gateway 기동, 테스트 사용자 존재 (tests/sql/test-data.sql)
+#
+# 사용법:
+#   EMAIL=test@example.com PASSWORD=password ./bench-gateway-auth.sh
+#   -> 같은 조회 API를 서비스 직접 호출 / Gateway 경유로 각각 측정해 p50/p99 차이를 오버헤드로 봄
+#      Gateway 경유는 토큰 캐시 적중(같은 토큰 반복)이 기본이며,
+#      Grafana에서 gateway_auth_tokens_total{result="cache_hit|verified"} 비율도 함께 확인
+
+GATEWAY_URL="${GATEWAY_URL:-http://localhost:8080}"
+AUTH_URL="${AUTH_URL:-http://localhost:8081}"
+CHAT_URL="${CHAT_URL:-http://localhost:8083}"
+EMAIL="${EMAIL:-test@example.com}"
+PASSWORD="${PASSWORD:-password}"
+REQUESTS="${REQUESTS:-20000}"
+CONCURRENCY="${CONCURRENCY:-100}"
+RESULT_DIR="$(dirname "$0")/results"
+
+mkdir -p "$RESULT_DIR"
+
+TOKEN=$(curl -s -X POST "${AUTH_URL}/api/auth/login" \
+  -H "Content-Type: application/json" \
+  -d "{\"email\":\"${EMAIL}\",\"password\":\"${PASSWORD}\"}" | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+
+if [ -z "$TOKEN" ]; then
+  echo "로그인 실패 - 액세스 토큰을 받지 못했습니다"
+  exit 1
+fi
+USER_ID=$(echo "$TOKEN" | cut -d. -f2 | tr '_-' '/+' | base64 -d 2>/dev/null | sed -n 's/.*"sub":"\([^"]*\)".*/\1/p')
+
+run() {
+  local name="$1"; shift
+  local out="${RESULT_DIR}/gateway-auth-${name}.txt"
+  echo -e "\n[${name}] 요청 ${REQUESTS}건, 동시성 ${CONCURRENCY} -> ${out}"
+  hey -n "$REQUESTS" -c "$CONCURRENCY" "$@" > "$out"
+  grep -E "Requests/sec|50%|99%|\[2|\[4|\[5" "$out"
+}
+
+echo "=== Gateway 인증 오버헤드 벤치마크 ==="
+run direct -H "X-User-Id: ${USER_ID}" "${CHAT_URL}/api/chat/chatrooms?userId=${USER_ID}"
+run gateway -H "Authorization: Bearer ${TOKEN}" "${GATEWAY_URL}/api/chat/chatrooms?userId=${USER_ID}"
+
+echo -e "\n=== 벤치마크 완료 (gateway p50 - direct p50 = 요청당 오버헤드) ==="
@@ -0,0 +1,39 @@
+#!/bin/bash
+
+# 메시지 전송 경로 플랫폼 스레드 vs 가상 스레드 비교 벤치마크
+#
+# 사전 조건:
+#   - hey 설치 (https://github.com/rakyll/hey)
+#   - chat-service를 OPENAI_BASE_URL=목 서버 로 실행 (실제 OpenAI 과금 방지)
+#   - 테스트용 채팅방/사용자 존재 (tests/sql/test-data.sql)
+#
+# 사용법:
+#   1) VIRTUAL_THREADS_ENABLED=false 로 chat-service 기동 후: ./bench-virtual-threads.sh platform
+#   2) VIRTUAL_THREADS_ENABLED=true  로 chat-service 재기동 후: ./bench-virtual-threads.sh virtual
+#   3) results/ 아래 두 결과의 처리량(Requests/sec), p50/p99, 503 비율을 비교
+#      Grafana에서 hikaricp_connections_pending, jvm_threads_live_threads,
+#      jvm_threads_virtual_pinned_total 도 함께 확인
+
+MODE="${1:-platform}"
+CHAT_URL="${CHAT_URL:-http://localhost:8083}"
+CHATROOM_ID="${CHATROOM_ID:-00000000-0000-0000-0000-000000000001}"
+USER_ID="${USER_ID:-00000000-0000-0000-0000-000000000001}"
+REQUESTS="${REQUESTS:-5000}"
+CONCURRENCY_LEVELS="${CONCURRENCY_LEVELS:-50 200 800}"
+RESULT_DIR="$(dirname "$0")/results"
+
+mkdir -p "$RESULT_DIR"
+
+echo "=== 메시지 전송 벤치마크 (mode=${MODE}) ==="
+for c in $CONCURRENCY_LEVELS; do
+  OUT="${RESULT_DIR}/send-message-${MODE}-c${c}.txt"
+  echo -e "\n동시성 ${c}, 요청 ${REQUESTS}건 -> ${OUT}"
+  hey -n "$REQUESTS" -c "$c" -m POST \
+    -H "Content-Type: application/json" \
+    -H "X-User-Id: ${USER_ID}" \
+    -d '{"content":"안녕하세요","contentType":"text"}' \
+    "${CHAT_URL}/api/chat/chatrooms/${CHATROOM_ID}/messages" > "$OUT"
+  grep -E "Requests/sec|50%|99%|\[2|\[5" "$OUT"
+done
+
+echo -e "\n=== 벤치마크 완료 ==="
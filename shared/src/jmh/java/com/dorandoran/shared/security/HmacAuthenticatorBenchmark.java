@@ -0,0 +1,46 @@
+package com.dorandoran.shared.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 HMAC 비용 비교
+ * - legacyPerCall: 기존 방식 (요청마다 Mac.getInstance/init)
+ * - signAndVerify: Gateway 서명 + 서비스 검증(재사용 캐시 기록 포함) 한 번
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class HmacAuthenticatorBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final String USER_ID = "11111111-1111-1111-1111-111111111111";
+
+    private HmacAuthenticator authenticator;
+
+    @Setup
+    public void setUp() {
+        authenticator = new HmacAuthenticator(SECRET, 60_000);
+    }
+
+    @Benchmark
+    public String legacyPerCall() {
+        return HmacVerifier.hmacSha256Hex(SECRET, USER_ID + "|" + System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public HmacAuthenticator.Result signAndVerify() {
+        HmacAuthenticator.Signature signature = authenticator.sign(USER_ID);
+        return authenticator.verify(signature.principal(), Long.toString(signature.timestamp()),
+            signature.nonce(), signature.value());
+    }
+}
@@ -0,0 +1,35 @@
+package com.dorandoran.shared.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 서비스 간 전달되는 사용자 이벤트 봉투 (User 서비스 outbox → 구독 서비스)
+ *
+ * id는 outbox 순번으로 구독자별 오프셋 기준이며, 최소 1회 전달이므로 같은 id가 다시 올 수 있음
+ */
+public record UserEventEnvelope(
+    long id,
+    String type,
+    String aggregateId,
+    String payload,
+    LocalDateTime createdAt
+) {
+
+    /**
+     * 이벤트 타입 이름 → 이벤트 클래스 (타입 이름은 클래스 단순 이름)
+     */
+    public static final Map<String, Class<?>> TYPES = Map.of(
+        UserCreatedEvent.class.getSimpleName(), UserCreatedEvent.class,
+        UserUpdatedEvent.class.getSimpleName(), UserUpdatedEvent.class,
+        UserStatusChangedEvent.class.getSimpleName(), UserStatusChangedEvent.class,
+        UserDeletedEvent.class.getSimpleName(), UserDeletedEvent.class
+    );
+
+    /**
+     * 타입 이름에 해당하는 이벤트 클래스 (모르는 타입이면 null)
+     */
+    public static Class<?> eventClass(String type) {
+        return type != null ? TYPES.get(type) : null;
+    }
+}
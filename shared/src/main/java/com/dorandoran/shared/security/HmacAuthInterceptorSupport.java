@@ -0,0 +1,62 @@
+package com.dorandoran.shared.security;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 서비스 공통 HMAC 인증 인터셉터
+ * 각 서비스는 이 클래스를 상속해 인증 제외 경로만 정의
+ *
+ * Gateway(WebFlux)도 shared 모듈을 쓰므로 빈으로 등록하지 않고 서비스별 하위 클래스에서 @Component로 등록
+ */
+@Slf4j
+public abstract class HmacAuthInterceptorSupport implements HandlerInterceptor {
+
+    private final HmacAuthenticator authenticator;
+
+    protected HmacAuthInterceptorSupport(String hmacSecret, long skewMs) {
+        this.authenticator = hmacSecret == null || hmacSecret.isEmpty()
+            ? null
+            : new HmacAuthenticator(hmacSecret, skewMs);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws Exception {
+        // ERROR(/error 포워드), ASYNC(SSE/스트리밍 재디스패치)는 이미 검증한 요청의 후속 처리
+        // 같은 서명을 다시 검증하면 ReplayGuard가 재사용으로 보고 401을 돌려줌
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        if (isExcludedPath(request.getRequestURI())) {
+            return true;
+        }
+
+        if (authenticator == null) {
+            log.error("HMAC secret이 설정되지 않았습니다. gateway.jwt.hmac-secret 설정을 확인하세요.");
+            response.setStatus(500);
+            return false;
+        }
+
+        HmacAuthenticator.Result result = authenticator.verify(
+            request.getHeader(HmacAuthenticator.HEADER_USER_ID),
+            request.getHeader(HmacAuthenticator.HEADER_TIMESTAMP),
+            request.getHeader(HmacAuthenticator.HEADER_NONCE),
+            request.getHeader(HmacAuthenticator.HEADER_SIGNATURE));
+        if (result != HmacAuthenticator.Result.VALID) {
+            log.debug("HMAC 검증 실패: path={}, result={}", request.getRequestURI(), result);
+            response.setStatus(401);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 인증 제외 경로 확인
+     */
+    protected abstract boolean isExcludedPath(String path);
+}
@@ -0,0 +1,162 @@
+package com.dorandoran.shared.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 서비스 간 HMAC 서명 생성/검증
+ *
+ * 헤더: X-User-Id, X-Auth-Ts, X-Auth-Nonce, X-Auth-Sign
+ * 서명 메시지: "{userId}|{ts}|{nonce}" (nonce가 없는 이전 형식 "{userId}|{ts}"도 검증 허용)
+ *
+ * - 키를 넣은 Mac을 스레드별로 복제해 재사용 (요청마다 Mac.getInstance/init 하지 않음)
+ * - 서명 비교는 디코딩한 바이트를 상수 시간으로 비교
+ * - 검증에 성공한 nonce(없으면 서명)는 허용 오차 동안 기억해 같은 서명의 재사용을 거절
+ */
+public class HmacAuthenticator {
+
+    public static final String HEADER_USER_ID = "X-User-Id";
+    public static final String HEADER_TIMESTAMP = "X-Auth-Ts";
+    public static final String HEADER_NONCE = "X-Auth-Nonce";
+    public static final String HEADER_SIGNATURE = "X-Auth-Sign";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 32;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int DEFAULT_MAX_REPLAY_ENTRIES = 100_000;
+    private static final int REPLAY_BUCKETS = 8;
+
+    public enum Result {
+        VALID, MISSING, MALFORMED, EXPIRED, BAD_SIGNATURE, REPLAYED
+    }
+
+    /** 요청에 실을 서명 헤더 값 */
+    public record Signature(String principal, long timestamp, String nonce, String value) {
+    }
+
+    private final Mac prototype;
+    private final ThreadLocal<Mac> macs;
+    private final long skewMs;
+    private final ReplayGuard replayGuard;
+
+    public HmacAuthenticator(String secret, long skewMs) {
+        this(secret, skewMs, DEFAULT_MAX_REPLAY_ENTRIES);
+    }
+
+    public HmacAuthenticator(String secret, long skewMs, int maxReplayEntries) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("HMAC secret이 비어 있습니다");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패", e);
+        }
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.skewMs = skewMs;
+        // 타임스탬프는 now ± skew 범위만 통과하므로 2 * skew 동안만 기억하면 충분
+        this.replayGuard = new ReplayGuard(2 * skewMs, Math.max(1, 2 * skewMs / REPLAY_BUCKETS), maxReplayEntries);
+    }
+
+    /**
+     * 현재 시각과 새 nonce로 서명
+     */
+    public Signature sign(String principal) {
+        long timestamp = System.currentTimeMillis();
+        String nonce = newNonce();
+        return new Signature(principal, timestamp, nonce, toHex(mac(principal, timestamp, nonce)));
+    }
+
+    /**
+     * 서명 헤더 검증 (nonce는 null 허용)
+     */
+    public Result verify(String principal, String timestamp, String nonce, String signature) {
+        return verify(principal, timestamp, nonce, signature, System.currentTimeMillis());
+    }
+
+    Result verify(String principal, String timestamp, String nonce, String signature, long now) {
+        if (principal == null || timestamp == null || signature == null) {
+            return Result.MISSING;
+        }
+        long ts;
+        try {
+            ts = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return Result.MALFORMED;
+        }
+        if (Math.abs(now - ts) > skewMs) {
+            return Result.EXPIRED;
+        }
+        byte[] provided = fromHex(signature);
+        if (provided == null) {
+            return Result.BAD_SIGNATURE;
+        }
+        if (!MessageDigest.isEqual(provided, mac(principal, ts, nonce))) {
+            return Result.BAD_SIGNATURE;
+        }
+        // 서명이 맞는 요청만 기록해 위조 요청으로 캐시를 채우지 못하게 함
+        String replayKey = nonce != null ? principal + '|' + nonce : toHex(provided);
+        if (!replayGuard.firstSeen(replayKey, ts, now)) {
+            return Result.REPLAYED;
+        }
+        return Result.VALID;
+    }
+
+    private byte[] mac(String principal, long timestamp, String nonce) {
+        StringBuilder message = new StringBuilder(principal.length() + 48)
+            .append(principal).append('|').append(timestamp);
+        if (nonce != null) {
+            message.append('|').append(nonce);
+        }
+        return macs.get().doFinal(message.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC 복제 실패", e);
+        }
+    }
+
+    private static String newNonce() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return toHex(bytes);
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            out[i * 2] = HEX[v >>> 4];
+            out[i * 2 + 1] = HEX[v & 0x0f];
+        }
+        return new String(out);
+    }
+
+    /**
+     * 대소문자 구분 없이 64자리 hex를 디코딩 (형식이 다르면 null)
+     */
+    private static byte[] fromHex(String hex) {
+        if (hex.length() != SIGNATURE_BYTES * 2) {
+            return null;
+        }
+        byte[] out = new byte[SIGNATURE_BYTES];
+        for (int i = 0; i < SIGNATURE_BYTES; i++) {
+            int hi = Character.digit(hex.charAt(i * 2), 16);
+            int lo = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if (hi < 0 || lo < 0) {
+                return null;
+            }
+            out[i] = (byte) ((hi << 4) | lo);
+        }
+        return out;
+    }
+}
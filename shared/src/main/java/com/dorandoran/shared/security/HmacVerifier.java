@@ -4,20 +4,19 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 
+/**
+ * 단발성 HMAC 계산 (테스트/스크립트용)
+ * 요청 경로에서는 키를 미리 넣어 재사용하는 {@link HmacAuthenticator}를 사용
+ */
 public class HmacVerifier {
 
     public static String hmacSha256Hex(String secret, String message) {
         try {
             Mac mac = Mac.getInstance("HmacSHA256");
             mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-            byte[] raw = mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(raw.length * 2);
-            for (byte b : raw) sb.append(String.format("%02x", b));
-            return sb.toString();
+            return HmacAuthenticator.toHex(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
         } catch (Exception e) {
             throw new IllegalStateException("HMAC calculation failed", e);
         }
     }
 }
-
-
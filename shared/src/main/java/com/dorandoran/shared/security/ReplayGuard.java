@@ -0,0 +1,79 @@
+package com.dorandoran.shared.security;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서명 재사용(replay) 방지용 시간 구간별 캐시
+ *
+ * 요청 타임스탬프가 속한 구간에 재사용 키(nonce 또는 서명)를 기록하고, 같은 키가 다시 오면 거절
+ * 허용 오차(skew)를 벗어난 구간은 어차피 타임스탬프 검사에서 거절되므로 통째로 버림
+ * 항목 수가 상한을 넘으면 가장 오래된 구간을 앞당겨 버리고, 그 구간 이전 타임스탬프는 거절해 재사용을 허용하지 않음
+ */
+final class ReplayGuard {
+
+    private final long bucketMillis;
+    private final long windowMillis;
+    private final int maxEntries;
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile long floorBucket = Long.MIN_VALUE;
+
+    ReplayGuard(long windowMillis, long bucketMillis, int maxEntries) {
+        this.windowMillis = windowMillis;
+        this.bucketMillis = Math.max(1, bucketMillis);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 처음 보는 키면 기록하고 true, 이미 본 키이거나 보존 범위 밖이면 false
+     */
+    boolean firstSeen(String key, long timestamp, long now) {
+        evictExpired(now);
+        long bucket = Math.floorDiv(timestamp, bucketMillis);
+        if (bucket < floorBucket) {
+            return false;
+        }
+        Set<String> keys = buckets.computeIfAbsent(bucket, b -> ConcurrentHashMap.newKeySet());
+        if (!keys.add(key)) {
+            return false;
+        }
+        if (size.incrementAndGet() > maxEntries) {
+            evictOldest();
+        }
+        return true;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private void evictExpired(long now) {
+        Map.Entry<Long, Set<String>> oldest = buckets.firstEntry();
+        if (oldest == null || (oldest.getKey() + 1) * bucketMillis >= now - windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            long expiredBefore = Math.floorDiv(now - windowMillis, bucketMillis);
+            Map<Long, Set<String>> expired = buckets.headMap(expiredBefore);
+            for (Set<String> keys : expired.values()) {
+                size.addAndGet(-keys.size());
+            }
+            expired.clear();
+        }
+    }
+
+    private synchronized void evictOldest() {
+        while (size.get() > maxEntries) {
+            Map.Entry<Long, Set<String>> oldest = buckets.pollFirstEntry();
+            if (oldest == null) {
+                return;
+            }
+            floorBucket = Math.max(floorBucket, oldest.getKey() + 1);
+            size.addAndGet(-oldest.getValue().size());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.dorandoran.shared.security;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HmacAuthInterceptorSupportTest {
+
+    private static final String SECRET = "test-hmac-secret";
+    private static final String USER_ID = "11111111-1111-1111-1111-111111111111";
+
+    private final HmacAuthInterceptorSupport interceptor = new HmacAuthInterceptorSupport(SECRET, 60_000) {
+        @Override
+        protected boolean isExcludedPath(String path) {
+            return false;
+        }
+    };
+
+    @Test
+    @DisplayName("검증을 통과한 요청의 ERROR/ASYNC 디스패치는 다시 검증하지 않는다")
+    void preHandle_redispatch_notReverified() throws Exception {
+        MockHttpServletRequest request = signedRequest();
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+
+        for (DispatcherType type : new DispatcherType[]{DispatcherType.ERROR, DispatcherType.ASYNC}) {
+            request.setDispatcherType(type);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 서명으로 들어온 새 요청은 재사용으로 거절한다")
+    void preHandle_replayedRequest_rejected() throws Exception {
+        MockHttpServletRequest request = signedRequest();
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    private static MockHttpServletRequest signedRequest() {
+        HmacAuthenticator.Signature signature = new HmacAuthenticator(SECRET, 60_000).sign(USER_ID);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/chat/rooms");
+        request.addHeader(HmacAuthenticator.HEADER_USER_ID, USER_ID);
+        request.addHeader(HmacAuthenticator.HEADER_TIMESTAMP, Long.toString(signature.timestamp()));
+        request.addHeader(HmacAuthenticator.HEADER_NONCE, signature.nonce());
+        request.addHeader(HmacAuthenticator.HEADER_SIGNATURE, signature.value());
+        return request;
+    }
+}
@@ -0,0 +1,69 @@
+package com.dorandoran.shared.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HmacAuthenticatorTest {
+
+    private static final String SECRET = "test-hmac-secret";
+    private static final String USER_ID = "11111111-1111-1111-1111-111111111111";
+
+    private final HmacAuthenticator authenticator = new HmacAuthenticator(SECRET, 60_000);
+
+    @Test
+    @DisplayName("서명한 헤더는 한 번만 통과하고 같은 서명을 다시 쓰면 거절한다")
+    void verify_signedHeaders_acceptedOnce() {
+        HmacAuthenticator.Signature signature = authenticator.sign(USER_ID);
+        String ts = Long.toString(signature.timestamp());
+
+        assertThat(authenticator.verify(USER_ID, ts, signature.nonce(), signature.value()))
+            .isEqualTo(HmacAuthenticator.Result.VALID);
+        assertThat(authenticator.verify(USER_ID, ts, signature.nonce(), signature.value()))
+            .isEqualTo(HmacAuthenticator.Result.REPLAYED);
+    }
+
+    @Test
+    @DisplayName("nonce 없는 이전 형식 서명도 대소문자 구분 없이 검증한다")
+    void verify_legacyFormat_accepted() {
+        long now = System.currentTimeMillis();
+        String signature = HmacVerifier.hmacSha256Hex(SECRET, USER_ID + "|" + now).toUpperCase();
+
+        assertThat(authenticator.verify(USER_ID, Long.toString(now), null, signature))
+            .isEqualTo(HmacAuthenticator.Result.VALID);
+        assertThat(authenticator.verify(USER_ID, Long.toString(now), null, signature.toLowerCase()))
+            .isEqualTo(HmacAuthenticator.Result.REPLAYED);
+    }
+
+    @Test
+    @DisplayName("사용자 ID를 바꾸거나 허용 오차를 벗어난 요청은 거절한다")
+    void verify_tamperedOrExpired_rejected() {
+        HmacAuthenticator.Signature signature = authenticator.sign(USER_ID);
+        String ts = Long.toString(signature.timestamp());
+
+        assertThat(authenticator.verify("someone-else", ts, signature.nonce(), signature.value()))
+            .isEqualTo(HmacAuthenticator.Result.BAD_SIGNATURE);
+        assertThat(authenticator.verify(USER_ID, ts, signature.nonce(), "not-hex"))
+            .isEqualTo(HmacAuthenticator.Result.BAD_SIGNATURE);
+        assertThat(authenticator.verify(USER_ID, ts, signature.nonce(), signature.value(),
+            signature.timestamp() + 120_000))
+            .isEqualTo(HmacAuthenticator.Result.EXPIRED);
+        assertThat(authenticator.verify(USER_ID, null, null, signature.value()))
+            .isEqualTo(HmacAuthenticator.Result.MISSING);
+    }
+
+    @Test
+    @DisplayName("재사용 캐시가 가득 차면 오래된 구간을 버리고 그 구간의 요청은 거절한다")
+    void replayGuard_overCapacity_rejectsEvictedRange() {
+        ReplayGuard guard = new ReplayGuard(120_000, 15_000, 2);
+
+        assertThat(guard.firstSeen("a", 0, 0)).isTrue();
+        assertThat(guard.firstSeen("b", 20_000, 20_000)).isTrue();
+        assertThat(guard.firstSeen("c", 20_000, 20_000)).isTrue();
+
+        assertThat(guard.size()).isEqualTo(2);
+        assertThat(guard.firstSeen("a", 0, 20_000)).isFalse();
+        assertThat(guard.firstSeen("b", 20_000, 20_000)).isFalse();
+    }
+}
@@ -1,8 +1,10 @@
 package com.dorandoran.store;
 
+import com.dorandoran.common.config.VirtualThreadConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
@@ -13,6 +15,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @SpringBootApplication
 @EnableFeignClients // Feign Client 활성화 (Chat Service 호출용)
 @EnableJpaAuditing  // JPA Auditing 활성화 (CreatedDate, LastModifiedDate 자동 관리)
+@Import(VirtualThreadConfig.class) // 가상 스레드 모드 안전장치 (common 패키지는 스캔 대상이 아님)
 public class StoreApplication {
 
   /**
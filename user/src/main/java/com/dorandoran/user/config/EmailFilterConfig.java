@@ -0,0 +1,23 @@
+package com.dorandoran.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 가입 이메일 Bloom 필터 설정 (이메일 중복확인 시 확실히 없는 이메일은 DB 조회 생략)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "user.email-filter")
+@Getter
+@Setter
+public class EmailFilterConfig {
+
+    private boolean enabled = true;                          // false면 항상 DB 조회
+    private long minExpectedInsertions = 100_000;            // 필터 최소 용량 (실제 용량은 max(가입자 수 x 2, 이 값))
+    private double falsePositiveRate = 0.01;                 // 목표 오탐률
+    private Duration recentAddRetention = Duration.ofMinutes(5); // 재구성 중 커밋된 가입을 놓치지 않도록 최근 추가분 보관 기간
+}
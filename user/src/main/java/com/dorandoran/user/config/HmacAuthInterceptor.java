@@ -1,26 +1,45 @@
 package com.dorandoran.user.config;
 
-import com.dorandoran.shared.security.HmacVerifier;
+import com.dorandoran.shared.security.HmacAuthInterceptorSupport;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Component
-public class HmacAuthInterceptor implements HandlerInterceptor {
+public class HmacAuthInterceptor extends HmacAuthInterceptorSupport {
 
-    @Value("${gateway.jwt.hmac-secret:}")
-    private String hmacSecret;
+    private final boolean enforce;
 
-    @Value("${gateway.jwt.skew-ms:60000}")
-    private long skewMs;
+    public HmacAuthInterceptor(@Value("${gateway.jwt.hmac-secret:}") String hmacSecret,
+                               @Value("${gateway.jwt.skew-ms:60000}") long skewMs,
+                               @Value("${gateway.jwt.hmac-enforce:false}") boolean enforce) {
+        super(hmacSecret, skewMs);
+        this.enforce = enforce;
+    }
 
     @Override
-    public boolean preHandle(jakarta.servlet.http.HttpServletRequest request, jakarta.servlet.http.HttpServletResponse response, Object handler) throws Exception {
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws Exception {
         // 임시 배포 대응: HMAC 인증 우회 (전체 허용)
-        // TODO: 배포 안정화 후 원복하여 아래 원래 검증 로직 복구
-        return true;
+        // TODO: 배포 안정화 후 gateway.jwt.hmac-enforce=true 로 전환
+        if (!enforce) {
+            return true;
+        }
+        return super.preHandle(request, response, handler);
+    }
+
+    @Override
+    protected boolean isExcludedPath(String path) {
+        return path.startsWith("/actuator") ||
+               path.equals("/") ||
+               path.startsWith("/swagger-ui") ||
+               path.startsWith("/v3/api-docs") ||
+               path.startsWith("/api-docs") ||
+               path.equals("/api/users") ||          // 회원가입
+               path.startsWith("/api/users/check-email/") ||
+               path.startsWith("/api/users/health");
     }
 }
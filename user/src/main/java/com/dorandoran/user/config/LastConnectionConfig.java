@@ -0,0 +1,23 @@
+package com.dorandoran.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 마지막 연결 시간 병합 기록 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "user.last-connection")
+@Getter
+@Setter
+public class LastConnectionConfig {
+
+    private Duration granularity = Duration.ofHours(1);      // 마지막 기록 후 이 시간이 지나야 다시 기록 (배치는 일 단위만 사용)
+    private Duration flushInterval = Duration.ofSeconds(30); // 모인 연결 시간을 DB에 기록하는 주기
+    private int batchSize = 500;                             // UPDATE 한 번에 묶을 최대 사용자 수
+    private int maxTrackedUsers = 200_000;                   // 마지막 기록 시각을 기억할 최대 사용자 수
+}
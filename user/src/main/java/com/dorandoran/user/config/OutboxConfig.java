@@ -0,0 +1,31 @@
+package com.dorandoran.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자 이벤트 outbox 릴레이 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "user.outbox")
+@Getter
+@Setter
+public class OutboxConfig {
+
+    private boolean relayEnabled = true;                           // 릴레이 실행 여부 (outbox 기록은 항상 수행)
+    private boolean serializeWrites = true;                        // outbox 기록을 advisory lock으로 직렬화 (PostgreSQL 전용)
+    private String transport = "http";                             // 전달 방식: http | memory (테스트용)
+    private Map<String, String> subscribers = new LinkedHashMap<>(); // 구독자 이름 → 이벤트 수신 URL
+    private int batchSize = 100;                                   // 구독자별 한 번에 전달할 최대 이벤트 수
+    private Duration pollInterval = Duration.ofMillis(500);        // 전달할 이벤트가 없을 때 폴링 주기
+    private Duration maxBackoff = Duration.ofSeconds(30);          // 전달 실패 시 최대 대기 시간
+    private Duration connectTimeout = Duration.ofSeconds(2);       // HTTP 연결 타임아웃
+    private Duration readTimeout = Duration.ofSeconds(5);          // HTTP 응답 타임아웃
+    private Duration retention = Duration.ofDays(7);               // 모든 구독자에게 전달된 이벤트 보관 기간
+}
@@ -0,0 +1,22 @@
+package com.dorandoran.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 사용자 조회 read-through 캐시 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "user.read-cache")
+@Getter
+@Setter
+public class UserReadCacheConfig {
+
+    private boolean enabled = true;              // false면 항상 DB 조회
+    private Duration ttl = Duration.ofMinutes(5); // 항목 유지 시간 (다른 인스턴스 변경은 최대 이 시간까지 반영 지연)
+    private int maxSize = 50_000;                // 최대 항목 수 (초과 시 가장 오래 쓰지 않은 항목 제거)
+}
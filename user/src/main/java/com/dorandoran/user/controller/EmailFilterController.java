@@ -0,0 +1,49 @@
+package com.dorandoran.user.controller;
+
+import com.dorandoran.common.response.ApiResponse;
+import com.dorandoran.user.service.email.RegisteredEmailFilter;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 가입 이메일 필터 운영 API (Gateway 라우팅 대상 아님, HMAC 인증 필요)
+ */
+@RestController
+@RequestMapping("/internal/email-filter")
+@RequiredArgsConstructor
+@Slf4j
+@Hidden
+public class EmailFilterController {
+
+    private final RegisteredEmailFilter registeredEmailFilter;
+
+    /**
+     * 필터 상태 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> stats() {
+        return ResponseEntity.ok(ApiResponse.success(registeredEmailFilter.stats()));
+    }
+
+    /**
+     * 필터 재구성 (이메일 변경이 누적되어 오탐률이 올라갔을 때)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuild() {
+        log.info("이메일 필터 재구성 요청");
+        if (!registeredEmailFilter.rebuild()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("이메일 필터를 이미 재구성 중입니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success(registeredEmailFilter.stats(), "이메일 필터를 재구성했습니다."));
+    }
+}
@@ -6,6 +6,7 @@ import com.dorandoran.shared.dto.UserDto;
 import com.dorandoran.shared.dto.UserWithPasswordDto;
 import com.dorandoran.shared.dto.ResetPasswordRequest;
 import com.dorandoran.user.service.UserService;
+import com.dorandoran.user.service.cache.UserReadCache;
 import com.dorandoran.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,8 +14,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -29,6 +33,7 @@ import java.util.UUID;
 public class UserController {
     
     private final UserService userService;
+    private final UserReadCache userReadCache;
     
     /**
      * 사용자 생성
@@ -58,17 +63,19 @@ public class UserController {
     @Operation(summary = "사용자 조회 (ID)", description = "사용자 ID로 사용자 정보를 조회합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "사용자 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "If-None-Match와 같은 버전 (변경 없음)"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
     @GetMapping("/{userId}")
     public ResponseEntity<UserDto> getUserById(
             @Parameter(description = "사용자 UUID", required = true)
-            @PathVariable String userId) {
+            @PathVariable String userId,
+            WebRequest webRequest) {
         log.info("사용자 조회 요청: userId={}", userId);
         
         try {
             UserDto user = userService.findById(UUID.fromString(userId));
-            return ResponseEntity.ok(user);
+            return conditionalResponse(user, webRequest);
         } catch (Exception e) {
             log.error("사용자 조회 실패: userId={}, error={}", userId, e.getMessage());
             return ResponseEntity.notFound().build();
@@ -79,12 +86,12 @@ public class UserController {
      * 이메일로 사용자 조회
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<UserDto> getUserByEmail(@PathVariable String email) {
+    public ResponseEntity<UserDto> getUserByEmail(@PathVariable String email, WebRequest webRequest) {
         log.info("이메일로 사용자 조회 요청: email={}", email);
         
         try {
             UserDto user = userService.findByEmail(email);
-            return ResponseEntity.ok(user);
+            return conditionalResponse(user, webRequest);
         } catch (Exception e) {
             log.error("이메일로 사용자 조회 실패: email={}, error={}", email, e.getMessage());
             return ResponseEntity.notFound().build();
@@ -240,4 +247,19 @@ public class UserController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    /**
+     * 버전 ETag를 붙여 응답하고, If-None-Match가 같으면 본문 없이 304 응답
+     */
+    private ResponseEntity<UserDto> conditionalResponse(UserDto user, WebRequest webRequest) {
+        String etag = UserReadCache.etagOf(user);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            boolean notModified = webRequest.checkNotModified(etag);
+            userReadCache.recordConditional(notModified);
+            if (notModified) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        return ResponseEntity.ok().eTag(etag).body(user);
+    }
 }
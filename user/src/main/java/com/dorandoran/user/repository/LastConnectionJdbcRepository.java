@@ -0,0 +1,59 @@
+package com.dorandoran.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 마지막 연결 시간 일괄 갱신
+ * 사용자별 UPDATE 대신 UPDATE ... FROM (VALUES ...) 한 문장으로 여러 사용자를 갱신
+ */
+@Repository
+@RequiredArgsConstructor
+public class LastConnectionJdbcRepository {
+
+    private static final String UPDATE_PREFIX = """
+        UPDATE user_schema.app_user AS u
+        SET last_conn_time = v.conn_time
+        FROM (VALUES\s""";
+
+    // 더 늦은 시각으로만 갱신 (다른 인스턴스가 먼저 기록한 최신 값을 덮어쓰지 않음)
+    private static final String UPDATE_SUFFIX = """
+        ) AS v(id, conn_time)
+        WHERE u.id = v.id
+          AND (u.last_conn_time IS NULL OR u.last_conn_time < v.conn_time)
+        """;
+
+    private static final String VALUE_ROW = "(CAST(? AS uuid), CAST(? AS timestamp))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 실제 갱신된 행 수
+     */
+    public int updateLastConnectionTimes(Map<UUID, LocalDateTime> connTimes) {
+        if (connTimes.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(UPDATE_PREFIX.length() + UPDATE_SUFFIX.length() + connTimes.size() * 40)
+            .append(UPDATE_PREFIX);
+        List<Object> args = new ArrayList<>(connTimes.size() * 2);
+        for (Map.Entry<UUID, LocalDateTime> entry : connTimes.entrySet()) {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append(VALUE_ROW);
+            args.add(entry.getKey());
+            args.add(Timestamp.valueOf(entry.getValue()));
+        }
+        sql.append(UPDATE_SUFFIX);
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
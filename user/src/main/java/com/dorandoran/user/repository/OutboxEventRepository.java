@@ -0,0 +1,9 @@
+package com.dorandoran.user.repository;
+
+import com.dorandoran.user.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
@@ -0,0 +1,105 @@
+package com.dorandoran.user.repository;
+
+import com.dorandoran.shared.event.UserEventEnvelope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * outbox 릴레이용 JDBC 조회/갱신 (구독자별 오프셋 + 이벤트 배치 조회)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRelayJdbcRepository {
+
+    private static final String INSERT_OFFSET = """
+        INSERT INTO user_schema.event_outbox_offsets (subscriber, last_event_id, updated_at)
+        VALUES (?, 0, NOW())
+        ON CONFLICT (subscriber) DO NOTHING
+        """;
+
+    // 다른 인스턴스가 같은 구독자를 전달 중이면 건너뜀 (구독자별 순서 보장 + 인스턴스 간 분담)
+    private static final String LOCK_OFFSET = """
+        SELECT last_event_id FROM user_schema.event_outbox_offsets
+        WHERE subscriber = ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String SELECT_AFTER = """
+        SELECT id, event_type, aggregate_id, payload, created_at
+        FROM user_schema.event_outbox
+        WHERE id > ?
+        ORDER BY id
+        LIMIT ?
+        """;
+
+    private static final String UPDATE_OFFSET = """
+        UPDATE user_schema.event_outbox_offsets
+        SET last_event_id = ?, updated_at = NOW()
+        WHERE subscriber = ?
+        """;
+
+    private static final String SELECT_OFFSETS = """
+        SELECT subscriber, last_event_id FROM user_schema.event_outbox_offsets
+        """;
+
+    private static final String DELETE_DELIVERED = """
+        DELETE FROM user_schema.event_outbox
+        WHERE id <= ? AND created_at < ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void ensureOffset(String subscriber) {
+        jdbcTemplate.update(INSERT_OFFSET, subscriber);
+    }
+
+    /**
+     * 구독자 오프셋 행을 잠그고 마지막 전달 id 반환 (트랜잭션 안에서 호출)
+     * 다른 인스턴스가 잠금 중이면 빈 값
+     */
+    public OptionalLong lockOffset(String subscriber) {
+        List<Long> rows = jdbcTemplate.queryForList(LOCK_OFFSET, Long.class, subscriber);
+        return rows.isEmpty() ? OptionalLong.empty() : OptionalLong.of(rows.get(0));
+    }
+
+    public List<UserEventEnvelope> findAfter(long lastEventId, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER, (rs, i) -> new UserEventEnvelope(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getString("aggregate_id"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+        ), lastEventId, limit);
+    }
+
+    public void advance(String subscriber, long lastEventId) {
+        jdbcTemplate.update(UPDATE_OFFSET, lastEventId, subscriber);
+    }
+
+    public Long maxEventId() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM user_schema.event_outbox", Long.class);
+    }
+
+    public Map<String, Long> findOffsets() {
+        Map<String, Long> offsets = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_OFFSETS, rs -> {
+            offsets.put(rs.getString("subscriber"), rs.getLong("last_event_id"));
+        });
+        return offsets;
+    }
+
+    /**
+     * 모든 구독자에게 전달되었고 보관 기간이 지난 이벤트 삭제
+     */
+    public int deleteDelivered(long upToEventId, LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_DELIVERED, upToEventId, Timestamp.valueOf(before));
+    }
+}
@@ -4,20 +4,26 @@ import com.dorandoran.common.exception.DoranDoranException;
 import com.dorandoran.common.exception.ErrorCode;
 import com.dorandoran.user.entity.User;
 import com.dorandoran.user.repository.UserRepository;
+import com.dorandoran.user.service.cache.UserReadCache;
+import com.dorandoran.user.service.connection.LastConnectionTracker;
+import com.dorandoran.user.service.email.RegisteredEmailFilter;
 import com.dorandoran.shared.dto.CreateUserRequest;
 import com.dorandoran.shared.dto.UpdateUserRequest;
 import com.dorandoran.shared.dto.UserDto;
 import com.dorandoran.shared.dto.UserWithPasswordDto;
 import com.dorandoran.shared.event.UserCreatedEvent;
+import com.dorandoran.shared.event.UserDeletedEvent;
 import com.dorandoran.shared.event.UserStatusChangedEvent;
 import com.dorandoran.shared.event.UserUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,6 +40,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final LastConnectionTracker lastConnectionTracker;
+    private final UserReadCache userReadCache;
     
     /**
      * 사용자 생성
@@ -42,7 +51,7 @@ public class UserService {
     public UserDto createUser(CreateUserRequest request) {
         System.out.println("사용자 생성 요청: email=" + request.email());
         
-        // 1. 이메일 중복 검사
+        // 1. 이메일 중복 검사 (쓰기 경로는 인스턴스별 필터를 믿지 않고 항상 DB 확인)
         if (userRepository.existsByEmail(request.email())) {
             throw new DoranDoranException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
@@ -68,7 +77,8 @@ public class UserService {
             .build();
         
         // 4. 데이터베이스 저장
-        User savedUser = userRepository.save(user);
+        User savedUser = saveWithUniqueEmail(user);
+        registeredEmailFilter.add(savedUser.getEmail());
         log.info("사용자 생성 완료: id={}, email={}", savedUser.getId(), savedUser.getEmail());
         
         // 5. 사용자 생성 이벤트 발행
@@ -85,6 +95,33 @@ public class UserService {
         return convertToDto(savedUser);
     }
 
+    /**
+     * 이메일 가입 여부 (필터가 확실히 없다고 하면 DB 조회 생략, 중복확인 조회 전용)
+     *
+     * 필터는 인스턴스마다 따로 있어 다른 인스턴스의 가입은 재구성 전까지 반영되지 않으므로 쓰기 경로에서는 쓰지 않음
+     */
+    private boolean emailExists(String email) {
+        if (!registeredEmailFilter.mightContain(email)) {
+            return false;
+        }
+        boolean exists = userRepository.existsByEmail(email);
+        registeredEmailFilter.recordDatabaseCheck(exists);
+        return exists;
+    }
+
+    /**
+     * 저장 후 바로 flush해 확인과 저장 사이의 동시 가입/변경(다른 인스턴스 포함)을 이메일 유일 인덱스 위반으로 잡음
+     */
+    private User saveWithUniqueEmail(User user) {
+        try {
+            User saved = userRepository.save(user);
+            userRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw new DoranDoranException(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+    }
+
     private void validateBasicPasswordPolicy(String rawPassword) {
         if (rawPassword == null || rawPassword.length() < 8) {
             throw new DoranDoranException(ErrorCode.INVALID_REQUEST, "비밀번호는 최소 8자 이상이어야 합니다.");
@@ -100,24 +137,28 @@ public class UserService {
      * 사용자 조회 (ID)
      */
     public UserDto findById(UUID id) {
-        System.out.println("사용자 조회: id=" + id);
-        
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new DoranDoranException(ErrorCode.USER_NOT_FOUND));
-        
-        return convertToDto(user);
+        return userReadCache.getById(id, () -> {
+            System.out.println("사용자 조회: id=" + id);
+            
+            User user = userRepository.findById(id)
+                .orElseThrow(() -> new DoranDoranException(ErrorCode.USER_NOT_FOUND));
+            
+            return convertToDto(user);
+        });
     }
     
     /**
      * 사용자 조회 (이메일)
      */
     public UserDto findByEmail(String email) {
-        System.out.println("사용자 조회: email=" + email);
-        
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new DoranDoranException(ErrorCode.USER_NOT_FOUND));
-        
-        return convertToDto(user);
+        return userReadCache.getByEmail(email, () -> {
+            System.out.println("사용자 조회: email=" + email);
+            
+            User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new DoranDoranException(ErrorCode.USER_NOT_FOUND));
+            
+            return convertToDto(user);
+        });
     }
     
     /**
@@ -148,7 +189,7 @@ public class UserService {
             throw new DoranDoranException(ErrorCode.INVALID_REQUEST, "올바른 이메일 형식이 아닙니다.");
         }
         
-        boolean exists = userRepository.existsByEmail(email);
+        boolean exists = emailExists(email);
         log.info("이메일 중복확인 결과: email={}, exists={}", email, exists);
         
         return exists;
@@ -199,6 +240,7 @@ public class UserService {
                 throw new DoranDoranException(ErrorCode.EMAIL_ALREADY_EXISTS);
             }
             user.setEmail(request.email());
+            registeredEmailFilter.add(request.email());
         }
         
         // 정보 업데이트
@@ -220,7 +262,8 @@ public class UserService {
             user.updateCoachCheck(request.coachCheck());
         }
         
-        User savedUser = userRepository.save(user);
+        User savedUser = saveWithUniqueEmail(user);
+        userReadCache.evict(savedUser.getId());
         
         // 사용자 업데이트 이벤트 발행
         UserUpdatedEvent event = UserUpdatedEvent.of(
@@ -261,6 +304,7 @@ public class UserService {
         
         user.updateStatus(newStatus);
         User savedUser = userRepository.save(user);
+        userReadCache.evict(savedUser.getId());
         
         // 사용자 상태 변경 이벤트 발행
         UserStatusChangedEvent event = UserStatusChangedEvent.of(
@@ -294,21 +338,24 @@ public class UserService {
         
         user.updateStatus(User.UserStatus.INACTIVE);
         userRepository.save(user);
+        userReadCache.evict(user.getId());
+        
+        // 사용자 삭제 이벤트 발행 (outbox를 통해 다른 서비스 캐시에서도 제거)
+        eventPublisher.publishEvent(UserDeletedEvent.builder()
+            .userId(user.getId().toString())
+            .email(user.getEmail())
+            .deletedAt(LocalDateTime.now())
+            .build());
         
         System.out.println("사용자 삭제 완료: id=" + id);
     }
     
     /**
      * 마지막 연결 시간 업데이트
+     * 요청마다 조회/저장하지 않고 기록기에 모아 주기적으로 일괄 갱신 (없는 사용자는 갱신 대상에서 제외됨)
      */
     public void updateLastConnectionTime(UUID id) {
-        System.out.println("마지막 연결 시간 업데이트: id=" + id);
-        
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new DoranDoranException(ErrorCode.USER_NOT_FOUND));
-        
-        user.updateLastConnectionTime();
-        userRepository.save(user);
+        lastConnectionTracker.record(id);
     }
 
     /**
@@ -323,6 +370,7 @@ public class UserService {
         String encoded = passwordEncoder.encode(newPassword);
         user.setPasswordHash(encoded);
         userRepository.save(user);
+        userReadCache.evict(user.getId());
     }
     
     /**
@@ -418,6 +466,7 @@ public class UserService {
         // 비밀번호 업데이트
         user.updatePassword(encodedPassword);
         userRepository.save(user);
+        userReadCache.evict(userId);
         
         log.info("사용자 비밀번호 업데이트 완료: userId={}", userId);
     }
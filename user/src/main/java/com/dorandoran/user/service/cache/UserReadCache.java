@@ -0,0 +1,202 @@
+package com.dorandoran.user.service.cache;
+
+import com.dorandoran.shared.dto.UserDto;
+import com.dorandoran.user.config.UserReadCacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 조회(UserDto) read-through 캐시
+ *
+ * - TTL + 최대 항목 수(LRU) 제한, 이메일은 ID 항목을 가리키는 별칭
+ * - 변경 메서드는 즉시 + 커밋 후 한 번 더 무효화 (커밋 전 옛 값을 다시 읽어 저장하는 경우 방지)
+ * - 무효화 이전에 시작된 조회 결과는 저장하지 않음
+ */
+@Component
+public class UserReadCache {
+
+    private final UserReadCacheConfig config;
+    private final Map<UUID, Entry> entries;
+    private final Map<String, UUID> idByEmail = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Counter notModifiedCounter;
+    private final Counter modifiedCounter;
+
+    public UserReadCache(UserReadCacheConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                if (size() > config.getMaxSize()) {
+                    idByEmail.remove(emailKey(eldest.getValue().user().email()), eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hitCounter = Counter.builder("user.read.cache.requests")
+            .tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("user.read.cache.requests")
+            .tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("user.read.cache.evictions")
+            .register(meterRegistry);
+        this.notModifiedCounter = Counter.builder("user.read.conditional")
+            .tag("result", "not_modified")
+            .description("If-None-Match가 일치해 304로 응답한 수")
+            .register(meterRegistry);
+        this.modifiedCounter = Counter.builder("user.read.conditional")
+            .tag("result", "modified").register(meterRegistry);
+        Gauge.builder("user.read.cache.size", this, UserReadCache::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * ID로 조회 (캐시 우선, 미스면 loader 결과를 저장)
+     */
+    public UserDto getById(UUID id, Supplier<UserDto> loader) {
+        if (!config.isEnabled()) {
+            return loader.get();
+        }
+        UserDto cached = lookup(id);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        long startedAt = generation.get();
+        UserDto loaded = loader.get();
+        store(loaded, startedAt);
+        return loaded;
+    }
+
+    /**
+     * 이메일로 조회 (캐시 우선, 미스면 loader 결과를 저장)
+     */
+    public UserDto getByEmail(String email, Supplier<UserDto> loader) {
+        if (!config.isEnabled() || email == null) {
+            return loader.get();
+        }
+        UUID id = idByEmail.get(emailKey(email));
+        UserDto cached = id != null ? lookup(id) : null;
+        if (cached != null && emailKey(cached.email()).equals(emailKey(email))) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        long startedAt = generation.get();
+        UserDto loaded = loader.get();
+        store(loaded, startedAt);
+        return loaded;
+    }
+
+    /**
+     * 사용자 항목 무효화 (트랜잭션 안이면 커밋 후에도 한 번 더)
+     */
+    public void evict(UUID id) {
+        evictNow(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * 조건부 조회(If-None-Match) 결과 기록
+     */
+    public void recordConditional(boolean notModified) {
+        (notModified ? notModifiedCounter : modifiedCounter).increment();
+    }
+
+    /**
+     * 사용자 버전 기반 ETag (수정 시각 + 마지막 연결 시각, 둘 중 하나라도 바뀌면 달라짐)
+     */
+    public static String etagOf(UserDto user) {
+        return "\"" + Long.toHexString(epochMillis(user.updatedAt())) + "-"
+            + Long.toHexString(epochMillis(user.lastConnTime())) + "\"";
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private UserDto lookup(UUID id) {
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(id);
+                idByEmail.remove(emailKey(entry.user().email()), id);
+                return null;
+            }
+            return entry.user();
+        }
+    }
+
+    private void store(UserDto user, long startedAt) {
+        if (user == null || user.id() == null) {
+            return;
+        }
+        UUID id = UUID.fromString(user.id());
+        synchronized (entries) {
+            // 조회 중 무효화가 있었으면 옛 값일 수 있으므로 저장하지 않음
+            if (generation.get() != startedAt) {
+                return;
+            }
+            Entry previous = entries.put(id, new Entry(user, System.currentTimeMillis() + config.getTtl().toMillis()));
+            if (previous != null && previous.user().email() != null) {
+                idByEmail.remove(emailKey(previous.user().email()), id);
+            }
+            if (user.email() != null) {
+                idByEmail.put(emailKey(user.email()), id);
+            }
+        }
+    }
+
+    private void evictNow(UUID id) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            Entry removed = entries.remove(id);
+            if (removed != null && removed.user().email() != null) {
+                idByEmail.remove(emailKey(removed.user().email()), id);
+            }
+        }
+        evictionCounter.increment();
+    }
+
+    // DB 조회와 같은 결과가 되도록 대소문자 구분 그대로 사용
+    private static String emailKey(String email) {
+        return email == null ? "" : email;
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    private record Entry(UserDto user, long expiresAt) {
+    }
+}
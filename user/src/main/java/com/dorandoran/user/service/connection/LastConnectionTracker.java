@@ -0,0 +1,209 @@
+package com.dorandoran.user.service.connection;
+
+import com.dorandoran.user.config.LastConnectionConfig;
+import com.dorandoran.user.repository.LastConnectionJdbcRepository;
+import com.dorandoran.user.service.cache.UserReadCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 연결 시간 병합 기록기
+ *
+ * 요청마다 app_user를 갱신하지 않고 사용자별 최신 시각만 메모리에 모아 주기적으로 일괄 UPDATE
+ * 마지막으로 기록한 시각에서 granularity가 지나지 않았으면 기록하지 않음
+ * (비활성 사용자 배치는 일 단위 기준만 보므로 시간 단위 정밀도로 충분)
+ * 기록한 사용자는 조회 캐시에서 무효화 (ETag에 마지막 연결 시각이 들어가므로)
+ * 웹 서버가 완전히 멈춘 뒤에 종료되고, 종료 후 들어온 기록은 바로 기록
+ */
+@Component
+@Slf4j
+public class LastConnectionTracker implements SmartLifecycle {
+
+    private final LastConnectionConfig config;
+    private final LastConnectionJdbcRepository lastConnectionJdbcRepository;
+    private final UserReadCache userReadCache;
+
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, LocalDateTime> lastWritten = new ConcurrentHashMap<>();
+
+    private final Counter queuedCounter;
+    private final Counter skippedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread worker;
+
+    public LastConnectionTracker(LastConnectionConfig config,
+                                 LastConnectionJdbcRepository lastConnectionJdbcRepository,
+                                 UserReadCache userReadCache,
+                                 MeterRegistry meterRegistry) {
+        this.config = config;
+        this.lastConnectionJdbcRepository = lastConnectionJdbcRepository;
+        this.userReadCache = userReadCache;
+
+        this.queuedCounter = Counter.builder("user.last.connection.recorded")
+            .tag("result", "queued")
+            .register(meterRegistry);
+        this.skippedCounter = Counter.builder("user.last.connection.recorded")
+            .tag("result", "skipped")
+            .description("기록 단위 시간 안의 재접속이라 기록하지 않은 수")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder("user.last.connection.rows.written")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("user.last.connection.flush.failures")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("user.last.connection.flush")
+            .description("마지막 연결 시간 일괄 갱신 소요 시간")
+            .register(meterRegistry);
+        Gauge.builder("user.last.connection.pending", pending, Map::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 연결 시각 기록 (DB 접근 없음)
+     */
+    public void record(UUID userId) {
+        record(userId, LocalDateTime.now());
+    }
+
+    void record(UUID userId, LocalDateTime connTime) {
+        LocalDateTime written = lastWritten.get(userId);
+        if (written != null && connTime.isBefore(written.plus(config.getGranularity()))) {
+            skippedCounter.increment();
+            return;
+        }
+        pending.merge(userId, connTime, (a, b) -> a.isAfter(b) ? a : b);
+        queuedCounter.increment();
+        if (stopped) {
+            // 종료 후에는 flusher가 없으므로 바로 기록
+            flush();
+        }
+    }
+
+    @Override
+    public void start() {
+        stopped = false;
+        running = true;
+        worker = Thread.ofPlatform().name("last-connection-flusher").daemon(true).start(this::runLoop);
+        log.info("마지막 연결 시간 기록기 시작: granularity={}, flushInterval={}",
+            config.getGranularity(), config.getFlushInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopped = true;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 남은 연결 시간 기록
+        flush();
+        log.info("마지막 연결 시간 기록기 종료: 잔여 기록 완료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버 graceful shutdown과 서버 중지 뒤에 멈추도록 더 낮은 단계 (높은 단계부터 멈춤)
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                Thread.sleep(config.getFlushInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            flush();
+        }
+    }
+
+    /**
+     * 모인 연결 시각을 batchSize 단위로 일괄 기록 (실패한 묶음은 다음 주기에 재시도)
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map<UUID, LocalDateTime>> chunks = drain();
+        for (Map<UUID, LocalDateTime> chunk : chunks) {
+            try {
+                int updated = flushTimer.record(() -> lastConnectionJdbcRepository.updateLastConnectionTimes(chunk));
+                writtenCounter.increment(updated);
+                remember(chunk);
+                chunk.keySet().forEach(userReadCache::evict);
+            } catch (Exception e) {
+                failedCounter.increment();
+                chunk.forEach((userId, connTime) -> pending.merge(userId, connTime, (a, b) -> a.isAfter(b) ? a : b));
+                log.warn("마지막 연결 시간 기록 실패 (다음 주기 재시도): users={}, error={}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private List<Map<UUID, LocalDateTime>> drain() {
+        List<Map<UUID, LocalDateTime>> chunks = new ArrayList<>();
+        Map<UUID, LocalDateTime> chunk = new LinkedHashMap<>();
+        Iterator<UUID> iterator = pending.keySet().iterator();
+        while (iterator.hasNext()) {
+            UUID userId = iterator.next();
+            LocalDateTime connTime = pending.remove(userId);
+            if (connTime == null) {
+                continue;
+            }
+            chunk.put(userId, connTime);
+            if (chunk.size() >= config.getBatchSize()) {
+                chunks.add(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * 기록한 시각 보관 (상한에 도달하면 단위 시간이 지난 항목부터 정리하고, 그래도 가득 차 있으면 비움)
+     */
+    private void remember(Map<UUID, LocalDateTime> written) {
+        if (lastWritten.size() + written.size() > config.getMaxTrackedUsers()) {
+            LocalDateTime expired = LocalDateTime.now().minus(config.getGranularity());
+            lastWritten.values().removeIf(time -> time.isBefore(expired));
+            if (lastWritten.size() + written.size() > config.getMaxTrackedUsers()) {
+                lastWritten.clear();
+            }
+        }
+        lastWritten.putAll(written);
+    }
+}
@@ -0,0 +1,223 @@
+package com.dorandoran.user.service.email;
+
+import com.dorandoran.user.config.EmailFilterConfig;
+import com.dorandoran.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 Bloom 필터
+ *
+ * mightContain이 false면 확실히 가입되지 않은 이메일이라 DB 조회 없이 응답 가능 (true면 DB 확인 필요)
+ * 기동 시 전체 이메일을 스트리밍으로 읽어 구성하고, 가입/이메일 변경 시 추가
+ * 삭제는 소프트 삭제(이메일 유지)이고 Bloom 필터는 제거를 지원하지 않으므로, 변경 전 이메일은 재구성 전까지 오탐으로 남음
+ */
+@Component
+@Slf4j
+public class RegisteredEmailFilter {
+
+    private final EmailFilterConfig config;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Object lock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // 재구성 스캔이 보지 못했을 수 있는 최근 추가분 (이메일 → 추가 시각)
+    private final Map<String, Long> recentAdds = new ConcurrentHashMap<>();
+
+    private long lastPrunedAt;                   // lock 안에서만 접근
+
+    private volatile EmailBloomFilter current;   // null이면 아직 구성 전 (항상 DB 조회)
+    private volatile EmailBloomFilter building;  // 재구성 중인 필터
+
+    private final Counter negativeCounter;
+    private final Counter maybeCounter;
+    private final Counter falsePositiveCounter;
+
+    public RegisteredEmailFilter(EmailFilterConfig config,
+                                 UserRepository userRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.config = config;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.negativeCounter = Counter.builder("user.email.filter.checks")
+            .tag("result", "negative")
+            .description("DB 조회 없이 미가입으로 응답한 이메일 확인 수")
+            .register(meterRegistry);
+        this.maybeCounter = Counter.builder("user.email.filter.checks")
+            .tag("result", "maybe")
+            .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("user.email.filter.false.positives")
+            .description("필터는 있다고 했지만 DB에 없던 이메일 수")
+            .register(meterRegistry);
+        Gauge.builder("user.email.filter.fpp", this, f -> f.current != null ? f.current.estimatedFalsePositiveRate() : 0)
+            .tag("type", "estimated")
+            .description("비트 채움 비율로 추정한 오탐률")
+            .register(meterRegistry);
+        Gauge.builder("user.email.filter.fpp", this, RegisteredEmailFilter::observedFalsePositiveRate)
+            .tag("type", "observed")
+            .description("실제 조회에서 관측한 오탐률 (오탐 / (오탐 + 확정 부정))")
+            .register(meterRegistry);
+        Gauge.builder("user.email.filter.entries", this, f -> f.current != null ? f.current.insertions() : 0)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 가입되어 있을 수 있으면 true (false면 확실히 미가입)
+     */
+    public boolean mightContain(String email) {
+        EmailBloomFilter filter = current;
+        if (!config.isEnabled() || filter == null || email == null) {
+            return true;
+        }
+        if (filter.mightContain(normalize(email))) {
+            maybeCounter.increment();
+            return true;
+        }
+        negativeCounter.increment();
+        return false;
+    }
+
+    /**
+     * mightContain이 true였던 이메일의 DB 확인 결과 기록 (오탐률 관측용)
+     */
+    public void recordDatabaseCheck(boolean exists) {
+        if (!exists && current != null) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    /**
+     * 가입/이메일 변경 시 추가 (트랜잭션 커밋 전에 호출해도 롤백 시 오탐만 생길 뿐 누락은 없음)
+     */
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = normalize(email);
+        synchronized (lock) {
+            if (current != null) {
+                current.put(key);
+            }
+            if (building != null) {
+                building.put(key);
+            }
+            long now = System.currentTimeMillis();
+            recentAdds.put(key, now);
+            // 재구성이 오래 없어도 최근 추가분이 무한히 쌓이지 않도록 보존 기간마다 정리
+            long retentionMs = config.getRecentAddRetention().toMillis();
+            if (now - lastPrunedAt >= retentionMs) {
+                pruneRecentAdds(now - retentionMs);
+                lastPrunedAt = now;
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Thread.ofPlatform().name("email-filter-build").daemon(true).start(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("이메일 필터 초기 구성 실패 (DB 조회로 동작): {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 전체 이메일을 스트리밍으로 읽어 새 필터를 만들고 교체
+     *
+     * @return 재구성했으면 true, 이미 재구성 중이면 false
+     */
+    public boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            long expected = Math.max(config.getMinExpectedInsertions(), userRepository.count() * 2);
+            EmailBloomFilter next = EmailBloomFilter.create(expected, config.getFalsePositiveRate());
+            synchronized (lock) {
+                building = next;
+            }
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.forEach(email -> next.put(normalize(email)));
+                }
+            });
+
+            synchronized (lock) {
+                // 스캔 시작 전에 추가됐지만 스캔 이후 커밋된 가입까지 반영
+                pruneRecentAdds(System.currentTimeMillis() - config.getRecentAddRetention().toMillis());
+                recentAdds.keySet().forEach(next::put);
+                current = next;
+                building = null;
+            }
+            log.info("이메일 필터 구성 완료: entries={}, bits={}, hashes={}, estimatedFpp={}, elapsedMs={}",
+                next.insertions(), next.bitSize(), next.hashCount(),
+                String.format("%.5f", next.estimatedFalsePositiveRate()), System.currentTimeMillis() - startedAt);
+            return true;
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                building = null;
+            }
+            throw e;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 현재 필터 상태 (운영 확인용)
+     */
+    public Map<String, Object> stats() {
+        EmailBloomFilter filter = current;
+        if (filter == null) {
+            return Map.of("ready", false, "rebuilding", rebuilding.get(), "recentAdds", recentAdds.size());
+        }
+        return Map.of(
+            "ready", true,
+            "rebuilding", rebuilding.get(),
+            "recentAdds", recentAdds.size(),
+            "entries", filter.insertions(),
+            "bits", filter.bitSize(),
+            "hashes", filter.hashCount(),
+            "estimatedFpp", filter.estimatedFalsePositiveRate(),
+            "observedFpp", observedFalsePositiveRate()
+        );
+    }
+
+    private double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveCounter.count();
+        double denominator = falsePositives + negativeCounter.count();
+        return denominator == 0 ? 0 : falsePositives / denominator;
+    }
+
+    private void pruneRecentAdds(long cutoff) {
+        recentAdds.entrySet().removeIf(entry -> entry.getValue() < cutoff);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,60 @@
+package com.dorandoran.user.service.outbox;
+
+import com.dorandoran.shared.event.UserEventEnvelope;
+import com.dorandoran.shared.security.HmacAuthenticator;
+import com.dorandoran.user.config.OutboxConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * HTTP 전달 (기본값)
+ * 구독 서비스의 내부 엔드포인트로 배치를 POST 하고, 2xx 응답이면 전달 완료로 간주
+ */
+@Component
+@ConditionalOnProperty(prefix = "user.outbox", name = "transport", havingValue = "http", matchIfMissing = true)
+@Slf4j
+public class HttpOutboxTransport implements OutboxTransport {
+
+    private static final String SERVICE_ID = "user-service"; // User 서비스 식별자
+
+    private final RestClient restClient;
+    private final HmacAuthenticator authenticator;
+
+    public HttpOutboxTransport(OutboxConfig config,
+                               @Value("${gateway.jwt.hmac-secret:}") String hmacSecret,
+                               @Value("${gateway.jwt.skew-ms:60000}") long skewMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) config.getConnectTimeout().toMillis());
+        requestFactory.setReadTimeout((int) config.getReadTimeout().toMillis());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.authenticator = hmacSecret.isEmpty() ? null : new HmacAuthenticator(hmacSecret, skewMs);
+    }
+
+    @Override
+    public void deliver(String subscriber, String endpoint, List<UserEventEnvelope> events) {
+        RestClient.RequestBodySpec request = restClient.post()
+            .uri(endpoint)
+            .contentType(MediaType.APPLICATION_JSON);
+
+        // 구독 서비스의 HMAC 인터셉터를 통과하도록 서명 헤더 추가
+        if (authenticator != null) {
+            HmacAuthenticator.Signature signature = authenticator.sign(SERVICE_ID);
+            request = request
+                .header(HmacAuthenticator.HEADER_USER_ID, signature.principal())
+                .header(HmacAuthenticator.HEADER_TIMESTAMP, String.valueOf(signature.timestamp()))
+                .header(HmacAuthenticator.HEADER_NONCE, signature.nonce())
+                .header(HmacAuthenticator.HEADER_SIGNATURE, signature.value());
+        }
+
+        // 4xx/5xx는 RestClientResponseException으로 전파되어 릴레이가 재시도
+        request.body(events).retrieve().toBodilessEntity();
+        log.debug("outbox HTTP 전달 완료: subscriber={}, count={}", subscriber, events.size());
+    }
+}
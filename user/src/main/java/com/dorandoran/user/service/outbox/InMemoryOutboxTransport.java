@@ -0,0 +1,38 @@
+package com.dorandoran.user.service.outbox;
+
+import com.dorandoran.shared.event.UserEventEnvelope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 메모리 전달 (테스트/로컬용)
+ * 구독자별로 전달받은 이벤트를 보관
+ */
+@Component
+@ConditionalOnProperty(prefix = "user.outbox", name = "transport", havingValue = "memory")
+@Slf4j
+public class InMemoryOutboxTransport implements OutboxTransport {
+
+    private final Map<String, List<UserEventEnvelope>> delivered = new ConcurrentHashMap<>();
+
+    @Override
+    public void deliver(String subscriber, String endpoint, List<UserEventEnvelope> events) {
+        delivered.computeIfAbsent(subscriber, k -> new CopyOnWriteArrayList<>()).addAll(events);
+        log.debug("outbox 메모리 전달: subscriber={}, count={}", subscriber, events.size());
+    }
+
+    public List<UserEventEnvelope> deliveredTo(String subscriber) {
+        return new ArrayList<>(delivered.getOrDefault(subscriber, List.of()));
+    }
+
+    public void clear() {
+        delivered.clear();
+    }
+}
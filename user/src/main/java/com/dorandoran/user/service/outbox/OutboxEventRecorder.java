@@ -0,0 +1,80 @@
+package com.dorandoran.user.service.outbox;
+
+import com.dorandoran.shared.event.UserCreatedEvent;
+import com.dorandoran.shared.event.UserDeletedEvent;
+import com.dorandoran.shared.event.UserStatusChangedEvent;
+import com.dorandoran.shared.event.UserUpdatedEvent;
+import com.dorandoran.user.config.OutboxConfig;
+import com.dorandoran.user.entity.OutboxEvent;
+import com.dorandoran.user.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자 이벤트를 outbox 테이블에 기록
+ *
+ * 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 기록하므로 사용자 변경과 이벤트가 함께 커밋되거나 함께 롤백됨
+ * 기록 실패 시 예외가 전파되어 사용자 변경도 롤백
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventRecorder {
+
+    // outbox 기록 직렬화용 advisory lock 키 (id 발급 순서 = 커밋 순서 보장)
+    static final long WRITE_LOCK_KEY = 0x7573_6572_6f75_7462L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxConfig config;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserCreated(UserCreatedEvent event) {
+        record(event, event.userId().toString());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        record(event, event.userId().toString());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        record(event, event.userId().toString());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        record(event, event.getUserId());
+    }
+
+    private void record(Object event, String aggregateId) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+
+        // 커밋 전까지 잠금을 유지해 먼저 받은 id가 먼저 커밋되도록 함
+        // (릴레이는 구독자별 마지막 id 이후만 읽으므로 늦게 커밋된 작은 id를 건너뛰지 않게 하기 위함)
+        if (config.isSerializeWrites()) {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + WRITE_LOCK_KEY + ")");
+        }
+
+        OutboxEvent saved = outboxEventRepository.save(OutboxEvent.builder()
+            .eventType(event.getClass().getSimpleName())
+            .aggregateId(aggregateId)
+            .payload(payload)
+            .build());
+        log.debug("outbox 이벤트 기록: id={}, type={}, aggregateId={}",
+            saved.getId(), saved.getEventType(), aggregateId);
+    }
+}
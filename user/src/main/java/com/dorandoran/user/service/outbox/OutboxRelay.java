@@ -0,0 +1,252 @@
+package com.dorandoran.user.service.outbox;
+
+import com.dorandoran.shared.event.UserEventEnvelope;
+import com.dorandoran.user.config.OutboxConfig;
+import com.dorandoran.user.repository.OutboxRelayJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 릴레이
+ *
+ * 구독자별 오프셋 행을 FOR UPDATE SKIP LOCKED로 잠그고, 오프셋 이후 이벤트를 배치로 전달한 뒤 오프셋을 전진시킴
+ * 전달 후 커밋 전에 실패하면 같은 배치를 다시 보내므로 최소 1회 전달 (구독자는 id 기준으로 멱등 처리)
+ * 여러 인스턴스가 떠 있어도 한 구독자는 한 인스턴스만 전달하므로 구독자별 순서가 유지됨
+ */
+@Component
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final long LAG_REFRESH_MILLIS = 5_000;      // 지연 게이지 갱신 주기
+    private static final long PURGE_INTERVAL_MILLIS = 3_600_000; // 전달 완료 이벤트 정리 주기
+
+    private final OutboxConfig config;
+    private final OutboxRelayJdbcRepository relayRepository;
+    private final OutboxTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer batchTimer;
+    private final Counter purgedCounter;
+    private final Map<String, SubscriberState> states = new LinkedHashMap<>();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long lastLagRefresh;
+    private long lastPurge;
+
+    public OutboxRelay(OutboxConfig config,
+                       OutboxRelayJdbcRepository relayRepository,
+                       OutboxTransport transport,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.config = config;
+        this.relayRepository = relayRepository;
+        this.transport = transport;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+
+        this.batchTimer = Timer.builder("user.outbox.relay.batch")
+            .description("outbox 배치 조회/전달/오프셋 갱신 소요 시간")
+            .register(meterRegistry);
+        this.purgedCounter = Counter.builder("user.outbox.events.purged")
+            .description("전달 완료 후 보관 기간이 지나 삭제된 outbox 이벤트 수")
+            .register(meterRegistry);
+        config.getSubscribers().forEach((name, endpoint) -> states.put(name, new SubscriberState(name, endpoint)));
+    }
+
+    @Override
+    public void start() {
+        if (!config.isRelayEnabled() || states.isEmpty()) {
+            log.info("outbox 릴레이 비활성: relayEnabled={}, subscribers={}", config.isRelayEnabled(), states.keySet());
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("outbox-relay").daemon(true).start(this::runLoop);
+        log.info("outbox 릴레이 시작: subscribers={}, batchSize={}", states.keySet(), config.getBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(config.getReadTimeout().toMillis() + 5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("outbox 릴레이 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        while (running) {
+            long now = System.currentTimeMillis();
+            boolean delivered = false;
+            for (SubscriberState state : states.values()) {
+                if (now < state.nextAttemptAt) {
+                    continue;
+                }
+                delivered |= relayOnce(state);
+            }
+            maintain(now);
+
+            // 보낸 배치가 있으면 바로 다음 배치, 없으면 폴링 주기만큼 대기
+            if (!delivered) {
+                sleepQuietly(config.getPollInterval().toMillis());
+            }
+        }
+    }
+
+    /**
+     * 구독자 하나에 대해 배치 1개 전달
+     *
+     * @return 전달한 이벤트가 있으면 true
+     */
+    boolean relayOnce(String subscriber) {
+        SubscriberState state = states.get(subscriber);
+        return state != null && relayOnce(state);
+    }
+
+    private boolean relayOnce(SubscriberState state) {
+        try {
+            if (!state.offsetReady) {
+                relayRepository.ensureOffset(state.name);
+                state.offsetReady = true;
+            }
+            // 전달 중에는 오프셋 행 잠금을 유지 (HTTP 타임아웃이 트랜잭션 길이의 상한)
+            Integer count = batchTimer.record(() -> transactionTemplate.execute(status -> {
+                OptionalLong offset = relayRepository.lockOffset(state.name);
+                if (offset.isEmpty()) {
+                    return 0; // 다른 인스턴스가 전달 중
+                }
+                List<UserEventEnvelope> events = relayRepository.findAfter(offset.getAsLong(), config.getBatchSize());
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                transport.deliver(state.name, state.endpoint, events);
+                long lastId = events.get(events.size() - 1).id();
+                relayRepository.advance(state.name, lastId);
+                state.offset.set(lastId);
+                return events.size();
+            }));
+
+            int delivered = count != null ? count : 0;
+            state.failures = 0;
+            state.nextAttemptAt = 0;
+            if (delivered > 0) {
+                state.deliveredCounter.increment(delivered);
+                log.debug("outbox 이벤트 전달: subscriber={}, count={}, offset={}", state.name, delivered, state.offset.get());
+            }
+            return delivered > 0;
+        } catch (Exception e) {
+            state.failures++;
+            state.failureCounter.increment();
+            long backoff = backoffMillis(state.failures);
+            state.nextAttemptAt = System.currentTimeMillis() + backoff;
+            log.warn("outbox 이벤트 전달 실패 ({}회 연속, {}ms 후 재시도): subscriber={}, error={}",
+                state.failures, backoff, state.name, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 연속 실패 횟수에 따른 재시도 대기 (폴링 주기의 2배씩 증가, 최대값 제한)
+     */
+    long backoffMillis(int failures) {
+        long base = Math.max(1, config.getPollInterval().toMillis());
+        long max = config.getMaxBackoff().toMillis();
+        int shift = Math.min(failures, 20);
+        return Math.min(max, base << shift);
+    }
+
+    /**
+     * 지연 게이지 갱신 및 모든 구독자에게 전달된 오래된 이벤트 정리
+     */
+    private void maintain(long now) {
+        if (now - lastLagRefresh < LAG_REFRESH_MILLIS) {
+            return;
+        }
+        lastLagRefresh = now;
+        try {
+            long maxId = relayRepository.maxEventId();
+            Map<String, Long> offsets = relayRepository.findOffsets();
+            long minOffset = Long.MAX_VALUE;
+            for (SubscriberState state : states.values()) {
+                long offset = offsets.getOrDefault(state.name, 0L);
+                state.offset.set(offset);
+                state.lag.set(Math.max(0, maxId - offset));
+                minOffset = Math.min(minOffset, offset);
+            }
+
+            if (now - lastPurge >= PURGE_INTERVAL_MILLIS && minOffset != Long.MAX_VALUE && minOffset > 0) {
+                lastPurge = now;
+                int purged = relayRepository.deleteDelivered(minOffset, LocalDateTime.now().minus(config.getRetention()));
+                purgedCounter.increment(purged);
+                if (purged > 0) {
+                    log.info("전달 완료 outbox 이벤트 정리: count={}, upToId={}", purged, minOffset);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("outbox 상태 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 구독자별 전달 상태 (릴레이 스레드에서만 변경)
+     */
+    private final class SubscriberState {
+        final String name;
+        final String endpoint;
+        final AtomicLong offset = new AtomicLong();
+        final AtomicLong lag = new AtomicLong();
+        final Counter deliveredCounter;
+        final Counter failureCounter;
+        boolean offsetReady;
+        int failures;
+        long nextAttemptAt;
+
+        SubscriberState(String name, String endpoint) {
+            this.name = name;
+            this.endpoint = endpoint;
+            this.deliveredCounter = Counter.builder("user.outbox.events.delivered")
+                .tag("subscriber", name)
+                .register(meterRegistry);
+            this.failureCounter = Counter.builder("user.outbox.delivery.failures")
+                .tag("subscriber", name)
+                .register(meterRegistry);
+            Gauge.builder("user.outbox.lag", lag, AtomicLong::get)
+                .tag("subscriber", name)
+                .description("구독자가 아직 받지 못한 outbox 이벤트 수")
+                .register(meterRegistry);
+        }
+    }
+}
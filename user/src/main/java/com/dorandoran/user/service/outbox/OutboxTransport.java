@@ -0,0 +1,14 @@
+package com.dorandoran.user.service.outbox;
+
+import com.dorandoran.shared.event.UserEventEnvelope;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 전달 방식
+ * 예외 없이 반환하면 배치 전체가 전달된 것으로 보고 구독자 오프셋을 전진시킴
+ */
+public interface OutboxTransport {
+
+    void deliver(String subscriber, String endpoint, List<UserEventEnvelope> events);
+}
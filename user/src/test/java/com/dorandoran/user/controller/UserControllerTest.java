@@ -4,6 +4,7 @@ import com.dorandoran.shared.dto.CreateUserRequest;
 import com.dorandoran.shared.dto.UpdateUserRequest;
 import com.dorandoran.shared.dto.UserDto;
 import com.dorandoran.user.service.UserService;
+import com.dorandoran.user.service.cache.UserReadCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +35,9 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserReadCache userReadCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -143,6 +147,22 @@ class UserControllerTest {
         verify(userService, times(1)).findById(UUID.fromString(userId));
     }
 
+    @Test
+    @DisplayName("사용자 ID 조회 시 ETag가 같으면 304 응답 테스트")
+    void getUserById_NotModified() throws Exception {
+        // Given
+        when(userService.findById(UUID.fromString(userId))).thenReturn(userDto);
+        String etag = UserReadCache.etagOf(userDto);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{userId}", userId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(userReadCache).recordConditional(true);
+    }
+
     @Test
     @DisplayName("사용자 ID로 조회 실패 테스트")
     void getUserById_Failure() throws Exception {
@@ -8,15 +8,23 @@ import com.dorandoran.shared.dto.CreateUserRequest;
 import com.dorandoran.shared.dto.UpdateUserRequest;
 import com.dorandoran.shared.dto.UserDto;
 import com.dorandoran.shared.event.UserCreatedEvent;
+import com.dorandoran.shared.event.UserDeletedEvent;
 import com.dorandoran.shared.event.UserUpdatedEvent;
 import com.dorandoran.shared.event.UserStatusChangedEvent;
+import com.dorandoran.user.config.UserReadCacheConfig;
+import com.dorandoran.user.service.cache.UserReadCache;
+import com.dorandoran.user.service.connection.LastConnectionTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.dorandoran.user.service.email.RegisteredEmailFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -45,6 +53,15 @@ class UserServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Mock
+    private LastConnectionTracker lastConnectionTracker;
+
+    @Spy
+    private UserReadCache userReadCache = new UserReadCache(new UserReadCacheConfig(), new SimpleMeterRegistry());
+
     @InjectMocks
     private UserService userService;
 
@@ -53,6 +70,9 @@ class UserServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 기본은 필터가 판단하지 못하는 경우 (DB 조회)
+        lenient().when(registeredEmailFilter.mightContain(anyString())).thenReturn(true);
+
         testUser = User.builder()
             .id(UUID.randomUUID())
             .email("test@example.com")
@@ -114,6 +134,39 @@ class UserServiceTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    void 사용자_생성은_이메일_필터와_무관하게_DB_확인() {
+        // Given - 다른 인스턴스에서 막 가입해 이 인스턴스의 필터에는 아직 없는 이메일
+        lenient().when(registeredEmailFilter.mightContain("test@example.com")).thenReturn(false);
+        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+
+        // When & Then
+        DoranDoranException exception = assertThrows(DoranDoranException.class, () -> {
+            userService.createUser(createRequest);
+        });
+
+        assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS, exception.getErrorCode());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void 사용자_생성_동시_가입은_유일_인덱스_위반을_중복으로_응답() {
+        // Given - 확인은 통과했지만 그 사이 같은 이메일이 먼저 커밋됨
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        doThrow(new DataIntegrityViolationException("app_user_email_idx")).when(userRepository).flush();
+
+        // When & Then
+        DoranDoranException exception = assertThrows(DoranDoranException.class, () -> {
+            userService.createUser(createRequest);
+        });
+
+        assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS, exception.getErrorCode());
+        verify(registeredEmailFilter, never()).add(anyString());
+        verify(eventPublisher, never()).publishEvent(any(UserCreatedEvent.class));
+    }
+
     @Test
     void 사용자_조회_성공() {
         // Given
@@ -263,16 +316,12 @@ class UserServiceTest {
 
     @Test
     void 마지막_연결시간_업데이트() {
-        // Given
-        when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
-
         // When
         userService.updateLastConnectionTime(testUser.getId());
 
-        // Then
-        verify(userRepository).findById(testUser.getId());
-        verify(userRepository).save(any(User.class));
+        // Then - 기록기에만 넘기고 요청 중 DB 조회/저장 없음
+        verify(lastConnectionTracker).record(testUser.getId());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -486,7 +535,7 @@ class UserServiceTest {
     }
 
     @Test
-    void 사용자_삭제_시_이벤트_발행_없음() {
+    void 사용자_삭제_시_삭제_이벤트_발행() {
         // Given
         when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
@@ -494,12 +543,47 @@ class UserServiceTest {
         // When
         userService.deleteUser(testUser.getId());
 
-        // Then - 삭제는 이벤트를 발행하지 않음
+        // Then - 삭제 이벤트만 발행
+        ArgumentCaptor<UserDeletedEvent> eventCaptor = ArgumentCaptor.forClass(UserDeletedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(testUser.getId().toString(), eventCaptor.getValue().getUserId());
+        assertEquals(testUser.getEmail(), eventCaptor.getValue().getEmail());
         verify(eventPublisher, never()).publishEvent(any(UserCreatedEvent.class));
         verify(eventPublisher, never()).publishEvent(any(UserUpdatedEvent.class));
         verify(eventPublisher, never()).publishEvent(any(UserStatusChangedEvent.class));
     }
 
+    @Test
+    void 이메일_필터가_확실히_없다고_하면_DB_조회_생략() {
+        // Given
+        when(registeredEmailFilter.mightContain("new@example.com")).thenReturn(false);
+
+        // When
+        boolean exists = userService.isEmailDuplicate("new@example.com");
+
+        // Then
+        assertFalse(exists);
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void 사용자_조회는_캐시되고_수정_시_무효화() {
+        // Given
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        // When - 두 번 조회 후 수정, 다시 조회
+        userService.findById(testUser.getId());
+        userService.findById(testUser.getId());
+        verify(userRepository, times(1)).findById(testUser.getId());
+
+        userService.updateUserStatus(testUser.getId(), UserDto.UserStatus.SUSPENDED);
+        userService.findById(testUser.getId());
+
+        // Then - 최초 조회 + 상태 변경 조회 + 무효화 후 재조회
+        verify(userRepository, times(3)).findById(testUser.getId());
+    }
+
     // 헬퍼 메서드
     private User createTestUser(String email, String name) {
         return User.builder()
@@ -0,0 +1,132 @@
+package com.dorandoran.user.service.connection;
+
+import com.dorandoran.user.config.LastConnectionConfig;
+import com.dorandoran.user.repository.LastConnectionJdbcRepository;
+import com.dorandoran.user.service.cache.UserReadCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * 마지막 연결 시간 병합 기록기 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LastConnectionTrackerTest {
+
+    @Mock
+    private LastConnectionJdbcRepository lastConnectionJdbcRepository;
+
+    @Mock
+    private UserReadCache userReadCache;
+
+    private LastConnectionConfig config;
+    private LastConnectionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        config = new LastConnectionConfig();
+        config.setGranularity(Duration.ofHours(1));
+        config.setBatchSize(2);
+        tracker = new LastConnectionTracker(config, lastConnectionJdbcRepository, userReadCache, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 같은_사용자의_연결은_최신_시각_하나로_병합() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        tracker.record(userId, base);
+        tracker.record(userId, base.plusMinutes(10));
+        tracker.record(userId, base.plusMinutes(5));
+        when(lastConnectionJdbcRepository.updateLastConnectionTimes(anyMap())).thenReturn(1);
+
+        // When
+        tracker.flush();
+
+        // Then
+        ArgumentCaptor<Map<UUID, LocalDateTime>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(lastConnectionJdbcRepository).updateLastConnectionTimes(captor.capture());
+        assertEquals(Map.of(userId, base.plusMinutes(10)), captor.getValue());
+    }
+
+    @Test
+    void 기록_단위_시간_안의_재접속은_기록하지_않음() {
+        // Given - 첫 기록
+        UUID userId = UUID.randomUUID();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        when(lastConnectionJdbcRepository.updateLastConnectionTimes(anyMap())).thenReturn(1);
+        tracker.record(userId, base);
+        tracker.flush();
+
+        // When - 30분 뒤 재접속
+        tracker.record(userId, base.plusMinutes(30));
+        tracker.flush();
+
+        // Then - 추가 UPDATE 없음, 단위 시간이 지나면 다시 기록
+        verify(lastConnectionJdbcRepository, times(1)).updateLastConnectionTimes(anyMap());
+        tracker.record(userId, base.plusMinutes(61));
+        tracker.flush();
+        verify(lastConnectionJdbcRepository, times(2)).updateLastConnectionTimes(anyMap());
+    }
+
+    @Test
+    void 배치_크기_단위로_나누어_기록하고_실패한_묶음은_다음_주기에_재시도() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < 3; i++) {
+            tracker.record(UUID.randomUUID(), now);
+        }
+        when(lastConnectionJdbcRepository.updateLastConnectionTimes(anyMap()))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(1);
+
+        // When - 2개 묶음 중 첫 묶음 실패
+        tracker.flush();
+
+        // Then - 실패한 묶음만 다시 기록
+        verify(lastConnectionJdbcRepository, times(2)).updateLastConnectionTimes(anyMap());
+        tracker.flush();
+        verify(lastConnectionJdbcRepository, times(3)).updateLastConnectionTimes(anyMap());
+    }
+
+    @Test
+    void 기록한_사용자는_조회_캐시에서_무효화() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        tracker.record(userId, LocalDateTime.of(2025, 1, 1, 9, 0));
+        when(lastConnectionJdbcRepository.updateLastConnectionTimes(anyMap())).thenReturn(1);
+
+        // When
+        tracker.flush();
+
+        // Then - ETag(마지막 연결 시각 포함)가 TTL 동안 옛 값으로 남지 않음
+        verify(userReadCache).evict(userId);
+    }
+
+    @Test
+    void 종료_후_들어온_기록은_바로_기록() {
+        // Given
+        when(lastConnectionJdbcRepository.updateLastConnectionTimes(anyMap())).thenReturn(1);
+        tracker.stop();
+
+        // When
+        tracker.record(UUID.randomUUID(), LocalDateTime.of(2025, 1, 1, 9, 0));
+
+        // Then
+        verify(lastConnectionJdbcRepository).updateLastConnectionTimes(anyMap());
+    }
+}
@@ -0,0 +1,42 @@
+package com.dorandoran.user.service.email;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이메일 Bloom 필터 단위 테스트
+ */
+class EmailBloomFilterTest {
+
+    @Test
+    void 추가한_이메일은_항상_있다고_응답() {
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    void 오탐률은_목표치_근처로_유지() {
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        // 목표 1%, 해시 편차를 감안해 3% 미만이면 통과
+        assertTrue(falsePositives < 300, "falsePositives=" + falsePositives);
+        assertTrue(filter.estimatedFalsePositiveRate() < 0.03);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dorandoran.user.service.email;
+
+import com.dorandoran.user.config.EmailFilterConfig;
+import com.dorandoran.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 가입 이메일 필터 단위 테스트
+ */
+class RegisteredEmailFilterTest {
+
+    @Test
+    void 재구성이_없어도_보존_기간이_지난_최근_추가분은_정리() throws InterruptedException {
+        EmailFilterConfig config = new EmailFilterConfig();
+        config.setRecentAddRetention(Duration.ofMillis(50));
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(config, mock(UserRepository.class),
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+        filter.add("old@example.com");
+        Thread.sleep(100);
+        filter.add("new@example.com");
+
+        assertEquals(1, filter.stats().get("recentAdds"));
+    }
+}
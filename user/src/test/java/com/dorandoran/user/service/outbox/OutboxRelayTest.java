@@ -0,0 +1,119 @@
+package com.dorandoran.user.service.outbox;
+
+import com.dorandoran.shared.event.UserEventEnvelope;
+import com.dorandoran.user.config.OutboxConfig;
+import com.dorandoran.user.repository.OutboxRelayJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * outbox 릴레이 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final String SUBSCRIBER = "auth";
+
+    @Mock
+    private OutboxRelayJdbcRepository relayRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxConfig config;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new OutboxConfig();
+        config.setSubscribers(Map.of(SUBSCRIBER, "http://auth/internal/events/user"));
+        config.setPollInterval(Duration.ofMillis(100));
+        config.setMaxBackoff(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void 오프셋_이후_이벤트를_전달하고_오프셋을_전진() {
+        // Given
+        InMemoryOutboxTransport transport = new InMemoryOutboxTransport();
+        OutboxRelay relay = new OutboxRelay(config, relayRepository, transport, transactionManager, meterRegistry);
+        when(relayRepository.lockOffset(SUBSCRIBER)).thenReturn(OptionalLong.of(5));
+        when(relayRepository.findAfter(5L, config.getBatchSize())).thenReturn(List.of(envelope(6), envelope(7)));
+
+        // When
+        boolean delivered = relay.relayOnce(SUBSCRIBER);
+
+        // Then
+        assertTrue(delivered);
+        assertEquals(List.of(6L, 7L), transport.deliveredTo(SUBSCRIBER).stream().map(UserEventEnvelope::id).toList());
+        verify(relayRepository).ensureOffset(SUBSCRIBER);
+        verify(relayRepository).advance(SUBSCRIBER, 7L);
+        assertEquals(2.0, meterRegistry.counter("user.outbox.events.delivered", "subscriber", SUBSCRIBER).count());
+    }
+
+    @Test
+    void 다른_인스턴스가_잠금_중이면_건너뜀() {
+        // Given
+        InMemoryOutboxTransport transport = new InMemoryOutboxTransport();
+        OutboxRelay relay = new OutboxRelay(config, relayRepository, transport, transactionManager, meterRegistry);
+        when(relayRepository.lockOffset(SUBSCRIBER)).thenReturn(OptionalLong.empty());
+
+        // When
+        boolean delivered = relay.relayOnce(SUBSCRIBER);
+
+        // Then
+        assertFalse(delivered);
+        verify(relayRepository, never()).findAfter(anyLong(), anyInt());
+        assertTrue(transport.deliveredTo(SUBSCRIBER).isEmpty());
+    }
+
+    @Test
+    void 전달_실패_시_오프셋을_유지하고_재시도_대기() {
+        // Given
+        OutboxTransport failing = (subscriber, endpoint, events) -> {
+            throw new IllegalStateException("connection refused");
+        };
+        OutboxRelay relay = new OutboxRelay(config, relayRepository, failing, transactionManager, meterRegistry);
+        when(relayRepository.lockOffset(SUBSCRIBER)).thenReturn(OptionalLong.of(0));
+        when(relayRepository.findAfter(0L, config.getBatchSize())).thenReturn(List.of(envelope(1)));
+
+        // When
+        boolean delivered = relay.relayOnce(SUBSCRIBER);
+
+        // Then - 오프셋은 그대로라 다음 시도에서 같은 배치를 다시 전달
+        assertFalse(delivered);
+        verify(relayRepository, never()).advance(anyString(), anyLong());
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.counter("user.outbox.delivery.failures", "subscriber", SUBSCRIBER).count());
+    }
+
+    @Test
+    void 재시도_대기는_지수적으로_늘고_최대값으로_제한() {
+        OutboxRelay relay = new OutboxRelay(config, relayRepository, new InMemoryOutboxTransport(),
+            transactionManager, meterRegistry);
+
+        assertEquals(200, relay.backoffMillis(1));
+        assertEquals(800, relay.backoffMillis(3));
+        assertEquals(1000, relay.backoffMillis(10));
+        assertEquals(1000, relay.backoffMillis(Integer.MAX_VALUE));
+    }
+
+    private UserEventEnvelope envelope(long id) {
+        return new UserEventEnvelope(id, "UserUpdatedEvent", "user-" + id, "{}", LocalDateTime.now());
+    }
+}